@@ -0,0 +1,193 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/sql;
+
+// The time in seconds a write waits for space in a full buffer, and `flush` waits for the executing batches, before
+// checking again.
+const decimal WAIT_INTERVAL = 0.005;
+
+type BufferedRow readonly & record {};
+
+# The function called with the result of each row written with a `BatchWriter`, once its batch is executed.
+# A row of a failed batch is given the `sql:Error` of the batch unless the driver reported the row as successful.
+public type BatchWriteCallback isolated function (record {} row, sql:ExecutionResult|sql:Error result);
+
+# Buffers single-row commands and executes them in batches with `Client.batchExecuteWithOptions`, so that writing N
+# rows takes N/`batchSize` round trips to the data source instead of N. Create it with `Client.createBatchWriter`.
+# A batch is executed as soon as `batchSize` rows are buffered, and the rows that do not fill a batch are executed
+# within `lingerTime`. If `maxConcurrentBatches` is `1`, the batches are executed one at a time in the order in which
+# the rows were written. The rows that are buffered when the program exits are lost unless the writer is flushed or
+# closed.
+public isolated class BatchWriter {
+
+    private final Client cdataClient;
+    private final isolated function (record {} row) returns sql:ParameterizedQuery queryTemplate;
+    private final BatchWriteCallback? onResult;
+    private final readonly & BatchWriterConfig config;
+    private BufferedRow[] buffer = [];
+    private int executingBatches = 0;
+    private boolean closed = false;
+
+    isolated function init(Client cdataClient,
+            isolated function (record {} row) returns sql:ParameterizedQuery queryTemplate,
+            readonly & BatchWriterConfig config, BatchWriteCallback? onResult) {
+        self.cdataClient = cdataClient;
+        self.queryTemplate = queryTemplate;
+        self.config = config;
+        self.onResult = onResult;
+    }
+
+    # Adds a row to the buffer without waiting for it to be executed. If `maxBufferedRows` rows are already
+    # buffered, this waits until a batch is taken from the buffer, so that the writes are slowed down to the rate at
+    # which the batches are executed.
+    #
+    # + row - The row from which the command is created with the query template of the writer. A copy of the row is
+    #         buffered
+    # + return - An `sql:Error` if the writer is closed
+    public isolated function write(record {} row) returns sql:Error? {
+        BufferedRow value = row.cloneReadOnly();
+        boolean written = false;
+        while !written {
+            boolean dispatch = false;
+            lock {
+                if self.closed {
+                    return error sql:ApplicationError("The batch writer is closed");
+                }
+                if self.buffer.length() < self.config.maxBufferedRows {
+                    self.buffer.push(value);
+                    written = true;
+                }
+                if self.buffer.length() >= self.config.batchSize
+                        && self.executingBatches < self.config.maxConcurrentBatches {
+                    self.executingBatches += 1;
+                    dispatch = true;
+                }
+            }
+            if dispatch {
+                _ = start self.executeBatches(false);
+            } else if !written {
+                runtime:sleep(WAIT_INTERVAL);
+            }
+        }
+    }
+
+    # Executes the buffered rows, and waits until no batch of the writer is executing. If rows are written while
+    # this waits, they are executed as well.
+    public isolated function flush() {
+        while true {
+            boolean dispatch = false;
+            lock {
+                if self.buffer.length() == 0 && self.executingBatches == 0 {
+                    return;
+                }
+                if self.buffer.length() > 0 && self.executingBatches < self.config.maxConcurrentBatches {
+                    self.executingBatches += 1;
+                    dispatch = true;
+                }
+            }
+            if dispatch {
+                self.executeBatches(true);
+            } else {
+                runtime:sleep(WAIT_INTERVAL);
+            }
+        }
+    }
+
+    # Stops accepting rows, and executes the buffered rows as `flush` does. The client of the writer is not closed.
+    public isolated function close() {
+        lock {
+            self.closed = true;
+        }
+        self.flush();
+    }
+
+    # Returns the number of rows that are buffered and not yet taken for execution.
+    #
+    # + return - The number of buffered rows
+    public isolated function getBufferedRowCount() returns int {
+        lock {
+            return self.buffer.length();
+        }
+    }
+
+    // Executes the buffered rows that do not fill a batch every `lingerTime`, until the writer is closed.
+    isolated function runLingerTimer() {
+        while true {
+            runtime:sleep(self.config.lingerTime);
+            boolean dispatch = false;
+            lock {
+                if self.closed {
+                    return;
+                }
+                if self.buffer.length() > 0 && self.executingBatches < self.config.maxConcurrentBatches {
+                    self.executingBatches += 1;
+                    dispatch = true;
+                }
+            }
+            if dispatch {
+                self.executeBatches(true);
+            }
+        }
+    }
+
+    // Takes batches from the buffer and executes them until the buffer is empty or, unless `partial` is set, holds
+    // less than a batch. The caller must have reserved an execution slot, which is released when this returns.
+    private isolated function executeBatches(boolean partial) {
+        while true {
+            readonly & BufferedRow[] batch;
+            lock {
+                int length = self.buffer.length();
+                if length == 0 || (!partial && length < self.config.batchSize) {
+                    self.executingBatches -= 1;
+                    return;
+                }
+                int size = int:min(length, self.config.batchSize);
+                batch = self.buffer.slice(0, size).cloneReadOnly();
+                self.buffer = self.buffer.slice(size);
+            }
+            self.executeBatch(batch);
+        }
+    }
+
+    private isolated function executeBatch(readonly & BufferedRow[] rows) {
+        isolated function (record {} row) returns sql:ParameterizedQuery queryTemplate = self.queryTemplate;
+        sql:ParameterizedQuery[] queries = from BufferedRow row in rows
+            select queryTemplate(row);
+        sql:ExecutionResult[]|sql:Error result = nativeBatchExecuteWithOptions(self.cdataClient, queries, self.config);
+        _ = invalidateModifiedTables(self.cdataClient, queries);
+        BatchWriteCallback? onResult = self.onResult;
+        if onResult is () {
+            return;
+        }
+        sql:ExecutionResult[] executionResults = [];
+        if result is sql:ExecutionResult[] {
+            executionResults = result;
+        } else if result is sql:BatchExecuteError {
+            executionResults = result.detail().executionResults;
+        }
+        foreach int i in 0 ..< rows.length() {
+            if i < executionResults.length() && executionResults[i].affectedRowCount != EXECUTE_FAILED {
+                onResult(rows[i], executionResults[i]);
+            } else if result is sql:Error {
+                onResult(rows[i], result);
+            } else {
+                onResult(rows[i], error sql:ApplicationError("No execution result was returned for the row"));
+            }
+        }
+    }
+}
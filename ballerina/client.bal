@@ -52,6 +52,8 @@ public isolated client class Client {
     # + options - The CData Connect connection string options
     # + connectionPool - The `sql:ConnectionPool` to be used for the connection. If there is no
     #                    `connectionPool` provided, the global connection pool (shared by all clients) will be used
+    #                    Clients created with identical credentials, URL, options and pool settings share a
+    #                    single connection pool, which is closed when the last of those clients is closed
     # + return - An `sql:Error` if the client creation fails
     public isolated function init(string user, string password, string url = JDBC_URL,
         Options? options = (), sql:ConnectionPool? connectionPool = ()) returns sql:Error? {
@@ -76,6 +78,63 @@ public isolated client class Client {
         name: "nativeQuery"
     } external;
 
+    # Executes the query, which may return multiple results, applying the given options to the result stream.
+    # The fields of the options override the `queryOptions` configured for the client.
+    #
+    # + sqlQuery - The SQL query such as `` `SELECT * from Album WHERE name={albumName}` ``
+    # + rowType - The `typedesc` of the record to which the result needs to be returned
+    # + options - The options of the result stream
+    # + return - Stream of records in the `rowType` type
+    remote isolated function queryWithOptions(sql:ParameterizedQuery sqlQuery, typedesc<record {}> rowType = <>,
+            QueryOptions options = {}) returns stream<rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.QueryProcessor",
+        name: "nativeQueryWithOptions"
+    } external;
+
+    # Executes the query as a number of range-restricted queries on an integer column of its result, which are
+    # run concurrently on separate pooled connections, and returns their rows as a single stream. The rows of the
+    # partitions are interleaved in no particular order. The partitions are read outside of any transaction.
+    #
+    # + sqlQuery - The SQL query such as `` `SELECT * from Account WHERE Industry={industry}` ``
+    # + partitioning - The partitioning of the query
+    # + rowType - The `typedesc` of the record to which the result needs to be returned
+    # + return - Stream of records in the `rowType` type
+    remote isolated function queryPartitioned(sql:ParameterizedQuery sqlQuery, PartitionConfig partitioning,
+            typedesc<record {}> rowType = <>) returns stream<rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.QueryProcessor",
+        name: "nativeQueryPartitioned"
+    } external;
+
+    # Executes the query incrementally, returning only the rows of which the watermark column is greater than the
+    # watermark checkpointed by the previous runs, ordered by the watermark column. The watermark of the consumed
+    # rows is checkpointed to a local file as the stream is consumed, and when the stream ends or is closed. If a
+    # run is interrupted, the next run resumes from the last checkpoint, reading again only the rows with the
+    # watermark that was being read. A checkpoint must not be used by more than one stream at a time.
+    #
+    # + sqlQuery - The SQL query such as `` `SELECT Id, Name, SystemModstamp FROM Account` ``
+    # + incremental - The watermark and the checkpoint of the query
+    # + rowType - The `typedesc` of the record to which the result needs to be returned
+    # + return - Stream of records in the `rowType` type
+    remote isolated function queryIncremental(sql:ParameterizedQuery sqlQuery, IncrementalConfig incremental,
+            typedesc<record {}> rowType = <>) returns stream<rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.IncrementalQueryProcessor",
+        name: "nativeQueryIncremental"
+    } external;
+
+    # Executes the query and writes the returned rows to a file, without mapping them to records. The file is
+    # replaced only when all the rows have been written. If the rows are appended to it, the appended rows are removed
+    # when the export fails.
+    #
+    # + sqlQuery - The SQL query such as `` `SELECT * FROM Orders WHERE status = ${status}` ``
+    # + path - The path of the file to which the rows are written
+    # + options - The format of the file and the execution options
+    # + return - The number of rows and bytes written as an `ExportResult` or an `sql:Error`
+    remote isolated function exportQuery(sql:ParameterizedQuery sqlQuery, string path, ExportOptions options = {})
+    returns ExportResult|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ExportProcessor",
+        name: "nativeExportQuery"
+    } external;
+
     # Executes the query, which is expected to return at most one row of the result.
     # If the query does not return any results, an `sql:NoRowsError` is returned.
     #
@@ -89,20 +148,51 @@ public isolated client class Client {
         name: "nativeQueryRow"
     } external;
 
+    # Executes the query, which is expected to return at most one row of the result, with the given execution
+    # options. If the query does not return any results, an `sql:NoRowsError` is returned. The call is not coalesced
+    # with other `queryRow` calls.
+    #
+    # + sqlQuery - The SQL query such as `` `SELECT * from Album WHERE name={albumName}` ``
+    # + returnType - The `typedesc` of the record to which the result needs to be returned.
+    #                It can be a basic type if the query result contains only one column
+    # + options - The execution options, which override the `executionOptions` of the client
+    # + return - Result in the `returnType` type or an `sql:Error`
+    remote isolated function queryRowWithOptions(sql:ParameterizedQuery sqlQuery,
+            typedesc<anydata> returnType = <>, ExecutionOptions options = {})
+    returns returnType|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.QueryProcessor",
+        name: "nativeQueryRowWithOptions"
+    } external;
+
     # Executes the SQL query. Only the metadata of the execution is returned (not the results from the query).
     #
     # + sqlQuery - The SQL query such as `` `DELETE FROM Album WHERE artist={artistName}` ``
     # + return - Metadata of the query execution as an `sql:ExecutionResult` or an `sql:Error`
-    remote isolated function execute(sql:ParameterizedQuery sqlQuery)
-    returns sql:ExecutionResult|sql:Error = @java:Method {
-        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ExecuteProcessor",
-        name: "nativeExecute"
-    } external;
+    remote isolated function execute(sql:ParameterizedQuery sqlQuery) returns sql:ExecutionResult|sql:Error {
+        sql:ExecutionResult|sql:Error result = nativeExecute(self, sqlQuery);
+        self.invalidateCachedResults([sqlQuery]);
+        return result;
+    }
+
+    # Executes the SQL query with the given execution options. Only the metadata of the execution is returned (not
+    # the results from the query).
+    #
+    # + sqlQuery - The SQL query such as `` `DELETE FROM Album WHERE artist={artistName}` ``
+    # + options - The execution options, which override the `executionOptions` of the client
+    # + return - Metadata of the query execution as an `sql:ExecutionResult` or an `sql:Error`
+    remote isolated function executeWithOptions(sql:ParameterizedQuery sqlQuery, ExecutionOptions options = {})
+    returns sql:ExecutionResult|sql:Error {
+        sql:ExecutionResult|sql:Error result = nativeExecuteWithOptions(self, sqlQuery, options);
+        self.invalidateCachedResults([sqlQuery]);
+        return result;
+    }
 
     # Executes the SQL query with multiple sets of parameters in a batch. 
     # Only the metadata of the execution is returned (not results from the query).
     # If one of the commands in the batch fails, this will return an `sql:BatchExecuteError`. However, the driver may
     # or may not continue to process the remaining commands in the batch after a failure.
+    # If the `batchExecution` option is configured, the batch is split into chunks that are executed concurrently
+    # on separate connections, and the results are returned in the order of the given queries.
     #
     # + sqlQueries - The SQL query with multiple sets of parameters
     # + return - Metadata of the query execution as an `sql:ExecutionResult[]` or an `sql:Error`
@@ -110,10 +200,173 @@ public isolated client class Client {
         if sqlQueries.length() == 0 {
             return error sql:ApplicationError(" Parameter 'sqlQueries' cannot be empty array");
         }
-        return nativeBatchExecute(self, sqlQueries);
+        sql:ExecutionResult[]|sql:Error result = nativeBatchExecute(self, sqlQueries);
+        self.invalidateCachedResults(sqlQueries);
+        return result;
+    }
+
+    # Executes the SQL query with multiple sets of parameters in a batch with the given execution options.
+    # This behaves in the same way as `batchExecute`, hence a batch within a transaction is executed on the
+    # connection of the transaction without being split into chunks.
+    #
+    # + sqlQueries - The SQL query with multiple sets of parameters
+    # + options - The execution options, which override the `executionOptions` of the client
+    # + return - Metadata of the query execution as an `sql:ExecutionResult[]` or an `sql:Error`
+    remote isolated function batchExecuteWithOptions(sql:ParameterizedQuery[] sqlQueries,
+            ExecutionOptions options = {}) returns sql:ExecutionResult[]|sql:Error {
+        if sqlQueries.length() == 0 {
+            return error sql:ApplicationError(" Parameter 'sqlQueries' cannot be empty array");
+        }
+        sql:ExecutionResult[]|sql:Error result = nativeBatchExecuteWithOptions(self, sqlQueries, options);
+        self.invalidateCachedResults(sqlQueries);
+        return result;
+    }
+
+    // The cached results of the tables modified by a write are invalidated once the write has been executed. Within a
+    // transaction, they are invalidated again when the transaction is committed, as the results read outside the
+    // transaction until then are of the rows before the write.
+    isolated function invalidateCachedResults(sql:ParameterizedQuery[] sqlQueries) {
+        final string[] & readonly tableNames = invalidateModifiedTables(self, sqlQueries).cloneReadOnly();
+        if transactional {
+            if tableNames.length() > 0 {
+                transaction:onCommit(isolated function(transaction:Info info) {
+                    invalidateTables(self, tableNames);
+                });
+            }
+        }
+    }
+
+    # Executes the SQL query created for each record of the given stream in batches.
+    # The records are read lazily, and only the queries of the batch being executed are held in memory. Each batch is
+    # executed in the same way as `batchExecuteWithOptions` with the execution options of the configurations. Use this
+    # instead of `batchExecute` when the records are read from a large or unbounded source.
+    #
+    # + rows - The stream of records to be written
+    # + queryTemplate - The function that creates the SQL query for a record such as
+    #                   `` isolated function (record {} row) returns sql:ParameterizedQuery =>
+    #                   `INSERT INTO Salesforce1.Salesforce.Lead (FirstName) VALUES (${<string>row["FirstName"]})` ``.
+    #                   All the queries must have the same SQL text
+    # + config - The batching configurations
+    # + return - The aggregated counts and the details of the failed batches as a `BulkExecuteResult`, which also
+    #            includes the error if the records could not be read from the stream, or an `sql:Error` if the
+    #            configurations are invalid
+    remote isolated function bulkExecute(stream<record {}, error?> rows,
+            isolated function (record {} row) returns sql:ParameterizedQuery queryTemplate,
+            BulkExecuteConfig config = {}) returns BulkExecuteResult|sql:Error {
+        if config.batchSize <= 0 {
+            return error sql:ApplicationError("Parameter 'batchSize' should be greater than zero");
+        }
+        if config.maxFailedBatches < 0 {
+            return error sql:ApplicationError("Parameter 'maxFailedBatches' should not be negative");
+        }
+        BulkExecuteResult result = {totalRows: 0, affectedRowCount: 0, failedRows: 0, failedBatchCount: 0,
+            failedBatches: []};
+        sql:ParameterizedQuery[] batch = [];
+        while true {
+            record {|record {} value;|}|error? next = rows.next();
+            if next is error {
+                // The records read before the error are written, and the stream is closed as it is not read any
+                // further. The error of reading it is returned with the counts of the batches already executed.
+                if batch.length() > 0 {
+                    _ = self.executeBulkBatch(batch, config, result);
+                }
+                error? closeErr = rows.close();
+                string closeMessage = closeErr is error
+                    ? string `. The rows could not be closed either: ${closeErr.message()}` : "";
+                result.readError = error sql:ApplicationError(
+                    string `Error while reading the rows to be written: ${next.message()}${closeMessage}`, next);
+                return result;
+            }
+            if next is () {
+                break;
+            }
+            batch.push(queryTemplate(next.value));
+            if batch.length() < config.batchSize {
+                continue;
+            }
+            boolean succeeded = self.executeBulkBatch(batch, config, result);
+            batch = [];
+            if !succeeded && !config.continueOnError {
+                error? closeErr = rows.close();
+                if closeErr is error {
+                    result.readError = error sql:ApplicationError(
+                        string `Error while closing the rows to be written: ${closeErr.message()}`, closeErr);
+                }
+                return result;
+            }
+        }
+        if batch.length() > 0 {
+            _ = self.executeBulkBatch(batch, config, result);
+        }
+        return result;
+    }
+
+    private isolated function executeBulkBatch(sql:ParameterizedQuery[] batch, BulkExecuteConfig config,
+            BulkExecuteResult result) returns boolean {
+        int startIndex = result.totalRows;
+        result.totalRows += batch.length();
+        sql:ExecutionResult[]|sql:Error batchResult = nativeBatchExecuteWithOptions(self, batch, config);
+        self.invalidateCachedResults(batch);
+        if batchResult is sql:ExecutionResult[] {
+            foreach sql:ExecutionResult executionResult in batchResult {
+                result.affectedRowCount += executionResult.affectedRowCount ?: 0;
+            }
+            return true;
+        }
+        int failedRows = batch.length();
+        if batchResult is sql:BatchExecuteError {
+            failedRows = 0;
+            sql:ExecutionResult[] executionResults = batchResult.detail().executionResults;
+            foreach sql:ExecutionResult executionResult in executionResults {
+                int affectedRowCount = executionResult.affectedRowCount ?: 0;
+                if affectedRowCount == EXECUTE_FAILED {
+                    failedRows += 1;
+                } else if affectedRowCount > 0 {
+                    result.affectedRowCount += affectedRowCount;
+                }
+            }
+            failedRows += batch.length() - executionResults.length();
+        }
+        result.failedRows += failedRows;
+        result.failedBatchCount += 1;
+        if result.failedBatches.length() < config.maxFailedBatches {
+            result.failedBatches.push({startIndex, rowCount: batch.length(), 'error: batchResult});
+        }
+        return false;
+    }
+
+    # Creates a writer, which buffers single-row commands and executes them in batches with this client. Use it
+    # instead of `execute` when many rows are written one at a time, such as a row for each received event.
+    #
+    # + queryTemplate - The function that creates the SQL query for a row such as
+    #                   `` isolated function (record {} row) returns sql:ParameterizedQuery =>
+    #                   `INSERT INTO Salesforce1.Salesforce.Lead (FirstName) VALUES (${<string>row["FirstName"]})` ``.
+    #                   All the queries must have the same SQL text
+    # + config - The batching configurations
+    # + onResult - The function called with the result of each row once its batch is executed
+    # + return - The `BatchWriter`, or an `sql:Error` if the configurations are invalid
+    public isolated function createBatchWriter(
+            isolated function (record {} row) returns sql:ParameterizedQuery queryTemplate,
+            BatchWriterConfig config = {}, BatchWriteCallback? onResult = ()) returns BatchWriter|sql:Error {
+        if config.batchSize <= 0 {
+            return error sql:ApplicationError("Parameter 'batchSize' should be greater than zero");
+        }
+        if config.maxBufferedRows < config.batchSize {
+            return error sql:ApplicationError("Parameter 'maxBufferedRows' should not be less than 'batchSize'");
+        }
+        if config.lingerTime <= 0d {
+            return error sql:ApplicationError("Parameter 'lingerTime' should be greater than zero");
+        }
+        if config.maxConcurrentBatches <= 0 {
+            return error sql:ApplicationError("Parameter 'maxConcurrentBatches' should be greater than zero");
+        }
+        BatchWriter writer = new (self, queryTemplate, config.cloneReadOnly(), onResult);
+        _ = start writer.runLingerTimer();
+        return writer;
     }
 
-    # Executes a SQL query, which calls a stored procedure. This may or may not return results.
+    # Executes a SQL query, which calls a stored procedure. This may or may not return results. The returned
+    # `sql:ProcedureCallResult` holds the connection of the call until it is closed.
     #
     # + sqlQuery - The SQL query such as `` `CALL sp_GetAlbums();` ``
     # + rowTypes - `typedesc` array of the records to which the results need to be returned
@@ -124,6 +377,76 @@ public isolated client class Client {
         name: "nativeCall"
     } external;
 
+    # Executes a SQL query, which calls a stored procedure, and returns its result sets to be read lazily one at a
+    # time. The execution options are applied to the call, and the `fetchSize` bounds the rows fetched from the data
+    # source at a time. The `sql:OutParameter` and `sql:InOutParameter` values are populated once all the result sets
+    # have been read, and the `ProcedureResultSets` must be closed if they are not all read.
+    #
+    # + sqlQuery - The SQL query such as `` `CALL sp_GetReports(${year});` ``
+    # + options - The execution options, which override the `executionOptions` of the client
+    # + return - The result sets of the call as a `ProcedureResultSets` or an `sql:Error`
+    remote isolated function callStreaming(sql:ParameterizedCallQuery sqlQuery, ExecutionOptions options = {})
+    returns ProcedureResultSets|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.CallProcessor",
+        name: "nativeCallStreaming"
+    } external;
+
+    # Lists the connections of the data sources in CData Connect, which are the catalogs of the driver. The result
+    # is cached if the `metadataCache` option is configured.
+    #
+    # + return - The names of the connections, or an `sql:Error`
+    remote isolated function getConnections() returns string[]|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.MetadataProcessor"
+    } external;
+
+    # Lists the tables and views of the data sources. The result is cached if the `metadataCache` option is
+    # configured.
+    #
+    # + connection - The connection of which the tables are listed. The tables of all the connections are listed if
+    #                not provided
+    # + schema - The schema of which the tables are listed. The tables of all the schemas are listed if not provided
+    # + return - The metadata of the tables, or an `sql:Error`
+    remote isolated function getTables(string? connection = (), string? schema = ())
+    returns TableMetadata[]|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.MetadataProcessor"
+    } external;
+
+    # Lists the columns of a table in the order of the table. The result is cached if the `metadataCache` option is
+    # configured.
+    #
+    # + 'table - The name of the table such as `Lead`
+    # + connection - The connection of the table such as `Salesforce1`
+    # + schema - The schema of the table such as `Salesforce`
+    # + return - The metadata of the columns, or an `sql:Error`
+    remote isolated function getColumns(string 'table, string? connection = (), string? schema = ())
+    returns ColumnMetadata[]|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.MetadataProcessor"
+    } external;
+
+    # Lists the stored procedures of the data sources. The result is cached if the `metadataCache` option is
+    # configured.
+    #
+    # + connection - The connection of which the procedures are listed. The procedures of all the connections are
+    #                listed if not provided
+    # + schema - The schema of which the procedures are listed. The procedures of all the schemas are listed if not
+    #            provided
+    # + return - The metadata of the procedures, or an `sql:Error`
+    remote isolated function getProcedures(string? connection = (), string? schema = ())
+    returns ProcedureMetadata[]|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.MetadataProcessor"
+    } external;
+
+    # Removes the cached metadata, including the persisted metadata, so that it is read from the data source again.
+    # The cache is shared by the clients using the same connection pool. This is a no-op if the `metadataCache`
+    # option is not configured.
+    #
+    # + connection - The connection of which the metadata is removed, along with the metadata not limited to a
+    #                connection. All the metadata is removed if not provided
+    # + return - An `sql:Error` if the persisted metadata could not be deleted
+    public isolated function invalidateMetadataCache(string? connection = ()) returns sql:Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.MetadataProcessor"
+    } external;
+
     # Closes the SQL client and shuts down the connection pool.
     #
     # + return - Possible error when closing the client
@@ -131,11 +454,89 @@ public isolated client class Client {
         'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ClientProcessor",
         name: "close"
     } external;
+
+    # Invalidates the results of `query` and `queryRow` held in the client-side query cache.
+    # This is a no-op if the `queryCache` option is not configured.
+    #
+    # + tableName - The table of which the cached results need to be invalidated. Either the table name
+    #               (e.g., `Lead`) or the fully qualified name (e.g., `Salesforce1.Salesforce.Lead`) can be given.
+    #               If not provided, all the cached results are invalidated
+    public isolated function invalidateQueryCache(string? tableName = ()) = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.QueryProcessor"
+    } external;
+
+    # Retrieves the statistics of the client-side query cache.
+    #
+    # + return - The `QueryCacheStats` of the client or `()` if the `queryCache` option is not configured
+    public isolated function getQueryCacheStats() returns QueryCacheStats? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.QueryProcessor"
+    } external;
+
+    # Retrieves the statistics of the coalescing of `queryRow` calls.
+    #
+    # + return - The `CoalescingStats` of the client or `()` if the `coalesceQueryRow` option is not enabled
+    public isolated function getCoalescingStats() returns CoalescingStats? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.QueryProcessor"
+    } external;
+
+    # Retrieves the state of the concurrency limiter.
+    #
+    # + return - The `LimiterStatus` of the client or `()` if the `concurrencyLimit` option is not provided
+    public isolated function getLimiterStatus() returns LimiterStatus? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.LimiterProcessor"
+    } external;
+
+    # Retrieves the state of the scheduler of the connection pool shared with the clients of other tenants.
+    #
+    # + return - The `SchedulerStatus` of the pool of the client or `()` if the `scheduling` option is not provided
+    public isolated function getSchedulerStatus() returns SchedulerStatus? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.SchedulingProcessor"
+    } external;
+
+    # Retrieves the memory used by the open results of the client and of all the clients.
+    #
+    # + return - The `MemoryUsage` of the client or `()` if the `memoryBudget` option is not provided
+    public isolated function getMemoryUsage() returns MemoryUsage? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.MemoryProcessor"
+    } external;
+
+    # Retrieves the statistics of the hedging and the retries of `queryRow` calls.
+    #
+    # + return - The `ReadPolicyStats` of the client or `()` if neither the `hedging` nor the `retry` option is
+    #            provided
+    public isolated function getReadPolicyStats() returns ReadPolicyStats? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.QueryProcessor"
+    } external;
+
+    # Opens and validates the connections of the pool as configured by the `warmup` option, and waits until they
+    # are opened. If a warm-up is already in progress, waits for it to complete.
+    #
+    # + return - An `sql:Error` if any of the connections cannot be opened
+    public isolated function warmup() returns sql:Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.WarmupProcessor"
+    } external;
+
+    # Checks whether the connection pool is warmed up, e.g., for a readiness probe of the service.
+    #
+    # + return - `true` if a warm-up has completed without failures or no warm-up has been started
+    public isolated function isReady() returns boolean = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.WarmupProcessor"
+    } external;
+
+    # Retrieves the progress of the connection pool warm-up.
+    #
+    # + return - The `WarmupStatus` of the client
+    public isolated function getWarmupStatus() returns WarmupStatus = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.WarmupProcessor"
+    } external;
 }
 
 // The JDBC URL to be used for the CData cloud connect connection
 const string JDBC_URL = "jdbc:cdata:connect:AuthScheme=Basic";
 
+// The update count reported by JDBC for a command of a batch that failed
+const int EXECUTE_FAILED = -3;
+
 # The connection string properties are the various options that can be used to establish a connection.
 #
 # + ssl - SSL properties
@@ -143,12 +544,54 @@ const string JDBC_URL = "jdbc:cdata:connect:AuthScheme=Basic";
 # + proxy - Proxy properties
 # + logging - Logging properties 
 # + miscellaneous - Miscellaneous properties
+# + queryCache - Client-side cache for the results of `query` and `queryRow`. Results are not cached if not provided
+# + batchExecution - Parallel chunked execution of `batchExecute`. The whole batch is executed on a single
+#                    connection if not provided
+# + statementCache - Reuse of prepared statements across calls on each pooled connection. Statements are prepared
+#                    for each call if not provided
+# + queryOptions - The default options of the result streams of `query` and `queryWithOptions`
+# + metrics - Metrics of the remote calls and the connection pool of the client. Metrics are not recorded if not
+#             provided
+# + warmup - Opening of the pool connections when the client is created. Connections are opened on demand if not
+#            provided
+# + workerPool - A dedicated pool of worker threads for the remote calls of the client. The shared worker pool of
+#                the `sql` module is used if not provided
+# + coalesceQueryRow - Whether concurrent `queryRow` calls with the same SQL text, parameter values and return type
+#                      share a single execution. The calls made while an execution is in flight receive a copy of
+#                      its result or error. Calls made within a transaction are not coalesced
+# + concurrencyLimit - An adaptive limit of the concurrent remote calls with a circuit breaker for repeated
+#                      connection failures. The concurrency is limited only by the connection pool if not provided
+# + hedging - Hedging of the slow `queryRow` calls with a second attempt. Calls are not hedged if not provided
+# + retry - Retrying of the `queryRow` calls failing with a transient error. Calls are not retried if not provided
+# + executionOptions - The default execution options of the remote calls, which are overridden by the options of a
+#                      call. The `requestGeneratedKeys` option also applies to `execute` and `batchExecute`
+# + metadataCache - Caching of the metadata read with `getConnections`, `getTables`, `getColumns` and
+#                   `getProcedures`. The metadata is read from the data source on each call if not provided
+# + scheduling - Fair admission of the remote calls into a connection pool shared with the clients of other
+#                tenants. The calls only wait for the connections of the pool if not provided
+# + memoryBudget - Budgets of the memory used by the open results of the client and of all the clients. The memory
+#                  of the results is only limited by the `maxResultBytes` execution option if not provided
 public type Options record {|
     SSL ssl?;
     Firewall firewall?;
     Proxy proxy?;
     Logging logging?;
     Miscellaneous miscellaneous?;
+    QueryCacheConfig queryCache?;
+    BatchExecutionConfig batchExecution?;
+    StatementCacheConfig statementCache?;
+    QueryOptions queryOptions?;
+    MetricsConfig metrics?;
+    WarmupConfig warmup?;
+    WorkerPoolConfig workerPool?;
+    boolean coalesceQueryRow = false;
+    ConcurrencyLimitConfig concurrencyLimit?;
+    HedgingConfig hedging?;
+    RetryConfig retry?;
+    ExecutionOptions executionOptions?;
+    MetadataCacheConfig metadataCache?;
+    SchedulingConfig scheduling?;
+    MemoryBudgetConfig memoryBudget?;
 |};
 
 # SSL properties you can configure in the connection string for this provider.
@@ -247,6 +690,616 @@ public type Miscellaneous record {|
     boolean useConnectionPooling = false;
 |};
 
+# Client-side cache configuration for the results of `query` and `queryRow`.
+# Results are cached by the SQL text, the parameter values, and the return type. Queries executed within a
+# transaction are not served from the cache. Results of the tables modified through `execute` and `batchExecute` of
+# the same client are invalidated once the write has been executed, and again when its transaction is committed. Use
+# `Client.invalidateQueryCache()` for changes made elsewhere.
+#
+# + maxEntries - The maximum number of results held in the cache. The least recently used result is evicted
+#                when the limit is reached
+# + maxSizeInBytes - The approximate maximum memory (in bytes) used by the cached results. A `query` result that
+#                    exceeds this limit is not cached
+# + ttl - The time (in seconds) for which a cached result is served before it is fetched again
+public type QueryCacheConfig record {|
+    int maxEntries = 1000;
+    int maxSizeInBytes = 10485760;
+    decimal ttl = 300;
+|};
+
+# Statistics of the client-side query cache.
+#
+# + hits - The number of `query` and `queryRow` calls served from the cache
+# + misses - The number of `query` and `queryRow` calls executed against CData Connect
+# + evictions - The number of results removed due to the size limits or the TTL
+# + entries - The number of results held in the cache
+# + sizeInBytes - The approximate memory (in bytes) used by the cached results
+public type QueryCacheStats record {|
+    int hits;
+    int misses;
+    int evictions;
+    int entries;
+    int sizeInBytes;
+|};
+
+# Statistics of the coalescing of `queryRow` calls.
+#
+# + executions - The number of `queryRow` calls executed against CData Connect
+# + coalesced - The number of `queryRow` calls that shared the execution of an in-flight call
+# + inFlight - The number of executions in flight
+public type CoalescingStats record {|
+    int executions;
+    int coalesced;
+    int inFlight;
+|};
+
+# Configurations for limiting the number of remote calls of a client executing concurrently, so that a slow data
+# source does not accumulate every waiting call. The limit is increased by one per limit of calls completing within
+# the latency threshold, and multiplied by `backoffRatio` when a call exceeds it or fails to connect. The calls
+# exceeding the limit wait in a queue, and fail fast with an `sql:ApplicationError` when the queue is full. The remote
+# calls executed by the connector are limited. Calls within a transaction are counted but never wait. The streams of
+# `query`, `queryIncremental` and `callStreaming` hold their permit until they are fully read or closed, as their rows
+# are read on the connection of the call, and so does each partition of `queryPartitioned` while it is read and the
+# result of `call` until it is closed. The latency of such a call is measured until its stream is created. A stream
+# that is not fully read must hence be closed, and the other calls of a strand that keeps a stream open may wait for
+# the limit. Use `Client.getLimiterStatus()` to read the state of the limiter.
+#
+# + initialLimit - The limit before any calls complete
+# + minLimit - The minimum limit
+# + maxLimit - The maximum limit. This should not exceed the maximum size of the connection pool
+# + maxQueued - The maximum number of calls waiting for the limit
+# + queueTimeout - The maximum time (in seconds) a call waits for the limit
+# + latencyThreshold - The latency (in seconds) above which a call decreases the limit. If not provided, a call
+#                      decreases the limit when it takes more than twice the moving average latency
+# + backoffRatio - The ratio by which the limit is multiplied when it is decreased
+# + circuitBreaker - The circuit breaker for repeated connection failures
+public type ConcurrencyLimitConfig record {|
+    int initialLimit = 20;
+    int minLimit = 1;
+    int maxLimit = 100;
+    int maxQueued = 1000;
+    decimal queueTimeout = 30;
+    decimal latencyThreshold?;
+    float backoffRatio = 0.9;
+    CircuitBreakerConfig circuitBreaker = {};
+|};
+
+# Configurations for rejecting the remote calls while the data source cannot be connected to. After
+# `failureThreshold` consecutive connection failures the circuit opens, and the calls fail fast for `resetTime`.
+# A single trial call is then let through, which closes the circuit if it connects or else opens it again.
+#
+# + failureThreshold - The number of consecutive connection failures that open the circuit
+# + resetTime - The time (in seconds) for which the circuit stays open before a trial call
+public type CircuitBreakerConfig record {|
+    int failureThreshold = 5;
+    decimal resetTime = 30;
+|};
+
+# Constants to represent the states of a circuit breaker.
+public enum CircuitState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
+
+# The state of the concurrency limiter of a client.
+#
+# + 'limit - The current limit of the concurrent calls
+# + inFlight - The number of calls executing
+# + queued - The number of calls waiting for the limit
+# + rejected - The number of calls rejected as the queue was full, the call timed out in the queue or the circuit
+#              was open
+# + circuitState - The state of the circuit breaker
+public type LimiterStatus record {|
+    int 'limit;
+    int inFlight;
+    int queued;
+    int rejected;
+    CircuitState circuitState;
+|};
+
+# Configurations for admitting the remote calls of a client into a connection pool shared with the clients of other
+# tenants, i.e. clients created with the same connection configuration and a different `tenant`, which share a
+# connection pool, so that the calls of one tenant cannot take every connection while those of the others wait. The
+# clients sharing a pool share a scheduler that starts at most `maxOpenConnections` calls of the pool concurrently.
+# Waiting interactive calls are started before any waiting batch call, and batch calls are only started while
+# `interactiveReserve` connections are left free. Within a class, the tenants waiting are served in proportion to
+# their weights. The calls are admitted after the `concurrencyLimit` of the client, and the same calls are scheduled
+# as are limited. A stream holds the share of its call in the same way as the permit of the limit. The clients of a
+# tenant share its settings and its quota, hence a tenant may use a client of each priority class. The settings of the
+# first client of a tenant, and the `interactiveReserve` of the first client of a pool, are used. Use
+# `Client.getSchedulerStatus()` to read the waiting times of each class.
+#
+# + tenant - The name of the tenant of the client
+# + priorityClass - The priority class of the calls of the client
+# + weight - The share of the pool given to the tenant relative to the other tenants waiting
+# + maxInFlight - The maximum number of calls of the tenant executing concurrently. The calls of a tenant are only
+#                 limited by the size of the pool if not provided
+# + maxQueued - The maximum number of calls of the tenant waiting for the pool
+# + queueTimeout - The maximum time (in seconds) a call waits for the pool
+# + interactiveReserve - The number of connections of the pool that only interactive calls use. At least one
+#                        connection is left to the batch calls
+public type SchedulingConfig record {|
+    string tenant;
+    PriorityClass priorityClass = INTERACTIVE;
+    int weight = 1;
+    int maxInFlight?;
+    int maxQueued = 1000;
+    decimal queueTimeout = 30;
+    int interactiveReserve = 1;
+|};
+
+# Constants to represent the priority classes of the remote calls admitted into a shared connection pool.
+public enum PriorityClass {
+    INTERACTIVE,
+    BATCH
+}
+
+# The state of the scheduler of a shared connection pool.
+#
+# + capacity - The maximum number of calls executing concurrently on the pool
+# + interactiveReserve - The number of connections of the pool that only interactive calls use
+# + inFlight - The number of calls executing
+# + rejected - The number of calls rejected as the queue of their tenant was full or they timed out in it
+# + interactive - The state of the interactive calls
+# + batch - The state of the batch calls
+# + tenants - The state of each tenant
+public type SchedulerStatus record {|
+    int capacity;
+    int interactiveReserve;
+    int inFlight;
+    int rejected;
+    PriorityClassStatus interactive;
+    PriorityClassStatus batch;
+    TenantStatus[] tenants;
+|};
+
+# The state of the calls of a priority class admitted into a shared connection pool.
+#
+# + inFlight - The number of calls executing
+# + queued - The number of calls waiting for the pool
+# + admitted - The number of calls admitted into the pool
+# + meanWaitMillis - The mean time (in milliseconds) the admitted calls waited for the pool
+# + maxWaitMillis - The maximum time (in milliseconds) an admitted call waited for the pool
+public type PriorityClassStatus record {|
+    int inFlight;
+    int queued;
+    int admitted;
+    float meanWaitMillis;
+    float maxWaitMillis;
+|};
+
+# The state of a tenant of a shared connection pool.
+#
+# + tenant - The name of the tenant
+# + weight - The share of the pool given to the tenant relative to the other tenants waiting
+# + maxInFlight - The maximum number of calls of the tenant executing concurrently
+# + inFlight - The number of calls of the tenant executing
+# + queued - The number of calls of the tenant waiting for the pool
+public type TenantStatus record {|
+    string tenant;
+    int weight;
+    int maxInFlight;
+    int inFlight;
+    int queued;
+|};
+
+# Configurations for budgeting the memory used by the rows of the results of `query`, `queryRow`, `call` and
+# `callStreaming` calls, so that many concurrent results cannot exhaust the heap. The size of each row is approximated
+# once as it is mapped to a record. The bytes of all the rows materialized for each result and for the client are
+# counted, and those of a result are limited by the `maxResultBytes` execution option. These budgets instead limit the
+# rows that the connector holds at a time: a row is held while it is buffered ahead of the consumer, i.e. read ahead
+# or read from the partitions of a stream, or recorded to be cached, and is released once it is handed over to the
+# consumer, which owns it from then on. A row or a `queryRow` value handed over as soon as it is read only needs to
+# fit within the budgets. A result that would exceed a budget stops with an `sql:ApplicationError`, while the rows
+# recorded to be cached are dropped instead. The rows still held are released once the result is closed. The rows of
+# `exportQuery`, which are written to a file, are not accounted. Use `Client.getMemoryUsage()` to read the current and
+# the peak usage, and the bytes materialized.
+#
+# + maxClientBytes - The maximum approximate heap (in bytes) held for the open results of the client. The results of
+#                    the client are only accounted if not provided
+# + maxGlobalBytes - The maximum approximate heap (in bytes) held for the open results of all the clients configured
+#                    with a `memoryBudget`. If the open clients provide different values, the smallest one is used
+public type MemoryBudgetConfig record {|
+    int maxClientBytes?;
+    int maxGlobalBytes?;
+|};
+
+# The memory used by the open results of a client and of all the clients.
+#
+# + clientBytes - The approximate heap (in bytes) held for the open results of the client
+# + peakClientBytes - The peak approximate heap (in bytes) held for the open results of the client
+# + maxClientBytes - The budget of the client in bytes, or `0` if the client has none
+# + globalBytes - The approximate heap (in bytes) held for the open results of all the clients
+# + peakGlobalBytes - The peak approximate heap (in bytes) held for the open results of all the clients
+# + maxGlobalBytes - The global budget in bytes, or `0` if there is none
+# + largestResultBytes - The largest approximate heap (in bytes) held at a time for a result of the client that has
+#                        been released
+# + materializedBytes - The approximate heap (in bytes) of all the rows materialized for the results of the client
+# + largestMaterializedBytes - The largest approximate heap (in bytes) of the rows materialized for a result of the
+#                              client
+# + rejected - The number of results of the client stopped as they exceeded a budget or their `maxResultBytes`
+public type MemoryUsage record {|
+    int clientBytes;
+    int peakClientBytes;
+    int maxClientBytes;
+    int globalBytes;
+    int peakGlobalBytes;
+    int maxGlobalBytes;
+    int largestResultBytes;
+    int materializedBytes;
+    int largestMaterializedBytes;
+    int rejected;
+|};
+
+# Configurations for hedging the `queryRow` calls, which must be free of side effects. When the first attempt of a
+# call has not completed within a percentile of the latencies observed for the client, a second attempt is executed
+# on another pooled connection. The call completes with the first attempt that succeeds, and the statement of the
+# other attempt is cancelled. Calls within a transaction are not hedged.
+#
+# + percentile - The percentile of the latencies of the completed calls after which a call is hedged
+# + initialDelay - The time (in seconds) after which a call is hedged until enough calls have completed
+# + minDelay - The minimum time (in seconds) after which a call is hedged
+# + maxHedgePercent - The maximum percentage of the calls that are hedged, so that a slow data source is not loaded
+#                     with twice the calls
+public type HedgingConfig record {|
+    float percentile = 95;
+    decimal initialDelay = 1;
+    decimal minDelay = 0.01;
+    float maxHedgePercent = 5;
+|};
+
+# Configurations for retrying the `queryRow` calls that fail with a transient error, which must be free of side
+# effects. The time before each retry grows exponentially and is randomized, so that the retries of concurrent calls
+# are spread out. Calls within a transaction are not retried.
+#
+# + maxRetries - The maximum number of retries of a call
+# + initialBackoff - The time (in seconds) before the first retry
+# + backoffMultiplier - The factor by which the time before a retry grows with each retry
+# + maxBackoff - The maximum time (in seconds) before a retry
+# + transientSqlStates - The SQL states of the transient errors. A value of two characters matches the class of the
+#                        SQL states
+public type RetryConfig record {|
+    int maxRetries = 2;
+    decimal initialBackoff = 0.1;
+    float backoffMultiplier = 2;
+    decimal maxBackoff = 2;
+    string[] transientSqlStates = ["08", "40001", "HYT00", "HYT01"];
+|};
+
+# Statistics of the hedging and the retries of `queryRow` calls.
+#
+# + hedges - The number of second attempts executed for slow calls
+# + retries - The number of retries of failed attempts
+# + hedgeDelayMillis - The current time (in milliseconds) after which a call is hedged
+public type ReadPolicyStats record {|
+    int hedges;
+    int retries;
+    int hedgeDelayMillis;
+|};
+
+# Configurations for executing `batchExecute` in chunks that run concurrently on separate pooled connections.
+# Each chunk is committed independently, hence a failure in one chunk does not roll back the others. The queries
+# of the returned `sql:BatchExecuteError` are reported in the input order with the failed ones having an
+# `affectedRowCount` of `-3`. Batches executed within a transaction are not split.
+#
+# + parallelism - The maximum number of chunks executed concurrently. This should not exceed the maximum size of
+#                 the connection pool
+# + chunkSize - The number of queries in each chunk. If not provided, `Miscellaneous.batchSize` is used when it is
+#               positive, or else `1000`
+public type BatchExecutionConfig record {|
+    int parallelism = 4;
+    int chunkSize?;
+|};
+
+# Configurations for keeping the prepared statements of `query`, `queryRow`, `execute` and `batchExecute` open on
+# each pooled connection, so that the driver does not parse and plan the same SQL text on every call. The
+# statements are keyed by their SQL text and closed when the client is closed.
+#
+# + maxStatements - The maximum number of statements kept open per connection. The least recently used statement
+#                   is closed when the limit is exceeded
+public type StatementCacheConfig record {|
+    int maxStatements = 50;
+|};
+
+# Options applied to the statement of a remote call. The options that are not provided are taken from the
+# `executionOptions` of the client, or else left to the driver. The `call` remote method uses the `executionOptions`
+# of the client.
+#
+# + requestGeneratedKeys - Whether the auto-generated keys of `execute` and `batchExecute` calls are retrieved.
+#                          Disabling it avoids the extra work of the driver for tables without such keys
+# + timeout - The time in seconds the driver waits for the statement to complete, which is rounded up to whole
+#             seconds. A call that times out returns an `sql:DatabaseError`
+# + maxRows - The maximum number of rows returned by a query. The excess rows are dropped silently. A `query` call
+#             limiting its rows does not use the query cache
+# + fetchSize - The number of rows fetched from the data source at a time. The driver decides it if not provided
+# + readOnly - Whether the connection is hinted to be read-only, so that the driver may optimize it. The hint is not
+#              given to the connection of a transaction
+# + maxResultBytes - The maximum approximate heap (in bytes) of all the rows materialized for a result, i.e. the rows
+#                    of a `query` stream or of the result sets of a `call`, or a `queryRow` value, whether or not the
+#                    consumer keeps them. A result exceeding it stops with an `sql:ApplicationError`. The rows of a
+#                    result are not limited if not provided
+public type ExecutionOptions record {|
+    boolean requestGeneratedKeys?;
+    decimal timeout?;
+    int maxRows?;
+    int fetchSize?;
+    boolean readOnly?;
+    int maxResultBytes?;
+|};
+
+# Options of the result stream of a query, which include the execution options of the query.
+#
+# + readAhead - Whether to fetch and map the next rows on a background thread while the current rows are being
+#               processed. Up to a page (`fetchSize` rows, or `1000` rows if it is not provided) is buffered ahead
+#               of the consumer. The stream must be closed if it is not fully consumed. The rows of a query within a
+#               transaction are not read ahead, as the connection of the transaction is used by the other statements of
+#               the transaction
+public type QueryOptions record {|
+    *ExecutionOptions;
+    boolean readAhead?;
+|};
+
+# Configurations for the metrics of a client. The latency of `query`, `queryRow`, `execute`, `batchExecute`, `call`
+# and `callStreaming` is split into the time spent waiting for a pooled connection, in the driver and mapping the rows
+# to records. Rows read, bytes of string and binary data read, errors by SQL state, and the active, idle and waiting
+# connections of the pool are also recorded. The limit, the executing and waiting calls, and the circuit state of the
+# concurrency limiter are recorded when it is configured. The metrics are published through Ballerina observability
+# when metrics are enabled, and through JMX.
+#
+# + name - The name of the client used to tag the metrics and to name the MBeans of the client and its connection
+#          pool. A unique name is generated if not provided
+# + jmx - Whether to register the metrics of the client as an MBean
+public type MetricsConfig record {|
+    string name?;
+    boolean jmx = true;
+|};
+
+# Configurations for opening the connections of the pool when the client is created, so that the login and the
+# TLS handshake of the connections are not on the path of the first requests. The connections are opened
+# concurrently and validated with a probe before being returned to the pool. Use `Client.isReady()` or
+# `Client.getWarmupStatus()` to track a warm-up running in the background.
+#
+# + connections - The number of connections to open. If not provided, `Miscellaneous.poolMinSize` is used when
+#                 `Miscellaneous.useConnectionPooling` is enabled, or else the `minIdleConnections` of the
+#                 `sql:ConnectionPool`. This is limited to the `maxOpenConnections` of the `sql:ConnectionPool`
+# + background - Whether to open the connections in the background. If `false`, the client initialization waits
+#                for the connections and fails if any of them cannot be opened
+# + probeQuery - The query executed to validate each connection. If not provided, the connections are validated
+#                by the driver
+# + probeTimeout - The time (in seconds) to wait for the validation of a connection
+public type WarmupConfig record {|
+    int connections?;
+    boolean background = true;
+    string probeQuery?;
+    int probeTimeout = 5;
+|};
+
+# Configurations for the worker threads that run the blocking JDBC work of `query`, `queryRow`, `execute` and
+# `batchExecute`, so that the Ballerina scheduler threads are not held while the calls are in flight. Calls made
+# within a transaction are run on the calling strand.
+#
+# + maxConcurrency - The maximum number of calls executed concurrently. The calls exceeding the limit are queued
+# + virtualThreads - Whether to use virtual threads when they are supported by the JVM (Java 21 or later)
+public type WorkerPoolConfig record {|
+    int maxConcurrency = 100;
+    boolean virtualThreads = true;
+|};
+
+# The progress of the connection pool warm-up of a client.
+#
+# + connections - The number of connections opened by the warm-up
+# + opened - The number of connections opened and validated so far
+# + failed - The number of connections that could not be opened or validated
+# + inProgress - Whether a warm-up is in progress
+# + ready - Whether a warm-up has completed without failures, or no warm-up has been started
+# + errorMessage - The first error of the last warm-up
+public type WarmupStatus record {|
+    int connections;
+    int opened;
+    int failed;
+    boolean inProgress;
+    boolean ready;
+    string errorMessage?;
+|};
+
+# Partitioning of a `queryPartitioned` call. The query is used as a derived table, and each partition reads a range
+# of the values of the partition column from its result. The first partition also reads the `NULL` values, and the
+# first and the last partitions are open ended, so that every row of the query is read exactly once.
+#
+# + column - The name of an integer column of the query result, optionally quoted with double quotes or square
+#            brackets
+# + bounds - The boundaries between the partitions in ascending order. `n` bounds define `n + 1` partitions, the
+#            first reading the values less than `bounds[0]` and the last reading the values greater than or equal
+#            to `bounds[n - 1]`
+# + lowerBound - The lower bound of the range split into `partitions` ranges of equal width, when `bounds` are not
+#                provided
+# + upperBound - The upper bound of the range split into `partitions` ranges of equal width, when `bounds` are not
+#                provided. If neither bound is provided, the minimum and the maximum values of the column are queried
+# + partitions - The number of partitions when `bounds` are not provided
+# + parallelism - The maximum number of partitions read concurrently. All the partitions are read concurrently if
+#                 not provided. This should not exceed the maximum size of the connection pool
+# + bufferSize - The maximum number of rows read ahead of the consumer of the stream
+public type PartitionConfig record {|
+    string column;
+    int[] bounds?;
+    int lowerBound?;
+    int upperBound?;
+    int partitions = 4;
+    int parallelism?;
+    int bufferSize = 1000;
+|};
+
+# Configurations of a `queryIncremental` call.
+#
+# + watermarkColumn - The name of the column of the query result that increases as the rows are modified, such as
+#                     a modification timestamp, optionally quoted with double quotes or square brackets. It must be
+#                     mapped to an `int`, `float`, `decimal`, `string` or `time:Utc` field of the returned record
+# + checkpointFile - The path of the local file in which the watermark is checkpointed. All the rows are read if the
+#                    file does not exist
+# + checkpointInterval - The number of rows consumed between the checkpoints written while the stream is consumed
+public type IncrementalConfig record {|
+    string watermarkColumn;
+    string checkpointFile;
+    int checkpointInterval = 1000;
+|};
+
+# Constants to represent the formats of `exportQuery`.
+public enum ExportFormat {
+    CSV,
+    TSV,
+    NDJSON
+}
+
+# Options of an `exportQuery` call.
+#
+# + format - The format of the file. `CSV` values are quoted as specified by RFC 4180, `TSV` values are escaped with
+#            backslashes with `NULL` written as `\N`, and `NDJSON` writes a JSON object per row
+# + header - Whether a line of the column labels is written before the rows in the `CSV` and `TSV` formats
+# + gzip - Whether the file is compressed with gzip
+# + append - Whether the rows are appended to the file instead of replacing it. Each appended part of a compressed
+#            file is a separate gzip member
+public type ExportOptions record {|
+    *ExecutionOptions;
+    ExportFormat format = CSV;
+    boolean header = true;
+    boolean gzip = false;
+    boolean append = false;
+|};
+
+# The result of `exportQuery`.
+#
+# + rowCount - The number of rows written
+# + byteCount - The number of bytes written to the file
+public type ExportResult record {|
+    int rowCount;
+    int byteCount;
+|};
+
+# Configurations for `bulkExecute`, which include the execution options of its batches.
+#
+# + batchSize - The number of records written in each batch
+# + continueOnError - Whether to continue with the remaining records when a batch fails. If `false`, the stream is
+#                     closed and the result up to the failed batch is returned
+# + maxFailedBatches - The maximum number of failed batches of which the details are kept in the result. The
+#                      failed batches beyond it are only counted
+public type BulkExecuteConfig record {|
+    *ExecutionOptions;
+    int batchSize = 1000;
+    boolean continueOnError = true;
+    int maxFailedBatches = 100;
+|};
+
+# The result of `bulkExecute`.
+#
+# + totalRows - The number of records read from the stream and sent for execution
+# + affectedRowCount - The total number of rows affected by the successful commands
+# + failedRows - The number of records of which the command failed
+# + failedBatchCount - The number of batches that failed
+# + failedBatches - The details of the first batches that failed, up to the `maxFailedBatches` of the configurations
+# + readError - The error of reading or closing the stream of records, if any. The records read before a read error
+#               are written, and the counts include them. The records after it are not read
+public type BulkExecuteResult record {|
+    int totalRows;
+    int affectedRowCount;
+    int failedRows;
+    int failedBatchCount;
+    BulkBatchFailure[] failedBatches;
+    sql:Error? readError = ();
+|};
+
+# The details of a failed `bulkExecute` batch.
+#
+# + startIndex - The index (in the stream) of the first record of the batch
+# + rowCount - The number of records in the batch
+# + 'error - The error returned for the batch
+public type BulkBatchFailure record {|
+    int startIndex;
+    int rowCount;
+    sql:Error 'error;
+|};
+
+# Configurations for a `BatchWriter`, which include the execution options of its batches.
+#
+# + batchSize - The maximum number of rows executed in each batch
+# + lingerTime - The maximum time in seconds a row waits in the buffer for a batch to be filled
+# + maxBufferedRows - The maximum number of rows buffered before the writes wait for the batches to be executed.
+#                     This should not be less than `batchSize`
+# + maxConcurrentBatches - The maximum number of batches executed at a time, each on its own pooled connection. The
+#                          order of the rows is not preserved across batches when this is greater than `1`
+public type BatchWriterConfig record {|
+    *ExecutionOptions;
+    int batchSize = 100;
+    decimal lingerTime = 0.1;
+    int maxBufferedRows = 10000;
+    int maxConcurrentBatches = 1;
+|};
+
+# Configurations for caching the metadata of the data sources. The cache is shared by the clients using the same
+# connection pool, and the configurations of the first of them are used.
+#
+# + ttl - The time in seconds for which the metadata is cached
+# + directory - The directory in which the metadata is persisted, so that a restarted process reads it from the disk
+#               until it expires. The metadata is kept in memory only if not provided
+# + cacheResultColumns - Whether the mapping of the result columns of `query` and `queryRow` to the record fields is
+#                        reused for the same SQL text, instead of matching the columns of each result to the record
+#                        fields again. A mapping is used only while the result has the same column labels and types,
+#                        and is otherwise created again for the new columns
+public type MetadataCacheConfig record {|
+    decimal ttl = 3600;
+    string directory?;
+    boolean cacheResultColumns = true;
+|};
+
+# The metadata of a table or view.
+#
+# + connection - The connection of the table
+# + schema - The schema of the table
+# + name - The name of the table
+# + 'type - The type of the table such as `TABLE` or `VIEW`
+# + description - The description of the table
+public type TableMetadata record {|
+    string? connection;
+    string? schema;
+    string name;
+    string? 'type;
+    string? description;
+|};
+
+# The metadata of a column of a table.
+#
+# + name - The name of the column
+# + ordinal - The position of the column in the table, starting from `1`
+# + typeName - The name of the data type of the column given by the data source
+# + sqlType - The JDBC type of the column as a `java.sql.Types` code
+# + size - The maximum length of a text column or the precision of a numeric column
+# + decimalDigits - The number of fractional digits of a numeric column
+# + nullable - Whether the column allows `NULL` values, or `()` if it is not known
+# + description - The description of the column
+public type ColumnMetadata record {|
+    string name;
+    int ordinal;
+    string? typeName;
+    int sqlType;
+    int? size;
+    int? decimalDigits;
+    boolean? nullable;
+    string? description;
+|};
+
+# The metadata of a stored procedure.
+#
+# + connection - The connection of the procedure
+# + schema - The schema of the procedure
+# + name - The name of the procedure
+# + description - The description of the procedure
+public type ProcedureMetadata record {|
+    string? connection;
+    string? schema;
+    string name;
+    string? description;
+|};
+
 # Constants to represent firewall types.
 public enum FirewallType {
     NONE,
@@ -294,7 +1347,31 @@ isolated function createClient(Client jdbcClient, ClientConfiguration clientConf
     'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ClientProcessor"
 } external;
 
+isolated function nativeExecute(Client sqlClient, sql:ParameterizedQuery sqlQuery)
+returns sql:ExecutionResult|sql:Error = @java:Method {
+    'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ExecuteProcessor"
+} external;
+
+isolated function nativeExecuteWithOptions(Client sqlClient, sql:ParameterizedQuery sqlQuery,
+        ExecutionOptions options) returns sql:ExecutionResult|sql:Error = @java:Method {
+    'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ExecuteProcessor"
+} external;
+
 isolated function nativeBatchExecute(Client sqlClient, string[]|sql:ParameterizedQuery[] sqlQueries)
 returns sql:ExecutionResult[]|sql:Error = @java:Method {
     'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ExecuteProcessor"
 } external;
+
+isolated function nativeBatchExecuteWithOptions(Client sqlClient, sql:ParameterizedQuery[] sqlQueries,
+        ExecutionOptions|BulkExecuteConfig|BatchWriterConfig options) returns sql:ExecutionResult[]|sql:Error = @java:Method {
+    'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ExecuteProcessor"
+} external;
+
+isolated function invalidateModifiedTables(Client sqlClient, sql:ParameterizedQuery[] sqlQueries)
+returns string[] = @java:Method {
+    'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ExecuteProcessor"
+} external;
+
+isolated function invalidateTables(Client sqlClient, string[] tableNames) = @java:Method {
+    'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ExecuteProcessor"
+} external;
@@ -0,0 +1,49 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/sql;
+
+# The `sql:ProcedureCallResult` returned by `call`, of which the statement is executed and read by the connector.
+# The connection of the call is held until this is closed.
+#
+# + executionResult - Summary of the execution of the current result
+# + queryResult - The rows of the current result set
+public class ProcedureCallResult {
+    *sql:ProcedureCallResult;
+
+    public sql:ExecutionResult? executionResult = ();
+    public stream<record {}, sql:Error?>? queryResult = ();
+
+    # Updates the `executionResult` or the `queryResult` field with the next result of the call. The stream of the
+    # previous result set ends. If an error is returned, the resources of the call are released.
+    #
+    # + return - `true` if the next result is a result set, `false` otherwise, or an `sql:Error`
+    public isolated function getNextQueryResult() returns boolean|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ProcedureCallResultProcessor"
+    } external;
+
+    # Releases the resources of the call, such as its connection and statement.
+    #
+    # + return - An `sql:Error` if the resources could not be released
+    public isolated function close() returns sql:Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ProcedureCallResultProcessor",
+        name: "closeCallResult"
+    } external;
+}
+
+# The record type of the result sets of `call` for which a row type is not given.
+type ProcedureCallRow record {};
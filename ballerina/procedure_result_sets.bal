@@ -0,0 +1,45 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/sql;
+
+# The results of a stored procedure call made with `callStreaming`, which are read one result set at a time.
+# The rows of a result set are fetched from the data source as its stream is consumed, so only the current page of
+# rows is held in memory. The connection of the call is held until all the results are read or this is closed.
+public isolated class ProcedureResultSets {
+
+    # Moves to the next result set of the call and returns its rows as a stream. The stream of the previous result
+    # set ends, and the update counts between the result sets are skipped. Once there are no more result sets, the
+    # `sql:OutParameter` and `sql:InOutParameter` values of the call are populated, the resources of the call are
+    # released, and `()` is returned. If an error is returned, the resources of the call are released.
+    #
+    # + rowType - The `typedesc` of the record to which the rows of the result set need to be returned
+    # + return - The rows of the next result set, `()` if there are no more result sets, or an `sql:Error`
+    public isolated function nextResultSet(typedesc<record {}> rowType = <>)
+    returns stream<rowType, sql:Error?>|sql:Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ProcedureResultSetsProcessor"
+    } external;
+
+    # Releases the resources of the call without reading the remaining result sets. The OUT parameters are not
+    # populated in that case.
+    #
+    # + return - An `sql:Error` if the resources could not be released
+    public isolated function close() returns sql:Error? = @java:Method {
+        'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.ProcedureResultSetsProcessor",
+        name: "closeResultSets"
+    } external;
+}
@@ -0,0 +1,52 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/sql;
+
+# The iterator of the streams returned by `query` and the other streaming calls of the client. The rows of these streams
+# are always produced by the connector itself instead of the `sql` module.
+class ResultIterator {
+    private boolean isClosed = false;
+
+    public isolated function next() returns record {|record {} value;|}|sql:Error? {
+        if self.isClosed {
+            return error sql:ApplicationError("Stream is closed. Therefore, no operations are allowed further on the stream.");
+        }
+        record {}|sql:Error? result = nextResult(self);
+        if result is record {} {
+            return {value: result};
+        }
+        self.isClosed = true;
+        sql:Error? closeErr = closeResult(self);
+        return result is sql:Error ? result : closeErr;
+    }
+
+    public isolated function close() returns sql:Error? {
+        if !self.isClosed {
+            self.isClosed = true;
+            return closeResult(self);
+        }
+    }
+}
+
+isolated function nextResult(ResultIterator iterator) returns record {}|sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.RecordIteratorProcessor"
+} external;
+
+isolated function closeResult(ResultIterator iterator) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.java.jdbc.nativeimpl.RecordIteratorProcessor"
+} external;
@@ -0,0 +1,142 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/random;
+import ballerina/sql;
+import ballerina/time;
+import ballerinax/cdata.connect as cdata;
+
+// The remote method to drive: `query`, `queryRow`, `execute`, `batchExecute` or `call`.
+configurable string scenario = "query";
+// The number of concurrent callers, and the size of the connection pool, which is the concurrency when not set.
+configurable int concurrency = 16;
+configurable int poolSize = 0;
+// The seconds the scenario is run before and while it is measured.
+configurable decimal warmup = 5;
+configurable decimal duration = 30;
+// The behaviour of the simulated service, i.e. the latency and the jitter of each statement in milliseconds, the
+// fraction of the statements failing with a transient connection error, and the number of rows of `Account`.
+configurable int latency = 20;
+configurable int jitter = 5;
+configurable float failureRate = 0;
+configurable int tableRows = 10000;
+// The number of rows read by `query` and `call`, and the number of commands of a `batchExecute`.
+configurable int rows = 100;
+configurable int batchSize = 100;
+
+type Result record {|
+    decimal[] latencies = [];
+    int errors = 0;
+|};
+
+public function main() returns error? {
+    string url = string `jdbc:cdata:connect:SimLatency=${latency};SimJitter=${jitter};` +
+        string `SimFailureRate=${failureRate};SimRows=${tableRows}`;
+    cdata:Client cdataClient = check new ("load", "load", url, (),
+        {maxOpenConnections: poolSize > 0 ? poolSize : concurrency});
+    _ = run(cdataClient, warmup);
+    Result result = run(cdataClient, duration);
+    check cdataClient.close();
+
+    decimal[] latencies = result.latencies.sort();
+    io:println(string `Load test of ${scenario} with ${concurrency} callers against ${url}`);
+    io:println(string `calls: ${latencies.length()}, errors: ${result.errors}, ` +
+        string `calls/s: ${(<decimal>latencies.length() / duration).round(2)}`);
+    io:println(string `p50: ${percentile(latencies, 50)} ms, p90: ${percentile(latencies, 90)} ms, ` +
+        string `p99: ${percentile(latencies, 99)} ms, p99.9: ${percentile(latencies, 99.9)} ms, ` +
+        string `max: ${percentile(latencies, 100)} ms`);
+}
+
+function run(cdata:Client cdataClient, decimal seconds) returns Result {
+    decimal deadline = time:monotonicNow() + seconds;
+    future<Result>[] callers = [];
+    foreach int i in 0 ..< concurrency {
+        callers.push(start callRepeatedly(cdataClient, deadline));
+    }
+    Result total = {};
+    foreach future<Result> caller in callers {
+        Result result = wait caller;
+        total.latencies.push(...result.latencies);
+        total.errors += result.errors;
+    }
+    return total;
+}
+
+// The latency of the failed calls is not recorded, so that fast failures do not hide slow calls.
+function callRepeatedly(cdata:Client cdataClient, decimal deadline) returns Result {
+    Result result = {};
+    while time:monotonicNow() < deadline {
+        decimal startTime = time:monotonicNow();
+        error? outcome = callOnce(cdataClient);
+        if outcome is error {
+            result.errors += 1;
+        } else {
+            result.latencies.push((time:monotonicNow() - startTime) * 1000);
+        }
+    }
+    return result;
+}
+
+function callOnce(cdata:Client cdataClient) returns error? {
+    match scenario {
+        "query" => {
+            stream<record {}, sql:Error?> accounts = cdataClient->query(`SELECT * FROM Account WHERE Id <= ${rows}`);
+            check from record {} _ in accounts
+                do {
+                };
+        }
+        "queryRow" => {
+            int id = check randomId();
+            record {} _ = check cdataClient->queryRow(`SELECT * FROM Account WHERE Id = ${id}`);
+        }
+        "execute" => {
+            int id = check randomId();
+            _ = check cdataClient->execute(`UPDATE Account SET Rating = ${<float>(id % 5)} WHERE Id = ${id}`);
+        }
+        "batchExecute" => {
+            sql:ParameterizedQuery[] updates = [];
+            foreach int i in 0 ..< batchSize {
+                int id = check randomId();
+                updates.push(`UPDATE Account SET Rating = ${<float>(id % 5)} WHERE Id = ${id}`);
+            }
+            _ = check cdataClient->batchExecute(updates);
+        }
+        "call" => {
+            sql:ProcedureCallResult result = check cdataClient->call(`CALL GetAccounts(${rows})`);
+            stream<record {}, sql:Error?>? accounts = result.queryResult;
+            if accounts !is () {
+                check from record {} _ in accounts
+                    do {
+                    };
+            }
+            check result.close();
+        }
+        _ => {
+            return error(string `Unknown scenario: ${scenario}`);
+        }
+    }
+}
+
+function randomId() returns int|error => random:createIntInRange(1, tableRows + 1);
+
+function percentile(decimal[] sortedLatencies, decimal percentile) returns decimal {
+    if sortedLatencies.length() == 0 {
+        return 0;
+    }
+    int index = <int>(percentile / 100 * <decimal>sortedLatencies.length()).ceiling() - 1;
+    return sortedLatencies[index < 0 ? 0 : index].round(2);
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.benchmark;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.batch.BatchExecutor;
+import io.ballerina.stdlib.java.jdbc.batch.BatchResult;
+import io.ballerina.stdlib.java.jdbc.utils.ExecutionOptions;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BatchExecutor#execute}, which executes the JDBC batches of `batchExecute`, on a client created by
+ * the connector. Generated keys are requested for every batch since the client is created with
+ * `requestGeneratedKeys` set to `ALL`, and the statement of the batch is cached when `statementCache` is set.
+ *
+ * @since 1.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchExecuteBenchmark {
+
+    private static final String[] INSERT = {"INSERT INTO AccountStaging (Name, Industry, AnnualRevenue, IsActive) "
+            + "VALUES (", ", ", ", ", ", ", ")"};
+
+    @Param({"10", "100", "1000"})
+    public int batchSize;
+
+    @Param({"false", "true"})
+    public boolean statementCache;
+
+    private BObject client;
+    private ExecutionOptions executionOptions;
+    private String sqlQuery;
+    private List<BObject> queries;
+
+    @Setup
+    public void setup() throws SQLException {
+        BenchmarkDatabase.initialize();
+        BMap<BString, Object> options = ValueCreator.createMapValue();
+        if (statementCache) {
+            BMap<BString, Object> statementCacheConfig = ValueCreator.createMapValue();
+            statementCacheConfig.put(Constants.StatementCacheConfig.MAX_STATEMENTS, 16L);
+            options.put(Constants.Options.STATEMENT_CACHE, statementCacheConfig);
+        }
+        client = BenchmarkClient.create(options);
+        executionOptions = ExecutionOptions.of(client);
+        queries = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            queries.add(BenchmarkClient.createQuery(INSERT, StringUtils.fromString("Staged account " + i),
+                    StringUtils.fromString("Technology"), ValueCreator.createDecimalValue(BigDecimal.valueOf(i, 2)),
+                    true));
+        }
+        sqlQuery = Utils.getSqlQuery(queries.get(0));
+    }
+
+    @Setup(Level.Iteration)
+    public void clearStaging() throws SQLException {
+        BenchmarkDatabase.clearStaging();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkClient.close(client);
+    }
+
+    @Benchmark
+    public BatchResult batchExecute() {
+        BatchResult result = BatchExecutor.execute(client, sqlQuery, queries, executionOptions, false, null,
+                DefaultStatementParameterProcessor.getInstance());
+        if (result.isFailed()) {
+            throw new IllegalStateException("Error while executing the batch", result.getError());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.benchmark;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.nativeimpl.ClientProcessor;
+import io.ballerina.stdlib.java.jdbc.simulator.SimulatedConnectDriver;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates the clients and the queries passed to the native code of the connector by the benchmarks. The client and
+ * the `sql:ParameterizedQuery` objects are declared in Ballerina modules that are not loaded by the benchmarks, hence
+ * they are created as `BObject` proxies that keep the native data and the fields read by the native code. A client
+ * is initialized by {@link ClientProcessor#createClient} as it is for a Ballerina program.
+ *
+ * @since 1.2.0
+ */
+final class BenchmarkClient {
+
+    private BenchmarkClient() {
+    }
+
+    /**
+     * Creates a client connected to the {@link SimulatedConnectDriver}.
+     *
+     * @param options the `Options` record of the client
+     * @return the client object
+     */
+    static BObject create(BMap<BString, Object> options) {
+        BMap<BString, Object> clientConfig = ValueCreator.createMapValue();
+        clientConfig.put(Constants.ClientConfiguration.URL, StringUtils.fromString(SimulatedConnectDriver.URL));
+        clientConfig.put(Constants.ClientConfiguration.OPTIONS, options);
+        BMap<BString, Object> globalPool = ValueCreator.createMapValue();
+        globalPool.put(Constants.ConnectionPool.MAX_OPEN_CONNECTIONS, 15L);
+        globalPool.put(StringUtils.fromString("maxConnectionLifeTime"), ValueCreator.createDecimalValue("1800.0"));
+        globalPool.put(Constants.ConnectionPool.MIN_IDLE_CONNECTIONS, 15L);
+        BObject client = createObject(new HashMap<>());
+        Object error = ClientProcessor.createClient(client, clientConfig, globalPool);
+        if (error != null) {
+            throw new IllegalStateException("Error while creating the client: " + ((BError) error).getMessage());
+        }
+        return client;
+    }
+
+    static void close(BObject client) {
+        ClientProcessor.close(client);
+    }
+
+    /**
+     * Creates an `sql:ParameterizedQuery` with the given fragments and the values inserted between them.
+     *
+     * @param strings    the SQL fragments
+     * @param insertions the Ballerina values of the parameters
+     * @return the query object
+     */
+    static BObject createQuery(String[] strings, Object... insertions) {
+        BString[] fragments = new BString[strings.length];
+        for (int i = 0; i < strings.length; i++) {
+            fragments[i] = StringUtils.fromString(strings[i]);
+        }
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(Constants.ParameterizedQuery.STRINGS.getValue(), ValueCreator.createArrayValue(fragments));
+        fields.put(Constants.ParameterizedQuery.INSERTIONS.getValue(), ValueCreator.createArrayValue(insertions,
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA)));
+        return createObject(fields);
+    }
+
+    private static BObject createObject(Map<String, Object> fields) {
+        Map<String, Object> nativeData = new HashMap<>();
+        return (BObject) Proxy.newProxyInstance(BenchmarkClient.class.getClassLoader(), new Class<?>[]{BObject.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getNativeData":
+                            return args == null ? nativeData : nativeData.get((String) args[0]);
+                        case "addNativeData":
+                            nativeData.put((String) args[0], args[1]);
+                            return null;
+                        case "getArrayValue":
+                            return fields.get(((BString) args[0]).getValue());
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "BenchmarkObject@" + Integer.toHexString(System.identityHashCode(proxy));
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
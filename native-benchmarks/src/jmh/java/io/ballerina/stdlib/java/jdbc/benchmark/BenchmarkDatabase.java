@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.benchmark;
+
+import io.ballerina.stdlib.java.jdbc.simulator.SimulatedConnectDriver;
+import io.ballerina.stdlib.java.jdbc.simulator.SimulatedDatabase;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Opens the connections used by the benchmarks against the {@link SimulatedConnectDriver}, which injects no latency
+ * by default so that only the cost of the connector is measured. The tables are described in
+ * {@link SimulatedDatabase}.
+ *
+ * @since 1.2.0
+ */
+public final class BenchmarkDatabase {
+
+    private BenchmarkDatabase() {
+    }
+
+    public static Connection getConnection() throws SQLException {
+        return DriverManager.getConnection(SimulatedConnectDriver.URL);
+    }
+
+    /**
+     * Creates the tables of the simulator, which is done by its first connection.
+     */
+    public static void initialize() throws SQLException {
+        getConnection().close();
+    }
+
+    public static void clearStaging() throws SQLException {
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE AccountStaging");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.benchmark;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.nativeimpl.ClientProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the translation of the `Options` record into connection string properties performed by
+ * {@link ClientProcessor#createClient}.
+ *
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClientOptionsBenchmark {
+
+    private BMap<BString, Object> options;
+
+    @Setup
+    public void setup() {
+        BMap<BString, Object> ssl = ValueCreator.createMapValue();
+        ssl.put(Constants.SslConfig.SSL_SERVER_CERT, StringUtils.fromString("*"));
+
+        BMap<BString, Object> firewall = ValueCreator.createMapValue();
+        firewall.put(Constants.FirewallConfig.FIREWALL_TYPE, StringUtils.fromString("TUNNEL"));
+        firewall.put(Constants.FirewallConfig.FIREWALL_SERVER, StringUtils.fromString("firewall.example.com"));
+        firewall.put(Constants.FirewallConfig.FIREWALL_PORT, 8080L);
+        firewall.put(Constants.FirewallConfig.FIREWALL_USER, StringUtils.fromString("admin"));
+        firewall.put(Constants.FirewallConfig.FIREWALL_PASSWORD, StringUtils.fromString("admin"));
+
+        BMap<BString, Object> proxy = ValueCreator.createMapValue();
+        proxy.put(Constants.ProxyConfig.PROXY_AUTO_DETECT, false);
+        proxy.put(Constants.ProxyConfig.PROXY_SERVER, StringUtils.fromString("proxy.example.com"));
+        proxy.put(Constants.ProxyConfig.PROXY_PORT, 80L);
+        proxy.put(Constants.ProxyConfig.PROXY_AUTH_SCHEMA, StringUtils.fromString("BASIC"));
+
+        BMap<BString, Object> logging = ValueCreator.createMapValue();
+        logging.put(Constants.LoggingConfig.LOG_FILE, StringUtils.fromString("/tmp/cdata.log"));
+        logging.put(Constants.LoggingConfig.VERBOSITY, StringUtils.fromString("1"));
+        logging.put(Constants.LoggingConfig.MAX_LOG_FILE_SIZE, StringUtils.fromString("100MB"));
+        logging.put(Constants.LoggingConfig.MAX_LOG_FILE_COUNT, -1L);
+
+        BMap<BString, Object> miscellaneous = ValueCreator.createMapValue();
+        miscellaneous.put(Constants.MiscellaneousConfig.BATCH_SIZE, 500L);
+        miscellaneous.put(Constants.MiscellaneousConfig.CONNECTION_LIFE_TIME, 300L);
+        miscellaneous.put(Constants.MiscellaneousConfig.CONNECT_ON_OPEN, true);
+        miscellaneous.put(Constants.MiscellaneousConfig.MAX_ROWS, -1L);
+        miscellaneous.put(Constants.MiscellaneousConfig.POOL_IDLE_TIMEOUT, 60L);
+        miscellaneous.put(Constants.MiscellaneousConfig.POOL_MAX_SIZE, 100L);
+        miscellaneous.put(Constants.MiscellaneousConfig.POOL_MIN_SIZE, 1L);
+        miscellaneous.put(Constants.MiscellaneousConfig.POOL_WAIT_TIME, 60L);
+        miscellaneous.put(Constants.MiscellaneousConfig.QUERY_PASS_THROUGH, true);
+        miscellaneous.put(Constants.MiscellaneousConfig.TIMEOUT, 60L);
+        miscellaneous.put(Constants.MiscellaneousConfig.USE_CONNECTION_POOLING, false);
+
+        options = ValueCreator.createMapValue();
+        options.put(Constants.Options.SSL, ssl);
+        options.put(Constants.Options.FIREWALL, firewall);
+        options.put(Constants.Options.PROXY, proxy);
+        options.put(Constants.Options.LOGGING, logging);
+        options.put(Constants.Options.MISCELLANEOUS, miscellaneous);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> translateOptions() {
+        return ClientProcessor.getConnectionStringProperties(options);
+    }
+}
@@ -41,8 +41,70 @@ public final class Constants {
         public static final BString PROPERTIES = StringUtils.fromString("properties");
     }
 
+    /**
+     * Constants for the fields of the `sql:ParameterizedQuery` object.
+     */
+    public static final class ParameterizedQuery {
+
+        private ParameterizedQuery() {
+        }
+
+        public static final BString STRINGS = StringUtils.fromString("strings");
+        public static final BString INSERTIONS = StringUtils.fromString("insertions");
+        public static final BString TYPED_VALUE = StringUtils.fromString("value");
+    }
+
+    /**
+     * Constants for the native data of the client and the result iterator objects.
+     */
+    public static final class NativeData {
+
+        private NativeData() {
+        }
+
+        public static final String QUERY_RESULT_CACHE = "QueryResultCache";
+        public static final String ROW_ITERATOR = "RowIterator";
+        public static final String PARALLEL_BATCH_EXECUTOR = "ParallelBatchExecutor";
+        public static final String STATEMENT_CACHE = "StatementCache";
+        public static final String QUERY_OPTIONS = "QueryOptions";
+        public static final String CLIENT_METRICS = "ClientMetrics";
+        public static final String SHARED_DATASOURCE = "SharedDatasource";
+        public static final String POOL_WARMER = "PoolWarmer";
+        public static final String WORKER_EXECUTOR = "WorkerExecutor";
+        public static final String QUERY_ROW_COALESCER = "QueryRowCoalescer";
+        public static final String ADAPTIVE_LIMITER = "AdaptiveLimiter";
+        public static final String READ_POLICY = "ReadPolicy";
+        public static final String EXECUTION_OPTIONS = "ExecutionOptions";
+        public static final String PROCEDURE_RESULT_SETS = "ProcedureResultSets";
+        public static final String METADATA_CACHE = "MetadataCache";
+        public static final String TENANT_ADMISSION = "TenantAdmission";
+        public static final String MEMORY_BUDGET = "MemoryBudget";
+    }
+
+    /**
+     * Constants for the records and errors of the `sql` module created by the connector.
+     */
+    public static final class SqlModule {
+
+        private SqlModule() {
+        }
+
+        public static final String EXECUTION_RESULT = "ExecutionResult";
+        public static final String AFFECTED_ROW_COUNT = "affectedRowCount";
+        public static final String LAST_INSERT_ID = "lastInsertId";
+        public static final String BATCH_EXECUTE_ERROR = "BatchExecuteError";
+        public static final String BATCH_EXECUTE_ERROR_DETAIL = "BatchExecuteErrorDetail";
+        public static final String ERROR_CODE = "errorCode";
+        public static final String SQL_STATE = "sqlState";
+        public static final String EXECUTION_RESULTS = "executionResults";
+    }
+
+    public static final String RESULT_ITERATOR_OBJECT = "ResultIterator";
+    public static final String PROCEDURE_RESULT_SETS_OBJECT = "ProcedureResultSets";
     public static final String CONNECT_TIMEOUT = ".*(connect).*(timeout).*";
     public static final String POOL_CONNECTION_TIMEOUT = "ConnectionTimeout";
+    public static final String POOL_NAME = "PoolName";
+    public static final String POOL_REGISTER_MBEANS = "RegisterMbeans";
 
     /**
      * Constants for Request Generated Keys field.
@@ -51,6 +113,7 @@ public final class Constants {
         public static final String ALL = "ALL";
         public static final String EXECUTE = "EXECUTE";
         public static final String BATCH_EXECUTE = "BATCH_EXECUTE";
+        public static final String NONE = "NONE";
     }
 
     /**
@@ -66,6 +129,21 @@ public final class Constants {
         public static final BString PROXY = StringUtils.fromString("proxy");
         public static final BString LOGGING = StringUtils.fromString("logging");
         public static final BString MISCELLANEOUS = StringUtils.fromString("miscellaneous");
+        public static final BString QUERY_CACHE = StringUtils.fromString("queryCache");
+        public static final BString BATCH_EXECUTION = StringUtils.fromString("batchExecution");
+        public static final BString STATEMENT_CACHE = StringUtils.fromString("statementCache");
+        public static final BString QUERY_OPTIONS = StringUtils.fromString("queryOptions");
+        public static final BString METRICS = StringUtils.fromString("metrics");
+        public static final BString WARMUP = StringUtils.fromString("warmup");
+        public static final BString WORKER_POOL = StringUtils.fromString("workerPool");
+        public static final BString COALESCE_QUERY_ROW = StringUtils.fromString("coalesceQueryRow");
+        public static final BString CONCURRENCY_LIMIT = StringUtils.fromString("concurrencyLimit");
+        public static final BString HEDGING = StringUtils.fromString("hedging");
+        public static final BString RETRY = StringUtils.fromString("retry");
+        public static final BString EXECUTION_OPTIONS = StringUtils.fromString("executionOptions");
+        public static final BString METADATA_CACHE = StringUtils.fromString("metadataCache");
+        public static final BString SCHEDULING = StringUtils.fromString("scheduling");
+        public static final BString MEMORY_BUDGET = StringUtils.fromString("memoryBudget");
     }
 
     /**
@@ -197,4 +275,466 @@ public final class Constants {
         public static final BString TIMEOUT = StringUtils.fromString("timeout");
         public static final BString USE_CONNECTION_POOLING = StringUtils.fromString("useConnectionPooling");
     }
+
+    /**
+     * Constants for the query cache configuration.
+     */
+    public static final class QueryCacheConfig {
+
+        private QueryCacheConfig() {
+        }
+
+        public static final BString MAX_ENTRIES = StringUtils.fromString("maxEntries");
+        public static final BString MAX_SIZE_IN_BYTES = StringUtils.fromString("maxSizeInBytes");
+        public static final BString TTL = StringUtils.fromString("ttl");
+    }
+
+    /**
+     * Constants for the query cache statistics record.
+     */
+    public static final class QueryCacheStats {
+
+        private QueryCacheStats() {
+        }
+
+        public static final String RECORD_NAME = "QueryCacheStats";
+        public static final String HITS = "hits";
+        public static final String MISSES = "misses";
+        public static final String EVICTIONS = "evictions";
+        public static final String ENTRIES = "entries";
+        public static final String SIZE_IN_BYTES = "sizeInBytes";
+    }
+
+    /**
+     * Constants for the batch execution configuration.
+     */
+    public static final class BatchExecutionConfig {
+
+        private BatchExecutionConfig() {
+        }
+
+        public static final BString PARALLELISM = StringUtils.fromString("parallelism");
+        public static final BString CHUNK_SIZE = StringUtils.fromString("chunkSize");
+        public static final int DEFAULT_CHUNK_SIZE = 1000;
+    }
+
+    /**
+     * Constants for the prepared statement cache configuration.
+     */
+    public static final class StatementCacheConfig {
+
+        private StatementCacheConfig() {
+        }
+
+        public static final BString MAX_STATEMENTS = StringUtils.fromString("maxStatements");
+    }
+
+    /**
+     * Constants for the parameter objects of a `sql:ParameterizedCallQuery`.
+     */
+    public static final class CallParameters {
+
+        private CallParameters() {
+        }
+
+        public static final String INOUT_PARAMETER = "InOutParameter";
+        public static final String OUT_PARAMETER_SUFFIX = "OutParameter";
+        public static final BString IN_VALUE = StringUtils.fromString("in");
+    }
+
+    /**
+     * Constants for the `ProcedureCallResult` returned by `call`.
+     */
+    public static final class ProcedureCallResult {
+
+        private ProcedureCallResult() {
+        }
+
+        public static final String OBJECT_NAME = "ProcedureCallResult";
+        public static final String DEFAULT_ROW_RECORD = "ProcedureCallRow";
+        public static final BString EXECUTION_RESULT = StringUtils.fromString("executionResult");
+        public static final BString QUERY_RESULT = StringUtils.fromString("queryResult");
+    }
+
+    /**
+     * Constants for the options applied to the statement of a remote call.
+     */
+    public static final class ExecutionOptions {
+
+        private ExecutionOptions() {
+        }
+
+        public static final BString REQUEST_GENERATED_KEYS = StringUtils.fromString("requestGeneratedKeys");
+        public static final BString TIMEOUT = StringUtils.fromString("timeout");
+        public static final BString MAX_ROWS = StringUtils.fromString("maxRows");
+        public static final BString FETCH_SIZE = StringUtils.fromString("fetchSize");
+        public static final BString READ_ONLY = StringUtils.fromString("readOnly");
+        public static final BString MAX_RESULT_BYTES = StringUtils.fromString("maxResultBytes");
+    }
+
+    /**
+     * Constants for the options of the result streams of `query` calls.
+     */
+    public static final class QueryOptions {
+
+        private QueryOptions() {
+        }
+
+        public static final BString READ_AHEAD = StringUtils.fromString("readAhead");
+        public static final int DEFAULT_READ_AHEAD_BUFFER_SIZE = 1000;
+    }
+
+    /**
+     * Constants for the metrics configuration.
+     */
+    public static final class MetricsConfig {
+
+        private MetricsConfig() {
+        }
+
+        public static final BString NAME = StringUtils.fromString("name");
+        public static final BString JMX = StringUtils.fromString("jmx");
+    }
+
+    /**
+     * Constants for the fields of the `sql:ConnectionPool` record.
+     */
+    public static final class ConnectionPool {
+
+        private ConnectionPool() {
+        }
+
+        public static final BString MAX_OPEN_CONNECTIONS = StringUtils.fromString("maxOpenConnections");
+        public static final BString MIN_IDLE_CONNECTIONS = StringUtils.fromString("minIdleConnections");
+    }
+
+    /**
+     * Constants for the connection pool warm-up configuration.
+     */
+    public static final class WarmupConfig {
+
+        private WarmupConfig() {
+        }
+
+        public static final BString CONNECTIONS = StringUtils.fromString("connections");
+        public static final BString BACKGROUND = StringUtils.fromString("background");
+        public static final BString PROBE_QUERY = StringUtils.fromString("probeQuery");
+        public static final BString PROBE_TIMEOUT = StringUtils.fromString("probeTimeout");
+        public static final int DEFAULT_PROBE_TIMEOUT = 5;
+    }
+
+    /**
+     * Constants for the `WarmupStatus` record.
+     */
+    public static final class WarmupStatus {
+
+        private WarmupStatus() {
+        }
+
+        public static final String RECORD_NAME = "WarmupStatus";
+        public static final String CONNECTIONS = "connections";
+        public static final String OPENED = "opened";
+        public static final String FAILED = "failed";
+        public static final String IN_PROGRESS = "inProgress";
+        public static final String READY = "ready";
+        public static final String ERROR_MESSAGE = "errorMessage";
+    }
+
+    /**
+     * Constants for the worker pool configuration.
+     */
+    public static final class WorkerPoolConfig {
+
+        private WorkerPoolConfig() {
+        }
+
+        public static final BString MAX_CONCURRENCY = StringUtils.fromString("maxConcurrency");
+        public static final BString VIRTUAL_THREADS = StringUtils.fromString("virtualThreads");
+    }
+
+    /**
+     * Constants for the `ConcurrencyLimitConfig` record.
+     */
+    public static final class ConcurrencyLimitConfig {
+
+        private ConcurrencyLimitConfig() {
+        }
+
+        public static final BString INITIAL_LIMIT = StringUtils.fromString("initialLimit");
+        public static final BString MIN_LIMIT = StringUtils.fromString("minLimit");
+        public static final BString MAX_LIMIT = StringUtils.fromString("maxLimit");
+        public static final BString MAX_QUEUED = StringUtils.fromString("maxQueued");
+        public static final BString QUEUE_TIMEOUT = StringUtils.fromString("queueTimeout");
+        public static final BString LATENCY_THRESHOLD = StringUtils.fromString("latencyThreshold");
+        public static final BString BACKOFF_RATIO = StringUtils.fromString("backoffRatio");
+        public static final BString CIRCUIT_BREAKER = StringUtils.fromString("circuitBreaker");
+    }
+
+    /**
+     * Constants for the `CircuitBreakerConfig` record.
+     */
+    public static final class CircuitBreakerConfig {
+
+        private CircuitBreakerConfig() {
+        }
+
+        public static final BString FAILURE_THRESHOLD = StringUtils.fromString("failureThreshold");
+        public static final BString RESET_TIME = StringUtils.fromString("resetTime");
+    }
+
+    /**
+     * Constants for the `LimiterStatus` record.
+     */
+    public static final class LimiterStatus {
+
+        private LimiterStatus() {
+        }
+
+        public static final String RECORD_NAME = "LimiterStatus";
+        public static final String LIMIT = "limit";
+        public static final String IN_FLIGHT = "inFlight";
+        public static final String QUEUED = "queued";
+        public static final String REJECTED = "rejected";
+        public static final String CIRCUIT_STATE = "circuitState";
+    }
+
+    /**
+     * Constants for the `SchedulingConfig` record.
+     */
+    public static final class SchedulingConfig {
+
+        private SchedulingConfig() {
+        }
+
+        public static final BString TENANT = StringUtils.fromString("tenant");
+        public static final BString PRIORITY_CLASS = StringUtils.fromString("priorityClass");
+        public static final BString WEIGHT = StringUtils.fromString("weight");
+        public static final BString MAX_IN_FLIGHT = StringUtils.fromString("maxInFlight");
+        public static final BString MAX_QUEUED = StringUtils.fromString("maxQueued");
+        public static final BString QUEUE_TIMEOUT = StringUtils.fromString("queueTimeout");
+        public static final BString INTERACTIVE_RESERVE = StringUtils.fromString("interactiveReserve");
+    }
+
+    /**
+     * Constants for the `SchedulerStatus` record.
+     */
+    public static final class SchedulerStatus {
+
+        private SchedulerStatus() {
+        }
+
+        public static final String RECORD_NAME = "SchedulerStatus";
+        public static final String CAPACITY = "capacity";
+        public static final String INTERACTIVE_RESERVE = "interactiveReserve";
+        public static final String IN_FLIGHT = "inFlight";
+        public static final String REJECTED = "rejected";
+        public static final String INTERACTIVE = "interactive";
+        public static final String BATCH = "batch";
+        public static final String TENANTS = "tenants";
+    }
+
+    /**
+     * Constants for the `PriorityClassStatus` record.
+     */
+    public static final class PriorityClassStatus {
+
+        private PriorityClassStatus() {
+        }
+
+        public static final String RECORD_NAME = "PriorityClassStatus";
+        public static final String IN_FLIGHT = "inFlight";
+        public static final String QUEUED = "queued";
+        public static final String ADMITTED = "admitted";
+        public static final String MEAN_WAIT_MILLIS = "meanWaitMillis";
+        public static final String MAX_WAIT_MILLIS = "maxWaitMillis";
+    }
+
+    /**
+     * Constants for the `TenantStatus` record.
+     */
+    public static final class TenantStatus {
+
+        private TenantStatus() {
+        }
+
+        public static final String RECORD_NAME = "TenantStatus";
+        public static final String TENANT = "tenant";
+        public static final String WEIGHT = "weight";
+        public static final String MAX_IN_FLIGHT = "maxInFlight";
+        public static final String IN_FLIGHT = "inFlight";
+        public static final String QUEUED = "queued";
+    }
+
+    /**
+     * Constants for the `MemoryBudgetConfig` record.
+     */
+    public static final class MemoryBudgetConfig {
+
+        private MemoryBudgetConfig() {
+        }
+
+        public static final BString MAX_CLIENT_BYTES = StringUtils.fromString("maxClientBytes");
+        public static final BString MAX_GLOBAL_BYTES = StringUtils.fromString("maxGlobalBytes");
+    }
+
+    /**
+     * Constants for the `MemoryUsage` record.
+     */
+    public static final class MemoryUsage {
+
+        private MemoryUsage() {
+        }
+
+        public static final String RECORD_NAME = "MemoryUsage";
+        public static final String CLIENT_BYTES = "clientBytes";
+        public static final String PEAK_CLIENT_BYTES = "peakClientBytes";
+        public static final String MAX_CLIENT_BYTES = "maxClientBytes";
+        public static final String GLOBAL_BYTES = "globalBytes";
+        public static final String PEAK_GLOBAL_BYTES = "peakGlobalBytes";
+        public static final String MAX_GLOBAL_BYTES = "maxGlobalBytes";
+        public static final String LARGEST_RESULT_BYTES = "largestResultBytes";
+        public static final String MATERIALIZED_BYTES = "materializedBytes";
+        public static final String LARGEST_MATERIALIZED_BYTES = "largestMaterializedBytes";
+        public static final String REJECTED = "rejected";
+    }
+
+    /**
+     * Constants for the `HedgingConfig` record.
+     */
+    public static final class HedgingConfig {
+
+        private HedgingConfig() {
+        }
+
+        public static final BString PERCENTILE = StringUtils.fromString("percentile");
+        public static final BString INITIAL_DELAY = StringUtils.fromString("initialDelay");
+        public static final BString MIN_DELAY = StringUtils.fromString("minDelay");
+        public static final BString MAX_HEDGE_PERCENT = StringUtils.fromString("maxHedgePercent");
+    }
+
+    /**
+     * Constants for the `RetryConfig` record.
+     */
+    public static final class RetryConfig {
+
+        private RetryConfig() {
+        }
+
+        public static final BString MAX_RETRIES = StringUtils.fromString("maxRetries");
+        public static final BString INITIAL_BACKOFF = StringUtils.fromString("initialBackoff");
+        public static final BString BACKOFF_MULTIPLIER = StringUtils.fromString("backoffMultiplier");
+        public static final BString MAX_BACKOFF = StringUtils.fromString("maxBackoff");
+        public static final BString TRANSIENT_SQL_STATES = StringUtils.fromString("transientSqlStates");
+    }
+
+    /**
+     * Constants for the `ReadPolicyStats` record.
+     */
+    public static final class ReadPolicyStats {
+
+        private ReadPolicyStats() {
+        }
+
+        public static final String RECORD_NAME = "ReadPolicyStats";
+        public static final String HEDGES = "hedges";
+        public static final String RETRIES = "retries";
+        public static final String HEDGE_DELAY_MILLIS = "hedgeDelayMillis";
+    }
+
+    /**
+     * Constants for the `CoalescingStats` record.
+     */
+    public static final class CoalescingStats {
+
+        private CoalescingStats() {
+        }
+
+        public static final String RECORD_NAME = "CoalescingStats";
+        public static final String EXECUTIONS = "executions";
+        public static final String COALESCED = "coalesced";
+        public static final String IN_FLIGHT = "inFlight";
+    }
+
+    /**
+     * Constants for the partitioning configuration of `queryPartitioned`.
+     */
+    public static final class PartitionConfig {
+
+        private PartitionConfig() {
+        }
+
+        public static final BString COLUMN = StringUtils.fromString("column");
+        public static final BString BOUNDS = StringUtils.fromString("bounds");
+        public static final BString LOWER_BOUND = StringUtils.fromString("lowerBound");
+        public static final BString UPPER_BOUND = StringUtils.fromString("upperBound");
+        public static final BString PARTITIONS = StringUtils.fromString("partitions");
+        public static final BString PARALLELISM = StringUtils.fromString("parallelism");
+        public static final BString BUFFER_SIZE = StringUtils.fromString("bufferSize");
+    }
+
+    /**
+     * Constants for the configuration of `queryIncremental`.
+     */
+    public static final class IncrementalConfig {
+
+        private IncrementalConfig() {
+        }
+
+        public static final BString WATERMARK_COLUMN = StringUtils.fromString("watermarkColumn");
+        public static final BString CHECKPOINT_FILE = StringUtils.fromString("checkpointFile");
+        public static final BString CHECKPOINT_INTERVAL = StringUtils.fromString("checkpointInterval");
+    }
+
+    /**
+     * Constants for the options of `exportQuery`.
+     */
+    public static final class ExportOptions {
+
+        private ExportOptions() {
+        }
+
+        public static final BString FORMAT = StringUtils.fromString("format");
+        public static final BString HEADER = StringUtils.fromString("header");
+        public static final BString GZIP = StringUtils.fromString("gzip");
+        public static final BString APPEND = StringUtils.fromString("append");
+    }
+
+    /**
+     * Constants for the `ExportResult` record.
+     */
+    public static final class ExportResult {
+
+        private ExportResult() {
+        }
+
+        public static final String RECORD_NAME = "ExportResult";
+        public static final String ROW_COUNT = "rowCount";
+        public static final String BYTE_COUNT = "byteCount";
+    }
+
+    /**
+     * Constants for the metadata cache configuration.
+     */
+    public static final class MetadataCacheConfig {
+
+        private MetadataCacheConfig() {
+        }
+
+        public static final BString TTL = StringUtils.fromString("ttl");
+        public static final BString DIRECTORY = StringUtils.fromString("directory");
+        public static final BString CACHE_RESULT_COLUMNS = StringUtils.fromString("cacheResultColumns");
+    }
+
+    /**
+     * Constants for the metadata records.
+     */
+    public static final class Metadata {
+
+        private Metadata() {
+        }
+
+        public static final String TABLE_METADATA = "TableMetadata";
+        public static final String COLUMN_METADATA = "ColumnMetadata";
+        public static final String PROCEDURE_METADATA = "ProcedureMetadata";
+    }
 }
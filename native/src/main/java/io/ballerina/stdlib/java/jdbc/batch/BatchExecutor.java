@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.batch;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.cache.StatementCache;
+import io.ballerina.stdlib.java.jdbc.metrics.ExecutionTimer;
+import io.ballerina.stdlib.java.jdbc.metrics.Operation;
+import io.ballerina.stdlib.java.jdbc.utils.ExecutionOptions;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractStatementParameterProcessor;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Executes a list of queries with the same SQL text as a single JDBC batch on a pooled connection, or on the
+ * connection of the transaction when it is executed within one. The metrics of
+ * each JDBC batch are recorded as a separate sample.
+ *
+ * @since 1.2.0
+ */
+public final class BatchExecutor {
+
+    private BatchExecutor() {
+    }
+
+    public static BatchResult execute(BObject client, String sqlQuery, List<BObject> queries,
+                                      ExecutionOptions executionOptions, boolean isWithinTrxBlock,
+                                      TransactionResourceManager trxResourceManager,
+                                      AbstractStatementParameterProcessor statementParameterProcessor) {
+        SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        StatementCache statementCache = (StatementCache) client.getNativeData(Constants.NativeData.STATEMENT_CACHE);
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet generatedKeys = null;
+        boolean reusable = false;
+        ExecutionTimer timer = ExecutionTimer.start(client, Operation.BATCH_EXECUTE);
+        try {
+            long startNanos = timer.now();
+            connection = SQLDatasource.getConnection(isWithinTrxBlock, trxResourceManager, client, sqlDatasource);
+            timer.addPoolWait(startNanos);
+            startNanos = timer.now();
+            executionOptions.applyTo(connection, isWithinTrxBlock);
+            boolean fetchGeneratedKeys = executionOptions.isRequestGeneratedKeys()
+                    && !QueryUtils.isDdlStatement(sqlQuery);
+            statement = QueryUtils.prepareStatement(statementCache, connection, sqlQuery, fetchGeneratedKeys);
+            executionOptions.applyTo(statement, statementCache != null);
+            for (BObject query : queries) {
+                statementParameterProcessor.setParams(connection, statement, query);
+                statement.addBatch();
+            }
+            int[] updateCounts = statement.executeBatch();
+            Object[] lastInsertIds = new Object[updateCounts.length];
+            if (fetchGeneratedKeys) {
+                generatedKeys = statement.getGeneratedKeys();
+                for (int i = 0; i < lastInsertIds.length && generatedKeys.next(); i++) {
+                    lastInsertIds[i] = QueryUtils.getGeneratedKey(generatedKeys);
+                }
+            }
+            timer.addDriver(startNanos);
+            reusable = true;
+            return BatchResult.success(updateCounts, lastInsertIds);
+        } catch (BatchUpdateException e) {
+            int[] updateCounts = e.getUpdateCounts() == null ? new int[0] : e.getUpdateCounts();
+            return BatchResult.failure(queries.size(), updateCounts, e);
+        } catch (SQLException | DataError e) {
+            return BatchResult.failure(queries.size(), new int[0], e);
+        } finally {
+            QueryUtils.closeResources(statementCache, isWithinTrxBlock, generatedKeys, statement, connection,
+                    reusable);
+            timer.finish();
+        }
+    }
+}
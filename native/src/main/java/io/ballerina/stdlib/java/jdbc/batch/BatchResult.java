@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.batch;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.ModuleUtils;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of executing a batch of queries as a single JDBC batch on one connection.
+ *
+ * @since 1.2.0
+ */
+public class BatchResult {
+
+    private final int[] updateCounts;
+    private final Object[] lastInsertIds;
+    private final Exception error;
+
+    private BatchResult(int[] updateCounts, Object[] lastInsertIds, Exception error) {
+        this.updateCounts = updateCounts;
+        this.lastInsertIds = lastInsertIds;
+        this.error = error;
+    }
+
+    static BatchResult success(int[] updateCounts, Object[] lastInsertIds) {
+        return new BatchResult(updateCounts, lastInsertIds, null);
+    }
+
+    /**
+     * Creates the result of a failed batch. The queries without an update count reported by the driver are marked
+     * as failed.
+     */
+    static BatchResult failure(int batchSize, int[] reportedUpdateCounts, Exception error) {
+        int[] updateCounts = new int[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            updateCounts[i] = i < reportedUpdateCounts.length ? reportedUpdateCounts[i] : Statement.EXECUTE_FAILED;
+        }
+        return new BatchResult(updateCounts, new Object[batchSize], error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    public Exception getError() {
+        return error;
+    }
+
+    public int[] getUpdateCounts() {
+        return updateCounts;
+    }
+
+    public void addExecutionResults(List<BMap<BString, Object>> executionResults) {
+        for (int i = 0; i < updateCounts.length; i++) {
+            executionResults.add(createExecutionResult(updateCounts[i], lastInsertIds[i]));
+        }
+    }
+
+    public static BMap<BString, Object> createExecutionResult(long affectedRowCount, Object lastInsertId) {
+        Map<String, Object> resultField = new HashMap<>();
+        resultField.put(Constants.SqlModule.AFFECTED_ROW_COUNT, affectedRowCount);
+        resultField.put(Constants.SqlModule.LAST_INSERT_ID, lastInsertId);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.SqlModule.EXECUTION_RESULT,
+                resultField);
+    }
+
+    public static BArray createExecutionResultArray(List<BMap<BString, Object>> executionResults) {
+        return ValueCreator.createArrayValue(executionResults.toArray(),
+                TypeCreator.createArrayType(TypeUtils.getType(executionResults.get(0))));
+    }
+
+    /**
+     * Creates the error returned for a batch of which one or more chunks failed.
+     *
+     * @param message          the error message
+     * @param cause            the error of the first failed chunk
+     * @param executionResults the execution results of all the queries in the input order
+     * @return an `sql:BatchExecuteError`, or an `sql:ApplicationError` if the cause is not a database error
+     */
+    public static BError createBatchExecuteError(String message, Exception cause,
+                                                 List<BMap<BString, Object>> executionResults) {
+        if (!(cause instanceof SQLException)) {
+            return ErrorGenerator.getSQLApplicationError(message + cause.getMessage());
+        }
+        SQLException sqlException = (SQLException) cause;
+        Map<String, Object> errorDetail = new HashMap<>();
+        errorDetail.put(Constants.SqlModule.ERROR_CODE, (long) sqlException.getErrorCode());
+        errorDetail.put(Constants.SqlModule.SQL_STATE, StringUtils.fromString(sqlException.getSQLState()));
+        errorDetail.put(Constants.SqlModule.EXECUTION_RESULTS, createExecutionResultArray(
+                new ArrayList<>(executionResults)));
+        BMap<BString, Object> detail = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                Constants.SqlModule.BATCH_EXECUTE_ERROR_DETAIL, errorDetail);
+        return ErrorCreator.createError(ModuleUtils.getModule(), Constants.SqlModule.BATCH_EXECUTE_ERROR,
+                StringUtils.fromString(message + sqlException.getMessage()), null, detail);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.batch;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.java.jdbc.metrics.ClientMetrics;
+import io.ballerina.stdlib.java.jdbc.metrics.Operation;
+import io.ballerina.stdlib.java.jdbc.utils.ExecutionOptions;
+import io.ballerina.stdlib.java.jdbc.utils.WorkerExecutor;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Splits a `batchExecute` call into chunks and executes them concurrently, each chunk as a JDBC batch on its own
+ * pooled connection. The execution results are returned in the order of the input queries. The helpers executing
+ * the chunks next to the calling thread are run as the calls of the client, within its worker pool and its limits.
+ *
+ * @since 1.2.0
+ */
+public class ParallelBatchExecutor {
+
+    /**
+     * Executes the whole batch as a single JDBC batch. This is used to run `batchExecute` through the connector when
+     * the batch is not split, e.g. to reuse cached statements, and within a transaction.
+     */
+    public static final ParallelBatchExecutor SEQUENTIAL = new ParallelBatchExecutor(1, Integer.MAX_VALUE);
+
+    private final int parallelism;
+    private final int chunkSize;
+
+    public ParallelBatchExecutor(int parallelism, int chunkSize) {
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    public boolean isApplicable(BArray paramSQLStrings) {
+        return parallelism > 1 && paramSQLStrings.size() > chunkSize && paramSQLStrings.get(0) instanceof BObject;
+    }
+
+    /**
+     * Executes the batch. Only a batch that is not split, i.e. the {@link #SEQUENTIAL} executor, can be executed
+     * within a transaction, as the chunks of a split batch are executed on different connections.
+     */
+    public Object execute(BObject client, BArray paramSQLStrings, ExecutionOptions executionOptions,
+                          boolean isWithinTrxBlock, TransactionResourceManager trxResourceManager,
+                          AbstractStatementParameterProcessor statementParameterProcessor) {
+        Object result = executeChunks(client, paramSQLStrings, executionOptions, isWithinTrxBlock,
+                trxResourceManager, statementParameterProcessor);
+        ClientMetrics metrics = ClientMetrics.of(client);
+        if (metrics != null && result instanceof BError) {
+            metrics.recordError(Operation.BATCH_EXECUTE, (BError) result);
+        }
+        return result;
+    }
+
+    private Object executeChunks(BObject client, BArray paramSQLStrings, ExecutionOptions executionOptions,
+                                 boolean isWithinTrxBlock, TransactionResourceManager trxResourceManager,
+                                 AbstractStatementParameterProcessor statementParameterProcessor) {
+        String sqlQuery = null;
+        List<BObject> queries = new ArrayList<>(paramSQLStrings.size());
+        for (int i = 0; i < paramSQLStrings.size(); i++) {
+            BObject query = (BObject) paramSQLStrings.get(i);
+            String paramSQLQuery = Utils.getSqlQuery(query);
+            if (sqlQuery == null) {
+                sqlQuery = paramSQLQuery;
+            } else if (!sqlQuery.equals(paramSQLQuery)) {
+                return ErrorGenerator.getSQLApplicationError("Batch Execute cannot contain different SQL commands. "
+                        + "These has to be executed in different function calls");
+            }
+            queries.add(query);
+        }
+
+        int chunkCount = (int) (((long) queries.size() + chunkSize - 1) / chunkSize);
+        BatchResult[] chunkResults = new BatchResult[chunkCount];
+        AtomicInteger nextChunk = new AtomicInteger();
+        CountDownLatch executedChunks = new CountDownLatch(chunkCount);
+        String batchQuery = sqlQuery;
+        Runnable worker = () -> {
+            int chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+                int from = chunk * chunkSize;
+                int to = Math.min(from + chunkSize, queries.size());
+                // A failure of a chunk, e.g. a panic while setting a parameter, fails the chunk instead of leaving
+                // the batch waiting for it.
+                try {
+                    chunkResults[chunk] = BatchExecutor.execute(client, batchQuery, queries.subList(from, to),
+                            executionOptions, isWithinTrxBlock, trxResourceManager, statementParameterProcessor);
+                } catch (RuntimeException e) {
+                    chunkResults[chunk] = BatchResult.failure(to - from, new int[0], e);
+                } finally {
+                    executedChunks.countDown();
+                }
+            }
+        };
+        // The helpers are executed as the calls of the client, each with a permit of its limits. The calling thread
+        // takes the chunks not taken by a helper, hence it only waits for the chunks that are being executed, and
+        // not for the helpers that wait for a permit or are rejected.
+        for (int i = 1; i < Math.min(parallelism, chunkCount); i++) {
+            WorkerExecutor.execute(client, () -> {
+                worker.run();
+                return null;
+            }, result -> {
+            });
+        }
+        worker.run();
+        try {
+            executedChunks.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ErrorGenerator.getSQLApplicationError("Interrupted while executing the batch in parallel.");
+        }
+        return collectResults(batchQuery, chunkResults);
+    }
+
+    private Object collectResults(String sqlQuery, BatchResult[] chunkResults) {
+        List<BMap<BString, Object>> executionResults = new ArrayList<>();
+        StringJoiner failedChunks = new StringJoiner(", ");
+        Exception firstError = null;
+        for (int i = 0; i < chunkResults.length; i++) {
+            BatchResult chunkResult = chunkResults[i];
+            chunkResult.addExecutionResults(executionResults);
+            if (chunkResult.isFailed()) {
+                failedChunks.add(String.valueOf(i * chunkSize));
+                if (firstError == null) {
+                    firstError = chunkResult.getError();
+                }
+            }
+        }
+        if (firstError == null) {
+            return BatchResult.createExecutionResultArray(executionResults);
+        }
+        String message = String.format("Error while executing batch command starting with: '%s'. ", sqlQuery);
+        if (chunkResults.length > 1) {
+            message += String.format("Chunks starting at query indexes [%s] failed. ", failedChunks);
+        }
+        return BatchResult.createBatchExecuteError(message, firstError, executionResults);
+    }
+}
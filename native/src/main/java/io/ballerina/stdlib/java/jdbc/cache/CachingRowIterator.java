@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.cache;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.iterator.RowIterator;
+import io.ballerina.stdlib.java.jdbc.memory.ResultMemory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Records the rows of a `query` result while the stream is consumed and caches them once the stream is fully
+ * consumed. Results that are not fully consumed, fail, or exceed the size limit of the cache are not cached. The
+ * recorded rows are accounted until they are cached, and are no longer recorded if they do not fit within the
+ * budgets.
+ *
+ * @since 1.2.0
+ */
+public class CachingRowIterator implements RowIterator {
+
+    private final RowIterator delegate;
+    private final QueryResultCache cache;
+    private final QueryCacheKey key;
+    private final long generation;
+    private final ResultMemory memory;
+    private List<BMap<BString, Object>> records = new ArrayList<>();
+    private long size = 0;
+
+    public CachingRowIterator(RowIterator delegate, QueryResultCache cache, QueryCacheKey key, long generation,
+                              ResultMemory memory) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.key = key;
+        this.generation = generation;
+        this.memory = memory;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object next() {
+        Object result = delegate.next();
+        if (records == null) {
+            return result;
+        }
+        if (result instanceof BMap) {
+            long recordSize = ValueSizeEstimator.estimate(result);
+            if (size + recordSize > cache.getMaxSizeInBytes() || !memory.tryReserve(recordSize)) {
+                stopRecording();
+            } else {
+                size += recordSize;
+                records.add((BMap<BString, Object>) ((BMap<BString, Object>) result).copy(new HashMap<>()));
+            }
+        } else if (result == null) {
+            cache.putRecords(key, records, size, generation);
+            stopRecording();
+        } else {
+            stopRecording();
+        }
+        return result;
+    }
+
+    @Override
+    public Object close() {
+        if (records != null) {
+            stopRecording();
+        }
+        return delegate.close();
+    }
+
+    // The cached rows are bounded by the size of the cache, hence they are no longer accounted for the result.
+    private void stopRecording() {
+        records = null;
+        memory.free(size);
+        size = 0;
+    }
+}
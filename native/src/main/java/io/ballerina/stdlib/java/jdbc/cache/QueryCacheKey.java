@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.cache;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.stdlib.java.jdbc.Constants;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Identifies a cached result by the normalized SQL text, the parameter values and the return type of the call.
+ *
+ * @since 1.2.0
+ */
+public final class QueryCacheKey {
+
+    private static final String NIL = "()";
+
+    private final String sqlQuery;
+    private final String[] parameters;
+    private final Type returnType;
+    private final boolean isStream;
+    private final int hashCode;
+
+    private QueryCacheKey(String sqlQuery, String[] parameters, Type returnType, boolean isStream) {
+        this.sqlQuery = sqlQuery;
+        this.parameters = parameters;
+        this.returnType = returnType;
+        this.isStream = isStream;
+        this.hashCode = Objects.hash(sqlQuery, Arrays.hashCode(parameters), System.identityHashCode(returnType),
+                isStream);
+    }
+
+    /**
+     * Creates the cache key of a `query` or `queryRow` call.
+     *
+     * @param paramSQLString the `sql:ParameterizedQuery` of the call
+     * @param returnType     the describing type of the `typedesc` passed to the call
+     * @param isStream       whether the key is for a `query` call
+     * @return the key or `null` if a parameter value cannot be used as part of a key (e.g., streams and channels)
+     */
+    public static QueryCacheKey create(BObject paramSQLString, Type returnType, boolean isStream) {
+        BArray strings = paramSQLString.getArrayValue(Constants.ParameterizedQuery.STRINGS);
+        BArray insertions = paramSQLString.getArrayValue(Constants.ParameterizedQuery.INSERTIONS);
+        StringBuilder sqlQuery = new StringBuilder();
+        String[] parameters = new String[insertions.size()];
+        for (int i = 0; i < strings.size(); i++) {
+            if (i > 0) {
+                sqlQuery.append('?');
+            }
+            sqlQuery.append(strings.getBString(i).getValue());
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            String parameter = getParameterValue(insertions.get(i));
+            if (parameter == null) {
+                return null;
+            }
+            parameters[i] = parameter;
+        }
+        return new QueryCacheKey(normalize(sqlQuery), parameters, returnType, isStream);
+    }
+
+    public String getSqlQuery() {
+        return sqlQuery;
+    }
+
+    private static String getParameterValue(Object value) {
+        if (value == null) {
+            return NIL;
+        }
+        if (value instanceof BStream) {
+            return null;
+        }
+        if (value instanceof BObject) {
+            // `sql:TypedValue` objects such as `sql:VarcharValue` hold the actual value in the `value` field.
+            BObject typedValue = (BObject) value;
+            Object innerValue;
+            try {
+                innerValue = typedValue.get(Constants.ParameterizedQuery.TYPED_VALUE);
+            } catch (BError e) {
+                return null;
+            }
+            if (innerValue instanceof BObject || innerValue instanceof BStream) {
+                return null;
+            }
+            String innerString = innerValue == null ? NIL : StringUtils.getStringValue(innerValue);
+            return typedValue.getType().getName() + ":" + innerString;
+        }
+        return TypeUtils.getType(value).getName() + ":" + StringUtils.getStringValue(value);
+    }
+
+    // Runs of whitespace are collapsed into a single space, except within quoted string literals and identifiers,
+    // where the whitespace is part of the value.
+    private static String normalize(CharSequence sqlQuery) {
+        StringBuilder normalized = new StringBuilder(sqlQuery.length());
+        boolean whitespace = false;
+        char quote = 0;
+        for (int i = 0; i < sqlQuery.length(); i++) {
+            char c = sqlQuery.charAt(i);
+            if (quote != 0) {
+                normalized.append(c);
+                // An escaped quote ends the quoted text and starts it again.
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (Character.isWhitespace(c)) {
+                whitespace = normalized.length() > 0;
+            } else {
+                if (whitespace) {
+                    normalized.append(' ');
+                    whitespace = false;
+                }
+                normalized.append(c);
+                if (c == '\'' || c == '"' || c == '`') {
+                    quote = c;
+                }
+            }
+        }
+        return normalized.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QueryCacheKey)) {
+            return false;
+        }
+        QueryCacheKey that = (QueryCacheKey) o;
+        return isStream == that.isStream && returnType == that.returnType && sqlQuery.equals(that.sqlQuery)
+                && Arrays.equals(parameters, that.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
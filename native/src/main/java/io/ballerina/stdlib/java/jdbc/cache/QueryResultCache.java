@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.cache;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.Constants;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A per-client LRU cache of `query` and `queryRow` results bounded by the number of entries and their approximate
+ * size, where each entry expires after the configured TTL.
+ * <p>
+ * Each invalidation starts a new generation of the cache. A result is only cached if no invalidation happened since
+ * its query was started, as the result may otherwise be of the rows before the write that caused the invalidation.
+ *
+ * @since 1.2.0
+ */
+public class QueryResultCache {
+
+    private final int maxEntries;
+    private final long maxSizeInBytes;
+    private final long ttlNanos;
+    private final LinkedHashMap<QueryCacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeInBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+    private long generation = 0;
+
+    public QueryResultCache(int maxEntries, long maxSizeInBytes, long ttlNanos) {
+        this.maxEntries = maxEntries;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.ttlNanos = ttlNanos;
+    }
+
+    /**
+     * Returns the cached `queryRow` result of the given key. Ballerina reference values are copied so that the
+     * cached value is not affected by changes made by the caller.
+     *
+     * @param key the cache key
+     * @return the cached result or `null` if it is not cached or has expired
+     */
+    public Object getValue(QueryCacheKey key) {
+        Object value = lookup(key);
+        return value instanceof BRefValue ? ((BRefValue) value).copy(new HashMap<>()) : value;
+    }
+
+    /**
+     * Returns the cached records of a `query` result of the given key.
+     *
+     * @param key the cache key
+     * @return the cached records or `null` if they are not cached or have expired
+     */
+    @SuppressWarnings("unchecked")
+    public List<BMap<BString, Object>> getRecords(QueryCacheKey key) {
+        return (List<BMap<BString, Object>>) lookup(key);
+    }
+
+    /**
+     * Returns the current generation, which is taken before a query is started so that its result is not cached if
+     * the cache is invalidated before the result is put.
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    public void putValue(QueryCacheKey key, Object value, long generation) {
+        Object cachedValue = value instanceof BRefValue ? ((BRefValue) value).copy(new HashMap<>()) : value;
+        put(key, cachedValue, ValueSizeEstimator.estimate(value), generation);
+    }
+
+    public void putRecords(QueryCacheKey key, List<BMap<BString, Object>> records, long size, long generation) {
+        put(key, Collections.unmodifiableList(records), size, generation);
+    }
+
+    public long getMaxSizeInBytes() {
+        return maxSizeInBytes;
+    }
+
+    public synchronized void invalidate() {
+        entries.clear();
+        sizeInBytes = 0;
+        generation++;
+    }
+
+    public synchronized void invalidate(String tableName) {
+        generation++;
+        String table = TableNames.normalize(tableName);
+        Iterator<CacheEntry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            CacheEntry entry = iterator.next();
+            if (entry.tables.contains(table)) {
+                iterator.remove();
+                sizeInBytes -= entry.size;
+            }
+        }
+    }
+
+    public void invalidate(Set<String> tableNames) {
+        for (String tableName : tableNames) {
+            invalidate(tableName);
+        }
+    }
+
+    public synchronized Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put(Constants.QueryCacheStats.HITS, hits);
+        stats.put(Constants.QueryCacheStats.MISSES, misses);
+        stats.put(Constants.QueryCacheStats.EVICTIONS, evictions);
+        stats.put(Constants.QueryCacheStats.ENTRIES, (long) entries.size());
+        stats.put(Constants.QueryCacheStats.SIZE_IN_BYTES, sizeInBytes);
+        return stats;
+    }
+
+    private synchronized Object lookup(QueryCacheKey key) {
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (System.nanoTime() - entry.createdAt > ttlNanos) {
+            entries.remove(key);
+            sizeInBytes -= entry.size;
+            evictions++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    private void put(QueryCacheKey key, Object value, long size, long generation) {
+        if (size > maxSizeInBytes) {
+            return;
+        }
+        // Table names are only needed for invalidation, hence they are extracted when a result is cached rather
+        // than on every lookup.
+        CacheEntry entry = new CacheEntry(value, size, TableNames.fromQuery(key.getSqlQuery()));
+        synchronized (this) {
+            if (generation != this.generation) {
+                return;
+            }
+            CacheEntry previous = entries.put(key, entry);
+            if (previous != null) {
+                sizeInBytes -= previous.size;
+            }
+            sizeInBytes += size;
+            Iterator<CacheEntry> eldest = entries.values().iterator();
+            while ((entries.size() > maxEntries || sizeInBytes > maxSizeInBytes) && eldest.hasNext()) {
+                CacheEntry evicted = eldest.next();
+                eldest.remove();
+                sizeInBytes -= evicted.size;
+                evictions++;
+            }
+        }
+    }
+
+    private static final class CacheEntry {
+        private final Object value;
+        private final long size;
+        private final Set<String> tables;
+        private final long createdAt = System.nanoTime();
+
+        private CacheEntry(Object value, long size, Set<String> tables) {
+            this.value = value;
+            this.size = size;
+            this.tables = tables;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.cache;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.stdlib.java.jdbc.Constants;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces concurrent `queryRow` calls of the same key into a single execution. The first call of a key executes
+ * the query, and the calls made while it is in flight wait for its result or error instead of executing the query
+ * again. Nothing is retained once the execution completes.
+ *
+ * @since 1.2.0
+ */
+public class QueryRowCoalescer {
+
+    private final Map<QueryCacheKey, CompletableFuture<Object>> inFlightCalls = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalescedCalls = new LongAdder();
+
+    /**
+     * Joins the in-flight execution of the key, if there is one.
+     *
+     * @param key      the key of the call
+     * @param callback the callback completed with the result of the in-flight execution
+     * @return the execution that must be run and then completed using {@link #complete}, or `null` if the call
+     * was coalesced into an in-flight execution
+     */
+    public CompletableFuture<Object> join(QueryCacheKey key, Consumer<Object> callback) {
+        CompletableFuture<Object> execution = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightCall = inFlightCalls.putIfAbsent(key, execution);
+        if (inFlightCall == null) {
+            executions.increment();
+            return execution;
+        }
+        coalescedCalls.increment();
+        // Each caller receives its own copy, as the mutable values returned by the query must not be shared.
+        inFlightCall.thenAccept(result -> callback.accept(copy(result)));
+        return null;
+    }
+
+    /**
+     * Completes an execution returned by {@link #join}, passing its result to the coalesced calls. This must be
+     * called before the result is handed over to the call that executed the query.
+     *
+     * @param key       the key of the call
+     * @param execution the execution
+     * @param result    the result or the error of the execution
+     */
+    public void complete(QueryCacheKey key, CompletableFuture<Object> execution, Object result) {
+        // The execution is removed first, so that calls made after this point execute the query again.
+        inFlightCalls.remove(key, execution);
+        // The coalesced calls copy a snapshot of the result instead of the result itself. A call that joins just
+        // before the removal copies the result on its own thread, possibly after the executing call has received
+        // the result and started to modify it.
+        execution.complete(copy(result));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.CoalescingStats.EXECUTIONS, executions.sum());
+        stats.put(Constants.CoalescingStats.COALESCED, coalescedCalls.sum());
+        stats.put(Constants.CoalescingStats.IN_FLIGHT, (long) inFlightCalls.size());
+        return stats;
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof BRefValue && !(value instanceof BError)) {
+            return ((BRefValue) value).copy(new HashMap<>());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.cache;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A per-client cache of prepared statements, which keeps an LRU bounded set of open statements for each physical
+ * connection of the pool so that repeated SQL texts are not parsed and planned by the driver on every call.
+ * <p>
+ * Statements are prepared on the connection unwrapped from the pool proxy, as the pool closes the statements created
+ * through the proxy when the connection is returned. A pooled connection is used by a single caller at a time, and a
+ * cached statement is handed out only when it is not already in use, so it is never executed concurrently.
+ *
+ * @since 1.2.0
+ */
+public class StatementCache {
+
+    private final int maxStatementsPerConnection;
+    private final Map<Connection, LinkedHashMap<StatementKey, CachedStatement>> statementsByConnection =
+            new IdentityHashMap<>();
+    private final Map<PreparedStatement, CachedStatement> cachedStatements = new IdentityHashMap<>();
+    private boolean closed = false;
+
+    public StatementCache(int maxStatementsPerConnection) {
+        this.maxStatementsPerConnection = maxStatementsPerConnection;
+    }
+
+    /**
+     * Returns a prepared statement of the given SQL text, which must be handed back using
+     * {@link #release(PreparedStatement, boolean)} instead of being closed.
+     *
+     * @param connection          the connection borrowed from the pool
+     * @param sqlQuery            the SQL text
+     * @param returnGeneratedKeys whether the statement should return the auto-generated keys
+     * @return a cached statement if available, or a newly prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepare(Connection connection, String sqlQuery, boolean returnGeneratedKeys)
+            throws SQLException {
+        Connection physicalConnection = getPhysicalConnection(connection);
+        StatementKey key = new StatementKey(sqlQuery, returnGeneratedKeys);
+        boolean cacheable;
+        synchronized (this) {
+            Map<StatementKey, CachedStatement> statements = statementsByConnection.get(physicalConnection);
+            CachedStatement cachedStatement = statements == null ? null : statements.get(key);
+            if (cachedStatement != null && !cachedStatement.inUse) {
+                if (!isClosed(cachedStatement.statement)) {
+                    cachedStatement.inUse = true;
+                    return cachedStatement.statement;
+                }
+                remove(cachedStatement);
+                cachedStatement = null;
+            }
+            // A cached statement that is still in use means that the same SQL text is already being executed on
+            // this connection, e.g. by an open stream, hence an uncached statement is used.
+            cacheable = !closed && cachedStatement == null;
+        }
+        if (!cacheable) {
+            return prepareStatement(connection, key);
+        }
+        PreparedStatement statement = prepareStatement(physicalConnection, key);
+        synchronized (this) {
+            if (closed) {
+                return statement;
+            }
+            LinkedHashMap<StatementKey, CachedStatement> statements = statementsByConnection.get(physicalConnection);
+            if (statements == null) {
+                removeClosedConnections();
+                statements = new LinkedHashMap<>(16, 0.75f, true);
+                statementsByConnection.put(physicalConnection, statements);
+            }
+            CachedStatement cachedStatement = new CachedStatement(physicalConnection, key, statement);
+            cachedStatement.inUse = true;
+            statements.put(key, cachedStatement);
+            cachedStatements.put(statement, cachedStatement);
+            evictEldest(statements);
+        }
+        return statement;
+    }
+
+    /**
+     * Hands back a statement returned by {@link #prepare(Connection, String, boolean)}. The statement is kept open
+     * for reuse if it is cached, and closed otherwise.
+     *
+     * @param statement the statement to be released
+     * @param reusable  whether the statement is in a state that can be reused, i.e. its execution did not fail
+     */
+    public void release(PreparedStatement statement, boolean reusable) {
+        if (statement == null) {
+            return;
+        }
+        synchronized (this) {
+            CachedStatement cachedStatement = cachedStatements.get(statement);
+            if (cachedStatement != null) {
+                cachedStatement.inUse = false;
+                if (reusable && !cachedStatement.evicted && !closed) {
+                    try {
+                        statement.clearParameters();
+                        return;
+                    } catch (SQLException e) {
+                        // The statement is no longer usable, hence it is closed below.
+                    }
+                }
+                remove(cachedStatement);
+            }
+        }
+        closeQuietly(statement);
+    }
+
+    /**
+     * Closes all the cached statements. The statements that are in use are closed when they are released.
+     */
+    public void close() {
+        List<PreparedStatement> statementsToClose = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            Iterator<CachedStatement> iterator = cachedStatements.values().iterator();
+            while (iterator.hasNext()) {
+                CachedStatement cachedStatement = iterator.next();
+                if (!cachedStatement.inUse) {
+                    statementsToClose.add(cachedStatement.statement);
+                    iterator.remove();
+                }
+            }
+            statementsByConnection.clear();
+        }
+        statementsToClose.forEach(StatementCache::closeQuietly);
+    }
+
+    private void remove(CachedStatement cachedStatement) {
+        cachedStatements.remove(cachedStatement.statement);
+        Map<StatementKey, CachedStatement> statements = statementsByConnection.get(cachedStatement.connection);
+        if (statements != null && statements.get(cachedStatement.key) == cachedStatement) {
+            statements.remove(cachedStatement.key);
+        }
+    }
+
+    private void evictEldest(LinkedHashMap<StatementKey, CachedStatement> statements) {
+        Iterator<CachedStatement> iterator = statements.values().iterator();
+        while (statements.size() > maxStatementsPerConnection && iterator.hasNext()) {
+            CachedStatement eldest = iterator.next();
+            iterator.remove();
+            if (eldest.inUse) {
+                eldest.evicted = true;
+            } else {
+                cachedStatements.remove(eldest.statement);
+                closeQuietly(eldest.statement);
+            }
+        }
+    }
+
+    // Drops the statements of the connections retired by the pool. Their statements are already closed by the driver.
+    private void removeClosedConnections() {
+        Iterator<Map.Entry<Connection, LinkedHashMap<StatementKey, CachedStatement>>> iterator =
+                statementsByConnection.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Connection, LinkedHashMap<StatementKey, CachedStatement>> entry = iterator.next();
+            if (isClosed(entry.getKey())) {
+                entry.getValue().values().forEach(cachedStatement -> {
+                    if (!cachedStatement.inUse) {
+                        cachedStatements.remove(cachedStatement.statement);
+                    }
+                    cachedStatement.evicted = true;
+                });
+                iterator.remove();
+            }
+        }
+    }
+
+    private static PreparedStatement prepareStatement(Connection connection, StatementKey key) throws SQLException {
+        return key.returnGeneratedKeys ? connection.prepareStatement(key.sqlQuery, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(key.sqlQuery);
+    }
+
+    private static Connection getPhysicalConnection(Connection connection) {
+        try {
+            if (connection.isWrapperFor(Connection.class)) {
+                Connection physicalConnection = connection.unwrap(Connection.class);
+                if (physicalConnection != null) {
+                    return physicalConnection;
+                }
+            }
+        } catch (SQLException e) {
+            // The connection is not a wrapper, hence the statements are prepared on it directly.
+        }
+        return connection;
+    }
+
+    private static boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private static boolean isClosed(Statement statement) {
+        try {
+            return statement.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private static void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            // Ignored, as the statement is discarded.
+        }
+    }
+
+    private static final class StatementKey {
+
+        private final String sqlQuery;
+        private final boolean returnGeneratedKeys;
+
+        private StatementKey(String sqlQuery, boolean returnGeneratedKeys) {
+            this.sqlQuery = sqlQuery;
+            this.returnGeneratedKeys = returnGeneratedKeys;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey that = (StatementKey) o;
+            return returnGeneratedKeys == that.returnGeneratedKeys && sqlQuery.equals(that.sqlQuery);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sqlQuery, returnGeneratedKeys);
+        }
+    }
+
+    private static final class CachedStatement {
+
+        private final Connection connection;
+        private final StatementKey key;
+        private final PreparedStatement statement;
+        private boolean inUse = false;
+        private boolean evicted = false;
+
+        private CachedStatement(Connection connection, StatementKey key, PreparedStatement statement) {
+            this.connection = connection;
+            this.key = key;
+            this.statement = statement;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.cache;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the names of the tables referred to in a SQL statement, so that cached results can be invalidated by
+ * table name. Both the fully qualified name (e.g., `salesforce1.salesforce.lead`) and the plain table name
+ * (e.g., `lead`) are returned in lower case.
+ *
+ * @since 1.2.0
+ */
+public final class TableNames {
+
+    private static final String TABLE_NAME = "((?:\\[[^\\]]+\\]|\"[^\"]+\"|`[^`]+`|[\\w$]+)"
+            + "(?:\\s*\\.\\s*(?:\\[[^\\]]+\\]|\"[^\"]+\"|`[^`]+`|[\\w$]+))*)";
+    private static final Pattern READ_PATTERN = Pattern.compile("\\b(?:FROM|JOIN)\\s+" + TABLE_NAME,
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern WRITE_PATTERN = Pattern.compile(
+            "\\b(?:INSERT\\s+INTO|UPSERT\\s+INTO|MERGE\\s+INTO|REPLACE\\s+INTO|UPDATE|DELETE\\s+FROM|TRUNCATE\\s+"
+                    + "TABLE|DROP\\s+TABLE|ALTER\\s+TABLE)\\s+" + TABLE_NAME, Pattern.CASE_INSENSITIVE);
+
+    private TableNames() {
+    }
+
+    public static Set<String> fromQuery(String sqlQuery) {
+        return extract(READ_PATTERN, sqlQuery);
+    }
+
+    public static Set<String> fromStatement(String sqlQuery) {
+        return extract(WRITE_PATTERN, sqlQuery);
+    }
+
+    public static String normalize(String tableName) {
+        StringBuilder normalized = new StringBuilder(tableName.length());
+        for (int i = 0; i < tableName.length(); i++) {
+            char c = tableName.charAt(i);
+            if (c != '[' && c != ']' && c != '"' && c != '`' && !Character.isWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ENGLISH);
+    }
+
+    private static Set<String> extract(Pattern pattern, String sqlQuery) {
+        Set<String> tables = new HashSet<>();
+        Matcher matcher = pattern.matcher(sqlQuery);
+        while (matcher.find()) {
+            String qualifiedName = normalize(matcher.group(1));
+            tables.add(qualifiedName);
+            int separator = qualifiedName.lastIndexOf('.');
+            if (separator >= 0) {
+                tables.add(qualifiedName.substring(separator + 1));
+            }
+        }
+        return tables;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.cache;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+
+/**
+ * Approximates the heap used by the Ballerina values of a result. The estimate is intentionally coarse; it only
+ * needs to be stable enough to bound the memory used by the cache.
+ *
+ * @since 1.2.0
+ */
+public final class ValueSizeEstimator {
+
+    private static final long OBJECT_OVERHEAD = 16;
+    private static final long STRING_OVERHEAD = 40;
+    private static final long DECIMAL_SIZE = 64;
+    private static final long MAP_OVERHEAD = 64;
+    private static final long MAP_ENTRY_OVERHEAD = 32;
+    private static final long ARRAY_OVERHEAD = 24;
+    private static final long REFERENCE_SIZE = 8;
+
+    private ValueSizeEstimator() {
+    }
+
+    public static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof BString) {
+            return STRING_OVERHEAD + 2L * ((BString) value).getValue().length();
+        }
+        if (value instanceof BDecimal) {
+            return DECIMAL_SIZE;
+        }
+        if (value instanceof BMap) {
+            long size = MAP_OVERHEAD;
+            for (Object entry : ((BMap<?, ?>) value).entrySet()) {
+                Map.Entry<?, ?> mapEntry = (Map.Entry<?, ?>) entry;
+                size += MAP_ENTRY_OVERHEAD + estimate(mapEntry.getKey()) + estimate(mapEntry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof BArray) {
+            BArray array = (BArray) value;
+            long size = ARRAY_OVERHEAD;
+            for (int i = 0; i < array.size(); i++) {
+                Object element = array.get(i);
+                size += element instanceof Number ? REFERENCE_SIZE : REFERENCE_SIZE + estimate(element);
+            }
+            return size;
+        }
+        return OBJECT_OVERHEAD;
+    }
+}
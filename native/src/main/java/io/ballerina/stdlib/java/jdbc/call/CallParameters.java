@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.call;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractStatementParameterProcessor;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sets the parameters of a procedure call and reads its OUT parameters into the `sql:OutParameter` and
+ * `sql:InOutParameter` objects of the query, in the same way as the `sql` module does for `call`.
+ *
+ * @since 1.2.0
+ */
+final class CallParameters {
+
+    private static final Map<String, Integer> OUT_PARAMETER_TYPES = new HashMap<>();
+
+    static {
+        OUT_PARAMETER_TYPES.put("CharOutParameter", Types.CHAR);
+        OUT_PARAMETER_TYPES.put("VarcharOutParameter", Types.VARCHAR);
+        OUT_PARAMETER_TYPES.put("NCharOutParameter", Types.NCHAR);
+        OUT_PARAMETER_TYPES.put("NVarcharOutParameter", Types.NVARCHAR);
+        OUT_PARAMETER_TYPES.put("TextOutParameter", Types.LONGVARCHAR);
+        OUT_PARAMETER_TYPES.put("BinaryOutParameter", Types.BINARY);
+        OUT_PARAMETER_TYPES.put("VarBinaryOutParameter", Types.VARBINARY);
+        OUT_PARAMETER_TYPES.put("BlobOutParameter", Types.BLOB);
+        OUT_PARAMETER_TYPES.put("ClobOutParameter", Types.CLOB);
+        OUT_PARAMETER_TYPES.put("NClobOutParameter", Types.NCLOB);
+        OUT_PARAMETER_TYPES.put("DateOutParameter", Types.DATE);
+        OUT_PARAMETER_TYPES.put("TimeOutParameter", Types.TIME);
+        OUT_PARAMETER_TYPES.put("TimeWithTimezoneOutParameter", Types.TIME_WITH_TIMEZONE);
+        OUT_PARAMETER_TYPES.put("DateTimeOutParameter", Types.TIMESTAMP);
+        OUT_PARAMETER_TYPES.put("TimestampOutParameter", Types.TIMESTAMP);
+        OUT_PARAMETER_TYPES.put("TimestampWithTimezoneOutParameter", Types.TIMESTAMP_WITH_TIMEZONE);
+        OUT_PARAMETER_TYPES.put("ArrayOutParameter", Types.ARRAY);
+        OUT_PARAMETER_TYPES.put("RowOutParameter", Types.ROWID);
+        OUT_PARAMETER_TYPES.put("SmallIntOutParameter", Types.SMALLINT);
+        OUT_PARAMETER_TYPES.put("IntegerOutParameter", Types.INTEGER);
+        OUT_PARAMETER_TYPES.put("BigIntOutParameter", Types.BIGINT);
+        OUT_PARAMETER_TYPES.put("RealOutParameter", Types.REAL);
+        OUT_PARAMETER_TYPES.put("FloatOutParameter", Types.FLOAT);
+        OUT_PARAMETER_TYPES.put("DoubleOutParameter", Types.DOUBLE);
+        OUT_PARAMETER_TYPES.put("NumericOutParameter", Types.NUMERIC);
+        OUT_PARAMETER_TYPES.put("DecimalOutParameter", Types.DECIMAL);
+        OUT_PARAMETER_TYPES.put("BitOutParameter", Types.BIT);
+        OUT_PARAMETER_TYPES.put("BooleanOutParameter", Types.BOOLEAN);
+        OUT_PARAMETER_TYPES.put("RefOutParameter", Types.REF);
+        OUT_PARAMETER_TYPES.put("StructOutParameter", Types.STRUCT);
+        OUT_PARAMETER_TYPES.put("XMLOutParameter", Types.SQLXML);
+    }
+
+    private CallParameters() {
+    }
+
+    /**
+     * Sets the IN parameters of the call and registers its OUT parameters.
+     *
+     * @return the SQL types of the OUT parameters by their index
+     * @throws ApplicationError if the type of an OUT parameter is not supported
+     */
+    static Map<Integer, Integer> set(Connection connection, CallableStatement statement, BObject paramSQLString,
+                                     AbstractStatementParameterProcessor statementParameterProcessor)
+            throws SQLException, DataError, ApplicationError {
+        Map<Integer, Integer> outParameterTypes = new LinkedHashMap<>();
+        BArray insertions = paramSQLString.getArrayValue(Constants.ParameterizedQuery.INSERTIONS);
+        for (int i = 0; i < insertions.size(); i++) {
+            Object insertion = insertions.get(i);
+            int index = i + 1;
+            String typeName = insertion instanceof BObject ? ((BObject) insertion).getType().getName() : "";
+            if (typeName.equals(Constants.CallParameters.INOUT_PARAMETER)) {
+                Object inValue = ((BObject) insertion).get(Constants.CallParameters.IN_VALUE);
+                int sqlType = statementParameterProcessor.setSQLValueParam(connection, statement, index, inValue,
+                        true);
+                statement.registerOutParameter(index, sqlType);
+                outParameterTypes.put(index, sqlType);
+            } else if (typeName.endsWith(Constants.CallParameters.OUT_PARAMETER_SUFFIX)) {
+                Integer sqlType = OUT_PARAMETER_TYPES.get(typeName);
+                if (sqlType == null) {
+                    throw new ApplicationError("Unsupported OUT parameter type: " + typeName + " in column index: "
+                            + index);
+                }
+                statement.registerOutParameter(index, sqlType);
+                outParameterTypes.put(index, sqlType);
+            } else {
+                statementParameterProcessor.setSQLValueParam(connection, statement, index, insertion, false);
+            }
+        }
+        return outParameterTypes;
+    }
+
+    /**
+     * Reads the OUT parameters of the call into their parameter objects, from which they are retrieved with `get`.
+     */
+    static void populate(CallableStatement statement, BObject paramSQLString, Map<Integer, Integer> outParameterTypes)
+            throws SQLException {
+        BArray insertions = paramSQLString.getArrayValue(Constants.ParameterizedQuery.INSERTIONS);
+        for (Map.Entry<Integer, Integer> entry : outParameterTypes.entrySet()) {
+            int index = entry.getKey();
+            int sqlType = entry.getValue();
+            BObject parameter = (BObject) insertions.get(index - 1);
+            parameter.addNativeData(io.ballerina.stdlib.sql.Constants.ParameterObject.SQL_TYPE_NATIVE_DATA, sqlType);
+            Object value = getValue(statement, index, sqlType);
+            // The primitive getters return a default value for a SQL `NULL`.
+            parameter.addNativeData(io.ballerina.stdlib.sql.Constants.ParameterObject.VALUE_NATIVE_DATA,
+                    statement.wasNull() ? null : value);
+        }
+    }
+
+    private static Object getValue(CallableStatement statement, int index, int sqlType) throws SQLException {
+        switch (sqlType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return statement.getString(index);
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return statement.getBytes(index);
+            case Types.BLOB:
+                return statement.getBlob(index);
+            case Types.CLOB:
+                return statement.getClob(index);
+            case Types.NCLOB:
+                return statement.getNClob(index);
+            case Types.DATE:
+                return statement.getDate(index);
+            case Types.TIME:
+                return statement.getTime(index);
+            case Types.TIME_WITH_TIMEZONE:
+                return statement.getObject(index, OffsetTime.class);
+            case Types.TIMESTAMP:
+                return statement.getTimestamp(index);
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return statement.getObject(index, OffsetDateTime.class);
+            case Types.ARRAY:
+                return statement.getArray(index);
+            case Types.ROWID:
+                return statement.getRowId(index);
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return statement.getInt(index);
+            case Types.BIGINT:
+                return statement.getLong(index);
+            case Types.REAL:
+                return statement.getFloat(index);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return statement.getDouble(index);
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return statement.getBigDecimal(index);
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return statement.getBoolean(index);
+            case Types.SQLXML:
+                return statement.getSQLXML(index);
+            default:
+                return statement.getObject(index);
+        }
+    }
+}
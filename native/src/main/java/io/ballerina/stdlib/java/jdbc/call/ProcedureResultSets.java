@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.call;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.batch.BatchResult;
+import io.ballerina.stdlib.java.jdbc.iterator.RowIterator;
+import io.ballerina.stdlib.java.jdbc.mapping.RowMapper;
+import io.ballerina.stdlib.java.jdbc.mapping.RowMapperCache;
+import io.ballerina.stdlib.java.jdbc.memory.ResultMemory;
+import io.ballerina.stdlib.java.jdbc.metrics.ExecutionTimer;
+import io.ballerina.stdlib.java.jdbc.metrics.Operation;
+import io.ballerina.stdlib.java.jdbc.utils.CallPermits;
+import io.ballerina.stdlib.java.jdbc.utils.ExecutionOptions;
+import io.ballerina.stdlib.java.jdbc.utils.ModuleUtils;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * The results of a procedure call made with `callStreaming` or `call`, which are read one result at a time on the
+ * statement of the call. Only the current result set is open, and its rows are fetched from the driver as its stream
+ * is consumed. For `callStreaming`, the OUT parameters are read once all the results have been read, as some drivers
+ * buffer the pending results when the OUT parameters are read earlier. For `call`, they are read once the call is
+ * executed, as the `sql` module does. The call holds its permits until its resources are released.
+ *
+ * @since 1.2.0
+ */
+public class ProcedureResultSets {
+
+    private final BObject client;
+    private final BObject paramSQLString;
+    private final String sqlQuery;
+    private final Map<Integer, Integer> outParameterTypes;
+    private final boolean isWithinTrxBlock;
+    private final boolean isFirstResultSet;
+    private final ExecutionTimer timer;
+    private final ResultMemory memory;
+    private final CallPermits permits;
+    private CallableStatement statement;
+    private Connection connection;
+    private ResultSet resultSet;
+    private boolean isStarted = false;
+    private BArray rowTypes;
+    private int resultSetCount = 0;
+
+    private ProcedureResultSets(BObject client, BObject paramSQLString, String sqlQuery,
+                                Map<Integer, Integer> outParameterTypes, boolean isWithinTrxBlock,
+                                ExecutionTimer timer, ResultMemory memory, CallPermits permits,
+                                CallableStatement statement, Connection connection, boolean isFirstResultSet) {
+        this.client = client;
+        this.paramSQLString = paramSQLString;
+        this.sqlQuery = sqlQuery;
+        this.outParameterTypes = outParameterTypes;
+        this.isWithinTrxBlock = isWithinTrxBlock;
+        this.isFirstResultSet = isFirstResultSet;
+        this.timer = timer;
+        this.memory = memory;
+        this.permits = permits;
+        this.statement = statement;
+        this.connection = connection;
+    }
+
+    /**
+     * Executes the call for `callStreaming` and returns a `ProcedureResultSets` object positioned before its first
+     * result, which holds the permits of the call until its resources are released.
+     *
+     * @return the `ProcedureResultSets` object or a `BError`
+     */
+    public static Object execute(BObject client, BObject paramSQLString, ExecutionOptions executionOptions,
+                                 boolean isWithinTrxBlock, TransactionResourceManager trxResourceManager,
+                                 CallPermits permits) {
+        Object result = open(client, paramSQLString, executionOptions, isWithinTrxBlock, trxResourceManager, permits);
+        if (!(result instanceof ProcedureResultSets)) {
+            return result;
+        }
+        BObject resultSetsObject = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.PROCEDURE_RESULT_SETS_OBJECT);
+        resultSetsObject.addNativeData(Constants.NativeData.PROCEDURE_RESULT_SETS, result);
+        permits.hold();
+        return resultSetsObject;
+    }
+
+    /**
+     * Executes the call for `call` and returns a `ProcedureCallResult` object set to its first result, which holds
+     * the permits of the call until it is closed.
+     *
+     * @param rowTypes the `typedesc` values of the records to which the rows of the result sets are mapped, in order
+     * @return the `ProcedureCallResult` object or a `BError`
+     */
+    public static Object call(BObject client, BObject paramSQLString, BArray rowTypes,
+                              ExecutionOptions executionOptions, boolean isWithinTrxBlock,
+                              TransactionResourceManager trxResourceManager, CallPermits permits) {
+        Object result = open(client, paramSQLString, executionOptions, isWithinTrxBlock, trxResourceManager, permits);
+        if (!(result instanceof ProcedureResultSets)) {
+            return result;
+        }
+        ProcedureResultSets resultSets = (ProcedureResultSets) result;
+        resultSets.rowTypes = rowTypes;
+        BObject callResult = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.ProcedureCallResult.OBJECT_NAME);
+        callResult.addNativeData(Constants.NativeData.PROCEDURE_RESULT_SETS, resultSets);
+        Object firstResult = resultSets.nextResult(callResult);
+        if (firstResult instanceof BError) {
+            return firstResult;
+        }
+        permits.hold();
+        return callResult;
+    }
+
+    private static Object open(BObject client, BObject paramSQLString, ExecutionOptions executionOptions,
+                               boolean isWithinTrxBlock, TransactionResourceManager trxResourceManager,
+                               CallPermits permits) {
+        Object validationError = QueryUtils.validateClient(client);
+        if (validationError != null) {
+            return validationError;
+        }
+        SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        ExecutionTimer timer = ExecutionTimer.start(client, Operation.CALL);
+        Connection connection = null;
+        CallableStatement statement = null;
+        String sqlQuery = null;
+        BError error;
+        try {
+            sqlQuery = Utils.getSqlQuery(paramSQLString);
+            long startNanos = timer.now();
+            connection = SQLDatasource.getConnection(isWithinTrxBlock, trxResourceManager, client, sqlDatasource);
+            timer.addPoolWait(startNanos);
+            startNanos = timer.now();
+            executionOptions.applyTo(connection, isWithinTrxBlock);
+            statement = connection.prepareCall(sqlQuery);
+            executionOptions.applyTo(statement, false);
+            Map<Integer, Integer> outParameterTypes = CallParameters.set(connection, statement, paramSQLString,
+                    DefaultStatementParameterProcessor.getInstance());
+            boolean isResultSet = statement.execute();
+            timer.addDriver(startNanos);
+            return new ProcedureResultSets(client, paramSQLString, sqlQuery, outParameterTypes, isWithinTrxBlock,
+                    timer, ResultMemory.start(client, executionOptions), permits, statement, connection,
+                    isResultSet);
+        } catch (SQLException e) {
+            Utils.closeResources(isWithinTrxBlock, null, statement, connection);
+            error = ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (ApplicationError | DataError e) {
+            Utils.closeResources(isWithinTrxBlock, null, statement, connection);
+            error = ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+        timer.recordError(error);
+        timer.finish();
+        return error;
+    }
+
+    public BObject getClient() {
+        return client;
+    }
+
+    public boolean isWithinTrxBlock() {
+        return isWithinTrxBlock;
+    }
+
+    /**
+     * Closes the current result set and moves to the next one, skipping the update counts in between. Once there
+     * are no more results, the OUT parameters are read and the resources of the call are released.
+     *
+     * @param recordType the record type to which the rows of the result set are mapped
+     * @return a {@link RowIterator} over the next result set, `null` if there are no more results, or a `BError`
+     */
+    public synchronized Object next(RecordType recordType) {
+        if (statement == null) {
+            return null;
+        }
+        BError error;
+        try {
+            long startNanos = timer.now();
+            closeResultSet();
+            boolean isResultSet = isStarted ? statement.getMoreResults() : isFirstResultSet;
+            isStarted = true;
+            while (!isResultSet && statement.getUpdateCount() != -1) {
+                isResultSet = statement.getMoreResults();
+            }
+            if (!isResultSet) {
+                CallParameters.populate(statement, paramSQLString, outParameterTypes);
+                timer.addDriver(startNanos);
+                release();
+                return null;
+            }
+            resultSet = statement.getResultSet();
+            timer.addDriver(startNanos);
+            RowMapper rowMapper = RowMapperCache.get(resultSet, recordType,
+                    DefaultResultParameterProcessor.getInstance());
+            return new ResultSetRows(resultSet, rowMapper);
+        } catch (SQLException e) {
+            error = ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while reading the results of SQL query: %s. ", sqlQuery));
+        } catch (ApplicationError e) {
+            error = ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+        timer.recordError(error);
+        release();
+        return error;
+    }
+
+    /**
+     * Moves to the next result of a `call`, which is either a result set or an update count, and sets it to the
+     * `ProcedureCallResult` object. Unlike {@link #next(RecordType)}, the update counts are not skipped, and the
+     * resources of the call are only released once the object is closed or an error occurs.
+     *
+     * @param callResult the `ProcedureCallResult` object of the call
+     * @return `true` if the next result is a result set, `false` otherwise, or a `BError`
+     */
+    public synchronized Object nextResult(BObject callResult) {
+        if (statement == null) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "The result of the procedure call is already closed, hence no further results can be read.");
+        }
+        BError error;
+        try {
+            long startNanos = timer.now();
+            closeResultSet();
+            boolean isResultSet = isStarted ? statement.getMoreResults() : isFirstResultSet;
+            if (isResultSet) {
+                resultSet = statement.getResultSet();
+            }
+            if (!isStarted) {
+                isStarted = true;
+                CallParameters.populate(statement, paramSQLString, outParameterTypes);
+            }
+            if (!isResultSet) {
+                int updateCount = statement.getUpdateCount();
+                timer.addDriver(startNanos);
+                callResult.set(Constants.ProcedureCallResult.QUERY_RESULT, null);
+                callResult.set(Constants.ProcedureCallResult.EXECUTION_RESULT,
+                        BatchResult.createExecutionResult(updateCount, null));
+                return false;
+            }
+            timer.addDriver(startNanos);
+            RecordType recordType = getRowType(resultSetCount++);
+            RowMapper rowMapper = RowMapperCache.get(resultSet, recordType,
+                    DefaultResultParameterProcessor.getInstance());
+            callResult.set(Constants.ProcedureCallResult.EXECUTION_RESULT, null);
+            callResult.set(Constants.ProcedureCallResult.QUERY_RESULT,
+                    QueryUtils.createRecordStream(recordType, new ResultSetRows(resultSet, rowMapper)));
+            return true;
+        } catch (SQLException e) {
+            error = ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while reading the results of SQL query: %s. ", sqlQuery));
+        } catch (ApplicationError e) {
+            error = ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+        timer.recordError(error);
+        release();
+        return error;
+    }
+
+    // Returns the record type given for the result set of the index, or else an open record type, for which the
+    // types of the fields are inferred from the columns as the `sql` module does.
+    private RecordType getRowType(int index) {
+        if (index < rowTypes.size()) {
+            return (RecordType) TypeUtils.getReferredType(((BTypedesc) rowTypes.get(index)).getDescribingType());
+        }
+        return (RecordType) TypeUtils.getReferredType(ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                Constants.ProcedureCallResult.DEFAULT_ROW_RECORD).getType());
+    }
+
+    /**
+     * Releases the resources of the call without reading the remaining results.
+     */
+    public synchronized void close() {
+        if (statement != null) {
+            release();
+        }
+    }
+
+    private void closeResultSet() throws SQLException {
+        if (resultSet != null) {
+            ResultSet current = resultSet;
+            resultSet = null;
+            current.close();
+        }
+    }
+
+    private void release() {
+        Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+        resultSet = null;
+        statement = null;
+        connection = null;
+        timer.finish();
+        memory.release();
+        permits.release();
+    }
+
+    /**
+     * The rows of a result set of the call. The stream ends once the call has moved to the next result set.
+     */
+    private class ResultSetRows implements RowIterator {
+
+        private final ResultSet rows;
+        private final RowMapper rowMapper;
+
+        ResultSetRows(ResultSet rows, RowMapper rowMapper) {
+            this.rows = rows;
+            this.rowMapper = rowMapper;
+        }
+
+        @Override
+        public Object next() {
+            synchronized (ProcedureResultSets.this) {
+                if (resultSet != rows) {
+                    return null;
+                }
+                BError error;
+                try {
+                    long startNanos = timer.now();
+                    boolean hasNext = rows.next();
+                    timer.addDriver(startNanos);
+                    if (!hasNext) {
+                        return null;
+                    }
+                    startNanos = timer.now();
+                    BMap<BString, Object> record = rowMapper.map(rows);
+                    timer.addMapping(startNanos);
+                    timer.addRow(record);
+                    error = memory.check(record);
+                    if (error == null) {
+                        return record;
+                    }
+                } catch (SQLException e) {
+                    error = ErrorGenerator.getSQLDatabaseError(e, "Error when iterating the SQL result");
+                } catch (DataError e) {
+                    error = ErrorGenerator.getSQLApplicationError(e.getMessage());
+                }
+                timer.recordError(error);
+                return error;
+            }
+        }
+
+        @Override
+        public Object close() {
+            synchronized (ProcedureResultSets.this) {
+                if (resultSet != rows) {
+                    return null;
+                }
+                try {
+                    closeResultSet();
+                    return null;
+                } catch (SQLException e) {
+                    return ErrorGenerator.getSQLDatabaseError(e, "Error while closing the result set. ");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.datasource;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.metadata.MetadataCache;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A registry of the datasources created by the connector, which lets clients created with identical configurations
+ * share a single connection pool instead of each creating and warming up its own.
+ * <p>
+ * Datasources are keyed by the canonicalized URL, user, password, connection string properties, pool settings and
+ * the requests of the auto-generated keys, which the `sql` module holds on the datasource, and are reference
+ * counted. The first client of a key creates the datasource through the `sql` module and the following clients are
+ * attached to it. The datasource is closed when the last client using it is closed.
+ *
+ * @since 1.2.0
+ */
+public class DatasourceRegistry {
+
+    private static final String GLOBAL_POOL = "global";
+    private static final Map<String, SharedDatasource> DATASOURCES = new ConcurrentHashMap<>();
+
+    private DatasourceRegistry() {
+    }
+
+    /**
+     * Creates the client on the datasource registered for the given configuration, creating the datasource if
+     * there is none.
+     *
+     * @param client             the client object
+     * @param params             the datasource parameters
+     * @param key                the key of the configuration, created with {@link #createKey}
+     * @param executeGKFlag      whether `execute` requests the auto-generated keys
+     * @param batchExecuteGKFlag whether `batchExecute` requests the auto-generated keys
+     * @return an error if the datasource cannot be created, or else `null`
+     */
+    public static Object createClient(BObject client, SQLDatasource.SQLDatasourceParams params, String key,
+                                      boolean executeGKFlag, boolean batchExecuteGKFlag) {
+        while (true) {
+            SharedDatasource shared = DATASOURCES.computeIfAbsent(key, SharedDatasource::new);
+            // Datasources of different keys are created concurrently, while the clients of the same key wait for
+            // the first one to create the datasource.
+            synchronized (shared) {
+                if (shared.removed) {
+                    continue;
+                }
+                if (shared.datasource == null) {
+                    Object result = io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.createClient(client, params,
+                            executeGKFlag, batchExecuteGKFlag);
+                    if (result != null) {
+                        shared.removed = true;
+                        DATASOURCES.remove(key, shared);
+                        return result;
+                    }
+                    shared.datasource = client.getNativeData(io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+                } else {
+                    client.addNativeData(io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT, shared.datasource);
+                    client.addNativeData(io.ballerina.stdlib.sql.Constants.SQL_CONNECTOR_TRANSACTION_ID,
+                            UUID.randomUUID().toString());
+                    client.addNativeData(io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT_ACTIVE_STATUS, true);
+                }
+                shared.references++;
+                client.addNativeData(Constants.NativeData.SHARED_DATASOURCE, shared);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Detaches the client from its datasource, closing the datasource if no other client uses it.
+     *
+     * @param client the client object
+     * @return an error if the datasource cannot be closed, or else `null`
+     */
+    public static Object close(BObject client) {
+        SharedDatasource shared = (SharedDatasource) client.getNativeData(Constants.NativeData.SHARED_DATASOURCE);
+        if (shared == null) {
+            return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+        }
+        synchronized (shared) {
+            client.addNativeData(Constants.NativeData.SHARED_DATASOURCE, null);
+            if (--shared.references > 0) {
+                client.addNativeData(io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT_ACTIVE_STATUS, false);
+                return null;
+            }
+            shared.removed = true;
+            DATASOURCES.remove(shared.key, shared);
+            return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+        }
+    }
+
+    /**
+     * Returns the metadata cache shared by the clients of the datasource of the client, creating it with the given
+     * function if the datasource has none. The configuration of the first client creating the cache is used.
+     *
+     * @param client  the client object
+     * @param factory the function creating the cache from the key of the datasource
+     * @return the metadata cache of the datasource
+     */
+    public static MetadataCache getMetadataCache(BObject client, Function<String, MetadataCache> factory) {
+        SharedDatasource shared = (SharedDatasource) client.getNativeData(Constants.NativeData.SHARED_DATASOURCE);
+        synchronized (shared) {
+            if (shared.metadataCache == null) {
+                shared.metadataCache = factory.apply(shared.key);
+            }
+            return shared.metadataCache;
+        }
+    }
+
+    /**
+     * Creates the key of a datasource configuration. The password is included as a digest so that it is not held
+     * in plain text by the registry.
+     *
+     * @param url                the JDBC URL
+     * @param user               the user name
+     * @param password           the password
+     * @param datasourceName     the name of the datasource class
+     * @param properties         the connection string properties
+     * @param poolProperties     the properties of the connection pool
+     * @param connectionPool     the `sql:ConnectionPool` of the client, or `null` if the global pool is used
+     * @param executeGKFlag      whether `execute` requests the auto-generated keys
+     * @param batchExecuteGKFlag whether `batchExecute` requests the auto-generated keys
+     * @return the key of the configuration
+     */
+    public static String createKey(String url, String user, String password, String datasourceName,
+                                   BMap<BString, Object> properties, Properties poolProperties,
+                                   BMap<BString, Object> connectionPool, boolean executeGKFlag,
+                                   boolean batchExecuteGKFlag) {
+        StringJoiner key = new StringJoiner("\u0000");
+        key.add(url.trim());
+        key.add(String.valueOf(user));
+        key.add(password == null ? "null" : digest(password));
+        key.add(String.valueOf(datasourceName));
+        key.add(canonicalize(properties).toString());
+        Map<String, String> sortedPoolProperties = new TreeMap<>();
+        if (poolProperties != null) {
+            poolProperties.stringPropertyNames()
+                    .forEach(name -> sortedPoolProperties.put(name, poolProperties.getProperty(name)));
+        }
+        key.add(sortedPoolProperties.toString());
+        key.add(connectionPool == null ? GLOBAL_POOL : canonicalize(connectionPool).toString());
+        key.add(String.valueOf(executeGKFlag));
+        key.add(String.valueOf(batchExecuteGKFlag));
+        return key.toString();
+    }
+
+    private static Map<String, String> canonicalize(BMap<BString, Object> values) {
+        Map<String, String> sortedValues = new TreeMap<>();
+        for (Map.Entry<BString, Object> entry : values.entrySet()) {
+            sortedValues.put(entry.getKey().getValue(), String.valueOf(entry.getValue()));
+        }
+        return sortedValues;
+    }
+
+    private static String digest(String value) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available in every Java platform.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class SharedDatasource {
+
+        private final String key;
+        private Object datasource;
+        private MetadataCache metadataCache;
+        private int references = 0;
+        private boolean removed = false;
+
+        SharedDatasource(String key) {
+            this.key = key;
+        }
+    }
+}
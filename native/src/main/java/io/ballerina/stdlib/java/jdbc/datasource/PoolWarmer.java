@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.datasource;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool.SQL_EXECUTOR_SERVICE;
+
+/**
+ * Opens and validates a number of connections of a client's pool concurrently, so that the connections are
+ * established before the first requests instead of on their critical path.
+ * <p>
+ * All the connections of a warm-up are held until every one of them is opened, so that the pool has to create
+ * distinct physical connections, and are then returned to the pool.
+ *
+ * @since 1.2.0
+ */
+public class PoolWarmer {
+
+    private final int connections;
+    private final String probeQuery;
+    private final int probeTimeoutInSeconds;
+    private final AtomicInteger opened = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile String errorMessage;
+    private volatile boolean ready = false;
+    private CompletableFuture<Void> completion;
+
+    public PoolWarmer(int connections, String probeQuery, int probeTimeoutInSeconds) {
+        this.connections = connections;
+        this.probeQuery = probeQuery;
+        this.probeTimeoutInSeconds = probeTimeoutInSeconds;
+    }
+
+    /**
+     * Starts a warm-up of the pool, unless one is already in progress.
+     *
+     * @param datasource the datasource of the client
+     * @return a future completed when all the connections of the warm-up are opened or failed
+     */
+    public synchronized CompletableFuture<Void> start(SQLDatasource datasource) {
+        if (completion != null && !completion.isDone()) {
+            return completion;
+        }
+        opened.set(0);
+        failed.set(0);
+        errorMessage = null;
+        List<Connection> openedConnections = new ArrayList<>(connections);
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            tasks[i] = CompletableFuture.runAsync(() -> open(datasource, openedConnections), SQL_EXECUTOR_SERVICE);
+        }
+        completion = CompletableFuture.allOf(tasks).handle((result, throwable) -> {
+            if (throwable != null) {
+                recordFailure(throwable.getMessage());
+            }
+            synchronized (openedConnections) {
+                openedConnections.forEach(PoolWarmer::closeConnection);
+            }
+            ready = ready || failed.get() == 0;
+            return null;
+        });
+        return completion;
+    }
+
+    /**
+     * Returns whether the pool is warmed up. This is `true` if no warm-up has been started, or if a warm-up has
+     * completed without failures.
+     *
+     * @return whether the pool is warmed up
+     */
+    public boolean isReady() {
+        return ready || !isStarted();
+    }
+
+    /**
+     * Returns the failures of the last warm-up.
+     *
+     * @return a description of the failures, or `null` if all the connections were opened
+     */
+    public String getFailureMessage() {
+        int failures = failed.get();
+        if (failures == 0) {
+            return null;
+        }
+        return String.format("%d of %d connections could not be opened: %s", failures, connections, errorMessage);
+    }
+
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put(Constants.WarmupStatus.CONNECTIONS, (long) connections);
+        status.put(Constants.WarmupStatus.OPENED, (long) opened.get());
+        status.put(Constants.WarmupStatus.FAILED, (long) failed.get());
+        status.put(Constants.WarmupStatus.IN_PROGRESS, completion != null && !completion.isDone());
+        status.put(Constants.WarmupStatus.READY, isReady());
+        if (errorMessage != null) {
+            status.put(Constants.WarmupStatus.ERROR_MESSAGE, StringUtils.fromString(errorMessage));
+        }
+        return status;
+    }
+
+    private synchronized boolean isStarted() {
+        return completion != null;
+    }
+
+    private void open(SQLDatasource datasource, List<Connection> openedConnections) {
+        Connection connection = null;
+        try {
+            connection = datasource.getSQLConnection();
+            probe(connection);
+            synchronized (openedConnections) {
+                openedConnections.add(connection);
+            }
+            opened.incrementAndGet();
+        } catch (SQLException e) {
+            closeConnection(connection);
+            recordFailure(e.getMessage());
+        }
+    }
+
+    private void probe(Connection connection) throws SQLException {
+        if (probeQuery == null) {
+            if (!connection.isValid(probeTimeoutInSeconds)) {
+                throw new SQLException("The connection is not valid.");
+            }
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(probeTimeoutInSeconds);
+            statement.execute(probeQuery);
+        }
+    }
+
+    private void recordFailure(String message) {
+        if (failed.getAndIncrement() == 0) {
+            errorMessage = message;
+        }
+    }
+
+    private static void closeConnection(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // The connection is discarded by the pool.
+        }
+    }
+}
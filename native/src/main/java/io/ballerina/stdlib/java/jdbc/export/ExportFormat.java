@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.export;
+
+/**
+ * The line-oriented formats of the exported rows.
+ *
+ * @since 1.2.0
+ */
+public enum ExportFormat {
+
+    /**
+     * Comma-separated values as specified by RFC 4180, with the values quoted only when necessary.
+     */
+    CSV,
+
+    /**
+     * Tab-separated values, with tabs, line breaks and backslashes escaped with backslashes and `NULL` written as
+     * `\N`.
+     */
+    TSV,
+
+    /**
+     * A JSON object per line keyed by the column labels.
+     */
+    NDJSON
+}
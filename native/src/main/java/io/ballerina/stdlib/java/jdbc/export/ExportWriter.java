@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.export;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the encoded rows of an export to a file as UTF-8 through a reusable buffer, optionally compressed with
+ * gzip.
+ * <p>
+ * Unless the rows are appended to an existing file, they are written to a temporary file that replaces the target
+ * file only when the export completes, so that a failed export does not leave a partial file behind. When the rows
+ * are appended, the file is truncated to its original size if the export fails.
+ *
+ * @since 1.2.0
+ */
+public class ExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path path;
+    private final Path writePath;
+    private final FileChannel channel;
+    private final long startPosition;
+    private final GZIPOutputStream compressedStream;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    public ExportWriter(Path path, boolean append, boolean gzip) throws IOException {
+        this.path = path.toAbsolutePath();
+        this.writePath = append ? this.path : this.path.resolveSibling(this.path.getFileName() + TEMP_SUFFIX);
+        Path parent = this.path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = append
+                ? FileChannel.open(writePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND)
+                : FileChannel.open(writePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+        this.startPosition = channel.size();
+        this.compressedStream = gzip ? new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE) : null;
+    }
+
+    /**
+     * Encodes the characters into the buffer, writing the buffer out whenever it is full.
+     *
+     * @param chars the characters to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(CharSequence chars) throws IOException {
+        CharBuffer input = CharBuffer.wrap(chars);
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(input, buffer, true);
+            if (result.isOverflow()) {
+                flushBuffer();
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Writes out the remaining data and replaces the target file with the written file.
+     *
+     * @return the number of bytes written to the file
+     * @throws IOException if the file cannot be written
+     */
+    public long commit() throws IOException {
+        flushBuffer();
+        if (compressedStream != null) {
+            compressedStream.finish();
+        }
+        long byteCount = channel.position() - startPosition;
+        channel.close();
+        if (!writePath.equals(path)) {
+            try {
+                Files.move(writePath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(writePath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        return byteCount;
+    }
+
+    /**
+     * Closes the file after a failure, removing the temporary file if there is one, or the appended rows otherwise.
+     */
+    public void abort() {
+        try {
+            if (writePath.equals(path)) {
+                try {
+                    channel.truncate(startPosition);
+                } finally {
+                    channel.close();
+                }
+            } else {
+                channel.close();
+                Files.deleteIfExists(writePath);
+            }
+        } catch (IOException ignored) {
+            // The export has already failed with the original error.
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        if (compressedStream != null) {
+            compressedStream.write(buffer.array(), buffer.position(), buffer.remaining());
+        } else {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.export;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Base64;
+
+/**
+ * Encodes the rows of a result set in an {@link ExportFormat} directly from the JDBC values. How each column is read
+ * and written is resolved once from the result set metadata.
+ * <p>
+ * Numbers and booleans are written as they are, dates and times in the ISO-8601 format, binary values in Base64 and
+ * other values as text.
+ *
+ * @since 1.2.0
+ */
+public class RowEncoder {
+
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String TSV_NULL = "\\N";
+
+    private final ExportFormat format;
+    private final ColumnKind[] columnKinds;
+    private final String[] columnLabels;
+    private final String[] jsonKeys;
+
+    public RowEncoder(ExportFormat format, ResultSetMetaData metaData) throws SQLException {
+        this.format = format;
+        int columnCount = metaData.getColumnCount();
+        this.columnKinds = new ColumnKind[columnCount];
+        this.columnLabels = new String[columnCount];
+        this.jsonKeys = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnKinds[i] = ColumnKind.of(metaData.getColumnType(i + 1));
+            columnLabels[i] = metaData.getColumnLabel(i + 1);
+            StringBuilder jsonKey = new StringBuilder();
+            appendJsonString(jsonKey, columnLabels[i]);
+            jsonKeys[i] = jsonKey.append(':').toString();
+        }
+    }
+
+    /**
+     * Appends the line of the column labels. Nothing is appended for NDJSON.
+     *
+     * @param line the builder to which the line is appended
+     */
+    public void appendHeader(StringBuilder line) {
+        if (format == ExportFormat.NDJSON) {
+            return;
+        }
+        for (int i = 0; i < columnLabels.length; i++) {
+            if (i > 0) {
+                line.append(format == ExportFormat.CSV ? ',' : '\t');
+            }
+            appendText(line, columnLabels[i]);
+        }
+        line.append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Appends the line of the current row of the result set.
+     *
+     * @param resultSet the result set positioned on a row
+     * @param line      the builder to which the line is appended
+     * @throws SQLException if a value cannot be read
+     */
+    public void appendRow(ResultSet resultSet, StringBuilder line) throws SQLException {
+        boolean json = format == ExportFormat.NDJSON;
+        if (json) {
+            line.append('{');
+        }
+        for (int i = 0; i < columnKinds.length; i++) {
+            if (i > 0) {
+                line.append(format == ExportFormat.TSV ? '\t' : ',');
+            }
+            if (json) {
+                line.append(jsonKeys[i]);
+            }
+            appendValue(resultSet, i + 1, columnKinds[i], line);
+        }
+        if (json) {
+            line.append('}');
+        }
+        line.append(LINE_SEPARATOR);
+    }
+
+    private void appendValue(ResultSet resultSet, int column, ColumnKind kind, StringBuilder line)
+            throws SQLException {
+        switch (kind) {
+            case INTEGER:
+                long longValue = resultSet.getLong(column);
+                if (resultSet.wasNull()) {
+                    appendNull(line);
+                } else {
+                    line.append(longValue);
+                }
+                return;
+            case DECIMAL:
+                BigDecimal decimalValue = resultSet.getBigDecimal(column);
+                if (decimalValue == null) {
+                    appendNull(line);
+                } else {
+                    line.append(decimalValue.toPlainString());
+                }
+                return;
+            case FLOAT:
+                double doubleValue = resultSet.getDouble(column);
+                if (resultSet.wasNull()) {
+                    appendNull(line);
+                } else if (Double.isFinite(doubleValue)) {
+                    line.append(doubleValue);
+                } else {
+                    // JSON has no representation of the non-finite numbers.
+                    appendText(line, String.valueOf(doubleValue));
+                }
+                return;
+            case BOOLEAN:
+                boolean booleanValue = resultSet.getBoolean(column);
+                if (resultSet.wasNull()) {
+                    appendNull(line);
+                } else {
+                    line.append(booleanValue);
+                }
+                return;
+            case DATE:
+                Date date = resultSet.getDate(column);
+                appendText(line, date == null ? null : date.toLocalDate().toString());
+                return;
+            case TIME:
+                Time time = resultSet.getTime(column);
+                appendText(line, time == null ? null : time.toLocalTime().toString());
+                return;
+            case TIMESTAMP:
+                Timestamp timestamp = resultSet.getTimestamp(column);
+                appendText(line, timestamp == null ? null : timestamp.toLocalDateTime().toString());
+                return;
+            case BINARY:
+                byte[] bytes = resultSet.getBytes(column);
+                appendText(line, bytes == null ? null : Base64.getEncoder().encodeToString(bytes));
+                return;
+            default:
+                appendText(line, resultSet.getString(column));
+        }
+    }
+
+    private void appendNull(StringBuilder line) {
+        if (format == ExportFormat.NDJSON) {
+            line.append("null");
+        } else if (format == ExportFormat.TSV) {
+            line.append(TSV_NULL);
+        }
+    }
+
+    private void appendText(StringBuilder line, String text) {
+        if (text == null) {
+            appendNull(line);
+            return;
+        }
+        switch (format) {
+            case NDJSON:
+                appendJsonString(line, text);
+                return;
+            case TSV:
+                appendTsvText(line, text);
+                return;
+            default:
+                appendCsvText(line, text);
+        }
+    }
+
+    private static void appendCsvText(StringBuilder line, String text) {
+        boolean quoted = false;
+        for (int i = 0; i < text.length() && !quoted; i++) {
+            char c = text.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quoted) {
+            line.append(text);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private static void appendTsvText(StringBuilder line, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\t':
+                    line.append("\\t");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                default:
+                    line.append(c);
+            }
+        }
+    }
+
+    private static void appendJsonString(StringBuilder line, String text) {
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+            }
+        }
+        line.append('"');
+    }
+
+    private enum ColumnKind {
+        INTEGER, DECIMAL, FLOAT, BOOLEAN, DATE, TIME, TIMESTAMP, BINARY, TEXT;
+
+        static ColumnKind of(int sqlType) {
+            switch (sqlType) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                case Types.BIGINT:
+                    return INTEGER;
+                case Types.DECIMAL:
+                case Types.NUMERIC:
+                    return DECIMAL;
+                case Types.REAL:
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                    return FLOAT;
+                case Types.BIT:
+                case Types.BOOLEAN:
+                    return BOOLEAN;
+                case Types.DATE:
+                    return DATE;
+                case Types.TIME:
+                    return TIME;
+                case Types.TIMESTAMP:
+                    return TIMESTAMP;
+                case Types.BINARY:
+                case Types.VARBINARY:
+                case Types.LONGVARBINARY:
+                case Types.BLOB:
+                    return BINARY;
+                default:
+                    return TEXT;
+            }
+        }
+    }
+}
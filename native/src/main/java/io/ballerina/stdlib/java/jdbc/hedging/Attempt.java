@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.hedging;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * An attempt of a hedged or retried call, through which the statement executing the attempt is cancelled when
+ * another attempt of the call completes first.
+ *
+ * @since 1.2.0
+ */
+public class Attempt {
+
+    private final long startNanos = System.nanoTime();
+    private Statement statement;
+    private boolean cancelled = false;
+
+    /**
+     * Registers the statement before it is executed.
+     *
+     * @param statement the statement of the attempt
+     * @return `false` if the attempt is already cancelled, in which case the statement must not be executed
+     */
+    public synchronized boolean begin(Statement statement) {
+        if (cancelled) {
+            return false;
+        }
+        this.statement = statement;
+        return true;
+    }
+
+    /**
+     * Unregisters the statement once it is executed, so that it is no longer cancelled.
+     *
+     * @return `false` if the statement may have been cancelled, in which case it must not be reused
+     */
+    public synchronized boolean end() {
+        statement = null;
+        return !cancelled;
+    }
+
+    /**
+     * Cancels the statement of the attempt if it is executing.
+     */
+    public synchronized void cancel() {
+        cancelled = true;
+        if (statement != null) {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                // The driver does not support cancelling, hence the attempt runs to completion and is discarded.
+            }
+        }
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+}
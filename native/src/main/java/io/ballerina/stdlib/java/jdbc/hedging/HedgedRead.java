@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.hedging;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.utils.Timers;
+import io.ballerina.stdlib.java.jdbc.utils.WorkerExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A call executed under a {@link ReadPolicy}. The call completes with the result of the first attempt that succeeds,
+ * and the statements of the other attempts are cancelled. The error of a failed attempt is returned only when no
+ * other attempt is running, unless it is transient and the call can still be retried.
+ *
+ * @since 1.2.0
+ */
+public class HedgedRead {
+
+    private final BObject client;
+    private final ReadPolicy policy;
+    private final Function<Attempt, Object> work;
+    private final Consumer<Object> callback;
+    private final List<Attempt> running = new ArrayList<>();
+    private ScheduledFuture<?> hedgeTimer;
+    private boolean hedged = false;
+    private int retries = 0;
+    private boolean done = false;
+
+    /**
+     * Creates a call.
+     *
+     * @param client   the client object
+     * @param policy   the policy of the client
+     * @param work     the work of an attempt returning the result of the call
+     * @param callback the callback receiving the result of the call
+     */
+    public HedgedRead(BObject client, ReadPolicy policy, Function<Attempt, Object> work, Consumer<Object> callback) {
+        this.client = client;
+        this.policy = policy;
+        this.work = work;
+        this.callback = callback;
+    }
+
+    public void start() {
+        policy.countCall();
+        launch();
+    }
+
+    private void launch() {
+        Attempt attempt = new Attempt();
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            running.add(attempt);
+        }
+        WorkerExecutor.execute(client, () -> work.apply(attempt), result -> complete(attempt, result));
+        synchronized (this) {
+            // A call is hedged once, after the delay from the start of its latest attempt.
+            if (!done && !hedged && policy.isHedging()) {
+                if (hedgeTimer != null) {
+                    hedgeTimer.cancel(false);
+                }
+                hedgeTimer = Timers.schedule(this::hedge, policy.getHedgeDelayNanos());
+            }
+        }
+    }
+
+    private void hedge() {
+        synchronized (this) {
+            if (done || hedged || running.isEmpty() || !policy.tryHedge()) {
+                return;
+            }
+            hedged = true;
+        }
+        launch();
+    }
+
+    private void complete(Attempt attempt, Object result) {
+        List<Attempt> losers;
+        synchronized (this) {
+            running.remove(attempt);
+            if (done) {
+                return;
+            }
+            if (result instanceof BError) {
+                if (!running.isEmpty()) {
+                    // The other attempt may still succeed, e.g. if this attempt was rejected by the limiter.
+                    return;
+                }
+                if (policy.isTransient((BError) result) && retries < policy.getMaxRetries()) {
+                    retries++;
+                    policy.countRetry();
+                    Timers.schedule(this::launch, policy.getBackoffNanos(retries));
+                    return;
+                }
+            } else {
+                policy.recordLatency(System.nanoTime() - attempt.getStartNanos());
+            }
+            done = true;
+            if (hedgeTimer != null) {
+                hedgeTimer.cancel(false);
+            }
+            losers = new ArrayList<>(running);
+            running.clear();
+        }
+        for (Attempt loser : losers) {
+            loser.cancel();
+        }
+        callback.accept(result);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.hedging;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The hedging and retry policy of the `queryRow` calls of a client.
+ * <p>
+ * A call is hedged with a second attempt when the first attempt has not completed within a percentile of the
+ * latencies observed for the client. The hedges are limited to a share of the calls by a token bucket, so that a
+ * slow data source is not loaded with twice the calls. Attempts failing with a transient SQL state are retried with
+ * an exponential backoff.
+ *
+ * @since 1.2.0
+ */
+public class ReadPolicy {
+
+    // The samples from which the hedging delay is derived, and the number of samples between its updates.
+    private static final int LATENCY_SAMPLES = 1024;
+    private static final int MIN_LATENCY_SAMPLES = 50;
+    private static final int DELAY_UPDATE_INTERVAL = 32;
+    // The number of hedges that can be accumulated by the budget for a burst of slow calls.
+    private static final double MAX_HEDGE_TOKENS = 10;
+
+    private final boolean hedging;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final double hedgeRatio;
+    private final int maxRetries;
+    private final long initialBackoffNanos;
+    private final double backoffMultiplier;
+    private final long maxBackoffNanos;
+    private final List<String> transientSqlStates;
+
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private long latencyCount = 0;
+    private volatile long hedgeDelayNanos;
+    private double hedgeTokens = 0;
+    private long hedges = 0;
+    private long retries = 0;
+
+    /**
+     * Creates a policy.
+     *
+     * @param hedging             whether the calls are hedged
+     * @param percentile          the percentile of the latencies after which a call is hedged
+     * @param initialDelayNanos   the delay after which a call is hedged until enough latencies are observed
+     * @param minDelayNanos       the minimum delay after which a call is hedged
+     * @param maxHedgePercent     the maximum percentage of the calls that are hedged
+     * @param maxRetries          the maximum number of retries of a call
+     * @param initialBackoffNanos the delay before the first retry
+     * @param backoffMultiplier   the factor by which the delay grows with each retry
+     * @param maxBackoffNanos     the maximum delay before a retry
+     * @param transientSqlStates  the SQL states, or their prefixes, of the failures that are retried
+     */
+    public ReadPolicy(boolean hedging, double percentile, long initialDelayNanos, long minDelayNanos,
+                      double maxHedgePercent, int maxRetries, long initialBackoffNanos, double backoffMultiplier,
+                      long maxBackoffNanos, List<String> transientSqlStates) {
+        this.hedging = hedging;
+        this.percentile = Math.min(Math.max(percentile, 0), 100);
+        this.minDelayNanos = minDelayNanos;
+        this.hedgeRatio = Math.max(maxHedgePercent, 0) / 100;
+        this.maxRetries = Math.max(maxRetries, 0);
+        this.initialBackoffNanos = initialBackoffNanos;
+        this.backoffMultiplier = Math.max(backoffMultiplier, 1);
+        this.maxBackoffNanos = maxBackoffNanos;
+        this.transientSqlStates = transientSqlStates;
+        this.hedgeDelayNanos = Math.max(initialDelayNanos, minDelayNanos);
+    }
+
+    /**
+     * Returns the policy of the client, or `null` if its calls are neither hedged nor retried.
+     */
+    public static ReadPolicy of(BObject client) {
+        return (ReadPolicy) client.getNativeData(Constants.NativeData.READ_POLICY);
+    }
+
+    boolean isHedging() {
+        return hedging;
+    }
+
+    long getHedgeDelayNanos() {
+        return hedgeDelayNanos;
+    }
+
+    int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Adds the share of a call to the hedging budget.
+     */
+    synchronized void countCall() {
+        hedgeTokens = Math.min(MAX_HEDGE_TOKENS, hedgeTokens + hedgeRatio);
+    }
+
+    /**
+     * Takes a hedge from the budget.
+     *
+     * @return `false` if the budget is exhausted
+     */
+    synchronized boolean tryHedge() {
+        if (hedgeTokens < 1) {
+            return false;
+        }
+        hedgeTokens--;
+        hedges++;
+        return true;
+    }
+
+    synchronized void countRetry() {
+        retries++;
+    }
+
+    /**
+     * Records the latency of a completed attempt, updating the hedging delay periodically.
+     */
+    synchronized void recordLatency(long latencyNanos) {
+        latencies[(int) (latencyCount % LATENCY_SAMPLES)] = latencyNanos;
+        latencyCount++;
+        if (latencyCount >= MIN_LATENCY_SAMPLES && latencyCount % DELAY_UPDATE_INTERVAL == 0) {
+            long[] samples = Arrays.copyOf(latencies, (int) Math.min(latencyCount, LATENCY_SAMPLES));
+            Arrays.sort(samples);
+            int index = (int) Math.ceil(percentile / 100 * samples.length) - 1;
+            hedgeDelayNanos = Math.max(samples[Math.max(index, 0)], minDelayNanos);
+        }
+    }
+
+    /**
+     * Returns whether an attempt that failed with the error may succeed if it is retried.
+     */
+    boolean isTransient(BError error) {
+        String sqlState = QueryUtils.getSqlState(error);
+        if (sqlState == null) {
+            return false;
+        }
+        for (String transientSqlState : transientSqlStates) {
+            if (sqlState.startsWith(transientSqlState)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the delay before a retry, which grows exponentially with the retries and is jittered so that the
+     * retries of concurrent calls are spread out.
+     *
+     * @param retry the number of the retry, starting from `1`
+     */
+    long getBackoffNanos(int retry) {
+        double backoff = Math.min(initialBackoffNanos * Math.pow(backoffMultiplier, retry - 1), maxBackoffNanos);
+        return (long) (backoff / 2 + ThreadLocalRandom.current().nextDouble() * backoff / 2);
+    }
+
+    /**
+     * Returns the statistics of the policy as the fields of the `ReadPolicyStats` record.
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.ReadPolicyStats.HEDGES, hedges);
+        stats.put(Constants.ReadPolicyStats.RETRIES, retries);
+        stats.put(Constants.ReadPolicyStats.HEDGE_DELAY_MILLIS, TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos));
+        return stats;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.incremental;
+
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+
+/**
+ * A local file holding the watermark up to which the rows of an incremental query have been consumed.
+ * <p>
+ * The checkpoint is written to a temporary file in the same directory, flushed to the disk and then moved over the
+ * previous checkpoint, so that a crash leaves either the previous or the new checkpoint in place.
+ *
+ * @since 1.2.0
+ */
+public class CheckpointFile {
+
+    private static final String COLUMN = "column";
+    private static final String KIND = "kind";
+    private static final String WATERMARK = "watermark";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path path;
+    private final String column;
+
+    public CheckpointFile(Path path, String column) {
+        this.path = path.toAbsolutePath();
+        this.column = column;
+    }
+
+    /**
+     * Reads the watermark of the checkpoint.
+     *
+     * @return the watermark, or `null` if there is no checkpoint
+     * @throws IOException       if the checkpoint cannot be read
+     * @throws ApplicationError  if the checkpoint is of another column or is corrupted
+     */
+    public Watermark read() throws IOException, ApplicationError {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        Properties checkpoint = new Properties();
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            checkpoint.load(inputStream);
+        }
+        if (!column.equals(checkpoint.getProperty(COLUMN))) {
+            throw new ApplicationError("The checkpoint '" + path + "' belongs to the watermark column '"
+                    + checkpoint.getProperty(COLUMN) + "' instead of '" + column + "'.");
+        }
+        try {
+            return Watermark.parse(checkpoint.getProperty(KIND), checkpoint.getProperty(WATERMARK));
+        } catch (RuntimeException e) {
+            throw new ApplicationError("The checkpoint '" + path + "' is corrupted: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the checkpoint with the given watermark.
+     *
+     * @param watermark the watermark
+     * @throws IOException if the checkpoint cannot be written
+     */
+    public void write(Watermark watermark) throws IOException {
+        Properties checkpoint = new Properties();
+        checkpoint.setProperty(COLUMN, column);
+        checkpoint.setProperty(KIND, watermark.getKind());
+        checkpoint.setProperty(WATERMARK, watermark.format());
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tempPath = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream outputStream = Channels.newOutputStream(channel);
+            checkpoint.store(outputStream, null);
+            outputStream.flush();
+            channel.force(true);
+        }
+        try {
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.incremental;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.utils.StatementParameter;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * A value of the watermark column of an incremental query. Values of `int`, `float`, `decimal`, `string` and
+ * `time:Utc` record fields are supported.
+ *
+ * @since 1.2.0
+ */
+public final class Watermark implements Comparable<Watermark>, StatementParameter {
+
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000L);
+
+    /**
+     * The kinds of the watermark values, named as they are stored in the checkpoint.
+     */
+    enum Kind {
+        INT, FLOAT, DECIMAL, STRING, UTC
+    }
+
+    private final Kind kind;
+    private final Object value;
+
+    private Watermark(Kind kind, Comparable<?> value) {
+        this.kind = kind;
+        this.value = value;
+    }
+
+    /**
+     * Creates a watermark from the value of a record field.
+     *
+     * @param value the Ballerina value
+     * @return the watermark, or `null` if the value is `()`
+     * @throws ApplicationError if the type of the value is not supported
+     */
+    static Watermark fromValue(Object value) throws ApplicationError {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Long) {
+            return new Watermark(Kind.INT, (Long) value);
+        }
+        if (value instanceof Double) {
+            return new Watermark(Kind.FLOAT, (Double) value);
+        }
+        if (value instanceof BDecimal) {
+            return new Watermark(Kind.DECIMAL, ((BDecimal) value).decimalValue());
+        }
+        if (value instanceof BString) {
+            return new Watermark(Kind.STRING, ((BString) value).getValue());
+        }
+        if (value instanceof BArray && ((BArray) value).size() == 2) {
+            // `time:Utc` is a tuple of the seconds and the fraction of a second since the epoch.
+            BArray utc = (BArray) value;
+            long seconds = (Long) utc.get(0);
+            BigDecimal fraction = ((BDecimal) utc.get(1)).decimalValue();
+            return new Watermark(Kind.UTC, Instant.ofEpochSecond(seconds,
+                    fraction.multiply(NANOS_PER_SECOND).longValue()));
+        }
+        throw new ApplicationError("Unsupported watermark value. The watermark column must be mapped to an int, "
+                + "float, decimal, string or time:Utc field.");
+    }
+
+    /**
+     * Creates a watermark read from a checkpoint.
+     *
+     * @param kind  the name of the kind
+     * @param value the value formatted using {@link #format()}
+     * @return the watermark
+     * @throws IllegalArgumentException if the kind or the value is invalid
+     */
+    static Watermark parse(String kind, String value) {
+        Kind watermarkKind = Kind.valueOf(kind);
+        switch (watermarkKind) {
+            case INT:
+                return new Watermark(watermarkKind, Long.parseLong(value));
+            case FLOAT:
+                return new Watermark(watermarkKind, Double.parseDouble(value));
+            case DECIMAL:
+                return new Watermark(watermarkKind, new BigDecimal(value));
+            case UTC:
+                return new Watermark(watermarkKind, Instant.parse(value));
+            default:
+                return new Watermark(watermarkKind, value);
+        }
+    }
+
+    String getKind() {
+        return kind.name();
+    }
+
+    String format() {
+        return value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString();
+    }
+
+    @Override
+    public void set(PreparedStatement statement, int index) throws SQLException {
+        switch (kind) {
+            case INT:
+                statement.setLong(index, (Long) value);
+                break;
+            case FLOAT:
+                statement.setDouble(index, (Double) value);
+                break;
+            case DECIMAL:
+                statement.setBigDecimal(index, (BigDecimal) value);
+                break;
+            case UTC:
+                statement.setTimestamp(index, Timestamp.from((Instant) value));
+                break;
+            default:
+                statement.setString(index, (String) value);
+                break;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int compareTo(Watermark other) {
+        if (kind != other.kind) {
+            throw new IllegalStateException("Watermarks of different kinds cannot be compared: " + kind + ", "
+                    + other.kind);
+        }
+        return ((Comparable<Object>) value).compareTo(other.value);
+    }
+}
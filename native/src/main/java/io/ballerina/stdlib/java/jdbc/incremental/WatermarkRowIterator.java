@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.incremental;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.iterator.RowIterator;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.io.IOException;
+
+/**
+ * Tracks the watermark of the rows of an incremental query, which are ordered by the watermark column, and
+ * checkpoints the watermark up to which the rows have been consumed.
+ * <p>
+ * A row is consumed once the next row is requested. When a row with a greater watermark is read, every row with the
+ * previous watermark has been consumed, hence the previous watermark is confirmed. The confirmed watermark is
+ * checkpointed every `checkpointInterval` rows and when the stream ends or is closed. Only the rows with the
+ * watermark that was being read when the stream was interrupted are read again when the query is resumed.
+ *
+ * @since 1.2.0
+ */
+public class WatermarkRowIterator implements RowIterator {
+
+    private final RowIterator delegate;
+    private final String column;
+    private final CheckpointFile checkpoint;
+    private final int checkpointInterval;
+    private BString field;
+    private Watermark lastWatermark;
+    private Watermark confirmedWatermark;
+    private Watermark checkpointedWatermark;
+    private int rowsSinceCheckpoint = 0;
+    private boolean finished = false;
+
+    /**
+     * Creates the iterator.
+     *
+     * @param delegate           the iterator of the rows ordered by the watermark column
+     * @param column             the name of the watermark column without quotes
+     * @param checkpoint         the checkpoint of the query
+     * @param checkpointInterval the number of rows between the checkpoints
+     * @param startWatermark     the watermark the query is resumed from, or `null`
+     */
+    public WatermarkRowIterator(RowIterator delegate, String column, CheckpointFile checkpoint,
+                                int checkpointInterval, Watermark startWatermark) {
+        this.delegate = delegate;
+        this.column = column;
+        this.checkpoint = checkpoint;
+        this.checkpointInterval = checkpointInterval;
+        this.confirmedWatermark = startWatermark;
+        this.checkpointedWatermark = startWatermark;
+    }
+
+    @Override
+    public Object next() {
+        if (finished) {
+            return null;
+        }
+        Object row = delegate.next();
+        if (!(row instanceof BMap)) {
+            finished = true;
+            if (row != null) {
+                return row;
+            }
+            // Every row has been consumed as the end of the rows is requested.
+            if (lastWatermark != null) {
+                confirmedWatermark = lastWatermark;
+            }
+            return writeCheckpoint();
+        }
+        try {
+            Watermark watermark = Watermark.fromValue(((BMap<?, ?>) row).get(getField((BMap<?, ?>) row)));
+            if (watermark != null) {
+                if (lastWatermark != null && watermark.compareTo(lastWatermark) > 0) {
+                    confirmedWatermark = lastWatermark;
+                }
+                if (lastWatermark == null || watermark.compareTo(lastWatermark) > 0) {
+                    lastWatermark = watermark;
+                }
+            }
+        } catch (ApplicationError e) {
+            finished = true;
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+        if (++rowsSinceCheckpoint >= checkpointInterval) {
+            Object checkpointError = writeCheckpoint();
+            if (checkpointError != null) {
+                finished = true;
+                return checkpointError;
+            }
+        }
+        return row;
+    }
+
+    @Override
+    public Object close() {
+        Object checkpointError = writeCheckpoint();
+        Object closeError = delegate.close();
+        return closeError != null ? closeError : checkpointError;
+    }
+
+    private Object writeCheckpoint() {
+        rowsSinceCheckpoint = 0;
+        if (confirmedWatermark == null || confirmedWatermark == checkpointedWatermark) {
+            return null;
+        }
+        try {
+            checkpoint.write(confirmedWatermark);
+            checkpointedWatermark = confirmedWatermark;
+            return null;
+        } catch (IOException e) {
+            return ErrorGenerator.getSQLApplicationError("Error while writing the checkpoint of the watermark: "
+                    + e.getMessage());
+        }
+    }
+
+    // The field is resolved from the first row, as the column may be mapped to a field of a different case.
+    private BString getField(BMap<?, ?> row) throws ApplicationError {
+        if (field == null) {
+            for (Object key : row.getKeys()) {
+                if (((BString) key).getValue().equalsIgnoreCase(column)) {
+                    field = (BString) key;
+                    break;
+                }
+            }
+            if (field == null) {
+                throw new ApplicationError("The watermark column '" + column + "' is not a field of the returned "
+                        + "record.");
+            }
+        }
+        return field;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.iterator;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Serves the records of a cached `query` result. Each record is copied so that the cached result is not affected
+ * by changes made by the consumer of the stream.
+ *
+ * @since 1.2.0
+ */
+public class CachedRowIterator implements RowIterator {
+
+    private final Iterator<BMap<BString, Object>> rows;
+
+    public CachedRowIterator(List<BMap<BString, Object>> rows) {
+        this.rows = rows.iterator();
+    }
+
+    @Override
+    public Object next() {
+        return rows.hasNext() ? rows.next().copy(new HashMap<>()) : null;
+    }
+
+    @Override
+    public Object close() {
+        return null;
+    }
+}
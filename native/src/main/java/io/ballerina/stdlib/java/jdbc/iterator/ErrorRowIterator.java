@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.iterator;
+
+import io.ballerina.runtime.api.values.BError;
+
+/**
+ * Returns an error as the first and only result of a stream, used when a query fails before any rows are read.
+ *
+ * @since 1.2.0
+ */
+public class ErrorRowIterator implements RowIterator {
+
+    private final BError error;
+
+    public ErrorRowIterator(BError error) {
+        this.error = error;
+    }
+
+    public BError getError() {
+        return error;
+    }
+
+    @Override
+    public Object next() {
+        return error;
+    }
+
+    @Override
+    public Object close() {
+        return null;
+    }
+}
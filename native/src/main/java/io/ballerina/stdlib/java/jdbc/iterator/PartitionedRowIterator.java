@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.iterator;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.stdlib.java.jdbc.memory.ResultMemory;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Reads the partitions of a query concurrently, each on its own connection, and merges their rows into a single
+ * bounded buffer. The rows of different partitions are interleaved in the order they are read.
+ * <p>
+ * The first error of any partition is returned in place of the next row, after which the remaining partitions are
+ * not read. An error that cannot be buffered, e.g. as its reader was interrupted, is returned once the buffered rows
+ * are consumed. The rows are accounted while they are buffered, until the stream is closed.
+ *
+ * @since 1.2.0
+ */
+public class PartitionedRowIterator implements RowIterator {
+
+    private static final Object END_OF_PARTITION = new Object();
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final List<Supplier<Object>> partitions;
+    private final BiConsumer<Supplier<Object>, Consumer<Object>> executor;
+    private final BlockingQueue<Object> rows;
+    private final ResultMemory memory;
+    private final AtomicInteger nextPartition = new AtomicInteger();
+    private final AtomicReference<BError> failure = new AtomicReference<>();
+    private volatile boolean closed = false;
+    private int remainingPartitions;
+    private boolean exhausted = false;
+
+    /**
+     * Starts reading the partitions.
+     *
+     * @param partitions  the executions of the partitions, each returning a {@link RowIterator} or a `BError`
+     * @param parallelism the maximum number of partitions read concurrently
+     * @param bufferSize  the maximum number of rows buffered ahead of the consumer
+     * @param memory      the accounting of the buffered rows
+     * @param executor    runs the execution of a partition and passes its result to the callback, of which the
+     *                    thread then reads the rows of the partition
+     */
+    public PartitionedRowIterator(List<Supplier<Object>> partitions, int parallelism, int bufferSize,
+                                  ResultMemory memory, BiConsumer<Supplier<Object>, Consumer<Object>> executor) {
+        this.partitions = partitions;
+        this.executor = executor;
+        this.rows = new ArrayBlockingQueue<>(bufferSize);
+        this.memory = memory;
+        this.remainingPartitions = partitions.size();
+        int readers = Math.min(parallelism, partitions.size());
+        for (int i = 0; i < readers; i++) {
+            readNextPartition();
+        }
+    }
+
+    @Override
+    public Object next() {
+        try {
+            while (!exhausted && remainingPartitions > 0) {
+                Object row = take();
+                if (row instanceof BMap) {
+                    memory.remove(row);
+                    return row;
+                }
+                if (row == END_OF_PARTITION) {
+                    remainingPartitions--;
+                    continue;
+                }
+                exhausted = true;
+                // Stops the readers of the other partitions.
+                closed = true;
+                return row;
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exhausted = true;
+            closed = true;
+            return ErrorGenerator.getSQLApplicationError("Interrupted while waiting for the next row of the result");
+        }
+    }
+
+    @Override
+    public Object close() {
+        closed = true;
+        // Each reader closes the iterator of its partition once it sees that the stream is closed, hence the
+        // consumer does not wait for the readers.
+        rows.clear();
+        memory.release();
+        return null;
+    }
+
+    // Waits for the next row or marker, or else for an error that a reader could not buffer, so that the consumer
+    // does not wait for a reader that stopped without posting the end of its partition.
+    private Object take() throws InterruptedException {
+        while (true) {
+            Object row = rows.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            if (row != null) {
+                return row;
+            }
+            BError error = failure.get();
+            if (error != null) {
+                return error;
+            }
+        }
+    }
+
+    // Executes the next partition and reads its rows on the thread receiving its result. The partition after it is
+    // executed once the rows are read, so that at most `parallelism` partitions are read at a time.
+    private void readNextPartition() {
+        int partition = nextPartition.getAndIncrement();
+        if (closed || partition >= partitions.size()) {
+            return;
+        }
+        executor.accept(partitions.get(partition), result -> {
+            try {
+                if (readPartition(result)) {
+                    readNextPartition();
+                }
+            } catch (RuntimeException e) {
+                // E.g. the iterator of the partition could not be closed, or the next partition not executed.
+                fail(ErrorGenerator.getSQLApplicationError("Error while reading a partition of the result: "
+                        + e.getMessage()));
+            }
+        });
+    }
+
+    // Returns whether the partition was read completely.
+    private boolean readPartition(Object result) {
+        if (!(result instanceof RowIterator)) {
+            offer(result);
+            return false;
+        }
+        RowIterator rowIterator = (RowIterator) result;
+        try {
+            while (!closed) {
+                Object row = rowIterator.next();
+                if (row instanceof BMap) {
+                    // The rows read once the stream is closed are dropped instead of being accounted.
+                    if (closed) {
+                        return false;
+                    }
+                    BError error = memory.add(row);
+                    if (error != null) {
+                        offer(error);
+                        return false;
+                    }
+                }
+                if (!offer(row == null ? END_OF_PARTITION : row)) {
+                    return false;
+                }
+                if (!(row instanceof BMap)) {
+                    return row == null;
+                }
+            }
+            return false;
+        } catch (RuntimeException e) {
+            // The consumer waits for the rows of the partition, hence the failure is returned as an error.
+            offer(ErrorGenerator.getSQLApplicationError("Error while reading a partition of the result: "
+                    + e.getMessage()));
+            return false;
+        } finally {
+            rowIterator.close();
+        }
+    }
+
+    // Waits for space in the buffer while periodically checking whether the consumer has closed the stream. A reader
+    // that is interrupted meanwhile fails the stream, as its partition would otherwise never end.
+    private boolean offer(Object row) {
+        try {
+            while (!closed) {
+                if (rows.offer(row, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(row instanceof BError ? (BError) row : ErrorGenerator.getSQLApplicationError(
+                    "Interrupted while reading a partition of the result"));
+        }
+        return false;
+    }
+
+    private void fail(BError error) {
+        if (!closed) {
+            failure.compareAndSet(null, error);
+        }
+    }
+}
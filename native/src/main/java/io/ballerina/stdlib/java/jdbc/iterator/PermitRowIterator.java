@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.iterator;
+
+import io.ballerina.stdlib.java.jdbc.utils.CallPermits;
+
+/**
+ * Holds the permits of the call that created a stream until the stream is closed, as its rows are read on the
+ * connection of the call. The permits are released once the resources of the stream are released, which is done
+ * once the stream ends or fails as well.
+ *
+ * @since 1.2.0
+ */
+public class PermitRowIterator implements RowIterator {
+
+    private final RowIterator delegate;
+    private final CallPermits permits;
+
+    public PermitRowIterator(RowIterator delegate, CallPermits permits) {
+        this.delegate = delegate;
+        this.permits = permits;
+        permits.hold();
+    }
+
+    @Override
+    public Object next() {
+        return delegate.next();
+    }
+
+    @Override
+    public Object close() {
+        try {
+            return delegate.close();
+        } finally {
+            permits.release();
+        }
+    }
+}
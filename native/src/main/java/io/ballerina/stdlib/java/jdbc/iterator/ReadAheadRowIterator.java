@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.iterator;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.stdlib.java.jdbc.memory.ResultMemory;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the rows of another iterator on a background thread into a bounded buffer, so that the driver fetches and
+ * maps the next rows while the consumer processes the current ones. The rows are accounted while they are buffered.
+ * <p>
+ * The reader closes the other iterator once it stops reading, so that the resources of the result, such as the
+ * permits held by a {@link PermitRowIterator}, are released by the thread that last used its connection.
+ *
+ * @since 1.2.0
+ */
+public class ReadAheadRowIterator implements RowIterator {
+
+    private static final Object END_OF_ROWS = new Object();
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final RowIterator delegate;
+    private final BlockingQueue<Object> rows;
+    private final ResultMemory memory;
+    private volatile boolean closed = false;
+    private volatile boolean readerRunning = true;
+    private volatile Object closeResult;
+    private boolean exhausted = false;
+
+    public ReadAheadRowIterator(RowIterator delegate, int bufferSize, ResultMemory memory, Executor executor) {
+        this.delegate = delegate;
+        this.rows = new ArrayBlockingQueue<>(bufferSize);
+        this.memory = memory;
+        executor.execute(this::readAhead);
+    }
+
+    @Override
+    public Object next() {
+        if (exhausted) {
+            return null;
+        }
+        try {
+            Object row = take();
+            if (row instanceof BMap) {
+                memory.remove(row);
+                return row;
+            }
+            exhausted = true;
+            return row == END_OF_ROWS ? null : row;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exhausted = true;
+            return ErrorGenerator.getSQLApplicationError("Interrupted while waiting for the next row of the result");
+        }
+    }
+
+    @Override
+    public Object close() {
+        closed = true;
+        rows.clear();
+        memory.release();
+        // The delegate is not thread safe, hence it is closed by the reader, which may be waiting for the driver,
+        // instead of the consumer waiting for it.
+        return readerRunning ? null : closeResult;
+    }
+
+    // Waits for the next row while checking that the reader is still running, as a reader that stopped without
+    // posting the end of the rows, e.g. as it was interrupted, would leave the consumer waiting forever.
+    private Object take() throws InterruptedException {
+        while (true) {
+            Object row = rows.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            if (row != null) {
+                return row;
+            }
+            if (!readerRunning) {
+                // The rows posted before the reader stopped are read first.
+                row = rows.poll();
+                return row != null ? row : ErrorGenerator.getSQLApplicationError(
+                        "The rows of the result could not be read as the reading thread was stopped");
+            }
+        }
+    }
+
+    private void readAhead() {
+        try {
+            while (!closed) {
+                Object row = delegate.next();
+                if (!(row instanceof BMap)) {
+                    offer(row == null ? END_OF_ROWS : row);
+                    return;
+                }
+                BError error = memory.add(row);
+                if (error != null) {
+                    offer(error);
+                    return;
+                }
+                if (!offer(row)) {
+                    memory.remove(row);
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            offer(ErrorGenerator.getSQLApplicationError("Error while reading the rows of the result: "
+                    + e.getMessage()));
+        } finally {
+            try {
+                closeResult = delegate.close();
+            } finally {
+                readerRunning = false;
+            }
+        }
+    }
+
+    // Waits for space in the buffer while periodically checking whether the consumer has closed the stream.
+    private boolean offer(Object row) {
+        try {
+            while (!closed) {
+                if (rows.offer(row, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.iterator;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.cache.StatementCache;
+import io.ballerina.stdlib.java.jdbc.mapping.RowMapper;
+import io.ballerina.stdlib.java.jdbc.memory.ResultMemory;
+import io.ballerina.stdlib.java.jdbc.metrics.ExecutionTimer;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the rows of an open JDBC result set to Ballerina records as the stream is consumed. The rows are counted by
+ * the accounting of the stream as they are materialized, which is released by the iterators that hold the rows of the
+ * stream, as a stream may hold the rows read ahead or read from its other partitions after this iterator is closed.
+ *
+ * @since 1.2.0
+ */
+public class ResultSetRowIterator implements RowIterator {
+
+    private final ResultSet resultSet;
+    private final PreparedStatement statement;
+    private final Connection connection;
+    private final RowMapper rowMapper;
+    private final boolean isWithinTrxBlock;
+    private final StatementCache statementCache;
+    private final ExecutionTimer timer;
+    private final ResultMemory memory;
+
+    public ResultSetRowIterator(ResultSet resultSet, PreparedStatement statement, Connection connection,
+                                RowMapper rowMapper, boolean isWithinTrxBlock, StatementCache statementCache,
+                                ExecutionTimer timer, ResultMemory memory) {
+        this.resultSet = resultSet;
+        this.statement = statement;
+        this.connection = connection;
+        this.rowMapper = rowMapper;
+        this.isWithinTrxBlock = isWithinTrxBlock;
+        this.statementCache = statementCache;
+        this.timer = timer;
+        this.memory = memory;
+    }
+
+    @Override
+    public Object next() {
+        BError error;
+        try {
+            long startNanos = timer.now();
+            boolean hasNext = resultSet.next();
+            timer.addDriver(startNanos);
+            if (!hasNext) {
+                return null;
+            }
+            startNanos = timer.now();
+            BMap<BString, Object> record = rowMapper.map(resultSet);
+            timer.addMapping(startNanos);
+            timer.addRow(record);
+            // The record is handed over to the consumer, or else to a buffer that accounts it while it is held.
+            error = memory.check(record);
+            if (error == null) {
+                return record;
+            }
+        } catch (SQLException e) {
+            error = ErrorGenerator.getSQLDatabaseError(e, "Error when iterating the SQL result");
+        } catch (DataError e) {
+            error = ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+        timer.recordError(error);
+        return error;
+    }
+
+    @Override
+    public Object close() {
+        timer.finish();
+        QueryUtils.closeResources(statementCache, isWithinTrxBlock, resultSet, statement, connection, true);
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.iterator;
+
+/**
+ * Produces the records of a stream returned by the connector. Implementations are attached to the Ballerina
+ * `ResultIterator` object as native data.
+ *
+ * @since 1.2.0
+ */
+public interface RowIterator {
+
+    /**
+     * Returns the next record of the result.
+     *
+     * @return the next record as a `BMap`, `null` if there are no more records, or a `BError`
+     */
+    Object next();
+
+    /**
+     * Releases the resources held by the iterator.
+     *
+     * @return `null` or a `BError` if the resources could not be released
+     */
+    Object close();
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.limiter;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.iterator.ErrorRowIterator;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+import io.ballerina.stdlib.java.jdbc.utils.Timers;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+
+/**
+ * Limits the number of remote calls of a client executing concurrently, adapting the limit to the observed latency.
+ * <p>
+ * The limit is increased additively while the calls complete within the latency threshold, and decreased
+ * multiplicatively when a call exceeds it or fails to connect. Without a configured threshold, a call is considered
+ * slow when it takes more than twice the moving average latency. The calls exceeding the limit are queued up to a
+ * bound, beyond which they fail fast, and a queued call is rejected by a timer once it has waited for the queue
+ * timeout.
+ * <p>
+ * Repeated connection failures open a circuit, rejecting all the calls until a trial call is let through after the
+ * reset time. The circuit closes if the trial call reaches the database.
+ *
+ * @since 1.2.0
+ */
+public class AdaptiveLimiter {
+
+    private static final String CONNECTION_EXCEPTION_CLASS = "08";
+    // The message of the exception thrown when a connection cannot be obtained from the pool in time.
+    private static final String POOL_TIMEOUT_MESSAGE = "Connection is not available";
+    private static final double AVERAGE_WEIGHT = 0.05;
+    private static final double SLOW_CALL_FACTOR = 2.0;
+
+    /**
+     * The states of the circuit breaker.
+     */
+    public enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueued;
+    private final long queueTimeoutNanos;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final int failureThreshold;
+    private final long resetNanos;
+
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+    private double limit;
+    private int inFlight = 0;
+    private double averageLatencyNanos = 0;
+    private long lastDecreaseNanos;
+    private long rejected = 0;
+    private CircuitState circuitState = CircuitState.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedNanos;
+    private boolean trialInFlight = false;
+
+    /**
+     * Creates a limiter.
+     *
+     * @param initialLimit          the initial concurrency limit
+     * @param minLimit              the minimum concurrency limit
+     * @param maxLimit              the maximum concurrency limit
+     * @param maxQueued             the maximum number of calls waiting for the limit
+     * @param queueTimeoutNanos     the maximum time a call waits for the limit
+     * @param latencyThresholdNanos the latency above which a call is slow, or `0` to derive it from the average
+     * @param backoffRatio          the ratio by which the limit is multiplied when a call is slow or fails to connect
+     * @param failureThreshold      the number of consecutive connection failures that open the circuit
+     * @param resetNanos            the time for which the circuit stays open before a trial call
+     */
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueued, long queueTimeoutNanos,
+                           long latencyThresholdNanos, double backoffRatio, int failureThreshold, long resetNanos) {
+        this.minLimit = Math.max(minLimit, 1);
+        this.maxLimit = Math.max(maxLimit, this.minLimit);
+        this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+        this.maxQueued = Math.max(maxQueued, 0);
+        this.queueTimeoutNanos = queueTimeoutNanos;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.failureThreshold = Math.max(failureThreshold, 1);
+        this.resetNanos = resetNanos;
+        this.lastDecreaseNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the limiter of the client, or `null` if the concurrency is not limited.
+     */
+    public static AdaptiveLimiter of(BObject client) {
+        return (AdaptiveLimiter) client.getNativeData(Constants.NativeData.ADAPTIVE_LIMITER);
+    }
+
+    /**
+     * Starts the call when the limit allows it. The call must release its permit through {@link #release} when it
+     * completes.
+     *
+     * @param call       the call, which is run on the current thread if it is started immediately, or else on the
+     *                   thread releasing a permit
+     * @param onRejected the callback receiving the error if the call is rejected
+     */
+    public void acquire(Runnable call, Consumer<BError> onRejected) {
+        List<Runnable> actions = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (isCircuitOpen(now)) {
+                rejected++;
+                BError error = createCircuitOpenError();
+                actions.add(() -> onRejected.accept(error));
+            } else if (inFlight < (int) limit && queue.isEmpty() || queue.size() < maxQueued) {
+                Waiter waiter = new Waiter(call, onRejected, now);
+                queue.add(waiter);
+                dispatch(now, actions);
+                if (queue.peekLast() == waiter) {
+                    waiter.timeout = Timers.schedule(() -> expire(waiter), queueTimeoutNanos);
+                }
+            } else {
+                rejected++;
+                BError error = ErrorGenerator.getSQLApplicationError(String.format("The remote call is rejected as "
+                        + "the concurrency limit of %d calls is reached and %d calls are waiting.", (int) limit,
+                        queue.size()));
+                actions.add(() -> onRejected.accept(error));
+            }
+        }
+        actions.forEach(Runnable::run);
+    }
+
+    /**
+     * Starts a call that cannot wait, such as a call within a transaction, regardless of the limit unless the
+     * circuit is open. The call must release its permit through {@link #release} when it completes.
+     *
+     * @return an error if the circuit is open, or else `null`
+     */
+    public synchronized BError acquireNow() {
+        if (!isCircuitAdmitting(System.nanoTime())) {
+            rejected++;
+            return createCircuitOpenError();
+        }
+        inFlight++;
+        return null;
+    }
+
+    /**
+     * Returns an error if the circuit is open. This is used for the calls of which the completion is not observed.
+     */
+    public synchronized BError checkCircuit() {
+        if (isCircuitOpen(System.nanoTime())) {
+            rejected++;
+            return createCircuitOpenError();
+        }
+        return null;
+    }
+
+    /**
+     * Releases the permit of a completed call, adjusting the limit to its latency and result, and starts the queued
+     * calls that fit within the limit.
+     *
+     * @param startNanos     the time at which the call started
+     * @param completedNanos the time at which the call completed, which is before the permit is released if the
+     *                       result of the call holds it
+     * @param result         the result of the call
+     */
+    public void release(long startNanos, long completedNanos, Object result) {
+        List<Runnable> actions = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            inFlight--;
+            boolean connectionFailure = isConnectionFailure(result);
+            updateCircuit(connectionFailure, now);
+            updateLimit(completedNanos - startNanos, startNanos, connectionFailure, now);
+            dispatch(now, actions);
+        }
+        actions.forEach(Runnable::run);
+    }
+
+    /**
+     * Returns the status of the limiter as the fields of the `LimiterStatus` record.
+     */
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put(Constants.LimiterStatus.LIMIT, (long) limit);
+        status.put(Constants.LimiterStatus.IN_FLIGHT, (long) inFlight);
+        status.put(Constants.LimiterStatus.QUEUED, (long) queue.size());
+        status.put(Constants.LimiterStatus.REJECTED, rejected);
+        status.put(Constants.LimiterStatus.CIRCUIT_STATE, StringUtils.fromString(circuitState.name()));
+        return status;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    public synchronized CircuitState getCircuitState() {
+        return circuitState;
+    }
+
+    // Starts the queued calls that fit within the limit, and rejects those that waited too long or arrive at an
+    // open circuit. The actions are run once the lock is released.
+    private void dispatch(long now, List<Runnable> actions) {
+        while (!queue.isEmpty() && inFlight < (int) limit) {
+            Waiter waiter = queue.poll();
+            waiter.cancelTimeout();
+            if (now - waiter.enqueuedNanos > queueTimeoutNanos) {
+                rejected++;
+                BError error = createQueueTimeoutError();
+                actions.add(() -> waiter.onRejected.accept(error));
+            } else if (!isCircuitAdmitting(now)) {
+                rejected++;
+                BError error = createCircuitOpenError();
+                actions.add(() -> waiter.onRejected.accept(error));
+            } else {
+                inFlight++;
+                actions.add(waiter.call);
+            }
+        }
+    }
+
+    // Rejects a queued call once its queue timeout has elapsed, unless it has been started or rejected before.
+    private void expire(Waiter waiter) {
+        synchronized (this) {
+            if (!queue.remove(waiter)) {
+                return;
+            }
+            rejected++;
+        }
+        waiter.onRejected.accept(createQueueTimeoutError());
+    }
+
+    private boolean isCircuitOpen(long now) {
+        return circuitState == CircuitState.OPEN && now - openedNanos < resetNanos
+                || circuitState == CircuitState.HALF_OPEN && trialInFlight;
+    }
+
+    // Moves an open circuit to half-open once the reset time has elapsed, letting a single trial call through.
+    private boolean isCircuitAdmitting(long now) {
+        if (circuitState == CircuitState.OPEN && now - openedNanos >= resetNanos) {
+            circuitState = CircuitState.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (circuitState == CircuitState.CLOSED) {
+            return true;
+        }
+        if (circuitState == CircuitState.HALF_OPEN && !trialInFlight) {
+            trialInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    private void updateCircuit(boolean connectionFailure, long now) {
+        if (!connectionFailure) {
+            consecutiveFailures = 0;
+            if (circuitState == CircuitState.HALF_OPEN) {
+                circuitState = CircuitState.CLOSED;
+            }
+            return;
+        }
+        consecutiveFailures++;
+        if (circuitState == CircuitState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            circuitState = CircuitState.OPEN;
+            openedNanos = now;
+        }
+    }
+
+    private void updateLimit(long latencyNanos, long startNanos, boolean connectionFailure, long now) {
+        long threshold = latencyThresholdNanos > 0 ? latencyThresholdNanos
+                : (long) (averageLatencyNanos * SLOW_CALL_FACTOR);
+        averageLatencyNanos = averageLatencyNanos == 0 ? latencyNanos
+                : averageLatencyNanos + AVERAGE_WEIGHT * (latencyNanos - averageLatencyNanos);
+        if (connectionFailure || threshold > 0 && latencyNanos > threshold) {
+            // Only the calls started after the last decrease reflect the current limit, so that a burst of slow
+            // calls decreases it once.
+            if (startNanos > lastDecreaseNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = now;
+            }
+        } else if (inFlight + 1 >= (int) limit / 2) {
+            // The limit is only increased while it is being used.
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    private static boolean isConnectionFailure(Object result) {
+        BError error = getError(result);
+        if (error == null) {
+            return false;
+        }
+        String sqlState = QueryUtils.getSqlState(error);
+        if (sqlState != null && sqlState.startsWith(CONNECTION_EXCEPTION_CLASS)) {
+            return true;
+        }
+        return error.getMessage().contains(POOL_TIMEOUT_MESSAGE);
+    }
+
+    // A query that fails returns a stream of the error.
+    private static BError getError(Object result) {
+        if (result instanceof BError) {
+            return (BError) result;
+        }
+        if (result instanceof BStream) {
+            Object rowIterator = ((BStream) result).getIteratorObj().getNativeData(
+                    Constants.NativeData.ROW_ITERATOR);
+            if (rowIterator instanceof ErrorRowIterator) {
+                return ((ErrorRowIterator) rowIterator).getError();
+            }
+        }
+        return null;
+    }
+
+    private static BError createCircuitOpenError() {
+        return ErrorGenerator.getSQLApplicationError("The remote call is rejected as the circuit is open after "
+                + "repeated connection failures.");
+    }
+
+    private static BError createQueueTimeoutError() {
+        return ErrorGenerator.getSQLApplicationError("The remote call is rejected as it timed out waiting for the "
+                + "concurrency limit.");
+    }
+
+    private static final class Waiter {
+
+        private final Runnable call;
+        private final Consumer<BError> onRejected;
+        private final long enqueuedNanos;
+        private ScheduledFuture<?> timeout;
+
+        private Waiter(Runnable call, Consumer<BError> onRejected, long enqueuedNanos) {
+            this.call = call;
+            this.onRejected = onRejected;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        private void cancelTimeout() {
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.mapping;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractResultParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ColumnDefinition;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * A precompiled plan that maps the rows of result sets of one shape to records of one type. The record field keys
+ * and a reader for each column are resolved once, so mapping a row only calls the JDBC getters and creates the
+ * values.
+ * <p>
+ * The common column types that map directly to `string`, `int`, `float`, `boolean` and `decimal` fields are read
+ * with specialized readers. The other columns, and `NULL` values, are converted by the `sql` module in the same way
+ * as for the records it creates itself.
+ *
+ * @since 1.2.0
+ */
+public class RowMapper {
+
+    private final RecordType recordType;
+    private final BString[] fieldNames;
+    private final ColumnReader[] readers;
+
+    RowMapper(RecordType recordType, List<ColumnDefinition> columnDefinitions,
+              AbstractResultParameterProcessor resultParameterProcessor) {
+        this.recordType = recordType;
+        int columnCount = columnDefinitions.size();
+        this.fieldNames = new BString[columnCount];
+        this.readers = new ColumnReader[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            ColumnDefinition columnDefinition = columnDefinitions.get(i);
+            fieldNames[i] = StringUtils.fromString(columnDefinition.getBallerinaFieldName());
+            readers[i] = createReader(columnDefinition, resultParameterProcessor);
+        }
+    }
+
+    /**
+     * Maps the current row of the result set to a record.
+     *
+     * @param resultSet the result set positioned on the row
+     * @return the record
+     */
+    public BMap<BString, Object> map(ResultSet resultSet) throws SQLException, DataError {
+        return map(resultSet, ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName()));
+    }
+
+    /**
+     * Maps the current row of the result set to the fields of the given record, e.g. a record that is not created
+     * through the module of its type.
+     *
+     * @param resultSet the result set positioned on the row
+     * @param record    the record of the type of this row mapper
+     * @return the record
+     */
+    public BMap<BString, Object> map(ResultSet resultSet, BMap<BString, Object> record)
+            throws SQLException, DataError {
+        for (int i = 0; i < readers.length; i++) {
+            record.put(fieldNames[i], readers[i].read(resultSet, i + 1));
+        }
+        return record;
+    }
+
+    private static ColumnReader createReader(ColumnDefinition columnDefinition,
+                                             AbstractResultParameterProcessor resultParameterProcessor) {
+        ColumnReader fallback = (resultSet, columnIndex) -> Utils.getResult(resultSet, columnIndex,
+                columnDefinition, resultParameterProcessor);
+        Type fieldType = getNonNilType(columnDefinition.getBallerinaType());
+        if (fieldType == null) {
+            return fallback;
+        }
+        switch (columnDefinition.getSqlType()) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                if (fieldType.getTag() != TypeTags.STRING_TAG) {
+                    return fallback;
+                }
+                return (resultSet, columnIndex) -> {
+                    String value = resultSet.getString(columnIndex);
+                    return value == null ? fallback.read(resultSet, columnIndex) : StringUtils.fromString(value);
+                };
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                if (fieldType.getTag() != TypeTags.INT_TAG) {
+                    return fallback;
+                }
+                return (resultSet, columnIndex) -> {
+                    long value = resultSet.getLong(columnIndex);
+                    return resultSet.wasNull() ? fallback.read(resultSet, columnIndex) : value;
+                };
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                if (fieldType.getTag() != TypeTags.FLOAT_TAG) {
+                    return fallback;
+                }
+                return (resultSet, columnIndex) -> {
+                    double value = resultSet.getDouble(columnIndex);
+                    return resultSet.wasNull() ? fallback.read(resultSet, columnIndex) : value;
+                };
+            case Types.BIT:
+            case Types.BOOLEAN:
+                if (fieldType.getTag() != TypeTags.BOOLEAN_TAG) {
+                    return fallback;
+                }
+                return (resultSet, columnIndex) -> {
+                    boolean value = resultSet.getBoolean(columnIndex);
+                    return resultSet.wasNull() ? fallback.read(resultSet, columnIndex) : value;
+                };
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                if (fieldType.getTag() != TypeTags.DECIMAL_TAG) {
+                    return fallback;
+                }
+                return (resultSet, columnIndex) -> {
+                    BigDecimal value = resultSet.getBigDecimal(columnIndex);
+                    return value == null ? fallback.read(resultSet, columnIndex)
+                            : ValueCreator.createDecimalValue(value);
+                };
+            default:
+                return fallback;
+        }
+    }
+
+    // Returns `T` for a field of type `T` or `T?`, or `null` if the field type is not of that form.
+    private static Type getNonNilType(Type type) {
+        if (type == null) {
+            return null;
+        }
+        Type referredType = TypeUtils.getReferredType(type);
+        if (referredType.getTag() != TypeTags.UNION_TAG) {
+            return referredType;
+        }
+        List<Type> memberTypes = ((UnionType) referredType).getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return null;
+        }
+        Type first = TypeUtils.getReferredType(memberTypes.get(0));
+        Type second = TypeUtils.getReferredType(memberTypes.get(1));
+        if (first.getTag() == TypeTags.NULL_TAG) {
+            return second;
+        }
+        return second.getTag() == TypeTags.NULL_TAG ? first : null;
+    }
+
+    @FunctionalInterface
+    private interface ColumnReader {
+        Object read(ResultSet resultSet, int columnIndex) throws SQLException, DataError;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.mapping;
+
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractResultParameterProcessor;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An LRU cache of the {@link RowMapper}s keyed by the shape of the result set (the label, type and nullability of
+ * each column) and the record type, so that the columns are matched to the record fields only once per query shape.
+ *
+ * @since 1.2.0
+ */
+public final class RowMapperCache {
+
+    private static final int MAX_ENTRIES = 512;
+    private static final Map<PlanKey, RowMapper> ROW_MAPPERS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PlanKey, RowMapper> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private RowMapperCache() {
+    }
+
+    /**
+     * Returns the row mapper of the result set and the record type, creating it if it is not cached.
+     *
+     * @throws ApplicationError if the columns of the result set cannot be mapped to the record type
+     */
+    public static RowMapper get(ResultSet resultSet, RecordType recordType,
+                                AbstractResultParameterProcessor resultParameterProcessor)
+            throws SQLException, ApplicationError {
+        PlanKey key = new PlanKey(getSignature(resultSet.getMetaData()), recordType, resultParameterProcessor);
+        RowMapper rowMapper;
+        synchronized (ROW_MAPPERS) {
+            rowMapper = ROW_MAPPERS.get(key);
+        }
+        if (rowMapper != null) {
+            return rowMapper;
+        }
+        rowMapper = new RowMapper(recordType, Utils.getColumnDefinitions(resultSet, recordType),
+                resultParameterProcessor);
+        synchronized (ROW_MAPPERS) {
+            ROW_MAPPERS.put(key, rowMapper);
+        }
+        return rowMapper;
+    }
+
+    /**
+     * Returns the shape of the result set, i.e. the label, type and nullability of each column.
+     *
+     * @param metaData the metadata of the result set
+     * @return the signature of the columns
+     */
+    public static String getSignature(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        StringBuilder signature = new StringBuilder(columnCount * 16);
+        for (int i = 1; i <= columnCount; i++) {
+            signature.append(metaData.getColumnLabel(i)).append('\u0000')
+                    .append(metaData.getColumnType(i)).append('\u0000')
+                    .append(metaData.getColumnTypeName(i)).append('\u0000')
+                    .append(metaData.isNullable(i)).append('\u0001');
+        }
+        return signature.toString();
+    }
+
+    private static final class PlanKey {
+
+        private final String signature;
+        private final RecordType recordType;
+        private final AbstractResultParameterProcessor resultParameterProcessor;
+        private final int hashCode;
+
+        private PlanKey(String signature, RecordType recordType,
+                        AbstractResultParameterProcessor resultParameterProcessor) {
+            this.signature = signature;
+            this.recordType = recordType;
+            this.resultParameterProcessor = resultParameterProcessor;
+            this.hashCode = Objects.hash(signature, System.identityHashCode(recordType),
+                    System.identityHashCode(resultParameterProcessor));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey that = (PlanKey) o;
+            return recordType == that.recordType && resultParameterProcessor == that.resultParameterProcessor
+                    && signature.equals(that.signature);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
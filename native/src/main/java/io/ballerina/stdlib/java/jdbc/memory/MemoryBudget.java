@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.memory;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A budget of the approximate heap used by the rows that the connector holds for the open results. The results
+ * reserve the bytes of their rows from the budget of their client and from the global budget, and release them once
+ * the rows are handed over to the consumer or the results are closed. The peak usage is kept for reporting, along
+ * with the bytes of all the rows materialized for the results of a client.
+ * <p>
+ * The maximum of the global budget is the smallest one configured by the open clients, and is recomputed when a
+ * client is closed.
+ *
+ * @since 1.2.0
+ */
+public class MemoryBudget {
+
+    /**
+     * The budget shared by the results of all the clients configured with a `memoryBudget`.
+     */
+    public static final MemoryBudget GLOBAL = new MemoryBudget(0);
+
+    // The maxima of the global budget configured by the open clients, with the number of clients configuring each.
+    private final TreeMap<Long, Integer> configuredMaxima = new TreeMap<>();
+    private long maxBytes;
+    private long globalMaxBytes = 0;
+    private boolean closed = false;
+    private long usedBytes = 0;
+    private long peakBytes = 0;
+    private long largestResultBytes = 0;
+    private long materializedBytes = 0;
+    private long largestMaterializedBytes = 0;
+    private long rejected = 0;
+
+    /**
+     * Creates a budget.
+     *
+     * @param maxBytes the maximum number of bytes reserved at a time, or `0` if the bytes are only accounted
+     */
+    public MemoryBudget(long maxBytes) {
+        this.maxBytes = Math.max(maxBytes, 0);
+    }
+
+    /**
+     * Returns the budget of the client, or `null` if the memory of its results is not budgeted.
+     */
+    public static MemoryBudget of(BObject client) {
+        return (MemoryBudget) client.getNativeData(Constants.NativeData.MEMORY_BUDGET);
+    }
+
+    /**
+     * Creates the budget of a client, of which the maximum of the global budget applies until the client is closed.
+     *
+     * @param maxClientBytes the maximum number of bytes reserved by the results of the client, or `0`
+     * @param maxGlobalBytes the maximum of the global budget configured by the client, or `0`
+     * @return the budget of the client
+     */
+    public static MemoryBudget register(long maxClientBytes, long maxGlobalBytes) {
+        MemoryBudget budget = new MemoryBudget(maxClientBytes);
+        if (maxGlobalBytes > 0) {
+            budget.globalMaxBytes = maxGlobalBytes;
+            GLOBAL.addMaximum(maxGlobalBytes);
+        }
+        return budget;
+    }
+
+    /**
+     * Removes the maximum of the global budget configured by the client, so that the smallest maximum of the other
+     * open clients applies. The results that are still open release their bytes as usual.
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        if (globalMaxBytes > 0) {
+            GLOBAL.removeMaximum(globalMaxBytes);
+        }
+    }
+
+    private synchronized void addMaximum(long bytes) {
+        configuredMaxima.merge(bytes, 1, Integer::sum);
+        maxBytes = configuredMaxima.firstKey();
+    }
+
+    private synchronized void removeMaximum(long bytes) {
+        configuredMaxima.computeIfPresent(bytes, (configuredBytes, clients) -> clients == 1 ? null : clients - 1);
+        maxBytes = configuredMaxima.isEmpty() ? 0 : configuredMaxima.firstKey();
+    }
+
+    /**
+     * Reserves the bytes if they fit within the budget.
+     *
+     * @return whether the bytes are reserved
+     */
+    synchronized boolean reserve(long bytes) {
+        if (maxBytes > 0 && usedBytes + bytes > maxBytes) {
+            return false;
+        }
+        usedBytes += bytes;
+        peakBytes = Math.max(peakBytes, usedBytes);
+        return true;
+    }
+
+    synchronized void release(long bytes) {
+        usedBytes -= bytes;
+    }
+
+    synchronized void recordResult(long bytes) {
+        largestResultBytes = Math.max(largestResultBytes, bytes);
+    }
+
+    /**
+     * Counts the bytes of a row materialized for a result of the client.
+     *
+     * @param bytes       the bytes of the row
+     * @param resultBytes the bytes materialized for the result so far
+     */
+    synchronized void recordMaterialized(long bytes, long resultBytes) {
+        materializedBytes += bytes;
+        largestMaterializedBytes = Math.max(largestMaterializedBytes, resultBytes);
+    }
+
+    synchronized void countRejected() {
+        rejected++;
+    }
+
+    public synchronized long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public synchronized long getPeakBytes() {
+        return peakBytes;
+    }
+
+    /**
+     * Returns the usage of this budget of a client and of the global budget as the fields of the `MemoryUsage`
+     * record.
+     */
+    public Map<String, Object> getUsage() {
+        Map<String, Object> usage = new HashMap<>();
+        synchronized (this) {
+            usage.put(Constants.MemoryUsage.CLIENT_BYTES, usedBytes);
+            usage.put(Constants.MemoryUsage.PEAK_CLIENT_BYTES, peakBytes);
+            usage.put(Constants.MemoryUsage.MAX_CLIENT_BYTES, maxBytes);
+            usage.put(Constants.MemoryUsage.LARGEST_RESULT_BYTES, largestResultBytes);
+            usage.put(Constants.MemoryUsage.MATERIALIZED_BYTES, materializedBytes);
+            usage.put(Constants.MemoryUsage.LARGEST_MATERIALIZED_BYTES, largestMaterializedBytes);
+            usage.put(Constants.MemoryUsage.REJECTED, rejected);
+        }
+        usage.put(Constants.MemoryUsage.GLOBAL_BYTES, GLOBAL.getUsedBytes());
+        usage.put(Constants.MemoryUsage.PEAK_GLOBAL_BYTES, GLOBAL.getPeakBytes());
+        usage.put(Constants.MemoryUsage.MAX_GLOBAL_BYTES, GLOBAL.getMaxBytes());
+        return usage;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.memory;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.cache.ValueSizeEstimator;
+import io.ballerina.stdlib.java.jdbc.utils.ExecutionOptions;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+/**
+ * Accounts the approximate heap used by the rows of a single result, i.e. a stream, a `queryRow` value or the result
+ * sets of a `call` or `callStreaming` call. Each row is counted once as it is materialized, i.e. mapped to a record,
+ * and the bytes materialized for the result so far are limited by the `maxResultBytes` of the call, however many of
+ * its rows the consumer keeps.
+ * <p>
+ * Apart from that, a row is held while it is buffered ahead of the consumer, such as by the read-ahead or the
+ * partitions of a stream, or recorded to be cached, and is released once it is handed over to the consumer. The bytes
+ * of the rows held are reserved from the {@link MemoryBudget} of the client and the global budget, which a row handed
+ * over as soon as it is materialized only needs to fit. The bytes still held are released when the result is closed.
+ *
+ * @since 1.2.0
+ */
+public class ResultMemory {
+
+    /**
+     * The accounting of a result of which the memory is neither limited nor budgeted.
+     */
+    public static final ResultMemory NONE = new ResultMemory(0, null);
+
+    private final long maxBytes;
+    private final MemoryBudget budget;
+    private long bytes = 0;
+    private long peakBytes = 0;
+    private long materializedBytes = 0;
+    private long rows = 0;
+    private boolean released = false;
+
+    private ResultMemory(long maxBytes, MemoryBudget budget) {
+        this.maxBytes = maxBytes;
+        this.budget = budget;
+    }
+
+    /**
+     * Starts the accounting of a result of a call of the client.
+     *
+     * @param client           the client object
+     * @param executionOptions the options of the call, which limit the bytes of the result
+     * @return the accounting of the result
+     */
+    public static ResultMemory start(BObject client, ExecutionOptions executionOptions) {
+        MemoryBudget budget = MemoryBudget.of(client);
+        long maxBytes = executionOptions.getMaxResultBytes();
+        return budget == null && maxBytes == 0 ? NONE : new ResultMemory(maxBytes, budget);
+    }
+
+    /**
+     * Accounts a row, already materialized through {@link #check}, that the connector holds until it is handed over
+     * through {@link #remove}.
+     *
+     * @param value the row
+     * @return an error if the rows held exceed a budget, or else `null`
+     */
+    public BError add(Object value) {
+        if (this == NONE) {
+            return null;
+        }
+        String rejection = reserve(ValueSizeEstimator.estimate(value));
+        return rejection == null ? null : reject(rejection);
+    }
+
+    /**
+     * Releases a row accounted through {@link #add} as it is handed over to the consumer.
+     *
+     * @param value the row
+     */
+    public void remove(Object value) {
+        if (this == NONE) {
+            return;
+        }
+        free(ValueSizeEstimator.estimate(value));
+    }
+
+    /**
+     * Counts a row or a value as it is materialized, and checks that the bytes materialized for the result and the
+     * value itself fit within the budgets. This is called once for each row of the result.
+     *
+     * @param value the row or the value
+     * @return an error if the value exceeds a budget, or else `null`
+     */
+    public BError check(Object value) {
+        if (this == NONE) {
+            return null;
+        }
+        long valueBytes = ValueSizeEstimator.estimate(value);
+        String rejection;
+        synchronized (this) {
+            rejection = materialize(valueBytes);
+            if (rejection == null && budget != null) {
+                rejection = reserve(valueBytes);
+                if (rejection == null) {
+                    free(valueBytes);
+                }
+            }
+        }
+        return rejection == null ? null : reject(rejection);
+    }
+
+    /**
+     * Reserves the bytes of rows that the connector may drop instead of failing the result, such as the rows
+     * recorded to be cached.
+     *
+     * @param valueBytes the bytes of the rows
+     * @return whether the bytes are reserved
+     */
+    public boolean tryReserve(long valueBytes) {
+        return this == NONE || reserve(valueBytes) == null;
+    }
+
+    /**
+     * Releases the bytes reserved through {@link #tryReserve}.
+     *
+     * @param valueBytes the bytes of the rows
+     */
+    public void free(long valueBytes) {
+        if (this == NONE) {
+            return;
+        }
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            bytes -= valueBytes;
+            if (budget != null) {
+                budget.release(valueBytes);
+                MemoryBudget.GLOBAL.release(valueBytes);
+            }
+        }
+    }
+
+    /**
+     * Releases the bytes of the rows still held for the result. The result is not accounted further.
+     */
+    public void release() {
+        if (this == NONE) {
+            return;
+        }
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (budget != null) {
+                budget.release(bytes);
+                MemoryBudget.GLOBAL.release(bytes);
+                budget.recordResult(peakBytes);
+            }
+            bytes = 0;
+        }
+    }
+
+    // Counts the bytes of a row towards the result and the client, or returns the reason they exceed the limit of
+    // the result.
+    private synchronized String materialize(long valueBytes) {
+        if (released) {
+            return null;
+        }
+        if (maxBytes > 0 && materializedBytes + valueBytes > maxBytes) {
+            return String.format("The result exceeded its limit of %d bytes after %d rows. Select fewer rows or "
+                    + "columns, or raise the `maxResultBytes` option of the call.", maxBytes, rows);
+        }
+        materializedBytes += valueBytes;
+        rows++;
+        if (budget != null) {
+            budget.recordMaterialized(valueBytes, materializedBytes);
+        }
+        return null;
+    }
+
+    // Returns the reason the bytes do not fit within a budget, or else `null` once they are reserved.
+    private synchronized String reserve(long valueBytes) {
+        if (released || budget == null) {
+            return null;
+        }
+        if (!budget.reserve(valueBytes)) {
+            return String.format("The result is stopped after %d rows as the open results of the client exceed its "
+                    + "memory budget of %d bytes. Close the streams that are no longer used, or raise the "
+                    + "`maxClientBytes` option.", rows, budget.getMaxBytes());
+        }
+        if (!MemoryBudget.GLOBAL.reserve(valueBytes)) {
+            budget.release(valueBytes);
+            return String.format("The result is stopped after %d rows as the open results of all the clients exceed "
+                    + "the global memory budget of %d bytes. Close the streams that are no longer used, or raise the "
+                    + "`maxGlobalBytes` option.", rows, MemoryBudget.GLOBAL.getMaxBytes());
+        }
+        bytes += valueBytes;
+        peakBytes = Math.max(peakBytes, bytes);
+        return null;
+    }
+
+    private BError reject(String rejection) {
+        if (budget != null) {
+            budget.countRejected();
+        }
+        return ErrorGenerator.getSQLApplicationError(rejection);
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.metadata;
+
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.mapping.RowMapper;
+import io.ballerina.stdlib.java.jdbc.mapping.RowMapperCache;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractResultParameterProcessor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of the metadata of a datasource, which is shared by the clients using the datasource. Each entry expires
+ * after the configured TTL, and is optionally persisted in a local directory so that it survives a restart of the
+ * process.
+ * <p>
+ * The cache also holds the row mappers of the queries of the clients keyed by the SQL text and the record type, so
+ * that the columns of their result sets are not matched to the record fields again. A cached row mapper is used only
+ * while the result set has the same column labels and types, and otherwise expires with the metadata.
+ *
+ * @since 1.2.0
+ */
+public class MetadataCache {
+
+    private static final int MAX_ROW_MAPPERS = 512;
+
+    private final long ttlMillis;
+    private final MetadataStore store;
+    private final boolean cacheResultColumns;
+    private final Map<MetadataKey, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<ResultColumnsKey, ResultColumns> rowMappers = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ResultColumnsKey, ResultColumns> eldest) {
+            return size() > MAX_ROW_MAPPERS;
+        }
+    };
+
+    /**
+     * Creates the metadata cache of a datasource.
+     *
+     * @param ttlMillis          the time for which the metadata is cached
+     * @param directory          the directory in which the metadata is persisted, or `null` if it is not persisted
+     * @param datasourceKey      the key of the datasource in the datasource registry
+     * @param cacheResultColumns whether the row mappers of the queries are cached
+     */
+    public MetadataCache(long ttlMillis, Path directory, String datasourceKey, boolean cacheResultColumns) {
+        this.ttlMillis = ttlMillis;
+        this.store = directory == null ? null : new MetadataStore(directory, MetadataStore.digest(datasourceKey));
+        this.cacheResultColumns = cacheResultColumns;
+    }
+
+    public static MetadataCache of(BObject client) {
+        return (MetadataCache) client.getNativeData(Constants.NativeData.METADATA_CACHE);
+    }
+
+    /**
+     * Returns the metadata of the key from the cache, from the persisted metadata, or else from the loader.
+     *
+     * @param key    the key of the metadata
+     * @param loader the loader reading the metadata from the data source
+     * @return the rows of the metadata
+     * @throws SQLException if the metadata cannot be read from the data source
+     */
+    public List<Object[]> get(MetadataKey key, Loader loader) throws SQLException {
+        Entry entry = entries.get(key);
+        if (entry != null && !isExpired(entry.loadedAtMillis)) {
+            return entry.rows;
+        }
+        if (store != null) {
+            entry = store.read(key);
+            if (entry != null && !isExpired(entry.loadedAtMillis)) {
+                entries.put(key, entry);
+                return entry.rows;
+            }
+        }
+        entry = new Entry(loader.load(), System.currentTimeMillis());
+        entries.put(key, entry);
+        if (store != null) {
+            try {
+                store.write(key, entry);
+            } catch (IOException e) {
+                // The metadata is still cached in memory, and is read from the data source again after a restart.
+            }
+        }
+        return entry.rows;
+    }
+
+    /**
+     * Removes the cached and persisted metadata that may include the objects of the connection, so that it is read
+     * from the data source again. The cached row mappers are removed as well.
+     *
+     * @param connection the connection, or `null` to remove all the metadata
+     * @throws IOException if the persisted metadata cannot be deleted
+     */
+    public void invalidate(String connection) throws IOException {
+        entries.keySet().removeIf(key -> key.covers(connection));
+        synchronized (rowMappers) {
+            rowMappers.clear();
+        }
+        if (store != null) {
+            store.delete(connection);
+        }
+    }
+
+    /**
+     * Returns the row mapper of the result set of the query, reusing the row mapper of an earlier result set of the
+     * same SQL text if it is cached.
+     *
+     * @throws ApplicationError if the columns of the result set cannot be mapped to the record type
+     */
+    public RowMapper getRowMapper(String sqlQuery, ResultSet resultSet, RecordType recordType,
+                                  AbstractResultParameterProcessor resultParameterProcessor)
+            throws SQLException, ApplicationError {
+        if (!cacheResultColumns) {
+            return RowMapperCache.get(resultSet, recordType, resultParameterProcessor);
+        }
+        ResultColumnsKey key = new ResultColumnsKey(sqlQuery, recordType, resultParameterProcessor);
+        String signature = RowMapperCache.getSignature(resultSet.getMetaData());
+        ResultColumns resultColumns;
+        synchronized (rowMappers) {
+            resultColumns = rowMappers.get(key);
+        }
+        if (resultColumns != null && !isExpired(resultColumns.loadedAtMillis)
+                && resultColumns.signature.equals(signature)) {
+            return resultColumns.rowMapper;
+        }
+        RowMapper rowMapper = RowMapperCache.get(resultSet, recordType, resultParameterProcessor);
+        synchronized (rowMappers) {
+            rowMappers.put(key, new ResultColumns(rowMapper, signature, System.currentTimeMillis()));
+        }
+        return rowMapper;
+    }
+
+    private boolean isExpired(long loadedAtMillis) {
+        return System.currentTimeMillis() - loadedAtMillis >= ttlMillis;
+    }
+
+    /**
+     * Reads the metadata of a key from the data source.
+     */
+    public interface Loader {
+
+        List<Object[]> load() throws SQLException;
+    }
+
+    /**
+     * The metadata of a key and the time it was read from the data source.
+     */
+    static final class Entry {
+
+        private final List<Object[]> rows;
+        private final long loadedAtMillis;
+
+        Entry(List<Object[]> rows, long loadedAtMillis) {
+            this.rows = rows;
+            this.loadedAtMillis = loadedAtMillis;
+        }
+
+        List<Object[]> getRows() {
+            return rows;
+        }
+
+        long getLoadedAtMillis() {
+            return loadedAtMillis;
+        }
+    }
+
+    private static final class ResultColumns {
+
+        private final RowMapper rowMapper;
+        private final String signature;
+        private final long loadedAtMillis;
+
+        private ResultColumns(RowMapper rowMapper, String signature, long loadedAtMillis) {
+            this.rowMapper = rowMapper;
+            this.signature = signature;
+            this.loadedAtMillis = loadedAtMillis;
+        }
+    }
+
+    private static final class ResultColumnsKey {
+
+        private final String sqlQuery;
+        private final RecordType recordType;
+        private final AbstractResultParameterProcessor resultParameterProcessor;
+        private final int hashCode;
+
+        private ResultColumnsKey(String sqlQuery, RecordType recordType,
+                                 AbstractResultParameterProcessor resultParameterProcessor) {
+            this.sqlQuery = sqlQuery;
+            this.recordType = recordType;
+            this.resultParameterProcessor = resultParameterProcessor;
+            this.hashCode = Objects.hash(sqlQuery, System.identityHashCode(recordType),
+                    System.identityHashCode(resultParameterProcessor));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResultColumnsKey)) {
+                return false;
+            }
+            ResultColumnsKey that = (ResultColumnsKey) o;
+            return recordType == that.recordType && resultParameterProcessor == that.resultParameterProcessor
+                    && sqlQuery.equals(that.sqlQuery);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
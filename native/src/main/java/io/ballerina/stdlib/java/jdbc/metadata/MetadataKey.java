@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.metadata;
+
+import java.util.Objects;
+
+/**
+ * Identifies the metadata read by one call, i.e. its kind and the connection, schema and table it is limited to.
+ *
+ * @since 1.2.0
+ */
+public final class MetadataKey {
+
+    private final MetadataKind kind;
+    private final String connection;
+    private final String schema;
+    private final String table;
+
+    public MetadataKey(MetadataKind kind, String connection, String schema, String table) {
+        this.kind = kind;
+        this.connection = connection;
+        this.schema = schema;
+        this.table = table;
+    }
+
+    public MetadataKind getKind() {
+        return kind;
+    }
+
+    public String getConnection() {
+        return connection;
+    }
+
+    public String getSchema() {
+        return schema;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Returns whether the metadata may include the objects of the given connection, which is the case when it is not
+     * limited to another connection.
+     */
+    boolean covers(String otherConnection) {
+        return otherConnection == null || connection == null || connection.equals(otherConnection);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MetadataKey)) {
+            return false;
+        }
+        MetadataKey that = (MetadataKey) o;
+        return kind == that.kind && Objects.equals(connection, that.connection)
+                && Objects.equals(schema, that.schema) && Objects.equals(table, that.table);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, connection, schema, table);
+    }
+
+    @Override
+    public String toString() {
+        return kind + "(" + connection + ", " + schema + ", " + table + ")";
+    }
+}
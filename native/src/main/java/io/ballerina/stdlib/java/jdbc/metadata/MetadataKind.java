@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.metadata;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.utils.ModuleUtils;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The kinds of metadata read from the `DatabaseMetaData` of the driver. CData Connect exposes each connection as a
+ * catalog, so the connections are listed as the catalogs and the other metadata is limited to a connection with its
+ * catalog.
+ * <p>
+ * The metadata of a call is held as a list of rows, each with a value for each field of the kind. The values are
+ * `String`, `Long` and `Boolean` objects, or `null`, so that they can be cached and persisted independent of the
+ * Ballerina runtime.
+ *
+ * @since 1.2.0
+ */
+public enum MetadataKind {
+
+    CONNECTIONS(null, null, null, new Field("name", "TABLE_CAT", FieldType.STRING)) {
+        @Override
+        ResultSet open(DatabaseMetaData metaData, MetadataKey key) throws SQLException {
+            return metaData.getCatalogs();
+        }
+    },
+    TABLES(Constants.Metadata.TABLE_METADATA, "TABLE_SCHEM", null,
+            new Field("connection", "TABLE_CAT", FieldType.STRING),
+            new Field("schema", "TABLE_SCHEM", FieldType.STRING),
+            new Field("name", "TABLE_NAME", FieldType.STRING),
+            new Field("type", "TABLE_TYPE", FieldType.STRING),
+            new Field("description", "REMARKS", FieldType.STRING)) {
+        @Override
+        ResultSet open(DatabaseMetaData metaData, MetadataKey key) throws SQLException {
+            return metaData.getTables(key.getConnection(), toPattern(metaData, key.getSchema()), "%", null);
+        }
+    },
+    COLUMNS(Constants.Metadata.COLUMN_METADATA, "TABLE_SCHEM", "TABLE_NAME",
+            new Field("name", "COLUMN_NAME", FieldType.STRING),
+            new Field("ordinal", "ORDINAL_POSITION", FieldType.INT),
+            new Field("typeName", "TYPE_NAME", FieldType.STRING),
+            new Field("sqlType", "DATA_TYPE", FieldType.INT),
+            new Field("size", "COLUMN_SIZE", FieldType.INT),
+            new Field("decimalDigits", "DECIMAL_DIGITS", FieldType.INT),
+            new Field("nullable", "NULLABLE", FieldType.NULLABILITY),
+            new Field("description", "REMARKS", FieldType.STRING)) {
+        @Override
+        ResultSet open(DatabaseMetaData metaData, MetadataKey key) throws SQLException {
+            return metaData.getColumns(key.getConnection(), toPattern(metaData, key.getSchema()),
+                    toPattern(metaData, key.getTable()), "%");
+        }
+    },
+    PROCEDURES(Constants.Metadata.PROCEDURE_METADATA, "PROCEDURE_SCHEM", null,
+            new Field("connection", "PROCEDURE_CAT", FieldType.STRING),
+            new Field("schema", "PROCEDURE_SCHEM", FieldType.STRING),
+            new Field("name", "PROCEDURE_NAME", FieldType.STRING),
+            new Field("description", "REMARKS", FieldType.STRING)) {
+        @Override
+        ResultSet open(DatabaseMetaData metaData, MetadataKey key) throws SQLException {
+            return metaData.getProcedures(key.getConnection(), toPattern(metaData, key.getSchema()), "%");
+        }
+    };
+
+    private final String recordName;
+    private final String schemaColumn;
+    private final String tableColumn;
+    private final Field[] fields;
+
+    MetadataKind(String recordName, String schemaColumn, String tableColumn, Field... fields) {
+        this.recordName = recordName;
+        this.schemaColumn = schemaColumn;
+        this.tableColumn = tableColumn;
+        this.fields = fields;
+    }
+
+    abstract ResultSet open(DatabaseMetaData metaData, MetadataKey key) throws SQLException;
+
+    Field[] getFields() {
+        return fields;
+    }
+
+    /**
+     * Reads the metadata of the key. The schema and table names are passed to the driver as search patterns, hence
+     * the rows are also matched to the names exactly.
+     *
+     * @param metaData the metadata of the connection
+     * @param key      the key of the metadata
+     * @return the rows of the metadata
+     * @throws SQLException if the metadata cannot be read
+     */
+    public List<Object[]> read(DatabaseMetaData metaData, MetadataKey key) throws SQLException {
+        List<Object[]> rows = new ArrayList<>();
+        try (ResultSet resultSet = open(metaData, key)) {
+            while (resultSet.next()) {
+                if (!matches(resultSet, schemaColumn, key.getSchema())
+                        || !matches(resultSet, tableColumn, key.getTable())) {
+                    continue;
+                }
+                Object[] row = new Object[fields.length];
+                for (int i = 0; i < fields.length; i++) {
+                    row[i] = fields[i].type.read(resultSet, fields[i].column);
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Creates the Ballerina value of the rows, which is a `string[]` of the connection names or an array of the
+     * metadata records of the kind.
+     *
+     * @param rows the rows of the metadata
+     * @return the Ballerina array
+     */
+    public BArray toBallerina(List<Object[]> rows) {
+        if (recordName == null) {
+            BString[] names = new BString[rows.size()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = StringUtils.fromString((String) rows.get(i)[0]);
+            }
+            return ValueCreator.createArrayValue(names);
+        }
+        Object[] records = new Object[rows.size()];
+        for (int i = 0; i < records.length; i++) {
+            Object[] row = rows.get(i);
+            Map<String, Object> values = new HashMap<>();
+            for (int j = 0; j < fields.length; j++) {
+                Object value = row[j];
+                values.put(fields[j].name, value instanceof String ? StringUtils.fromString((String) value) : value);
+            }
+            records[i] = ValueCreator.createRecordValue(ModuleUtils.getModule(), recordName, values);
+        }
+        Type recordType = ValueCreator.createRecordValue(ModuleUtils.getModule(), recordName).getType();
+        return ValueCreator.createArrayValue(records, TypeCreator.createArrayType(recordType));
+    }
+
+    private static boolean matches(ResultSet resultSet, String column, String name) throws SQLException {
+        return column == null || name == null || name.equals(resultSet.getString(column));
+    }
+
+    // Escapes the wildcards of a name, as the drivers take the schema and table names as search patterns.
+    private static String toPattern(DatabaseMetaData metaData, String name) throws SQLException {
+        if (name == null) {
+            return null;
+        }
+        String escape = metaData.getSearchStringEscape();
+        if (escape == null || escape.isEmpty()) {
+            return name;
+        }
+        return name.replace(escape, escape + escape).replace("_", escape + "_").replace("%", escape + "%");
+    }
+
+    /**
+     * A field of the metadata records and the column of the `DatabaseMetaData` result set it is read from.
+     */
+    static final class Field {
+
+        private final String name;
+        private final String column;
+        private final FieldType type;
+
+        private Field(String name, String column, FieldType type) {
+            this.name = name;
+            this.column = column;
+            this.type = type;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        FieldType getType() {
+            return type;
+        }
+    }
+
+    /**
+     * The types of the field values, which are read from the metadata result sets and parsed from the persisted
+     * metadata.
+     */
+    enum FieldType {
+
+        STRING {
+            @Override
+            Object read(ResultSet resultSet, String column) throws SQLException {
+                return resultSet.getString(column);
+            }
+
+            @Override
+            Object parse(String value) {
+                return value;
+            }
+        },
+        INT {
+            @Override
+            Object read(ResultSet resultSet, String column) throws SQLException {
+                long value = resultSet.getLong(column);
+                return resultSet.wasNull() ? null : value;
+            }
+
+            @Override
+            Object parse(String value) {
+                return Long.parseLong(value);
+            }
+        },
+        // The nullability of a column is `true` or `false`, or `null` if the driver does not know it.
+        NULLABILITY {
+            @Override
+            Object read(ResultSet resultSet, String column) throws SQLException {
+                int value = resultSet.getInt(column);
+                if (value == DatabaseMetaData.columnNullable) {
+                    return Boolean.TRUE;
+                }
+                return value == DatabaseMetaData.columnNoNulls ? Boolean.FALSE : null;
+            }
+
+            @Override
+            Object parse(String value) {
+                return Boolean.parseBoolean(value);
+            }
+        };
+
+        abstract Object read(ResultSet resultSet, String column) throws SQLException;
+
+        abstract Object parse(String value);
+    }
+}
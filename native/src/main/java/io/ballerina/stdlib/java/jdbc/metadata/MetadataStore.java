@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.metadata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Persists the cached metadata of a datasource in a local directory, so that a restarted process reads it from the
+ * disk instead of the data source.
+ * <p>
+ * The metadata of each key is a properties file in a subdirectory of its connection, named after digests of the
+ * connection and the key, so that the metadata of a connection can be deleted together. The files are written to a
+ * temporary file and then moved in place, so that a crash leaves either the previous or the new file. A file that
+ * cannot be read is treated as missing.
+ *
+ * @since 1.2.0
+ */
+class MetadataStore {
+
+    private static final String NO_CONNECTION = "_";
+    private static final String FILE_SUFFIX = ".properties";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String KIND = "kind";
+    private static final String CONNECTION = "connection";
+    private static final String SCHEMA = "schema";
+    private static final String TABLE = "table";
+    private static final String LOADED_AT = "loadedAt";
+    private static final String ROWS = "rows";
+
+    private final Path directory;
+
+    /**
+     * Creates the store of a datasource.
+     *
+     * @param baseDirectory the directory configured for the client
+     * @param fingerprint   the fingerprint of the datasource, which names its directory
+     */
+    MetadataStore(Path baseDirectory, String fingerprint) {
+        this.directory = baseDirectory.toAbsolutePath().resolve(fingerprint);
+    }
+
+    /**
+     * Reads the persisted metadata of the key.
+     *
+     * @return the metadata, or `null` if it is not persisted or cannot be read
+     */
+    MetadataCache.Entry read(MetadataKey key) {
+        Path path = getPath(key);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            properties.load(inputStream);
+            if (!key.getKind().name().equals(properties.getProperty(KIND))
+                    || !Objects.equals(key.getConnection(), properties.getProperty(CONNECTION))
+                    || !Objects.equals(key.getSchema(), properties.getProperty(SCHEMA))
+                    || !Objects.equals(key.getTable(), properties.getProperty(TABLE))) {
+                return null;
+            }
+            MetadataKind.Field[] fields = key.getKind().getFields();
+            int rowCount = Integer.parseInt(properties.getProperty(ROWS));
+            List<Object[]> rows = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                Object[] row = new Object[fields.length];
+                for (int j = 0; j < fields.length; j++) {
+                    String value = properties.getProperty(i + "." + fields[j].getName());
+                    row[j] = value == null ? null : fields[j].getType().parse(value);
+                }
+                rows.add(row);
+            }
+            return new MetadataCache.Entry(rows, Long.parseLong(properties.getProperty(LOADED_AT)));
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the persisted metadata of the key.
+     *
+     * @throws IOException if the metadata cannot be written
+     */
+    void write(MetadataKey key, MetadataCache.Entry entry) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(KIND, key.getKind().name());
+        setIfPresent(properties, CONNECTION, key.getConnection());
+        setIfPresent(properties, SCHEMA, key.getSchema());
+        setIfPresent(properties, TABLE, key.getTable());
+        properties.setProperty(LOADED_AT, String.valueOf(entry.getLoadedAtMillis()));
+        List<Object[]> rows = entry.getRows();
+        properties.setProperty(ROWS, String.valueOf(rows.size()));
+        MetadataKind.Field[] fields = key.getKind().getFields();
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            for (int j = 0; j < fields.length; j++) {
+                if (row[j] != null) {
+                    properties.setProperty(i + "." + fields[j].getName(), row[j].toString());
+                }
+            }
+        }
+        Path path = getPath(key);
+        Files.createDirectories(path.getParent());
+        Path tempPath = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream outputStream = Channels.newOutputStream(channel);
+            properties.store(outputStream, null);
+            outputStream.flush();
+            channel.force(true);
+        }
+        try {
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes the persisted metadata that may include the objects of the connection, i.e. the metadata of the
+     * connection and the metadata not limited to a connection.
+     *
+     * @param connection the connection, or `null` to delete all the persisted metadata
+     * @throws IOException if the metadata cannot be deleted
+     */
+    void delete(String connection) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        if (connection == null) {
+            try (DirectoryStream<Path> connectionDirectories = Files.newDirectoryStream(directory)) {
+                for (Path connectionDirectory : connectionDirectories) {
+                    deleteFiles(connectionDirectory);
+                }
+            }
+            return;
+        }
+        deleteFiles(directory.resolve(NO_CONNECTION));
+        deleteFiles(directory.resolve(digest(connection)));
+    }
+
+    private Path getPath(MetadataKey key) {
+        String connectionDirectory = key.getConnection() == null ? NO_CONNECTION : digest(key.getConnection());
+        return directory.resolve(connectionDirectory).resolve(digest(key.toString()) + FILE_SUFFIX);
+    }
+
+    private static void deleteFiles(Path connectionDirectory) throws IOException {
+        if (!Files.isDirectory(connectionDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(connectionDirectory)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static void setIfPresent(Properties properties, String name, String value) {
+        if (value != null) {
+            properties.setProperty(name, value);
+        }
+    }
+
+    static String digest(String value) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(messageDigest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available in every Java platform.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.metrics;
+
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.limiter.AdaptiveLimiter;
+import io.ballerina.stdlib.java.jdbc.memory.MemoryBudget;
+import io.ballerina.stdlib.java.jdbc.scheduling.PriorityClass;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The metrics of a client. The latency of each remote call is split into the time spent waiting for a pooled
+ * connection, the time spent in the driver and the time spent mapping the rows to Ballerina values.
+ * <p>
+ * The values are always kept in lock-free counters exposed through JMX, and are also published through Ballerina
+ * observability when metrics are enabled for the program. The connection pool gauges are read from the MBean of the
+ * pool, which is registered under the name of the client.
+ *
+ * @since 1.2.0
+ */
+public class ClientMetrics implements ClientMetricsMXBean {
+
+    private static final String METRIC_PREFIX = "cdata_connect_";
+    private static final String CLIENT_TAG = "client";
+    private static final String OPERATION_TAG = "operation";
+    private static final String ERROR_TYPE_TAG = "error_type";
+    private static final String SQL_STATE_TAG = "sql_state";
+    private static final String PRIORITY_CLASS_TAG = "priority_class";
+    private static final String NO_SQL_STATE = "none";
+    private static final String MBEAN_DOMAIN = "io.ballerina.stdlib.cdata.connect";
+    private static final String POOL_MBEAN_NAME = "com.zaxxer.hikari:type=Pool (%s)";
+    private static final AtomicInteger CLIENT_COUNT = new AtomicInteger();
+
+    private final String clientName;
+    private final MetricRegistry registry;
+    private final Map<Operation, OperationMetrics> operations = new EnumMap<>(Operation.class);
+    private final LongAdder rowsRead = new LongAdder();
+    private final LongAdder dataBytesRead = new LongAdder();
+    private final Counter rowsCounter;
+    private final Counter dataBytesCounter;
+    private final Map<String, ErrorMetrics> errors = new ConcurrentHashMap<>();
+    private final Map<PriorityClass, StageMetrics> schedulerWaits = new EnumMap<>(PriorityClass.class);
+    private ObjectName objectName;
+    private volatile AdaptiveLimiter limiter;
+    private volatile MemoryBudget memoryBudget;
+
+    public ClientMetrics(String clientName) {
+        this.clientName = clientName;
+        this.registry = ObserveUtils.isMetricsEnabled() ? DefaultMetricRegistry.getInstance() : null;
+        for (Operation operation : Operation.values()) {
+            operations.put(operation, new OperationMetrics(operation));
+        }
+        rowsCounter = counter("rows_read_total", "Number of rows read from the result sets", tags());
+        dataBytesCounter = counter("data_bytes_read_total",
+                "Approximate number of bytes of string and binary data read from the result sets", tags());
+        for (PriorityClass priorityClass : PriorityClass.values()) {
+            schedulerWaits.put(priorityClass, new StageMetrics(timer("scheduler_wait_time_seconds",
+                    "Time spent waiting for the admission into the connection pool shared with other tenants",
+                    tags(PRIORITY_CLASS_TAG, priorityClass.name()))));
+        }
+        if (registry != null) {
+            registry.polledGauge(new MetricId(METRIC_PREFIX + "pool_active_connections",
+                    "Number of connections in use", tags()), this, ClientMetrics::getActiveConnections);
+            registry.polledGauge(new MetricId(METRIC_PREFIX + "pool_idle_connections",
+                    "Number of idle connections", tags()), this, ClientMetrics::getIdleConnections);
+            registry.polledGauge(new MetricId(METRIC_PREFIX + "pool_waiting_threads",
+                    "Number of callers waiting for a connection", tags()), this,
+                    ClientMetrics::getThreadsAwaitingConnection);
+        }
+    }
+
+    /**
+     * Creates a name for a client that is unique within the program, which is also used as the name of its pool.
+     */
+    public static String createClientName() {
+        return "cdata-connect-" + CLIENT_COUNT.incrementAndGet();
+    }
+
+    /**
+     * Returns the metrics of the client, or `null` if metrics are not enabled for it.
+     */
+    public static ClientMetrics of(BObject client) {
+        return (ClientMetrics) client.getNativeData(Constants.NativeData.CLIENT_METRICS);
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    /**
+     * Publishes the state of the concurrency limiter of the client.
+     */
+    public void registerLimiter(AdaptiveLimiter limiter) {
+        this.limiter = limiter;
+        if (registry != null) {
+            registry.polledGauge(new MetricId(METRIC_PREFIX + "concurrency_limit",
+                    "Current limit of the concurrent remote calls", tags()), this,
+                    ClientMetrics::getConcurrencyLimit);
+            registry.polledGauge(new MetricId(METRIC_PREFIX + "concurrency_in_flight",
+                    "Number of remote calls executing", tags()), this, ClientMetrics::getInFlightCalls);
+            registry.polledGauge(new MetricId(METRIC_PREFIX + "concurrency_queued",
+                    "Number of remote calls waiting for the concurrency limit", tags()), this,
+                    ClientMetrics::getQueuedCalls);
+            registry.polledGauge(new MetricId(METRIC_PREFIX + "circuit_open",
+                    "Whether the circuit breaker rejects the remote calls", tags()), this,
+                    clientMetrics -> limiter.getCircuitState() == AdaptiveLimiter.CircuitState.CLOSED ? 0 : 1);
+        }
+    }
+
+    /**
+     * Publishes the memory used by the open results of the client.
+     */
+    public void registerMemoryBudget(MemoryBudget memoryBudget) {
+        this.memoryBudget = memoryBudget;
+        if (registry != null) {
+            registry.polledGauge(new MetricId(METRIC_PREFIX + "result_memory_bytes",
+                    "Approximate bytes of the rows held for the open results", tags()), this,
+                    ClientMetrics::getResultMemoryBytes);
+            registry.polledGauge(new MetricId(METRIC_PREFIX + "result_memory_peak_bytes",
+                    "Peak approximate bytes of the rows held for the open results", tags()), this,
+                    ClientMetrics::getPeakResultMemoryBytes);
+        }
+    }
+
+    public void registerMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(MBEAN_DOMAIN + ":type=Client,name=" + ObjectName.quote(clientName));
+        server.registerMBean(this, name);
+        objectName = name;
+    }
+
+    public void close() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            // The MBean is already unregistered.
+        }
+        objectName = null;
+    }
+
+    public static void countInvocation(BObject client, Operation operation) {
+        ClientMetrics metrics = of(client);
+        if (metrics != null) {
+            metrics.countInvocation(operation);
+        }
+    }
+
+    public void countInvocation(Operation operation) {
+        OperationMetrics operationMetrics = operations.get(operation);
+        operationMetrics.invocations.increment();
+        if (operationMetrics.invocationCounter != null) {
+            operationMetrics.invocationCounter.increment();
+        }
+    }
+
+    void record(Operation operation, long poolWaitNanos, long driverNanos, long mappingNanos, long rows,
+                long dataBytes) {
+        OperationMetrics operationMetrics = operations.get(operation);
+        operationMetrics.poolWait.record(poolWaitNanos);
+        operationMetrics.driver.record(driverNanos);
+        operationMetrics.mapping.record(mappingNanos);
+        if (rows > 0) {
+            rowsRead.add(rows);
+            dataBytesRead.add(dataBytes);
+            if (rowsCounter != null) {
+                rowsCounter.increment(rows);
+                dataBytesCounter.increment(dataBytes);
+            }
+        }
+    }
+
+    public void recordSchedulerWait(PriorityClass priorityClass, long waitNanos) {
+        schedulerWaits.get(priorityClass).record(waitNanos);
+    }
+
+    public void recordError(Operation operation, BError error) {
+        String errorType = TypeUtils.getType(error).getName();
+        String sqlState = QueryUtils.getSqlState(error);
+        if (sqlState == null) {
+            sqlState = NO_SQL_STATE;
+        }
+        String key = operation.getName() + ":" + errorType + ":" + sqlState;
+        String state = sqlState;
+        errors.computeIfAbsent(key, k -> new ErrorMetrics(counter("errors_total", "Number of failed remote calls",
+                tags(OPERATION_TAG, operation.getName(), ERROR_TYPE_TAG, errorType, SQL_STATE_TAG, state))))
+                .increment();
+    }
+
+    @Override
+    public Map<String, Long> getInvocationCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        operations.forEach((operation, metrics) -> counts.put(operation.getName(), metrics.invocations.sum()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getLatencySampleCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        forEachStage((key, stage) -> counts.put(key, stage.count.sum()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Double> getMeanLatencyMillis() {
+        Map<String, Double> means = new TreeMap<>();
+        forEachStage((key, stage) -> {
+            long count = stage.count.sum();
+            means.put(key, count == 0 ? 0 : toMillis(stage.totalNanos.sum()) / count);
+        });
+        return means;
+    }
+
+    @Override
+    public Map<String, Double> getMaxLatencyMillis() {
+        Map<String, Double> maxima = new TreeMap<>();
+        forEachStage((key, stage) -> maxima.put(key, toMillis(stage.maxNanos.get())));
+        return maxima;
+    }
+
+    @Override
+    public Map<String, Double> getMeanSchedulerWaitMillis() {
+        Map<String, Double> means = new TreeMap<>();
+        schedulerWaits.forEach((priorityClass, stage) -> {
+            long count = stage.count.sum();
+            means.put(priorityClass.name(), count == 0 ? 0 : toMillis(stage.totalNanos.sum()) / count);
+        });
+        return means;
+    }
+
+    @Override
+    public Map<String, Double> getMaxSchedulerWaitMillis() {
+        Map<String, Double> maxima = new TreeMap<>();
+        schedulerWaits.forEach((priorityClass, stage) -> maxima.put(priorityClass.name(),
+                toMillis(stage.maxNanos.get())));
+        return maxima;
+    }
+
+    @Override
+    public long getRowsRead() {
+        return rowsRead.sum();
+    }
+
+    @Override
+    public long getDataBytesRead() {
+        return dataBytesRead.sum();
+    }
+
+    @Override
+    public Map<String, Long> getErrorCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        errors.forEach((key, error) -> counts.put(key, error.count.sum()));
+        return counts;
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return getPoolAttribute("ActiveConnections");
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return getPoolAttribute("IdleConnections");
+    }
+
+    @Override
+    public int getThreadsAwaitingConnection() {
+        return getPoolAttribute("ThreadsAwaitingConnection");
+    }
+
+    @Override
+    public int getConcurrencyLimit() {
+        AdaptiveLimiter currentLimiter = limiter;
+        return currentLimiter == null ? -1 : currentLimiter.getLimit();
+    }
+
+    @Override
+    public int getInFlightCalls() {
+        AdaptiveLimiter currentLimiter = limiter;
+        return currentLimiter == null ? -1 : currentLimiter.getInFlight();
+    }
+
+    @Override
+    public int getQueuedCalls() {
+        AdaptiveLimiter currentLimiter = limiter;
+        return currentLimiter == null ? -1 : currentLimiter.getQueued();
+    }
+
+    @Override
+    public String getCircuitState() {
+        AdaptiveLimiter currentLimiter = limiter;
+        return currentLimiter == null ? "NONE" : currentLimiter.getCircuitState().name();
+    }
+
+    @Override
+    public long getResultMemoryBytes() {
+        MemoryBudget currentBudget = memoryBudget;
+        return currentBudget == null ? -1 : currentBudget.getUsedBytes();
+    }
+
+    @Override
+    public long getPeakResultMemoryBytes() {
+        MemoryBudget currentBudget = memoryBudget;
+        return currentBudget == null ? -1 : currentBudget.getPeakBytes();
+    }
+
+    private int getPoolAttribute(String attribute) {
+        try {
+            Object value = ManagementFactory.getPlatformMBeanServer().getAttribute(
+                    new ObjectName(String.format(POOL_MBEAN_NAME, clientName)), attribute);
+            return ((Number) value).intValue();
+        } catch (JMException | RuntimeException e) {
+            // The pool is closed, or is shared with another client and registered under its name.
+            return -1;
+        }
+    }
+
+    private void forEachStage(BiConsumer<String, StageMetrics> consumer) {
+        operations.forEach((operation, metrics) -> {
+            consumer.accept(operation.getName() + ".poolWait", metrics.poolWait);
+            consumer.accept(operation.getName() + ".driver", metrics.driver);
+            consumer.accept(operation.getName() + ".mapping", metrics.mapping);
+        });
+    }
+
+    private Counter counter(String name, String description, Set<Tag> tags) {
+        return registry == null ? null : registry.counter(new MetricId(METRIC_PREFIX + name, description, tags));
+    }
+
+    private Gauge timer(String name, String description, Set<Tag> tags) {
+        return registry == null ? null
+                : registry.gauge(new MetricId(METRIC_PREFIX + name, description, tags), StatisticConfig.DEFAULT);
+    }
+
+    private Set<Tag> tags(String... keyValues) {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag(CLIENT_TAG, clientName));
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            tags.add(new Tag(keyValues[i], keyValues[i + 1]));
+        }
+        return tags;
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private final class OperationMetrics {
+
+        private final LongAdder invocations = new LongAdder();
+        private final Counter invocationCounter;
+        private final StageMetrics poolWait;
+        private final StageMetrics driver;
+        private final StageMetrics mapping;
+
+        private OperationMetrics(Operation operation) {
+            Set<Tag> operationTags = tags(OPERATION_TAG, operation.getName());
+            invocationCounter = counter("requests_total", "Number of remote calls", operationTags);
+            poolWait = new StageMetrics(timer("pool_wait_time_seconds",
+                    "Time spent waiting for a pooled connection", operationTags));
+            driver = new StageMetrics(timer("driver_time_seconds",
+                    "Time spent in the driver executing the statement and fetching the rows", operationTags));
+            mapping = new StageMetrics(timer("mapping_time_seconds",
+                    "Time spent mapping the rows to Ballerina values", operationTags));
+        }
+    }
+
+    private static final class StageMetrics {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final Gauge gauge;
+
+        private StageMetrics(Gauge gauge) {
+            this.gauge = gauge;
+        }
+
+        // A negative value means that the stage was not part of the call.
+        private void record(long nanos) {
+            if (nanos < 0) {
+                return;
+            }
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            if (gauge != null) {
+                gauge.setValue((double) nanos / TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+    }
+
+    private static final class ErrorMetrics {
+
+        private final LongAdder count = new LongAdder();
+        private final Counter counter;
+
+        private ErrorMetrics(Counter counter) {
+            this.counter = counter;
+        }
+
+        private void increment() {
+            count.increment();
+            if (counter != null) {
+                counter.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX view of the metrics of a client. The latency maps are keyed by `<operation>.<stage>`, where the stage is
+ * one of `poolWait`, `driver` or `mapping`.
+ *
+ * @since 1.2.0
+ */
+public interface ClientMetricsMXBean {
+
+    Map<String, Long> getInvocationCounts();
+
+    Map<String, Long> getLatencySampleCounts();
+
+    Map<String, Double> getMeanLatencyMillis();
+
+    Map<String, Double> getMaxLatencyMillis();
+
+    /**
+     * Returns the mean time the calls waited for the admission into a shared connection pool, keyed by the priority
+     * class of the calls.
+     */
+    Map<String, Double> getMeanSchedulerWaitMillis();
+
+    Map<String, Double> getMaxSchedulerWaitMillis();
+
+    long getRowsRead();
+
+    long getDataBytesRead();
+
+    /**
+     * Returns the number of errors keyed by `<operation>:<error type>:<SQL state>`.
+     */
+    Map<String, Long> getErrorCounts();
+
+    int getActiveConnections();
+
+    int getIdleConnections();
+
+    int getThreadsAwaitingConnection();
+
+    /**
+     * Returns the current limit of the concurrent remote calls, or `-1` if the concurrency is not limited.
+     */
+    int getConcurrencyLimit();
+
+    int getInFlightCalls();
+
+    int getQueuedCalls();
+
+    /**
+     * Returns the state of the circuit breaker of the limiter, or `NONE` if the concurrency is not limited.
+     */
+    String getCircuitState();
+
+    /**
+     * Returns the approximate bytes of the rows held for the open results, or `-1` if the memory of the
+     * results is not budgeted.
+     */
+    long getResultMemoryBytes();
+
+    long getPeakResultMemoryBytes();
+}
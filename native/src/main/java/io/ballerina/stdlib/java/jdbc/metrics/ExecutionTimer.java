@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.metrics;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+
+/**
+ * Accumulates the time spent in each stage of a single remote call and records it in the metrics of the client
+ * when the call completes. If metrics are not enabled for the client, a no-op timer is used, which does not read
+ * the clock.
+ * <p>
+ * A timer is not thread safe; it is used by one thread at a time.
+ *
+ * @since 1.2.0
+ */
+public class ExecutionTimer {
+
+    private static final ExecutionTimer NO_OP = new ExecutionTimer(null, null);
+
+    private final ClientMetrics metrics;
+    private final Operation operation;
+    private long poolWaitNanos = -1;
+    private long driverNanos = -1;
+    private long mappingNanos = -1;
+    private long rows = 0;
+    private long dataBytes = 0;
+    private boolean finished = false;
+
+    private ExecutionTimer(ClientMetrics metrics, Operation operation) {
+        this.metrics = metrics;
+        this.operation = operation;
+    }
+
+    public static ExecutionTimer start(BObject client, Operation operation) {
+        ClientMetrics metrics = ClientMetrics.of(client);
+        return metrics == null ? NO_OP : new ExecutionTimer(metrics, operation);
+    }
+
+    /**
+     * Returns the start time of a stage.
+     */
+    public long now() {
+        return metrics == null ? 0 : System.nanoTime();
+    }
+
+    public void addPoolWait(long startNanos) {
+        if (metrics != null) {
+            poolWaitNanos = Math.max(poolWaitNanos, 0) + System.nanoTime() - startNanos;
+        }
+    }
+
+    public void addDriver(long startNanos) {
+        if (metrics != null) {
+            driverNanos = Math.max(driverNanos, 0) + System.nanoTime() - startNanos;
+        }
+    }
+
+    public void addMapping(long startNanos) {
+        if (metrics != null) {
+            mappingNanos = Math.max(mappingNanos, 0) + System.nanoTime() - startNanos;
+        }
+    }
+
+    public void addRow(Object value) {
+        if (metrics != null) {
+            rows++;
+            dataBytes += estimateDataBytes(value);
+        }
+    }
+
+    public void recordError(Object result) {
+        if (metrics != null && result instanceof BError) {
+            metrics.recordError(operation, (BError) result);
+        }
+    }
+
+    public void finish() {
+        if (metrics != null && !finished) {
+            finished = true;
+            metrics.record(operation, poolWaitNanos, driverNanos, mappingNanos, rows, dataBytes);
+        }
+    }
+
+    // Counts the characters of strings and the bytes of byte arrays, which approximates the data transferred.
+    private static long estimateDataBytes(Object value) {
+        if (value instanceof BString) {
+            return ((BString) value).getValue().length();
+        }
+        if (value instanceof BArray) {
+            BArray array = (BArray) value;
+            return array.getElementType().getTag() == TypeTags.BYTE_TAG ? array.size() : 0;
+        }
+        if (value instanceof BMap) {
+            long size = 0;
+            for (Object entry : ((BMap<?, ?>) value).entrySet()) {
+                size += estimateDataBytes(((Map.Entry<?, ?>) entry).getValue());
+            }
+            return size;
+        }
+        return 0;
+    }
+}
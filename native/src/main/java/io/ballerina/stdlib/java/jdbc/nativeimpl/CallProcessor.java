@@ -20,9 +20,16 @@ package io.ballerina.stdlib.java.jdbc.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
-import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
-import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.java.jdbc.call.ProcedureResultSets;
+import io.ballerina.stdlib.java.jdbc.metrics.ClientMetrics;
+import io.ballerina.stdlib.java.jdbc.metrics.Operation;
+import io.ballerina.stdlib.java.jdbc.utils.ExecutionOptions;
+import io.ballerina.stdlib.java.jdbc.utils.WorkerExecutor;
+import io.ballerina.stdlib.sql.utils.Utils;
 
 /**
  * This class holds the utility methods involved with executing the call statements.
@@ -34,8 +41,22 @@ public class CallProcessor {
     }
     
     public static Object nativeCall(Environment env, BObject client, BObject paramSQLString, BArray recordTypes) {
-        return io.ballerina.stdlib.sql.nativeimpl.CallProcessor.nativeCall(env, client, paramSQLString,
-            recordTypes, DefaultStatementParameterProcessor.getInstance(),
-            DefaultResultParameterProcessor.getInstance());
+        ClientMetrics.countInvocation(client, Operation.CALL);
+        ExecutionOptions executionOptions = ExecutionOptions.of(client);
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = Utils.isWithinTrxBlock(trxResourceManager);
+        return WorkerExecutor.executeHolding(env, client, isWithinTrxBlock, permits -> ProcedureResultSets.call(
+                client, paramSQLString, recordTypes, executionOptions, isWithinTrxBlock, trxResourceManager,
+                permits));
+    }
+
+    public static Object nativeCallStreaming(Environment env, BObject client, BObject paramSQLString,
+                                             BMap<BString, Object> options) {
+        ClientMetrics.countInvocation(client, Operation.CALL);
+        ExecutionOptions executionOptions = ExecutionOptions.of(client).merge(options);
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = Utils.isWithinTrxBlock(trxResourceManager);
+        return WorkerExecutor.executeHolding(env, client, isWithinTrxBlock, permits -> ProcedureResultSets.execute(
+                client, paramSQLString, executionOptions, isWithinTrxBlock, trxResourceManager, permits));
     }
 }
@@ -19,14 +19,42 @@
 package io.ballerina.stdlib.java.jdbc.nativeimpl;
 
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.batch.ParallelBatchExecutor;
+import io.ballerina.stdlib.java.jdbc.cache.QueryResultCache;
+import io.ballerina.stdlib.java.jdbc.cache.QueryRowCoalescer;
+import io.ballerina.stdlib.java.jdbc.cache.StatementCache;
+import io.ballerina.stdlib.java.jdbc.datasource.DatasourceRegistry;
+import io.ballerina.stdlib.java.jdbc.datasource.PoolWarmer;
+import io.ballerina.stdlib.java.jdbc.hedging.ReadPolicy;
+import io.ballerina.stdlib.java.jdbc.limiter.AdaptiveLimiter;
+import io.ballerina.stdlib.java.jdbc.memory.MemoryBudget;
+import io.ballerina.stdlib.java.jdbc.metadata.MetadataCache;
+import io.ballerina.stdlib.java.jdbc.metrics.ClientMetrics;
+import io.ballerina.stdlib.java.jdbc.scheduling.FairScheduler;
+import io.ballerina.stdlib.java.jdbc.scheduling.PriorityClass;
+import io.ballerina.stdlib.java.jdbc.scheduling.TenantAdmission;
+import io.ballerina.stdlib.java.jdbc.utils.ExecutionOptions;
+import io.ballerina.stdlib.java.jdbc.utils.QueryOptions;
+import io.ballerina.stdlib.java.jdbc.utils.WorkerExecutor;
 import io.ballerina.stdlib.sql.datasource.SQLDatasource;
 import io.ballerina.stdlib.sql.utils.ErrorGenerator;
 
+import java.math.BigDecimal;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import javax.management.JMException;
 
 /**
  * This class will include the native method implementation for the JDBC client.
@@ -35,6 +63,8 @@ import java.util.Properties;
  */
 public class ClientProcessor {
 
+    private static final Pattern METRICS_NAME_PATTERN = Pattern.compile("[A-Za-z0-9._-]+");
+
     public static Object createClient(BObject client, BMap<BString, Object> clientConfig,
                                       BMap<BString, Object> globalPool) {
         String url = clientConfig.getStringValue(Constants.ClientConfiguration.URL).getValue();
@@ -47,6 +77,7 @@ public class ClientProcessor {
         String password = passwordVal == null ? null : passwordVal.getValue();
         String datasourceName = null;
         String requestGeneratedKeys = Constants.RequestGeneratedKeysValues.ALL;
+        ExecutionOptions executionOptions = ExecutionOptions.DEFAULT;
 
         BMap options = clientConfig.getMapValue(Constants.ClientConfiguration.OPTIONS);
         BMap<BString, Object> properties = ValueCreator.createMapValue();
@@ -56,163 +87,55 @@ public class ClientProcessor {
             BString dataSourceNamVal = options.getStringValue(Constants.ClientConfiguration.DATASOURCE_NAME);
             datasourceName = dataSourceNamVal == null ? null : dataSourceNamVal.getValue();
 
-            boolean isSslPresent = options.containsKey(Constants.Options.SSL);
-            if (isSslPresent) {
-                BMap sslMap = options.getMapValue(Constants.Options.SSL);
-                if (sslMap.containsKey(Constants.SslConfig.SSL_SERVER_CERT)) {
-                    properties.put(Constants.ConnectionStringProps.SSL_SERVER_CERT,
-                            sslMap.getStringValue(Constants.SslConfig.SSL_SERVER_CERT));
-                }
+            properties = getConnectionStringProperties(options);
+            executionOptions = executionOptions.merge(options.getMapValue(Constants.Options.EXECUTION_OPTIONS));
+            if (!executionOptions.isRequestGeneratedKeys()) {
+                requestGeneratedKeys = Constants.RequestGeneratedKeysValues.NONE;
             }
-
-            boolean isFirewallPresent = options.containsKey(Constants.Options.FIREWALL);
-            if (isFirewallPresent) {
-                BMap firewallMap = options.getMapValue(Constants.Options.FIREWALL);
-                if (firewallMap.containsKey(Constants.FirewallConfig.FIREWALL_TYPE)) {
-                    properties.put(Constants.ConnectionStringProps.FIREWALL_TYPE,
-                            firewallMap.getStringValue(Constants.FirewallConfig.FIREWALL_TYPE));
-                }
-                if (firewallMap.containsKey(Constants.FirewallConfig.FIREWALL_SERVER)) {
-                    properties.put(Constants.ConnectionStringProps.FIREWALL_SERVER,
-                            firewallMap.getStringValue(Constants.FirewallConfig.FIREWALL_SERVER));
-                }
-                if (firewallMap.containsKey(Constants.FirewallConfig.FIREWALL_PORT)) {
-                    properties.put(Constants.ConnectionStringProps.FIREWALL_PORT,
-                            firewallMap.getIntValue(Constants.FirewallConfig.FIREWALL_PORT));
-                }
-                if (firewallMap.containsKey(Constants.FirewallConfig.FIREWALL_USER)) {
-                    properties.put(Constants.ConnectionStringProps.FIREWALL_USER,
-                            firewallMap.getStringValue(Constants.FirewallConfig.FIREWALL_USER));
-                }
-                if (firewallMap.containsKey(Constants.FirewallConfig.FIREWALL_PASSWORD)) {
-                    properties.put(Constants.ConnectionStringProps.FIREWALL_PASSWORD,
-                            firewallMap.getStringValue(Constants.FirewallConfig.FIREWALL_PASSWORD));
-                }
+            if (properties.containsKey(Constants.ConnectionStringProps.CONNECTION_LIFE_TIME)) {
+                poolProperties = new Properties();
+                poolProperties.setProperty(Constants.POOL_CONNECTION_TIMEOUT,
+                        properties.get(Constants.ConnectionStringProps.CONNECTION_LIFE_TIME).toString());
             }
+        }
 
-            boolean isProxyPresent = options.containsKey(Constants.Options.PROXY);
-            if (isProxyPresent) {
-                BMap proxyMap = options.getMapValue(Constants.Options.PROXY);
-                if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_AUTO_DETECT)) {
-                    properties.put(Constants.ConnectionStringProps.PROXY_AUTO_DETECT,
-                            proxyMap.getBooleanValue(Constants.ProxyConfig.PROXY_AUTO_DETECT));
-                }
-                if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_SERVER)) {
-                    properties.put(Constants.ConnectionStringProps.PROXY_SERVER,
-                            proxyMap.getStringValue(Constants.ProxyConfig.PROXY_SERVER));
-                }
-                if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_PORT)) {
-                    properties.put(Constants.ConnectionStringProps.PROXY_PORT,
-                            proxyMap.getIntValue(Constants.ProxyConfig.PROXY_PORT));
-                }
-                if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_AUTH_SCHEMA)) {
-                    properties.put(Constants.ConnectionStringProps.PROXY_AUTH_SCHEMA,
-                            proxyMap.getStringValue(Constants.ProxyConfig.PROXY_AUTH_SCHEMA));
-                }
-                if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_USER)) {
-                    properties.put(Constants.ConnectionStringProps.PROXY_USER,
-                            proxyMap.getStringValue(Constants.ProxyConfig.PROXY_USER));
-                }
-                if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_PASSWORD)) {
-                    properties.put(Constants.ConnectionStringProps.PROXY_PASSWORD,
-                            proxyMap.getStringValue(Constants.ProxyConfig.PROXY_PASSWORD));
-                }
-                if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_SSL_TYPE)) {
-                    properties.put(Constants.ConnectionStringProps.PROXY_SSL_TYPE,
-                            proxyMap.getStringValue(Constants.ProxyConfig.PROXY_SSL_TYPE));
-                }
-                if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_EXCEPTIONS)) {
-                    properties.put(Constants.ConnectionStringProps.PROXY_EXCEPTIONS,
-                            proxyMap.getStringValue(Constants.ProxyConfig.PROXY_EXCEPTIONS));
-                }
+        BMap metadataCacheConfig = options != null && options.containsKey(Constants.Options.METADATA_CACHE)
+                ? options.getMapValue(Constants.Options.METADATA_CACHE) : null;
+        Path metadataCacheDirectory = null;
+        if (metadataCacheConfig != null && metadataCacheConfig.containsKey(Constants.MetadataCacheConfig.DIRECTORY)) {
+            String directory = metadataCacheConfig.getStringValue(Constants.MetadataCacheConfig.DIRECTORY).getValue();
+            try {
+                metadataCacheDirectory = Paths.get(directory);
+            } catch (InvalidPathException e) {
+                return ErrorGenerator.getSQLApplicationError("Invalid metadata cache directory: '" + directory
+                        + "'. " + e.getMessage());
             }
+        }
 
-            boolean isLoggingPresent = options.containsKey(Constants.Options.LOGGING);
-            if (isLoggingPresent) {
-                BMap loggingMap = options.getMapValue(Constants.Options.LOGGING);
-                if (loggingMap.containsKey(Constants.LoggingConfig.LOG_FILE)) {
-                    properties.put(Constants.ConnectionStringProps.LOG_FILE,
-                            loggingMap.getStringValue(Constants.LoggingConfig.LOG_FILE));
-                }
-                if (loggingMap.containsKey(Constants.LoggingConfig.VERBOSITY)) {
-                    properties.put(Constants.ConnectionStringProps.VERBOSITY,
-                            loggingMap.getStringValue(Constants.LoggingConfig.VERBOSITY));
-                }
-                if (loggingMap.containsKey(Constants.LoggingConfig.LOG_MODULES)) {
-                    properties.put(Constants.ConnectionStringProps.LOG_MODULES,
-                            loggingMap.getStringValue(Constants.LoggingConfig.LOG_MODULES));
-                }
-                if (loggingMap.containsKey(Constants.LoggingConfig.MAX_LOG_FILE_SIZE)) {
-                    properties.put(Constants.ConnectionStringProps.MAX_LOG_FILE_SIZE,
-                            loggingMap.getStringValue(Constants.LoggingConfig.MAX_LOG_FILE_SIZE));
-                }
-                if (loggingMap.containsKey(Constants.LoggingConfig.MAX_LOG_FILE_COUNT)) {
-                    properties.put(Constants.ConnectionStringProps.MAX_LOG_FILE_COUNT,
-                            loggingMap.getStringValue(Constants.LoggingConfig.MAX_LOG_FILE_COUNT));
+        ClientMetrics metrics = null;
+        if (options != null && options.containsKey(Constants.Options.METRICS)) {
+            BMap metricsConfig = options.getMapValue(Constants.Options.METRICS);
+            String clientName = ClientMetrics.createClientName();
+            if (metricsConfig.containsKey(Constants.MetricsConfig.NAME)) {
+                clientName = metricsConfig.getStringValue(Constants.MetricsConfig.NAME).getValue();
+                if (!METRICS_NAME_PATTERN.matcher(clientName).matches()) {
+                    return ErrorGenerator.getSQLApplicationError("Invalid metrics name: '" + clientName
+                            + "'. Only letters, digits, '.', '_' and '-' are allowed.");
                 }
             }
-
-            boolean isMiscellaneousPresent = options.containsKey(Constants.Options.MISCELLANEOUS);
-            if (isMiscellaneousPresent) {
-                BMap miscellaneousMap = options.getMapValue(Constants.Options.SSL);
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.BATCH_SIZE)) {
-                    properties.put(Constants.ConnectionStringProps.BATCH_SIZE,
-                            miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.BATCH_SIZE));
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.CONNECTION_LIFE_TIME)) {
-                    properties.put(Constants.ConnectionStringProps.CONNECTION_LIFE_TIME,
-                            miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.CONNECTION_LIFE_TIME));
-                    poolProperties = new Properties();
-                    poolProperties.setProperty(Constants.POOL_CONNECTION_TIMEOUT,
-                            properties.get(Constants.ConnectionStringProps.CONNECTION_LIFE_TIME).toString());
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.CONNECT_ON_OPEN)) {
-                    properties.put(Constants.ConnectionStringProps.CONNECT_ON_OPEN,
-                            miscellaneousMap.getBooleanValue(Constants.MiscellaneousConfig.CONNECT_ON_OPEN));
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.MAX_ROWS)) {
-                    properties.put(Constants.ConnectionStringProps.MAX_ROWS,
-                            miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.MAX_ROWS));
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.OTHER)) {
-                    properties.put(Constants.ConnectionStringProps.OTHER,
-                            miscellaneousMap.getStringValue(Constants.MiscellaneousConfig.OTHER));
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.POOL_IDLE_TIMEOUT)) {
-                    properties.put(Constants.ConnectionStringProps.POOL_IDLE_TIMEOUT,
-                            miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.POOL_IDLE_TIMEOUT));
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.POOL_MAX_SIZE)) {
-                    properties.put(Constants.ConnectionStringProps.POOL_MAX_SIZE,
-                            miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.POOL_MAX_SIZE));
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.POOL_MIN_SIZE)) {
-                    properties.put(Constants.ConnectionStringProps.POOL_MIN_SIZE,
-                            miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.POOL_MIN_SIZE));
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.POOL_WAIT_TIME)) {
-                    properties.put(Constants.ConnectionStringProps.POOL_WAIT_TIME,
-                            miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.POOL_WAIT_TIME));
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.PSEUDO_COLUMNS)) {
-                    properties.put(Constants.ConnectionStringProps.PSEUDO_COLUMNS,
-                            miscellaneousMap.getStringValue(Constants.MiscellaneousConfig.PSEUDO_COLUMNS));
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.QUERY_PASS_THROUGH)) {
-                    properties.put(Constants.ConnectionStringProps.QUERY_PASS_THROUGH,
-                            miscellaneousMap.getBooleanValue(Constants.MiscellaneousConfig.QUERY_PASS_THROUGH));
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.RTK)) {
-                    properties.put(Constants.ConnectionStringProps.RTK,
-                            miscellaneousMap.getStringValue(Constants.MiscellaneousConfig.RTK));
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.TIMEOUT)) {
-                    properties.put(Constants.ConnectionStringProps.TIMEOUT,
-                            miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.TIMEOUT));
-                }
-                if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.USE_CONNECTION_POOLING)) {
-                    properties.put(Constants.ConnectionStringProps.USE_CONNECTION_POOLING,
-                            miscellaneousMap.getBooleanValue(Constants.MiscellaneousConfig.USE_CONNECTION_POOLING));
+            // The pool is registered as an MBean under the client name so that its gauges can be read.
+            if (poolProperties == null) {
+                poolProperties = new Properties();
+            }
+            poolProperties.setProperty(Constants.POOL_NAME, clientName);
+            poolProperties.setProperty(Constants.POOL_REGISTER_MBEANS, Boolean.TRUE.toString());
+            metrics = new ClientMetrics(clientName);
+            if (metricsConfig.getBooleanValue(Constants.MetricsConfig.JMX)) {
+                try {
+                    metrics.registerMBean();
+                } catch (JMException e) {
+                    return ErrorGenerator.getSQLApplicationError("Error while registering the metrics of client '"
+                            + clientName + "': " + e.getMessage());
                 }
             }
         }
@@ -245,8 +168,397 @@ public class ClientProcessor {
                 break;
         }
 
-        return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.createClient(client, sqlDatasourceParams,
-                                                                               executeGKFlag, batchExecuteGKFlag);
+        String datasourceKey = DatasourceRegistry.createKey(url, user, password, datasourceName, properties,
+                poolProperties, connectionPool, executeGKFlag, batchExecuteGKFlag);
+        Object result = DatasourceRegistry.createClient(client, sqlDatasourceParams, datasourceKey, executeGKFlag,
+                batchExecuteGKFlag);
+        if (result != null) {
+            if (metrics != null) {
+                metrics.close();
+            }
+            return result;
+        }
+        if (metrics != null) {
+            client.addNativeData(Constants.NativeData.CLIENT_METRICS, metrics);
+        }
+        client.addNativeData(Constants.NativeData.EXECUTION_OPTIONS, executionOptions);
+        if (options != null && options.containsKey(Constants.Options.QUERY_CACHE)) {
+            client.addNativeData(Constants.NativeData.QUERY_RESULT_CACHE,
+                    createQueryResultCache(options.getMapValue(Constants.Options.QUERY_CACHE)));
+        }
+        if (options != null && options.containsKey(Constants.Options.BATCH_EXECUTION)) {
+            client.addNativeData(Constants.NativeData.PARALLEL_BATCH_EXECUTOR, createParallelBatchExecutor(
+                    options.getMapValue(Constants.Options.BATCH_EXECUTION), properties));
+        }
+        if (options != null && options.containsKey(Constants.Options.QUERY_OPTIONS)) {
+            client.addNativeData(Constants.NativeData.QUERY_OPTIONS,
+                    QueryOptions.of(client).merge(options.getMapValue(Constants.Options.QUERY_OPTIONS)));
+        }
+        if (options != null && options.containsKey(Constants.Options.STATEMENT_CACHE)) {
+            BMap statementCacheConfig = options.getMapValue(Constants.Options.STATEMENT_CACHE);
+            client.addNativeData(Constants.NativeData.STATEMENT_CACHE, new StatementCache(
+                    statementCacheConfig.getIntValue(Constants.StatementCacheConfig.MAX_STATEMENTS).intValue()));
+        }
+        if (options != null && options.containsKey(Constants.Options.WORKER_POOL)) {
+            BMap workerPoolConfig = options.getMapValue(Constants.Options.WORKER_POOL);
+            client.addNativeData(Constants.NativeData.WORKER_EXECUTOR, new WorkerExecutor(
+                    workerPoolConfig.getIntValue(Constants.WorkerPoolConfig.MAX_CONCURRENCY).intValue(),
+                    workerPoolConfig.getBooleanValue(Constants.WorkerPoolConfig.VIRTUAL_THREADS)));
+        }
+        if (options != null && options.getBooleanValue(Constants.Options.COALESCE_QUERY_ROW)) {
+            client.addNativeData(Constants.NativeData.QUERY_ROW_COALESCER, new QueryRowCoalescer());
+        }
+        if (options != null && options.containsKey(Constants.Options.CONCURRENCY_LIMIT)) {
+            AdaptiveLimiter limiter = createAdaptiveLimiter(options.getMapValue(Constants.Options.CONCURRENCY_LIMIT));
+            client.addNativeData(Constants.NativeData.ADAPTIVE_LIMITER, limiter);
+            if (metrics != null) {
+                metrics.registerLimiter(limiter);
+            }
+        }
+        if (options != null && options.containsKey(Constants.Options.MEMORY_BUDGET)) {
+            MemoryBudget memoryBudget = createMemoryBudget(options.getMapValue(Constants.Options.MEMORY_BUDGET));
+            client.addNativeData(Constants.NativeData.MEMORY_BUDGET, memoryBudget);
+            if (metrics != null) {
+                metrics.registerMemoryBudget(memoryBudget);
+            }
+        }
+        if (options != null && options.containsKey(Constants.Options.SCHEDULING)) {
+            client.addNativeData(Constants.NativeData.TENANT_ADMISSION, createTenantAdmission(
+                    options.getMapValue(Constants.Options.SCHEDULING),
+                    client.getNativeData(io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT),
+                    connectionPool == null ? globalPool : connectionPool, metrics));
+        }
+        if (options != null && (options.containsKey(Constants.Options.HEDGING)
+                || options.containsKey(Constants.Options.RETRY))) {
+            client.addNativeData(Constants.NativeData.READ_POLICY, createReadPolicy(
+                    options.getMapValue(Constants.Options.HEDGING), options.getMapValue(Constants.Options.RETRY)));
+        }
+        if (metadataCacheConfig != null) {
+            Path directory = metadataCacheDirectory;
+            client.addNativeData(Constants.NativeData.METADATA_CACHE, DatasourceRegistry.getMetadataCache(client,
+                    key -> createMetadataCache(metadataCacheConfig, directory, key)));
+        }
+        BMap warmupConfig = options != null && options.containsKey(Constants.Options.WARMUP)
+                ? options.getMapValue(Constants.Options.WARMUP) : null;
+        PoolWarmer warmer = createPoolWarmer(warmupConfig, properties,
+                connectionPool == null ? globalPool : connectionPool);
+        client.addNativeData(Constants.NativeData.POOL_WARMER, warmer);
+        if (warmupConfig != null) {
+            CompletableFuture<Void> warmup = warmer.start((SQLDatasource) client.getNativeData(
+                    io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT));
+            if (!warmupConfig.getBooleanValue(Constants.WarmupConfig.BACKGROUND)) {
+                warmup.join();
+                Object warmupError = WarmupProcessor.getWarmupError(warmer);
+                if (warmupError != null) {
+                    close(client);
+                    return warmupError;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Translates the `Options` record into the CData Connect connection string properties.
+     *
+     * @param options the `Options` record passed to the client
+     * @return the connection string properties keyed by the CData property names
+     */
+    public static BMap<BString, Object> getConnectionStringProperties(BMap options) {
+        BMap<BString, Object> properties = ValueCreator.createMapValue();
+
+        boolean isSslPresent = options.containsKey(Constants.Options.SSL);
+        if (isSslPresent) {
+            BMap sslMap = options.getMapValue(Constants.Options.SSL);
+            if (sslMap.containsKey(Constants.SslConfig.SSL_SERVER_CERT)) {
+                properties.put(Constants.ConnectionStringProps.SSL_SERVER_CERT,
+                        sslMap.getStringValue(Constants.SslConfig.SSL_SERVER_CERT));
+            }
+        }
+
+        boolean isFirewallPresent = options.containsKey(Constants.Options.FIREWALL);
+        if (isFirewallPresent) {
+            BMap firewallMap = options.getMapValue(Constants.Options.FIREWALL);
+            if (firewallMap.containsKey(Constants.FirewallConfig.FIREWALL_TYPE)) {
+                properties.put(Constants.ConnectionStringProps.FIREWALL_TYPE,
+                        firewallMap.getStringValue(Constants.FirewallConfig.FIREWALL_TYPE));
+            }
+            if (firewallMap.containsKey(Constants.FirewallConfig.FIREWALL_SERVER)) {
+                properties.put(Constants.ConnectionStringProps.FIREWALL_SERVER,
+                        firewallMap.getStringValue(Constants.FirewallConfig.FIREWALL_SERVER));
+            }
+            if (firewallMap.containsKey(Constants.FirewallConfig.FIREWALL_PORT)) {
+                properties.put(Constants.ConnectionStringProps.FIREWALL_PORT,
+                        firewallMap.getIntValue(Constants.FirewallConfig.FIREWALL_PORT));
+            }
+            if (firewallMap.containsKey(Constants.FirewallConfig.FIREWALL_USER)) {
+                properties.put(Constants.ConnectionStringProps.FIREWALL_USER,
+                        firewallMap.getStringValue(Constants.FirewallConfig.FIREWALL_USER));
+            }
+            if (firewallMap.containsKey(Constants.FirewallConfig.FIREWALL_PASSWORD)) {
+                properties.put(Constants.ConnectionStringProps.FIREWALL_PASSWORD,
+                        firewallMap.getStringValue(Constants.FirewallConfig.FIREWALL_PASSWORD));
+            }
+        }
+
+        boolean isProxyPresent = options.containsKey(Constants.Options.PROXY);
+        if (isProxyPresent) {
+            BMap proxyMap = options.getMapValue(Constants.Options.PROXY);
+            if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_AUTO_DETECT)) {
+                properties.put(Constants.ConnectionStringProps.PROXY_AUTO_DETECT,
+                        proxyMap.getBooleanValue(Constants.ProxyConfig.PROXY_AUTO_DETECT));
+            }
+            if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_SERVER)) {
+                properties.put(Constants.ConnectionStringProps.PROXY_SERVER,
+                        proxyMap.getStringValue(Constants.ProxyConfig.PROXY_SERVER));
+            }
+            if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_PORT)) {
+                properties.put(Constants.ConnectionStringProps.PROXY_PORT,
+                        proxyMap.getIntValue(Constants.ProxyConfig.PROXY_PORT));
+            }
+            if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_AUTH_SCHEMA)) {
+                properties.put(Constants.ConnectionStringProps.PROXY_AUTH_SCHEMA,
+                        proxyMap.getStringValue(Constants.ProxyConfig.PROXY_AUTH_SCHEMA));
+            }
+            if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_USER)) {
+                properties.put(Constants.ConnectionStringProps.PROXY_USER,
+                        proxyMap.getStringValue(Constants.ProxyConfig.PROXY_USER));
+            }
+            if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_PASSWORD)) {
+                properties.put(Constants.ConnectionStringProps.PROXY_PASSWORD,
+                        proxyMap.getStringValue(Constants.ProxyConfig.PROXY_PASSWORD));
+            }
+            if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_SSL_TYPE)) {
+                properties.put(Constants.ConnectionStringProps.PROXY_SSL_TYPE,
+                        proxyMap.getStringValue(Constants.ProxyConfig.PROXY_SSL_TYPE));
+            }
+            if (proxyMap.containsKey(Constants.ProxyConfig.PROXY_EXCEPTIONS)) {
+                properties.put(Constants.ConnectionStringProps.PROXY_EXCEPTIONS,
+                        proxyMap.getStringValue(Constants.ProxyConfig.PROXY_EXCEPTIONS));
+            }
+        }
+
+        boolean isLoggingPresent = options.containsKey(Constants.Options.LOGGING);
+        if (isLoggingPresent) {
+            BMap loggingMap = options.getMapValue(Constants.Options.LOGGING);
+            if (loggingMap.containsKey(Constants.LoggingConfig.LOG_FILE)) {
+                properties.put(Constants.ConnectionStringProps.LOG_FILE,
+                        loggingMap.getStringValue(Constants.LoggingConfig.LOG_FILE));
+            }
+            if (loggingMap.containsKey(Constants.LoggingConfig.VERBOSITY)) {
+                properties.put(Constants.ConnectionStringProps.VERBOSITY,
+                        loggingMap.getStringValue(Constants.LoggingConfig.VERBOSITY));
+            }
+            if (loggingMap.containsKey(Constants.LoggingConfig.LOG_MODULES)) {
+                properties.put(Constants.ConnectionStringProps.LOG_MODULES,
+                        loggingMap.getStringValue(Constants.LoggingConfig.LOG_MODULES));
+            }
+            if (loggingMap.containsKey(Constants.LoggingConfig.MAX_LOG_FILE_SIZE)) {
+                properties.put(Constants.ConnectionStringProps.MAX_LOG_FILE_SIZE,
+                        loggingMap.getStringValue(Constants.LoggingConfig.MAX_LOG_FILE_SIZE));
+            }
+            if (loggingMap.containsKey(Constants.LoggingConfig.MAX_LOG_FILE_COUNT)) {
+                properties.put(Constants.ConnectionStringProps.MAX_LOG_FILE_COUNT,
+                        loggingMap.getIntValue(Constants.LoggingConfig.MAX_LOG_FILE_COUNT));
+            }
+        }
+
+        boolean isMiscellaneousPresent = options.containsKey(Constants.Options.MISCELLANEOUS);
+        if (isMiscellaneousPresent) {
+            BMap miscellaneousMap = options.getMapValue(Constants.Options.MISCELLANEOUS);
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.BATCH_SIZE)) {
+                properties.put(Constants.ConnectionStringProps.BATCH_SIZE,
+                        miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.BATCH_SIZE));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.CONNECTION_LIFE_TIME)) {
+                properties.put(Constants.ConnectionStringProps.CONNECTION_LIFE_TIME,
+                        miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.CONNECTION_LIFE_TIME));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.CONNECT_ON_OPEN)) {
+                properties.put(Constants.ConnectionStringProps.CONNECT_ON_OPEN,
+                        miscellaneousMap.getBooleanValue(Constants.MiscellaneousConfig.CONNECT_ON_OPEN));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.MAX_ROWS)) {
+                properties.put(Constants.ConnectionStringProps.MAX_ROWS,
+                        miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.MAX_ROWS));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.OTHER)) {
+                properties.put(Constants.ConnectionStringProps.OTHER,
+                        miscellaneousMap.getStringValue(Constants.MiscellaneousConfig.OTHER));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.POOL_IDLE_TIMEOUT)) {
+                properties.put(Constants.ConnectionStringProps.POOL_IDLE_TIMEOUT,
+                        miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.POOL_IDLE_TIMEOUT));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.POOL_MAX_SIZE)) {
+                properties.put(Constants.ConnectionStringProps.POOL_MAX_SIZE,
+                        miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.POOL_MAX_SIZE));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.POOL_MIN_SIZE)) {
+                properties.put(Constants.ConnectionStringProps.POOL_MIN_SIZE,
+                        miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.POOL_MIN_SIZE));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.POOL_WAIT_TIME)) {
+                properties.put(Constants.ConnectionStringProps.POOL_WAIT_TIME,
+                        miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.POOL_WAIT_TIME));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.PSEUDO_COLUMNS)) {
+                properties.put(Constants.ConnectionStringProps.PSEUDO_COLUMNS,
+                        miscellaneousMap.getStringValue(Constants.MiscellaneousConfig.PSEUDO_COLUMNS));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.QUERY_PASS_THROUGH)) {
+                properties.put(Constants.ConnectionStringProps.QUERY_PASS_THROUGH,
+                        miscellaneousMap.getBooleanValue(Constants.MiscellaneousConfig.QUERY_PASS_THROUGH));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.RTK)) {
+                properties.put(Constants.ConnectionStringProps.RTK,
+                        miscellaneousMap.getStringValue(Constants.MiscellaneousConfig.RTK));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.TIMEOUT)) {
+                properties.put(Constants.ConnectionStringProps.TIMEOUT,
+                        miscellaneousMap.getIntValue(Constants.MiscellaneousConfig.TIMEOUT));
+            }
+            if (miscellaneousMap.containsKey(Constants.MiscellaneousConfig.USE_CONNECTION_POOLING)) {
+                properties.put(Constants.ConnectionStringProps.USE_CONNECTION_POOLING,
+                        miscellaneousMap.getBooleanValue(Constants.MiscellaneousConfig.USE_CONNECTION_POOLING));
+            }
+        }
+        return properties;
+    }
+
+    private static QueryResultCache createQueryResultCache(BMap cacheConfig) {
+        int maxEntries = cacheConfig.getIntValue(Constants.QueryCacheConfig.MAX_ENTRIES).intValue();
+        long maxSizeInBytes = cacheConfig.getIntValue(Constants.QueryCacheConfig.MAX_SIZE_IN_BYTES);
+        BigDecimal ttlInSeconds = ((BDecimal) cacheConfig.get(Constants.QueryCacheConfig.TTL)).decimalValue();
+        long ttlNanos = ttlInSeconds.multiply(BigDecimal.valueOf(TimeUnit.SECONDS.toNanos(1))).longValue();
+        return new QueryResultCache(maxEntries, maxSizeInBytes, ttlNanos);
+    }
+
+    private static MetadataCache createMetadataCache(BMap cacheConfig, Path directory, String datasourceKey) {
+        BigDecimal ttlInSeconds = ((BDecimal) cacheConfig.get(Constants.MetadataCacheConfig.TTL)).decimalValue();
+        long ttlMillis = ttlInSeconds.multiply(BigDecimal.valueOf(TimeUnit.SECONDS.toMillis(1))).longValue();
+        return new MetadataCache(ttlMillis, directory, datasourceKey,
+                cacheConfig.getBooleanValue(Constants.MetadataCacheConfig.CACHE_RESULT_COLUMNS));
+    }
+
+    private static AdaptiveLimiter createAdaptiveLimiter(BMap limitConfig) {
+        BMap circuitBreakerConfig = limitConfig.getMapValue(Constants.ConcurrencyLimitConfig.CIRCUIT_BREAKER);
+        long latencyThresholdNanos = 0;
+        if (limitConfig.containsKey(Constants.ConcurrencyLimitConfig.LATENCY_THRESHOLD)) {
+            latencyThresholdNanos = toNanos(limitConfig.get(Constants.ConcurrencyLimitConfig.LATENCY_THRESHOLD));
+        }
+        return new AdaptiveLimiter(
+                limitConfig.getIntValue(Constants.ConcurrencyLimitConfig.INITIAL_LIMIT).intValue(),
+                limitConfig.getIntValue(Constants.ConcurrencyLimitConfig.MIN_LIMIT).intValue(),
+                limitConfig.getIntValue(Constants.ConcurrencyLimitConfig.MAX_LIMIT).intValue(),
+                limitConfig.getIntValue(Constants.ConcurrencyLimitConfig.MAX_QUEUED).intValue(),
+                toNanos(limitConfig.get(Constants.ConcurrencyLimitConfig.QUEUE_TIMEOUT)),
+                latencyThresholdNanos,
+                limitConfig.getFloatValue(Constants.ConcurrencyLimitConfig.BACKOFF_RATIO),
+                circuitBreakerConfig.getIntValue(Constants.CircuitBreakerConfig.FAILURE_THRESHOLD).intValue(),
+                toNanos(circuitBreakerConfig.get(Constants.CircuitBreakerConfig.RESET_TIME)));
+    }
+
+    // The global budget is shared by all the clients, hence the smallest maximum configured by the open clients
+    // applies.
+    private static MemoryBudget createMemoryBudget(BMap budgetConfig) {
+        long maxGlobalBytes = 0;
+        if (budgetConfig.containsKey(Constants.MemoryBudgetConfig.MAX_GLOBAL_BYTES)) {
+            maxGlobalBytes = budgetConfig.getIntValue(Constants.MemoryBudgetConfig.MAX_GLOBAL_BYTES);
+        }
+        long maxClientBytes = 0;
+        if (budgetConfig.containsKey(Constants.MemoryBudgetConfig.MAX_CLIENT_BYTES)) {
+            maxClientBytes = budgetConfig.getIntValue(Constants.MemoryBudgetConfig.MAX_CLIENT_BYTES);
+        }
+        return MemoryBudget.register(maxClientBytes, maxGlobalBytes);
+    }
+
+    // The calls of the clients sharing a datasource, and hence its connection pool, are admitted by a single
+    // scheduler, of which the capacity is the maximum size of the pool.
+    private static TenantAdmission createTenantAdmission(BMap schedulingConfig, Object datasource,
+                                                         BMap connectionPool, ClientMetrics metrics) {
+        int capacity = connectionPool.getIntValue(Constants.ConnectionPool.MAX_OPEN_CONNECTIONS).intValue();
+        int maxInFlight = capacity;
+        if (schedulingConfig.containsKey(Constants.SchedulingConfig.MAX_IN_FLIGHT)) {
+            maxInFlight = schedulingConfig.getIntValue(Constants.SchedulingConfig.MAX_IN_FLIGHT).intValue();
+        }
+        return FairScheduler.register(datasource, capacity,
+                schedulingConfig.getIntValue(Constants.SchedulingConfig.INTERACTIVE_RESERVE).intValue(),
+                schedulingConfig.getStringValue(Constants.SchedulingConfig.TENANT).getValue(),
+                schedulingConfig.getIntValue(Constants.SchedulingConfig.WEIGHT).intValue(), maxInFlight,
+                schedulingConfig.getIntValue(Constants.SchedulingConfig.MAX_QUEUED).intValue(),
+                toNanos(schedulingConfig.get(Constants.SchedulingConfig.QUEUE_TIMEOUT)),
+                PriorityClass.valueOf(schedulingConfig.getStringValue(Constants.SchedulingConfig.PRIORITY_CLASS)
+                        .getValue()), metrics);
+    }
+
+    private static ReadPolicy createReadPolicy(BMap hedgingConfig, BMap retryConfig) {
+        double percentile = 0;
+        long initialDelayNanos = 0;
+        long minDelayNanos = 0;
+        double maxHedgePercent = 0;
+        if (hedgingConfig != null) {
+            percentile = hedgingConfig.getFloatValue(Constants.HedgingConfig.PERCENTILE);
+            initialDelayNanos = toNanos(hedgingConfig.get(Constants.HedgingConfig.INITIAL_DELAY));
+            minDelayNanos = toNanos(hedgingConfig.get(Constants.HedgingConfig.MIN_DELAY));
+            maxHedgePercent = hedgingConfig.getFloatValue(Constants.HedgingConfig.MAX_HEDGE_PERCENT);
+        }
+        int maxRetries = 0;
+        long initialBackoffNanos = 0;
+        double backoffMultiplier = 1;
+        long maxBackoffNanos = 0;
+        List<String> transientSqlStates = new ArrayList<>();
+        if (retryConfig != null) {
+            maxRetries = retryConfig.getIntValue(Constants.RetryConfig.MAX_RETRIES).intValue();
+            initialBackoffNanos = toNanos(retryConfig.get(Constants.RetryConfig.INITIAL_BACKOFF));
+            backoffMultiplier = retryConfig.getFloatValue(Constants.RetryConfig.BACKOFF_MULTIPLIER);
+            maxBackoffNanos = toNanos(retryConfig.get(Constants.RetryConfig.MAX_BACKOFF));
+            for (String sqlState : retryConfig.getArrayValue(Constants.RetryConfig.TRANSIENT_SQL_STATES)
+                    .getStringArray()) {
+                transientSqlStates.add(sqlState);
+            }
+        }
+        return new ReadPolicy(hedgingConfig != null, percentile, initialDelayNanos, minDelayNanos, maxHedgePercent,
+                maxRetries, initialBackoffNanos, backoffMultiplier, maxBackoffNanos, transientSqlStates);
+    }
+
+    private static long toNanos(Object seconds) {
+        return ((BDecimal) seconds).decimalValue().multiply(BigDecimal.valueOf(TimeUnit.SECONDS.toNanos(1)))
+                .longValue();
+    }
+
+    private static ParallelBatchExecutor createParallelBatchExecutor(BMap batchConfig,
+                                                                     BMap<BString, Object> properties) {
+        int parallelism = batchConfig.getIntValue(Constants.BatchExecutionConfig.PARALLELISM).intValue();
+        int chunkSize = Constants.BatchExecutionConfig.DEFAULT_CHUNK_SIZE;
+        if (batchConfig.containsKey(Constants.BatchExecutionConfig.CHUNK_SIZE)) {
+            chunkSize = batchConfig.getIntValue(Constants.BatchExecutionConfig.CHUNK_SIZE).intValue();
+        } else if (properties.containsKey(Constants.ConnectionStringProps.BATCH_SIZE)
+                && (Long) properties.get(Constants.ConnectionStringProps.BATCH_SIZE) > 0) {
+            chunkSize = ((Long) properties.get(Constants.ConnectionStringProps.BATCH_SIZE)).intValue();
+        }
+        return new ParallelBatchExecutor(parallelism, Math.max(chunkSize, 1));
+    }
+
+    private static PoolWarmer createPoolWarmer(BMap warmupConfig, BMap<BString, Object> properties,
+                                               BMap connectionPool) {
+        long connections = connectionPool.getIntValue(Constants.ConnectionPool.MIN_IDLE_CONNECTIONS);
+        if (warmupConfig != null && warmupConfig.containsKey(Constants.WarmupConfig.CONNECTIONS)) {
+            connections = warmupConfig.getIntValue(Constants.WarmupConfig.CONNECTIONS);
+        } else if (Boolean.TRUE.equals(properties.get(Constants.ConnectionStringProps.USE_CONNECTION_POOLING))) {
+            connections = (Long) properties.get(Constants.ConnectionStringProps.POOL_MIN_SIZE);
+        }
+        // Connections beyond the size of the pool would wait for the ones held by the warm-up.
+        connections = Math.max(0, Math.min(connections,
+                connectionPool.getIntValue(Constants.ConnectionPool.MAX_OPEN_CONNECTIONS)));
+        String probeQuery = null;
+        int probeTimeout = Constants.WarmupConfig.DEFAULT_PROBE_TIMEOUT;
+        if (warmupConfig != null) {
+            BString probeQueryVal = warmupConfig.getStringValue(Constants.WarmupConfig.PROBE_QUERY);
+            probeQuery = probeQueryVal == null ? null : probeQueryVal.getValue();
+            probeTimeout = warmupConfig.getIntValue(Constants.WarmupConfig.PROBE_TIMEOUT).intValue();
+        }
+        return new PoolWarmer((int) connections, probeQuery, probeTimeout);
     }
 
     // Unable to perform a complete validation since URL differs based on the database.
@@ -255,6 +567,32 @@ public class ClientProcessor {
     }
 
     public static Object close(BObject client) {
-        return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+        WorkerExecutor workerExecutor = (WorkerExecutor) client.getNativeData(Constants.NativeData.WORKER_EXECUTOR);
+        if (workerExecutor != null) {
+            workerExecutor.shutdown();
+        }
+        QueryResultCache cache = (QueryResultCache) client.getNativeData(Constants.NativeData.QUERY_RESULT_CACHE);
+        if (cache != null) {
+            cache.invalidate();
+        }
+        StatementCache statementCache = (StatementCache) client.getNativeData(Constants.NativeData.STATEMENT_CACHE);
+        if (statementCache != null) {
+            // The statements must be closed before the pool closes their connections.
+            statementCache.close();
+        }
+        TenantAdmission admission = TenantAdmission.of(client);
+        if (admission != null) {
+            admission.close();
+            client.addNativeData(Constants.NativeData.TENANT_ADMISSION, null);
+        }
+        MemoryBudget memoryBudget = MemoryBudget.of(client);
+        if (memoryBudget != null) {
+            memoryBudget.close();
+        }
+        ClientMetrics metrics = ClientMetrics.of(client);
+        if (metrics != null) {
+            metrics.close();
+        }
+        return DatasourceRegistry.close(client);
     }
 }
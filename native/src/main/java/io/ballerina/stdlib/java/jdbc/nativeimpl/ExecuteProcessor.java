@@ -19,9 +19,30 @@
 package io.ballerina.stdlib.java.jdbc.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.batch.ParallelBatchExecutor;
+import io.ballerina.stdlib.java.jdbc.cache.QueryResultCache;
+import io.ballerina.stdlib.java.jdbc.cache.TableNames;
+import io.ballerina.stdlib.java.jdbc.limiter.AdaptiveLimiter;
+import io.ballerina.stdlib.java.jdbc.metrics.ClientMetrics;
+import io.ballerina.stdlib.java.jdbc.metrics.Operation;
+import io.ballerina.stdlib.java.jdbc.scheduling.TenantAdmission;
+import io.ballerina.stdlib.java.jdbc.utils.ExecutionOptions;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+import io.ballerina.stdlib.java.jdbc.utils.WorkerExecutor;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * This class contains methods for executing SQL queries.
@@ -33,12 +54,135 @@ public class ExecuteProcessor {
     }
 
     public static Object nativeExecute(Environment env, BObject client, BObject paramSQLString) {
+        ClientMetrics.countInvocation(client, Operation.EXECUTE);
+        if (isProcessedByConnector(client)) {
+            return executeUpdate(env, client, paramSQLString, ExecutionOptions.of(client));
+        }
         return io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeExecute(env, client, paramSQLString,
           DefaultStatementParameterProcessor.getInstance());
     }
 
+    public static Object nativeExecuteWithOptions(Environment env, BObject client, BObject paramSQLString,
+                                                  BMap<BString, Object> options) {
+        ClientMetrics.countInvocation(client, Operation.EXECUTE);
+        // The options are applied to the statement, so the call is always executed by the connector.
+        return executeUpdate(env, client, paramSQLString, ExecutionOptions.of(client).merge(options));
+    }
+
     public static Object nativeBatchExecute(Environment env, BObject client, BArray paramSQLStrings) {
+        ClientMetrics.countInvocation(client, Operation.BATCH_EXECUTE);
+        boolean isWithinTrxBlock = Utils.isWithinTrxBlock(TransactionResourceManager.getInstance());
+        if (isWithinTrxBlock && isProcessedByConnector(client)) {
+            // Within a transaction, the whole batch is executed on the transaction's connection.
+            return executeBatch(env, client, paramSQLStrings, ParallelBatchExecutor.SEQUENTIAL,
+                    ExecutionOptions.of(client), true);
+        }
+        ParallelBatchExecutor batchExecutor = isWithinTrxBlock ? null : getBatchExecutor(client, paramSQLStrings);
+        if (batchExecutor != null) {
+            return executeBatch(env, client, paramSQLStrings, batchExecutor, ExecutionOptions.of(client), false);
+        }
         return io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeBatchExecute(env, client, paramSQLStrings,
                 DefaultStatementParameterProcessor.getInstance());    
     }
+
+    public static Object nativeBatchExecuteWithOptions(Environment env, BObject client, BArray paramSQLStrings,
+                                                       BMap<BString, Object> options) {
+        ClientMetrics.countInvocation(client, Operation.BATCH_EXECUTE);
+        ExecutionOptions executionOptions = ExecutionOptions.of(client).merge(options);
+        boolean isWithinTrxBlock = Utils.isWithinTrxBlock(TransactionResourceManager.getInstance());
+        // Within a transaction, the whole batch is executed on the transaction's connection.
+        ParallelBatchExecutor batchExecutor = isWithinTrxBlock ? null : getBatchExecutor(client, paramSQLStrings);
+        return executeBatch(env, client, paramSQLStrings,
+                batchExecutor == null ? ParallelBatchExecutor.SEQUENTIAL : batchExecutor, executionOptions,
+                isWithinTrxBlock);
+    }
+
+    private static Object executeUpdate(Environment env, BObject client, BObject paramSQLString,
+                                        ExecutionOptions executionOptions) {
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = Utils.isWithinTrxBlock(trxResourceManager);
+        return WorkerExecutor.execute(env, client, isWithinTrxBlock, () -> QueryUtils.executeUpdate(client,
+                paramSQLString, DefaultStatementParameterProcessor.getInstance(), executionOptions,
+                isWithinTrxBlock, trxResourceManager));
+    }
+
+    private static Object executeBatch(Environment env, BObject client, BArray paramSQLStrings,
+                                       ParallelBatchExecutor batchExecutor, ExecutionOptions executionOptions,
+                                       boolean isWithinTrxBlock) {
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        return WorkerExecutor.execute(env, client, isWithinTrxBlock, () -> batchExecutor.execute(client,
+                paramSQLStrings, executionOptions, isWithinTrxBlock, trxResourceManager,
+                DefaultStatementParameterProcessor.getInstance()));
+    }
+
+    // Returns the executor of a batch outside a transaction, which may split the batch into chunks.
+    private static ParallelBatchExecutor getBatchExecutor(BObject client, BArray paramSQLStrings) {
+        if (paramSQLStrings.size() == 0 || !(paramSQLStrings.get(0) instanceof BObject)) {
+            return null;
+        }
+        ParallelBatchExecutor parallelBatchExecutor = (ParallelBatchExecutor) client.getNativeData(
+                Constants.NativeData.PARALLEL_BATCH_EXECUTOR);
+        if (parallelBatchExecutor != null && parallelBatchExecutor.isApplicable(paramSQLStrings)) {
+            return parallelBatchExecutor;
+        }
+        if (isProcessedByConnector(client)) {
+            return ParallelBatchExecutor.SEQUENTIAL;
+        }
+        return null;
+    }
+
+    // Otherwise, the statements are executed by the `sql` module.
+    private static boolean isProcessedByConnector(BObject client) {
+        return client.getNativeData(Constants.NativeData.STATEMENT_CACHE) != null || ClientMetrics.of(client) != null
+                || WorkerExecutor.isConfigured(client) || AdaptiveLimiter.of(client) != null
+                || TenantAdmission.of(client) != null || ExecutionOptions.of(client).hasStatementOptions();
+    }
+
+    /**
+     * Invalidates the cached results of the tables modified by the given statements. This is called once the
+     * statements have been executed, whether or not they succeeded, as a failed batch may have applied some of its
+     * commands. The results read while the statements were executed are not cached either, as they may be of the rows
+     * before the statements.
+     *
+     * @param client          the client object
+     * @param paramSQLStrings the executed `sql:ParameterizedQuery` values or SQL strings
+     * @return the names of the invalidated tables, which are empty if the query cache is not configured
+     */
+    public static BArray invalidateModifiedTables(BObject client, BArray paramSQLStrings) {
+        QueryResultCache cache = (QueryResultCache) client.getNativeData(Constants.NativeData.QUERY_RESULT_CACHE);
+        if (cache == null) {
+            return ValueCreator.createArrayValue(new BString[0]);
+        }
+        Set<String> sqlQueries = new HashSet<>();
+        for (int i = 0; i < paramSQLStrings.size(); i++) {
+            Object sqlQuery = paramSQLStrings.get(i);
+            sqlQueries.add(sqlQuery instanceof BString ? ((BString) sqlQuery).getValue()
+                    : Utils.getSqlQuery((BObject) sqlQuery));
+        }
+        Set<String> tableNames = new LinkedHashSet<>();
+        for (String sqlQuery : sqlQueries) {
+            tableNames.addAll(TableNames.fromStatement(sqlQuery));
+        }
+        cache.invalidate(tableNames);
+        BString[] invalidatedTables = new BString[tableNames.size()];
+        int i = 0;
+        for (String tableName : tableNames) {
+            invalidatedTables[i++] = StringUtils.fromString(tableName);
+        }
+        return ValueCreator.createArrayValue(invalidatedTables);
+    }
+
+    /**
+     * Invalidates the cached results of the given tables, e.g., once the transaction that modified them is
+     * committed.
+     */
+    public static void invalidateTables(BObject client, BArray tableNames) {
+        QueryResultCache cache = (QueryResultCache) client.getNativeData(Constants.NativeData.QUERY_RESULT_CACHE);
+        if (cache == null) {
+            return;
+        }
+        for (int i = 0; i < tableNames.size(); i++) {
+            cache.invalidate(tableNames.getBString(i).getValue());
+        }
+    }
 }
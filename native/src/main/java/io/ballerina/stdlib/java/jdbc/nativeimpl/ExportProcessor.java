@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.cache.StatementCache;
+import io.ballerina.stdlib.java.jdbc.export.ExportFormat;
+import io.ballerina.stdlib.java.jdbc.export.ExportWriter;
+import io.ballerina.stdlib.java.jdbc.export.RowEncoder;
+import io.ballerina.stdlib.java.jdbc.metrics.ClientMetrics;
+import io.ballerina.stdlib.java.jdbc.metrics.ExecutionTimer;
+import io.ballerina.stdlib.java.jdbc.metrics.Operation;
+import io.ballerina.stdlib.java.jdbc.utils.ExecutionOptions;
+import io.ballerina.stdlib.java.jdbc.utils.ModuleUtils;
+import io.ballerina.stdlib.java.jdbc.utils.QueryOptions;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+import io.ballerina.stdlib.java.jdbc.utils.WorkerExecutor;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class provides the native implementation of `exportQuery`, which writes the rows of a query to a file without
+ * mapping them to Ballerina records.
+ *
+ * @since 1.2.0
+ */
+public class ExportProcessor {
+
+    // The encoded rows are written out in chunks of about this many characters.
+    private static final int WRITE_THRESHOLD = 32 * 1024;
+
+    private ExportProcessor() {
+    }
+
+    public static Object nativeExportQuery(Environment env, BObject client, BObject paramSQLString, BString path,
+                                           BMap<BString, Object> options) {
+        ClientMetrics.countInvocation(client, Operation.QUERY);
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = Utils.isWithinTrxBlock(trxResourceManager);
+        return WorkerExecutor.execute(env, client, isWithinTrxBlock, () -> {
+            ExecutionTimer timer = ExecutionTimer.start(client, Operation.QUERY);
+            Object result = exportQuery(client, paramSQLString, path.getValue(), options, isWithinTrxBlock,
+                    trxResourceManager, timer);
+            timer.recordError(result);
+            timer.finish();
+            return result;
+        });
+    }
+
+    private static Object exportQuery(BObject client, BObject paramSQLString, String path,
+                                      BMap<BString, Object> options, boolean isWithinTrxBlock,
+                                      TransactionResourceManager trxResourceManager, ExecutionTimer timer) {
+        Object validationError = QueryUtils.validateClient(client);
+        if (validationError != null) {
+            return validationError;
+        }
+        ExportFormat format = ExportFormat.valueOf(options.getStringValue(Constants.ExportOptions.FORMAT).getValue());
+        boolean header = options.getBooleanValue(Constants.ExportOptions.HEADER);
+        boolean gzip = options.getBooleanValue(Constants.ExportOptions.GZIP);
+        boolean append = options.getBooleanValue(Constants.ExportOptions.APPEND);
+        ExecutionOptions executionOptions = QueryOptions.of(client).getExecutionOptions().merge(options);
+        SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        StatementCache statementCache = (StatementCache) client.getNativeData(Constants.NativeData.STATEMENT_CACHE);
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        ExportWriter writer = null;
+        String sqlQuery = null;
+        boolean reusable = true;
+        try {
+            sqlQuery = Utils.getSqlQuery(paramSQLString);
+            long startNanos = timer.now();
+            connection = SQLDatasource.getConnection(isWithinTrxBlock, trxResourceManager, client, sqlDatasource);
+            timer.addPoolWait(startNanos);
+            startNanos = timer.now();
+            executionOptions.applyTo(connection, isWithinTrxBlock);
+            statement = QueryUtils.prepareStatement(statementCache, connection, sqlQuery, false);
+            executionOptions.applyTo(statement, statementCache != null);
+            DefaultStatementParameterProcessor.getInstance().setParams(connection, statement, paramSQLString);
+            resultSet = statement.executeQuery();
+            timer.addDriver(startNanos);
+            // The file is opened only once the query has succeeded, so that a failed query leaves it untouched.
+            writer = new ExportWriter(Paths.get(path), append, gzip);
+            RowEncoder encoder = new RowEncoder(format, resultSet.getMetaData());
+            StringBuilder lines = new StringBuilder(WRITE_THRESHOLD * 2);
+            if (header) {
+                encoder.appendHeader(lines);
+            }
+            long rowCount = 0;
+            startNanos = timer.now();
+            while (resultSet.next()) {
+                encoder.appendRow(resultSet, lines);
+                rowCount++;
+                if (lines.length() >= WRITE_THRESHOLD) {
+                    writer.write(lines);
+                    lines.setLength(0);
+                }
+            }
+            writer.write(lines);
+            long byteCount = writer.commit();
+            writer = null;
+            timer.addMapping(startNanos);
+            return createExportResult(rowCount, byteCount);
+        } catch (SQLException e) {
+            reusable = false;
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } catch (IOException | InvalidPathException e) {
+            return ErrorGenerator.getSQLApplicationError(String.format("Error while exporting the rows to '%s': %s",
+                    path, e.getMessage()));
+        } finally {
+            if (writer != null) {
+                writer.abort();
+            }
+            QueryUtils.closeResources(statementCache, isWithinTrxBlock, resultSet, statement, connection, reusable);
+        }
+    }
+
+    private static BMap<BString, Object> createExportResult(long rowCount, long byteCount) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(Constants.ExportResult.ROW_COUNT, rowCount);
+        fields.put(Constants.ExportResult.BYTE_COUNT, byteCount);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.ExportResult.RECORD_NAME, fields);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.incremental.CheckpointFile;
+import io.ballerina.stdlib.java.jdbc.incremental.Watermark;
+import io.ballerina.stdlib.java.jdbc.incremental.WatermarkRowIterator;
+import io.ballerina.stdlib.java.jdbc.iterator.PermitRowIterator;
+import io.ballerina.stdlib.java.jdbc.iterator.RowIterator;
+import io.ballerina.stdlib.java.jdbc.memory.ResultMemory;
+import io.ballerina.stdlib.java.jdbc.metrics.ClientMetrics;
+import io.ballerina.stdlib.java.jdbc.metrics.Operation;
+import io.ballerina.stdlib.java.jdbc.utils.ColumnNames;
+import io.ballerina.stdlib.java.jdbc.utils.ExecutionOptions;
+import io.ballerina.stdlib.java.jdbc.utils.QueryOptions;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+import io.ballerina.stdlib.java.jdbc.utils.WorkerExecutor;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
+/**
+ * This class provides the native implementation of the incremental queries, which read the rows modified since the
+ * watermark of the previous run and checkpoint the new watermark as the rows are consumed.
+ *
+ * @since 1.2.0
+ */
+public class IncrementalQueryProcessor {
+
+    private static final String SOURCE_ALIAS = "cdata_incremental_source";
+
+    private IncrementalQueryProcessor() {
+    }
+
+    public static BStream nativeQueryIncremental(Environment env, BObject client, BObject paramSQLString,
+                                                 BMap<BString, Object> incrementalConfig, BTypedesc recordType) {
+        ClientMetrics.countInvocation(client, Operation.QUERY);
+        RecordType streamConstraint = (RecordType) TypeUtils.getReferredType(recordType.getDescribingType());
+        ExecutionOptions executionOptions = QueryOptions.of(client).getExecutionOptions();
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = Utils.isWithinTrxBlock(trxResourceManager);
+        return (BStream) WorkerExecutor.executeHolding(env, client, isWithinTrxBlock, permits -> {
+            Object result = executeIncremental(client, paramSQLString, incrementalConfig, streamConstraint,
+                    executionOptions, isWithinTrxBlock, trxResourceManager);
+            if (result instanceof BError) {
+                return QueryUtils.createErrorStream(streamConstraint, (BError) result);
+            }
+            return QueryUtils.createRecordStream(streamConstraint,
+                    new PermitRowIterator((RowIterator) result, permits));
+        });
+    }
+
+    private static Object executeIncremental(BObject client, BObject paramSQLString,
+                                             BMap<BString, Object> incrementalConfig, RecordType streamConstraint,
+                                             ExecutionOptions executionOptions, boolean isWithinTrxBlock,
+                                             TransactionResourceManager trxResourceManager) {
+        String column;
+        CheckpointFile checkpoint;
+        Watermark startWatermark;
+        long checkpointInterval = incrementalConfig.getIntValue(Constants.IncrementalConfig.CHECKPOINT_INTERVAL);
+        try {
+            if (checkpointInterval < 1) {
+                throw new ApplicationError("The checkpoint interval must be positive.");
+            }
+            column = ColumnNames.validate(incrementalConfig.getStringValue(
+                    Constants.IncrementalConfig.WATERMARK_COLUMN).getValue(), "watermark");
+            checkpoint = new CheckpointFile(Paths.get(incrementalConfig.getStringValue(
+                    Constants.IncrementalConfig.CHECKPOINT_FILE).getValue()), column);
+            startWatermark = checkpoint.read();
+        } catch (ApplicationError | InvalidPathException e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } catch (IOException e) {
+            return ErrorGenerator.getSQLApplicationError("Error while reading the checkpoint of the watermark: "
+                    + e.getMessage());
+        }
+        // The rows are ordered by the watermark, so that the consumed rows can be checkpointed during the stream.
+        String sqlQuery = "SELECT * FROM (" + QueryUtils.stripTerminator(Utils.getSqlQuery(paramSQLString)) + ") "
+                + SOURCE_ALIAS + (startWatermark == null ? "" : " WHERE " + column + " > ?") + " ORDER BY " + column;
+        Object result = QueryUtils.executeQuery(client, sqlQuery, paramSQLString, startWatermark, streamConstraint,
+                DefaultStatementParameterProcessor.getInstance(), DefaultResultParameterProcessor.getInstance(),
+                executionOptions, ResultMemory.start(client, executionOptions), isWithinTrxBlock, trxResourceManager);
+        if (result instanceof BError) {
+            return result;
+        }
+        return new WatermarkRowIterator((RowIterator) result, ColumnNames.unquote(column), checkpoint,
+                (int) Math.min(checkpointInterval, Integer.MAX_VALUE), startWatermark);
+    }
+}
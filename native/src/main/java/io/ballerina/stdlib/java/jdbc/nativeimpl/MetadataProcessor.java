@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.java.jdbc.metadata.MetadataCache;
+import io.ballerina.stdlib.java.jdbc.metadata.MetadataKey;
+import io.ballerina.stdlib.java.jdbc.metadata.MetadataKind;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+import io.ballerina.stdlib.java.jdbc.utils.WorkerExecutor;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * This class provides the native implementation of the metadata methods of the client, which read the connections,
+ * tables, columns and procedures from the `DatabaseMetaData` of the driver through the metadata cache of the client.
+ *
+ * @since 1.2.0
+ */
+public class MetadataProcessor {
+
+    private MetadataProcessor() {
+    }
+
+    public static Object getConnections(Environment env, BObject client) {
+        return getMetadata(env, client, new MetadataKey(MetadataKind.CONNECTIONS, null, null, null));
+    }
+
+    public static Object getTables(Environment env, BObject client, Object connection, Object schema) {
+        return getMetadata(env, client, new MetadataKey(MetadataKind.TABLES, getValue(connection), getValue(schema),
+                null));
+    }
+
+    public static Object getColumns(Environment env, BObject client, BString table, Object connection,
+                                    Object schema) {
+        return getMetadata(env, client, new MetadataKey(MetadataKind.COLUMNS, getValue(connection),
+                getValue(schema), table.getValue()));
+    }
+
+    public static Object getProcedures(Environment env, BObject client, Object connection, Object schema) {
+        return getMetadata(env, client, new MetadataKey(MetadataKind.PROCEDURES, getValue(connection),
+                getValue(schema), null));
+    }
+
+    public static Object invalidateMetadataCache(BObject client, Object connection) {
+        MetadataCache metadataCache = MetadataCache.of(client);
+        if (metadataCache == null) {
+            return null;
+        }
+        try {
+            metadataCache.invalidate(getValue(connection));
+            return null;
+        } catch (IOException e) {
+            return ErrorGenerator.getSQLApplicationError("Error while deleting the persisted metadata: "
+                    + e.getMessage());
+        }
+    }
+
+    private static Object getMetadata(Environment env, BObject client, MetadataKey key) {
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = Utils.isWithinTrxBlock(trxResourceManager);
+        return WorkerExecutor.execute(env, client, isWithinTrxBlock, () -> {
+            Object validationError = QueryUtils.validateClient(client);
+            if (validationError != null) {
+                return validationError;
+            }
+            MetadataCache metadataCache = MetadataCache.of(client);
+            MetadataCache.Loader loader = () -> readMetadata(client, key, isWithinTrxBlock, trxResourceManager);
+            try {
+                List<Object[]> rows = metadataCache == null ? loader.load() : metadataCache.get(key, loader);
+                return key.getKind().toBallerina(rows);
+            } catch (SQLException e) {
+                return ErrorGenerator.getSQLDatabaseError(e, String.format("Error while reading the metadata: %s. ",
+                        key));
+            }
+        });
+    }
+
+    private static List<Object[]> readMetadata(BObject client, MetadataKey key, boolean isWithinTrxBlock,
+                                               TransactionResourceManager trxResourceManager) throws SQLException {
+        SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        Connection connection = null;
+        try {
+            connection = SQLDatasource.getConnection(isWithinTrxBlock, trxResourceManager, client, sqlDatasource);
+            return key.getKind().read(connection.getMetaData(), key);
+        } finally {
+            QueryUtils.closeResources(null, isWithinTrxBlock, null, null, connection, true);
+        }
+    }
+
+    private static String getValue(Object value) {
+        return value == null ? null : ((BString) value).getValue();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.call.ProcedureResultSets;
+import io.ballerina.stdlib.java.jdbc.iterator.RowIterator;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+import io.ballerina.stdlib.java.jdbc.utils.WorkerExecutor;
+
+/**
+ * This class provides the native implementation of the `ProcedureResultSets` returned by `callStreaming`.
+ *
+ * @since 1.2.0
+ */
+public class ProcedureResultSetsProcessor {
+
+    private ProcedureResultSetsProcessor() {
+    }
+
+    public static Object nextResultSet(Environment env, BObject resultSetsObject, BTypedesc rowType) {
+        ProcedureResultSets resultSets = (ProcedureResultSets) resultSetsObject.getNativeData(
+                Constants.NativeData.PROCEDURE_RESULT_SETS);
+        RecordType recordType = (RecordType) TypeUtils.getReferredType(rowType.getDescribingType());
+        // The result sets are read within the permits held by the call.
+        return WorkerExecutor.executeAdmitted(env, resultSets.getClient(), resultSets.isWithinTrxBlock(), () -> {
+            Object result = resultSets.next(recordType);
+            if (result instanceof RowIterator) {
+                return QueryUtils.createRecordStream(recordType, (RowIterator) result);
+            }
+            return result;
+        });
+    }
+
+    public static Object closeResultSets(BObject resultSetsObject) {
+        ProcedureResultSets resultSets = (ProcedureResultSets) resultSetsObject.getNativeData(
+                Constants.NativeData.PROCEDURE_RESULT_SETS);
+        resultSets.close();
+        return null;
+    }
+}
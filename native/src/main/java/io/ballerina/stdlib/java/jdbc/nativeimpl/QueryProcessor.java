@@ -19,11 +19,58 @@
 package io.ballerina.stdlib.java.jdbc.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.cache.CachingRowIterator;
+import io.ballerina.stdlib.java.jdbc.cache.QueryCacheKey;
+import io.ballerina.stdlib.java.jdbc.cache.QueryResultCache;
+import io.ballerina.stdlib.java.jdbc.cache.QueryRowCoalescer;
+import io.ballerina.stdlib.java.jdbc.hedging.Attempt;
+import io.ballerina.stdlib.java.jdbc.hedging.HedgedRead;
+import io.ballerina.stdlib.java.jdbc.hedging.ReadPolicy;
+import io.ballerina.stdlib.java.jdbc.iterator.CachedRowIterator;
+import io.ballerina.stdlib.java.jdbc.iterator.PartitionedRowIterator;
+import io.ballerina.stdlib.java.jdbc.iterator.PermitRowIterator;
+import io.ballerina.stdlib.java.jdbc.iterator.ReadAheadRowIterator;
+import io.ballerina.stdlib.java.jdbc.iterator.RowIterator;
+import io.ballerina.stdlib.java.jdbc.memory.ResultMemory;
+import io.ballerina.stdlib.java.jdbc.metrics.ClientMetrics;
+import io.ballerina.stdlib.java.jdbc.metrics.Operation;
+import io.ballerina.stdlib.java.jdbc.partition.PartitionedQuery;
+import io.ballerina.stdlib.java.jdbc.utils.ExecutionOptions;
+import io.ballerina.stdlib.java.jdbc.utils.ModuleUtils;
+import io.ballerina.stdlib.java.jdbc.utils.QueryOptions;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+import io.ballerina.stdlib.java.jdbc.utils.WorkerExecutor;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool.SQL_EXECUTOR_SERVICE;
 
 /**
  * This class provides the query processing implementation which executes sql queries.
@@ -37,20 +84,263 @@ public class QueryProcessor {
 
     public static BStream nativeQuery(Environment env, BObject client, BObject paramSQLString,
                                       BTypedesc recordType) {
+        return query(env, client, paramSQLString, recordType, null);
+    }
+
+    public static BStream nativeQueryWithOptions(Environment env, BObject client, BObject paramSQLString,
+                                                 BTypedesc recordType, BMap<BString, Object> options) {
+        return query(env, client, paramSQLString, recordType, options);
+    }
+
+    private static BStream query(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType,
+                                 BMap<BString, Object> callOptions) {
+        ClientMetrics.countInvocation(client, Operation.QUERY);
         DefaultStatementParameterProcessor statementParametersProcessor = DefaultStatementParameterProcessor
                 .getInstance();
         DefaultResultParameterProcessor resultParametersProcessor = DefaultResultParameterProcessor
                 .getInstance();
-        return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQuery(env, client, paramSQLString, recordType,
-                statementParametersProcessor, resultParametersProcessor);
+        QueryResultCache cache = (QueryResultCache) client.getNativeData(Constants.NativeData.QUERY_RESULT_CACHE);
+        QueryOptions options = QueryOptions.of(client).merge(callOptions);
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = Utils.isWithinTrxBlock(trxResourceManager);
+        RecordType streamConstraint = (RecordType) TypeUtils.getReferredType(recordType.getDescribingType());
+        // A call that limits its rows neither reads nor populates the cache, as its result is incomplete.
+        boolean limitsRows = callOptions != null && callOptions.containsKey(Constants.ExecutionOptions.MAX_ROWS);
+        QueryCacheKey key = cache == null || isWithinTrxBlock || limitsRows ? null
+                : QueryCacheKey.create(paramSQLString, streamConstraint, true);
+        // The generation is taken before the query is executed, so that the result is not cached if a write
+        // invalidates the cache in the meantime.
+        long generation = key == null ? 0 : cache.getGeneration();
+        if (key != null) {
+            List<BMap<BString, Object>> cachedRecords = cache.getRecords(key);
+            if (cachedRecords != null) {
+                return QueryUtils.createRecordStream(streamConstraint, new CachedRowIterator(cachedRecords));
+            }
+        }
+        return (BStream) WorkerExecutor.executeHolding(env, client, isWithinTrxBlock, permits -> {
+            // The rows materialized for the stream, and the rows held by the connector ahead of the consumer or to be
+            // cached, are accounted for the stream.
+            ResultMemory memory = ResultMemory.start(client, options.getExecutionOptions());
+            Object result = QueryUtils.executeQuery(client, paramSQLString, streamConstraint,
+                    statementParametersProcessor, resultParametersProcessor, options.getExecutionOptions(), memory,
+                    isWithinTrxBlock, trxResourceManager);
+            if (result instanceof BError) {
+                return QueryUtils.createErrorStream(streamConstraint, (BError) result);
+            }
+            // The stream holds the permits of the call while it reads the rows on the connection of the call. They
+            // are released once the connection is released, by the reading thread of a read-ahead stream.
+            RowIterator rowIterator = new PermitRowIterator((RowIterator) result, permits);
+            // JDBC connections are not safe for concurrent use, hence the connection of a transaction, which the
+            // strand may use for other statements meanwhile, is not read on a background thread.
+            if (options.isReadAhead() && !isWithinTrxBlock) {
+                rowIterator = new ReadAheadRowIterator(rowIterator, options.getReadAheadBufferSize(), memory,
+                        SQL_EXECUTOR_SERVICE);
+            }
+            if (key != null) {
+                rowIterator = new CachingRowIterator(rowIterator, cache, key, generation, memory);
+            }
+            return QueryUtils.createRecordStream(streamConstraint, rowIterator);
+        });
     }
 
-    public static Object nativeQueryRow(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType) {
+    public static BStream nativeQueryPartitioned(Environment env, BObject client, BObject paramSQLString,
+                                                 BMap<BString, Object> partitionConfig, BTypedesc recordType) {
+        ClientMetrics.countInvocation(client, Operation.QUERY);
+        RecordType streamConstraint = (RecordType) TypeUtils.getReferredType(recordType.getDescribingType());
+        ExecutionOptions executionOptions = QueryOptions.of(client).getExecutionOptions();
+        // The partitions are read on connections of their own, hence never within a transaction.
+        return (BStream) WorkerExecutor.execute(env, client, false, () -> {
+            Object result = executePartitioned(client, paramSQLString, partitionConfig, streamConstraint,
+                    executionOptions);
+            if (result instanceof BError) {
+                return QueryUtils.createErrorStream(streamConstraint, (BError) result);
+            }
+            return QueryUtils.createRecordStream(streamConstraint, (RowIterator) result);
+        });
+    }
+
+    private static Object executePartitioned(BObject client, BObject paramSQLString,
+                                             BMap<BString, Object> partitionConfig, RecordType streamConstraint,
+                                             ExecutionOptions executionOptions) {
+        Object validationError = QueryUtils.validateClient(client);
+        if (validationError != null) {
+            return validationError;
+        }
         DefaultStatementParameterProcessor statementParametersProcessor = DefaultStatementParameterProcessor
                 .getInstance();
-        DefaultResultParameterProcessor resultParametersProcessor = DefaultResultParameterProcessor
-                .getInstance();
-        return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQueryRow(env, client, paramSQLString, recordType,
-                statementParametersProcessor, resultParametersProcessor);
+        DefaultResultParameterProcessor resultParametersProcessor = DefaultResultParameterProcessor.getInstance();
+        long partitions = partitionConfig.getIntValue(Constants.PartitionConfig.PARTITIONS);
+        long bufferSize = partitionConfig.getIntValue(Constants.PartitionConfig.BUFFER_SIZE);
+        List<String> partitionQueries;
+        try {
+            if (partitions < 1 || bufferSize < 1) {
+                throw new ApplicationError("The number of partitions and the buffer size must be positive.");
+            }
+            PartitionedQuery query = new PartitionedQuery(Utils.getSqlQuery(paramSQLString),
+                    partitionConfig.getStringValue(Constants.PartitionConfig.COLUMN).getValue());
+            List<Long> boundaries = new ArrayList<>();
+            boolean hasLowerBound = partitionConfig.containsKey(Constants.PartitionConfig.LOWER_BOUND);
+            boolean hasUpperBound = partitionConfig.containsKey(Constants.PartitionConfig.UPPER_BOUND);
+            if (partitionConfig.containsKey(Constants.PartitionConfig.BOUNDS)) {
+                for (long bound : partitionConfig.getArrayValue(Constants.PartitionConfig.BOUNDS).getIntArray()) {
+                    if (!boundaries.isEmpty() && boundaries.get(boundaries.size() - 1) >= bound) {
+                        throw new ApplicationError("The partition bounds must be in ascending order without "
+                                + "duplicates.");
+                    }
+                    boundaries.add(bound);
+                }
+            } else if (hasLowerBound && hasUpperBound) {
+                long lowerBound = partitionConfig.getIntValue(Constants.PartitionConfig.LOWER_BOUND);
+                long upperBound = partitionConfig.getIntValue(Constants.PartitionConfig.UPPER_BOUND);
+                if (lowerBound > upperBound) {
+                    throw new ApplicationError("The lower bound of the partitions must not exceed the upper bound.");
+                }
+                boundaries = PartitionedQuery.split(lowerBound, upperBound, (int) partitions);
+            } else if (hasLowerBound || hasUpperBound) {
+                throw new ApplicationError("Both the lower and the upper bounds of the partitions must be provided.");
+            } else {
+                long[] bounds = query.queryBounds(client, paramSQLString, statementParametersProcessor);
+                if (bounds != null) {
+                    boundaries = PartitionedQuery.split(bounds[0], bounds[1], (int) partitions);
+                }
+            }
+            partitionQueries = query.getPartitionQueries(boundaries);
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e, "Error while reading the bounds of the partitions. ");
+        } catch (ApplicationError | DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+        // The rows of all the partitions are accounted for the stream.
+        ResultMemory memory = ResultMemory.start(client, executionOptions);
+        List<Supplier<Object>> partitionExecutions = new ArrayList<>(partitionQueries.size());
+        for (String partitionQuery : partitionQueries) {
+            partitionExecutions.add(() -> QueryUtils.executeQuery(client, partitionQuery, paramSQLString, null,
+                    streamConstraint, statementParametersProcessor, resultParametersProcessor, executionOptions,
+                    memory, false, null));
+        }
+        long parallelism = partitionConfig.containsKey(Constants.PartitionConfig.PARALLELISM)
+                ? partitionConfig.getIntValue(Constants.PartitionConfig.PARALLELISM) : partitionQueries.size();
+        // The partitions are executed as the calls of the client, within its worker pool and its limits, and each
+        // partition holds the permits of its call while its rows are read.
+        return new PartitionedRowIterator(partitionExecutions, (int) Math.max(parallelism, 1), (int) bufferSize, memory,
+                (execution, callback) -> WorkerExecutor.execute(client, execution, callback));
+    }
+
+    public static Object nativeQueryRow(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType) {
+        return queryRow(env, client, paramSQLString, recordType, null);
+    }
+
+    public static Object nativeQueryRowWithOptions(Environment env, BObject client, BObject paramSQLString,
+                                                   BTypedesc recordType, BMap<BString, Object> options) {
+        return queryRow(env, client, paramSQLString, recordType, options);
+    }
+
+    private static Object queryRow(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType,
+                                   BMap<BString, Object> callOptions) {
+        ClientMetrics.countInvocation(client, Operation.QUERY_ROW);
+        ExecutionOptions options = ExecutionOptions.of(client).merge(callOptions);
+        QueryResultCache cache = (QueryResultCache) client.getNativeData(Constants.NativeData.QUERY_RESULT_CACHE);
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = Utils.isWithinTrxBlock(trxResourceManager);
+        Type describingType = TypeUtils.getReferredType(recordType.getDescribingType());
+        QueryRowCoalescer coalescer = (QueryRowCoalescer) client.getNativeData(
+                Constants.NativeData.QUERY_ROW_COALESCER);
+        QueryCacheKey key = (cache == null && coalescer == null) || isWithinTrxBlock ? null
+                : QueryCacheKey.create(paramSQLString, describingType, false);
+        long generation = key == null || cache == null ? 0 : cache.getGeneration();
+        if (key != null && cache != null) {
+            Object cachedValue = cache.getValue(key);
+            if (cachedValue != null) {
+                return cachedValue;
+            }
+        }
+        // A call with options of its own is not coalesced, as it would share the execution of another call.
+        if (key != null && coalescer != null && callOptions == null) {
+            Future balFuture = env.markAsync();
+            CompletableFuture<Object> execution = coalescer.join(key, balFuture::complete);
+            if (execution == null) {
+                return null;
+            }
+            executeQueryRowAsync(client, attempt -> executeQueryRow(client, paramSQLString, describingType, cache,
+                    key, generation, options, false, trxResourceManager, attempt), result -> {
+                // The coalesced calls copy the result before it is handed over to this call.
+                coalescer.complete(key, execution, result);
+                balFuture.complete(result);
+            });
+            return null;
+        }
+        // Calls within a transaction are neither hedged nor retried, as they must use the transaction's connection.
+        if (!isWithinTrxBlock && ReadPolicy.of(client) != null) {
+            executeQueryRowAsync(client, attempt -> executeQueryRow(client, paramSQLString, describingType, cache,
+                    key, generation, options, false, trxResourceManager, attempt), env.markAsync()::complete);
+            return null;
+        }
+        return WorkerExecutor.execute(env, client, isWithinTrxBlock, () -> executeQueryRow(client, paramSQLString,
+                describingType, cache, key, generation, options, isWithinTrxBlock, trxResourceManager, null));
+    }
+
+    private static void executeQueryRowAsync(BObject client, Function<Attempt, Object> work,
+                                             Consumer<Object> callback) {
+        ReadPolicy policy = ReadPolicy.of(client);
+        if (policy == null) {
+            WorkerExecutor.execute(client, () -> work.apply(null), callback);
+        } else {
+            new HedgedRead(client, policy, work, callback).start();
+        }
+    }
+
+    private static Object executeQueryRow(BObject client, BObject paramSQLString, Type describingType,
+                                          QueryResultCache cache, QueryCacheKey key, long generation,
+                                          ExecutionOptions options, boolean isWithinTrxBlock,
+                                          TransactionResourceManager trxResourceManager, Attempt attempt) {
+        Object result = QueryUtils.executeQueryRow(client, paramSQLString, describingType,
+                DefaultStatementParameterProcessor.getInstance(), DefaultResultParameterProcessor.getInstance(),
+                options, isWithinTrxBlock, trxResourceManager, attempt);
+        // Errors (including `sql:NoRowsError`) and `()` column values are not cached.
+        if (cache != null && key != null && result != null && !(result instanceof BError)) {
+            cache.putValue(key, result, generation);
+        }
+        return result;
+    }
+
+    public static Object getCoalescingStats(BObject client) {
+        QueryRowCoalescer coalescer = (QueryRowCoalescer) client.getNativeData(
+                Constants.NativeData.QUERY_ROW_COALESCER);
+        if (coalescer == null) {
+            return null;
+        }
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.CoalescingStats.RECORD_NAME,
+                coalescer.getStats());
+    }
+
+    public static Object getReadPolicyStats(BObject client) {
+        ReadPolicy policy = ReadPolicy.of(client);
+        if (policy == null) {
+            return null;
+        }
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.ReadPolicyStats.RECORD_NAME,
+                policy.getStats());
+    }
+
+    public static void invalidateQueryCache(BObject client, Object tableName) {
+        QueryResultCache cache = (QueryResultCache) client.getNativeData(Constants.NativeData.QUERY_RESULT_CACHE);
+        if (cache == null) {
+            return;
+        }
+        if (tableName == null) {
+            cache.invalidate();
+        } else {
+            cache.invalidate(((BString) tableName).getValue());
+        }
+    }
+
+    public static Object getQueryCacheStats(BObject client) {
+        QueryResultCache cache = (QueryResultCache) client.getNativeData(Constants.NativeData.QUERY_RESULT_CACHE);
+        if (cache == null) {
+            return null;
+        }
+        Map<String, Object> stats = new HashMap<>(cache.getStats());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.QueryCacheStats.RECORD_NAME,
+                stats);
     }
 }
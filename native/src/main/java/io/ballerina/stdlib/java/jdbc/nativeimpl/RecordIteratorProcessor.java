@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.nativeimpl;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.iterator.RowIterator;
+
+/**
+ * This class provides the native implementation of the `ResultIterator` used for the streams produced by the
+ * connector.
+ *
+ * @since 1.2.0
+ */
+public class RecordIteratorProcessor {
+
+    private RecordIteratorProcessor() {
+    }
+
+    public static Object nextResult(BObject recordIterator) {
+        RowIterator rowIterator = (RowIterator) recordIterator.getNativeData(Constants.NativeData.ROW_ITERATOR);
+        return rowIterator == null ? null : rowIterator.next();
+    }
+
+    public static Object closeResult(BObject recordIterator) {
+        RowIterator rowIterator = (RowIterator) recordIterator.getNativeData(Constants.NativeData.ROW_ITERATOR);
+        return rowIterator == null ? null : rowIterator.close();
+    }
+}
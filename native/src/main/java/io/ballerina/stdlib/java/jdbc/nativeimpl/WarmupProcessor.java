@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.datasource.PoolWarmer;
+import io.ballerina.stdlib.java.jdbc.utils.ModuleUtils;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+/**
+ * This class provides the native implementation of the connection pool warm-up of the client.
+ *
+ * @since 1.2.0
+ */
+public class WarmupProcessor {
+
+    private WarmupProcessor() {
+    }
+
+    public static Object warmup(Environment env, BObject client) {
+        Object clientError = QueryUtils.validateClient(client);
+        if (clientError != null) {
+            return clientError;
+        }
+        PoolWarmer warmer = (PoolWarmer) client.getNativeData(Constants.NativeData.POOL_WARMER);
+        SQLDatasource datasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        Future balFuture = env.markAsync();
+        warmer.start(datasource).thenRun(() -> balFuture.complete(getWarmupError(warmer)));
+        return null;
+    }
+
+    public static boolean isReady(BObject client) {
+        PoolWarmer warmer = (PoolWarmer) client.getNativeData(Constants.NativeData.POOL_WARMER);
+        return warmer.isReady();
+    }
+
+    public static Object getWarmupStatus(BObject client) {
+        PoolWarmer warmer = (PoolWarmer) client.getNativeData(Constants.NativeData.POOL_WARMER);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.WarmupStatus.RECORD_NAME,
+                warmer.getStatus());
+    }
+
+    static Object getWarmupError(PoolWarmer warmer) {
+        String failureMessage = warmer.getFailureMessage();
+        if (failureMessage == null) {
+            return null;
+        }
+        return ErrorGenerator.getSQLApplicationError("Error while warming up the connection pool. " + failureMessage);
+    }
+}
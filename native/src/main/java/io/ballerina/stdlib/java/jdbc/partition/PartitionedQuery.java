@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.partition;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.utils.ColumnNames;
+import io.ballerina.stdlib.java.jdbc.utils.QueryUtils;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractStatementParameterProcessor;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a query into range-restricted sub-queries on an integer column of its result. The query is used as a
+ * derived table, so that the range predicates apply to its result regardless of its own clauses, and the
+ * sub-queries have the same parameters as the query.
+ * <p>
+ * The partitions are defined by ascending boundaries. The first partition also reads the `NULL` values of the
+ * column and the first and the last partitions are open ended, so that every row of the query is read once.
+ *
+ * @since 1.2.0
+ */
+public class PartitionedQuery {
+
+    private static final String SOURCE_ALIAS = "cdata_partition_source";
+
+    private final String sqlQuery;
+    private final String column;
+
+    public PartitionedQuery(String sqlQuery, String column) throws ApplicationError {
+        this.sqlQuery = QueryUtils.stripTerminator(sqlQuery);
+        this.column = ColumnNames.validate(column, "partition");
+    }
+
+    /**
+     * Splits the range between the bounds into the given number of boundaries of equal ranges.
+     *
+     * @param lowerBound the lower bound of the range
+     * @param upperBound the upper bound of the range
+     * @param partitions the number of partitions
+     * @return the ascending boundaries between the partitions
+     */
+    public static List<Long> split(long lowerBound, long upperBound, int partitions) {
+        List<Long> boundaries = new ArrayList<>();
+        // The width of the range may exceed the range of a long.
+        BigInteger lower = BigInteger.valueOf(lowerBound);
+        BigInteger width = BigInteger.valueOf(upperBound).subtract(lower).add(BigInteger.ONE);
+        BigInteger count = BigInteger.valueOf(partitions);
+        for (int i = 1; i < partitions; i++) {
+            BigInteger[] offset = width.multiply(BigInteger.valueOf(i)).divideAndRemainder(count);
+            long boundary = lower.add(offset[0]).add(offset[1].signum() > 0 ? BigInteger.ONE : BigInteger.ZERO)
+                    .longValue();
+            if (boundary > upperBound) {
+                break;
+            }
+            if (boundaries.isEmpty() || boundaries.get(boundaries.size() - 1) < boundary) {
+                boundaries.add(boundary);
+            }
+        }
+        return boundaries;
+    }
+
+    /**
+     * Returns the SQL texts of the partitions defined by the given boundaries.
+     *
+     * @param boundaries the ascending boundaries between the partitions
+     * @return the SQL texts of the sub-queries, one more than the number of boundaries
+     */
+    public List<String> getPartitionQueries(List<Long> boundaries) {
+        List<String> partitionQueries = new ArrayList<>(boundaries.size() + 1);
+        if (boundaries.isEmpty()) {
+            partitionQueries.add(sqlQuery);
+            return partitionQueries;
+        }
+        String source = "SELECT * FROM (" + sqlQuery + ") " + SOURCE_ALIAS + " WHERE ";
+        partitionQueries.add(source + column + " < " + boundaries.get(0) + " OR " + column + " IS NULL");
+        for (int i = 1; i < boundaries.size(); i++) {
+            partitionQueries.add(source + column + " >= " + boundaries.get(i - 1) + " AND " + column + " < "
+                    + boundaries.get(i));
+        }
+        partitionQueries.add(source + column + " >= " + boundaries.get(boundaries.size() - 1));
+        return partitionQueries;
+    }
+
+    /**
+     * Reads the minimum and the maximum values of the column in the query result.
+     *
+     * @return the minimum and the maximum values, or `null` if the result has no non-`NULL` values
+     */
+    public long[] queryBounds(BObject client, BObject paramSQLString,
+                              AbstractStatementParameterProcessor statementParameterProcessor)
+            throws SQLException, ApplicationError, DataError {
+        SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        String boundsQuery = "SELECT MIN(" + column + "), MAX(" + column + ") FROM (" + sqlQuery + ") "
+                + SOURCE_ALIAS;
+        try (Connection connection = SQLDatasource.getConnection(false, null, client, sqlDatasource);
+             PreparedStatement statement = connection.prepareStatement(boundsQuery)) {
+            statementParameterProcessor.setParams(connection, statement, paramSQLString);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                long lowerBound = resultSet.getLong(1);
+                if (resultSet.wasNull()) {
+                    return null;
+                }
+                return new long[]{lowerBound, resultSet.getLong(2)};
+            }
+        }
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.scheduling;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.metrics.ClientMetrics;
+import io.ballerina.stdlib.java.jdbc.utils.ModuleUtils;
+import io.ballerina.stdlib.java.jdbc.utils.Timers;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Admits the remote calls of the clients sharing a connection pool, so that the calls of one tenant cannot take every
+ * connection of the pool while the calls of the other tenants wait for it.
+ * <p>
+ * At most as many calls as the capacity of the pool execute concurrently, and at most the quota of a tenant execute
+ * for that tenant. The waiting interactive calls are started before any waiting batch call, and the batch calls are
+ * only started while the capacity reserved for interactive calls is left free. Within a priority class, the tenants
+ * are served by start-time fair queuing in proportion to their weights, where a tenant that was idle does not
+ * accrue credit. A waiting call is rejected by a timer once it has waited for the queue timeout of its tenant.
+ * <p>
+ * A scheduler is registered per datasource, i.e. per actual connection pool, and reference counted by the clients
+ * using it. The capacity and the
+ * reserve are taken from the first client of the pool, and the settings of a tenant from its first client.
+ *
+ * @since 1.2.0
+ */
+public class FairScheduler {
+
+    private static final Map<Object, FairScheduler> SCHEDULERS = new IdentityHashMap<>();
+
+    private final Object pool;
+    private final int capacity;
+    private final int interactiveReserve;
+    private final Map<String, Tenant> tenants = new LinkedHashMap<>();
+    private final ClassState[] classes = new ClassState[PriorityClass.values().length];
+    private int inFlight = 0;
+    private long rejected = 0;
+    private int references = 0;
+
+    private FairScheduler(Object pool, int capacity, int interactiveReserve) {
+        this.pool = pool;
+        this.capacity = Math.max(capacity, 1);
+        // At least one call of the batch class can always execute.
+        this.interactiveReserve = Math.min(Math.max(interactiveReserve, 0), this.capacity - 1);
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = new ClassState();
+        }
+    }
+
+    /**
+     * Registers a client of a tenant with the scheduler of a connection pool, creating the scheduler if the pool has
+     * none.
+     *
+     * @param pool               the datasource of the connection pool, of which the identity keys the scheduler
+     * @param capacity           the maximum number of calls executing concurrently on the pool
+     * @param interactiveReserve the part of the capacity that is only used by interactive calls
+     * @param tenantName         the name of the tenant of the client
+     * @param weight             the weight of the tenant relative to the other tenants waiting
+     * @param maxInFlight        the maximum number of calls of the tenant executing concurrently
+     * @param maxQueued          the maximum number of calls of the tenant waiting
+     * @param queueTimeoutNanos  the maximum time a call of the tenant waits
+     * @param priorityClass      the priority class of the calls of the client
+     * @param metrics            the metrics of the client, or `null` if metrics are not enabled for it
+     * @return the admission of the calls of the client
+     */
+    public static synchronized TenantAdmission register(Object pool, int capacity, int interactiveReserve,
+                                                        String tenantName, int weight, int maxInFlight,
+                                                        int maxQueued, long queueTimeoutNanos,
+                                                        PriorityClass priorityClass, ClientMetrics metrics) {
+        FairScheduler scheduler = SCHEDULERS.computeIfAbsent(pool,
+                key -> new FairScheduler(key, capacity, interactiveReserve));
+        scheduler.references++;
+        synchronized (scheduler) {
+            Tenant tenant = scheduler.tenants.computeIfAbsent(tenantName,
+                    name -> new Tenant(name, weight, maxInFlight, maxQueued, queueTimeoutNanos));
+            tenant.references++;
+            return new TenantAdmission(scheduler, tenant, priorityClass, metrics);
+        }
+    }
+
+    /**
+     * Unregisters a client of a tenant, removing the scheduler once no client uses it. The calls already admitted
+     * still release their share through the scheduler.
+     */
+    void unregister(Tenant tenant) {
+        synchronized (FairScheduler.class) {
+            if (--references == 0) {
+                SCHEDULERS.remove(pool, this);
+            }
+        }
+        synchronized (this) {
+            tenant.references--;
+            removeUnusedTenants();
+        }
+    }
+
+    /**
+     * Starts the call when the capacity of the pool and the quota of its tenant allow it. The call must release its
+     * share through {@link #release} when it completes.
+     *
+     * @param tenant        the tenant of the call
+     * @param priorityClass the priority class of the call
+     * @param call          the call, which is run on the current thread if it is started immediately, or else on the
+     *                      thread releasing a share
+     * @param onRejected    the callback receiving the error if the call is rejected
+     */
+    void acquire(Tenant tenant, PriorityClass priorityClass, Runnable call, Consumer<BError> onRejected) {
+        List<Runnable> actions = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            Flow flow = tenant.flows[priorityClass.ordinal()];
+            if (tenant.getQueued() < tenant.maxQueued || flow.queue.isEmpty() && canStart(tenant, priorityClass)) {
+                Waiter waiter = new Waiter(call, onRejected, now);
+                flow.queue.add(waiter);
+                dispatch(now, actions);
+                if (flow.queue.peekLast() == waiter) {
+                    waiter.timeout = Timers.schedule(() -> expire(tenant, flow, waiter), tenant.queueTimeoutNanos);
+                }
+            } else {
+                rejected++;
+                BError error = ErrorGenerator.getSQLApplicationError(String.format("The remote call of tenant "
+                        + "'%s' is rejected as %d of its calls are waiting for the shared connection pool.",
+                        tenant.name, tenant.getQueued()));
+                actions.add(() -> onRejected.accept(error));
+            }
+        }
+        actions.forEach(Runnable::run);
+    }
+
+    /**
+     * Starts a call that cannot wait, such as a call within a transaction, regardless of the capacity and the quota.
+     * The call is accounted to its tenant, so that the calls of the tenant waiting are started later. The call must
+     * release its share through {@link #release} when it completes.
+     */
+    synchronized void acquireNow(Tenant tenant, PriorityClass priorityClass) {
+        Flow flow = tenant.flows[priorityClass.ordinal()];
+        ClassState state = classes[priorityClass.ordinal()];
+        flow.finishTag = Math.max(flow.finishTag, state.virtualTime) + 1.0 / tenant.weight;
+        tenant.inFlight++;
+        state.inFlight++;
+        inFlight++;
+        state.recordWait(0);
+    }
+
+    /**
+     * Releases the share of a completed call, and starts the waiting calls that fit within the capacity.
+     */
+    void release(Tenant tenant, PriorityClass priorityClass) {
+        List<Runnable> actions = new ArrayList<>();
+        synchronized (this) {
+            tenant.inFlight--;
+            classes[priorityClass.ordinal()].inFlight--;
+            inFlight--;
+            dispatch(System.nanoTime(), actions);
+            removeUnusedTenants();
+        }
+        actions.forEach(Runnable::run);
+    }
+
+    /**
+     * Returns the status of the scheduler as the fields of the `SchedulerStatus` record.
+     */
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put(Constants.SchedulerStatus.CAPACITY, (long) capacity);
+        status.put(Constants.SchedulerStatus.INTERACTIVE_RESERVE, (long) interactiveReserve);
+        status.put(Constants.SchedulerStatus.IN_FLIGHT, (long) inFlight);
+        status.put(Constants.SchedulerStatus.REJECTED, rejected);
+        status.put(Constants.SchedulerStatus.INTERACTIVE, getClassStatus(PriorityClass.INTERACTIVE));
+        status.put(Constants.SchedulerStatus.BATCH, getClassStatus(PriorityClass.BATCH));
+        Object[] tenantStatuses = new Object[tenants.size()];
+        int i = 0;
+        for (Tenant tenant : tenants.values()) {
+            Map<String, Object> tenantStatus = new HashMap<>();
+            tenantStatus.put(Constants.TenantStatus.TENANT, StringUtils.fromString(tenant.name));
+            tenantStatus.put(Constants.TenantStatus.WEIGHT, (long) tenant.weight);
+            tenantStatus.put(Constants.TenantStatus.MAX_IN_FLIGHT, (long) tenant.maxInFlight);
+            tenantStatus.put(Constants.TenantStatus.IN_FLIGHT, (long) tenant.inFlight);
+            tenantStatus.put(Constants.TenantStatus.QUEUED, (long) tenant.getQueued());
+            tenantStatuses[i++] = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.TenantStatus.RECORD_NAME, tenantStatus);
+        }
+        Type tenantType = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                Constants.TenantStatus.RECORD_NAME).getType();
+        status.put(Constants.SchedulerStatus.TENANTS,
+                ValueCreator.createArrayValue(tenantStatuses, TypeCreator.createArrayType(tenantType)));
+        return status;
+    }
+
+    // Starts the waiting calls that fit within the capacity, the interactive ones first. The actions are run once
+    // the lock is released.
+    private void dispatch(long now, List<Runnable> actions) {
+        while (inFlight < capacity) {
+            PriorityClass priorityClass = PriorityClass.INTERACTIVE;
+            Tenant tenant = selectTenant(priorityClass, now, actions);
+            if (tenant == null && inFlight < capacity - interactiveReserve) {
+                priorityClass = PriorityClass.BATCH;
+                tenant = selectTenant(priorityClass, now, actions);
+            }
+            if (tenant == null) {
+                return;
+            }
+            start(tenant, priorityClass, now, actions);
+        }
+    }
+
+    // Selects the tenant of which the next waiting call of the class has the smallest start tag, rejecting the calls
+    // that waited too long on the way.
+    private Tenant selectTenant(PriorityClass priorityClass, long now, List<Runnable> actions) {
+        ClassState state = classes[priorityClass.ordinal()];
+        Tenant selected = null;
+        double selectedTag = 0;
+        for (Tenant tenant : tenants.values()) {
+            Flow flow = tenant.flows[priorityClass.ordinal()];
+            rejectTimedOut(tenant, flow, now, actions);
+            if (flow.queue.isEmpty() || tenant.inFlight >= tenant.maxInFlight) {
+                continue;
+            }
+            double startTag = Math.max(flow.finishTag, state.virtualTime);
+            if (selected == null || startTag < selectedTag) {
+                selected = tenant;
+                selectedTag = startTag;
+            }
+        }
+        return selected;
+    }
+
+    private void start(Tenant tenant, PriorityClass priorityClass, long now, List<Runnable> actions) {
+        Flow flow = tenant.flows[priorityClass.ordinal()];
+        ClassState state = classes[priorityClass.ordinal()];
+        Waiter waiter = flow.queue.poll();
+        waiter.cancelTimeout();
+        double startTag = Math.max(flow.finishTag, state.virtualTime);
+        state.virtualTime = startTag;
+        flow.finishTag = startTag + 1.0 / tenant.weight;
+        tenant.inFlight++;
+        state.inFlight++;
+        inFlight++;
+        state.recordWait(now - waiter.enqueuedNanos);
+        actions.add(waiter.call);
+    }
+
+    private void rejectTimedOut(Tenant tenant, Flow flow, long now, List<Runnable> actions) {
+        while (!flow.queue.isEmpty() && now - flow.queue.peek().enqueuedNanos > tenant.queueTimeoutNanos) {
+            Waiter waiter = flow.queue.poll();
+            waiter.cancelTimeout();
+            rejected++;
+            BError error = createQueueTimeoutError(tenant);
+            actions.add(() -> waiter.onRejected.accept(error));
+        }
+    }
+
+    // Rejects a waiting call once its queue timeout has elapsed, unless it has been started or rejected before.
+    private void expire(Tenant tenant, Flow flow, Waiter waiter) {
+        synchronized (this) {
+            if (!flow.queue.remove(waiter)) {
+                return;
+            }
+            rejected++;
+            removeUnusedTenants();
+        }
+        waiter.onRejected.accept(createQueueTimeoutError(tenant));
+    }
+
+    private static BError createQueueTimeoutError(Tenant tenant) {
+        return ErrorGenerator.getSQLApplicationError(String.format("The remote call of tenant '%s' is rejected as "
+                + "it timed out waiting for the shared connection pool.", tenant.name));
+    }
+
+    // A tenant of which every client is closed is removed once its calls complete, so that a tenant registered
+    // again starts without the virtual time it used.
+    private void removeUnusedTenants() {
+        tenants.values().removeIf(tenant -> tenant.references == 0 && tenant.inFlight == 0
+                && tenant.getQueued() == 0);
+    }
+
+    private boolean canStart(Tenant tenant, PriorityClass priorityClass) {
+        int classCapacity = priorityClass == PriorityClass.INTERACTIVE ? capacity : capacity - interactiveReserve;
+        return inFlight < classCapacity && tenant.inFlight < tenant.maxInFlight;
+    }
+
+    private BMap<BString, Object> getClassStatus(PriorityClass priorityClass) {
+        ClassState state = classes[priorityClass.ordinal()];
+        int queued = 0;
+        for (Tenant tenant : tenants.values()) {
+            queued += tenant.flows[priorityClass.ordinal()].queue.size();
+        }
+        Map<String, Object> status = new HashMap<>();
+        status.put(Constants.PriorityClassStatus.IN_FLIGHT, (long) state.inFlight);
+        status.put(Constants.PriorityClassStatus.QUEUED, (long) queued);
+        status.put(Constants.PriorityClassStatus.ADMITTED, state.admitted);
+        status.put(Constants.PriorityClassStatus.MEAN_WAIT_MILLIS, state.admitted == 0 ? 0.0
+                : toMillis(state.totalWaitNanos) / state.admitted);
+        status.put(Constants.PriorityClassStatus.MAX_WAIT_MILLIS, toMillis(state.maxWaitNanos));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.PriorityClassStatus.RECORD_NAME,
+                status);
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    static final class Tenant {
+
+        private final String name;
+        private final int weight;
+        private final int maxInFlight;
+        private final int maxQueued;
+        private final long queueTimeoutNanos;
+        private final Flow[] flows = new Flow[PriorityClass.values().length];
+        private int inFlight = 0;
+        private int references = 0;
+
+        private Tenant(String name, int weight, int maxInFlight, int maxQueued, long queueTimeoutNanos) {
+            this.name = name;
+            this.weight = Math.max(weight, 1);
+            this.maxInFlight = Math.max(maxInFlight, 1);
+            this.maxQueued = Math.max(maxQueued, 0);
+            this.queueTimeoutNanos = queueTimeoutNanos;
+            for (int i = 0; i < flows.length; i++) {
+                flows[i] = new Flow();
+            }
+        }
+
+        private int getQueued() {
+            int queued = 0;
+            for (Flow flow : flows) {
+                queued += flow.queue.size();
+            }
+            return queued;
+        }
+    }
+
+    // The calls of a tenant in a priority class, and the virtual time at which the next one finishes its share.
+    private static final class Flow {
+
+        private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+        private double finishTag = 0;
+    }
+
+    private static final class ClassState {
+
+        private double virtualTime = 0;
+        private int inFlight = 0;
+        private long admitted = 0;
+        private long totalWaitNanos = 0;
+        private long maxWaitNanos = 0;
+
+        private void recordWait(long waitNanos) {
+            admitted++;
+            totalWaitNanos += waitNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Runnable call;
+        private final Consumer<BError> onRejected;
+        private final long enqueuedNanos;
+        private ScheduledFuture<?> timeout;
+
+        private Waiter(Runnable call, Consumer<BError> onRejected, long enqueuedNanos) {
+            this.call = call;
+            this.onRejected = onRejected;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        private void cancelTimeout() {
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+        }
+    }
+}
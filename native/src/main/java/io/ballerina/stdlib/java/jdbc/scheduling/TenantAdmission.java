@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.scheduling;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.metrics.ClientMetrics;
+
+import java.util.function.Consumer;
+
+/**
+ * Admits the remote calls of a client through the {@link FairScheduler} of its connection pool, as the calls of its
+ * tenant in its priority class.
+ *
+ * @since 1.2.0
+ */
+public class TenantAdmission {
+
+    private final FairScheduler scheduler;
+    private final FairScheduler.Tenant tenant;
+    private final PriorityClass priorityClass;
+    private final ClientMetrics metrics;
+
+    TenantAdmission(FairScheduler scheduler, FairScheduler.Tenant tenant, PriorityClass priorityClass,
+                    ClientMetrics metrics) {
+        this.scheduler = scheduler;
+        this.tenant = tenant;
+        this.priorityClass = priorityClass;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the admission of the client, or `null` if the calls of the client are not scheduled.
+     */
+    public static TenantAdmission of(BObject client) {
+        return (TenantAdmission) client.getNativeData(Constants.NativeData.TENANT_ADMISSION);
+    }
+
+    /**
+     * Starts the call once the scheduler admits it. The call must release its share through {@link #release} when
+     * it completes.
+     *
+     * @param call       the call, which is run on the current thread if it is started immediately, or else on the
+     *                   thread releasing a share
+     * @param onRejected the callback receiving the error if the call is rejected
+     */
+    public void acquire(Runnable call, Consumer<BError> onRejected) {
+        long enqueuedNanos = System.nanoTime();
+        scheduler.acquire(tenant, priorityClass, () -> {
+            if (metrics != null) {
+                metrics.recordSchedulerWait(priorityClass, System.nanoTime() - enqueuedNanos);
+            }
+            call.run();
+        }, onRejected);
+    }
+
+    /**
+     * Starts a call that cannot wait, such as a call within a transaction. The call must release its share through
+     * {@link #release} when it completes.
+     */
+    public void acquireNow() {
+        scheduler.acquireNow(tenant, priorityClass);
+        if (metrics != null) {
+            metrics.recordSchedulerWait(priorityClass, 0);
+        }
+    }
+
+    public void release() {
+        scheduler.release(tenant, priorityClass);
+    }
+
+    public FairScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Unregisters the client from the scheduler. The calls already admitted still release their share.
+     */
+    public void close() {
+        scheduler.unregister(tenant);
+    }
+}
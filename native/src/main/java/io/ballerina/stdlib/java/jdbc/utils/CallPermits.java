@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.utils;
+
+import io.ballerina.stdlib.java.jdbc.limiter.AdaptiveLimiter;
+import io.ballerina.stdlib.java.jdbc.scheduling.TenantAdmission;
+
+/**
+ * The permit of the {@link AdaptiveLimiter} and the share of the {@link TenantAdmission} acquired for a remote call.
+ * They are released once the work of the call completes, unless its result holds them, such as a stream of which the
+ * rows are read on the connection of the call. The result then releases them once it is closed.
+ * <p>
+ * The latency observed by the limiter is the time until the work completed, so that the time for which the consumer
+ * keeps a stream open does not decrease the limit.
+ *
+ * @since 1.2.0
+ */
+public class CallPermits {
+
+    private final AdaptiveLimiter limiter;
+    private TenantAdmission admission;
+    private long startNanos;
+    private long completedNanos;
+    private Object result;
+    private boolean completed = false;
+    private boolean held = false;
+    private boolean released = false;
+
+    CallPermits(AdaptiveLimiter limiter) {
+        this.limiter = limiter;
+        this.startNanos = System.nanoTime();
+    }
+
+    // The latency of the call excludes the time it waited for the admission.
+    synchronized void admitted(TenantAdmission admission) {
+        this.admission = admission;
+        this.startNanos = System.nanoTime();
+    }
+
+    synchronized void complete(Object result) {
+        this.completedNanos = System.nanoTime();
+        this.result = result;
+        this.completed = true;
+    }
+
+    /**
+     * Keeps the permits once the work of the call completes, until {@link #release} is called.
+     */
+    public synchronized void hold() {
+        held = true;
+    }
+
+    /**
+     * Releases the permits. Only the first release of the call has an effect.
+     */
+    public void release() {
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (!completed) {
+                completedNanos = System.nanoTime();
+            }
+        }
+        if (admission != null) {
+            admission.release();
+        }
+        if (limiter != null) {
+            limiter.release(startNanos, completedNanos, result);
+        }
+    }
+
+    void releaseUnlessHeld() {
+        synchronized (this) {
+            if (held) {
+                return;
+            }
+        }
+        release();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.utils;
+
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+
+import java.util.regex.Pattern;
+
+/**
+ * Validates the column names that are written into the SQL text generated by the connector.
+ *
+ * @since 1.2.0
+ */
+public class ColumnNames {
+
+    private static final Pattern COLUMN_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*|\\[[^\\]]+]|\"[^\"]+\"");
+
+    private ColumnNames() {
+    }
+
+    /**
+     * Validates a column name of a query result, which may be quoted with double quotes or square brackets.
+     *
+     * @param column the column name
+     * @param usage  the usage of the column used in the error message (e.g., `partition`)
+     * @return the column name
+     * @throws ApplicationError if the name is not a plain or a quoted identifier
+     */
+    public static String validate(String column, String usage) throws ApplicationError {
+        if (!COLUMN_PATTERN.matcher(column).matches()) {
+            throw new ApplicationError("Invalid " + usage + " column: '" + column + "'. A column name of the query "
+                    + "result, optionally quoted with double quotes or square brackets, is expected.");
+        }
+        return column;
+    }
+
+    /**
+     * Returns the column name without the quotes, i.e., the name of the field the column is mapped to.
+     *
+     * @param column a valid column name
+     * @return the unquoted name
+     */
+    public static String unquote(String column) {
+        char first = column.charAt(0);
+        return first == '[' || first == '"' ? column.substring(1, column.length() - 1) : column;
+    }
+}
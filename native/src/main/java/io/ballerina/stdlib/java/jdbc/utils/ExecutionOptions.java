@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.utils;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The options applied to the statement of a remote call, resolved from the client-level defaults and the options of
+ * the call.
+ *
+ * @since 1.2.0
+ */
+public class ExecutionOptions {
+
+    public static final ExecutionOptions DEFAULT = new ExecutionOptions(true, 0, 0, 0, false, 0);
+
+    private final boolean requestGeneratedKeys;
+    private final int timeout;
+    private final int maxRows;
+    private final int fetchSize;
+    private final boolean readOnly;
+    private final long maxResultBytes;
+
+    private ExecutionOptions(boolean requestGeneratedKeys, int timeout, int maxRows, int fetchSize,
+                             boolean readOnly, long maxResultBytes) {
+        this.requestGeneratedKeys = requestGeneratedKeys;
+        this.timeout = timeout;
+        this.maxRows = maxRows;
+        this.fetchSize = fetchSize;
+        this.readOnly = readOnly;
+        this.maxResultBytes = maxResultBytes;
+    }
+
+    /**
+     * Returns the client-level options of the client.
+     */
+    public static ExecutionOptions of(BObject client) {
+        ExecutionOptions options = (ExecutionOptions) client.getNativeData(Constants.NativeData.EXECUTION_OPTIONS);
+        return options == null ? DEFAULT : options;
+    }
+
+    /**
+     * Returns these options overridden by the fields set in the given record, which is an `ExecutionOptions` record
+     * or a record including it.
+     *
+     * @param options the record of the options
+     * @return the resolved options
+     */
+    public ExecutionOptions merge(BMap options) {
+        if (options == null) {
+            return this;
+        }
+        boolean mergedRequestGeneratedKeys = options.containsKey(Constants.ExecutionOptions.REQUEST_GENERATED_KEYS)
+                ? options.getBooleanValue(Constants.ExecutionOptions.REQUEST_GENERATED_KEYS) : requestGeneratedKeys;
+        int mergedTimeout = timeout;
+        if (options.containsKey(Constants.ExecutionOptions.TIMEOUT)) {
+            // JDBC query timeouts are in whole seconds, where `0` means no timeout.
+            mergedTimeout = ((BDecimal) options.get(Constants.ExecutionOptions.TIMEOUT)).decimalValue()
+                    .setScale(0, RoundingMode.CEILING).max(BigDecimal.ZERO)
+                    .min(BigDecimal.valueOf(Integer.MAX_VALUE)).intValue();
+        }
+        int mergedMaxRows = options.containsKey(Constants.ExecutionOptions.MAX_ROWS)
+                ? toInt(options.getIntValue(Constants.ExecutionOptions.MAX_ROWS)) : maxRows;
+        int mergedFetchSize = options.containsKey(Constants.ExecutionOptions.FETCH_SIZE)
+                ? toInt(options.getIntValue(Constants.ExecutionOptions.FETCH_SIZE)) : fetchSize;
+        boolean mergedReadOnly = options.containsKey(Constants.ExecutionOptions.READ_ONLY)
+                ? options.getBooleanValue(Constants.ExecutionOptions.READ_ONLY) : readOnly;
+        long mergedMaxResultBytes = options.containsKey(Constants.ExecutionOptions.MAX_RESULT_BYTES)
+                ? Math.max(options.getIntValue(Constants.ExecutionOptions.MAX_RESULT_BYTES), 0) : maxResultBytes;
+        return new ExecutionOptions(mergedRequestGeneratedKeys, mergedTimeout, mergedMaxRows, mergedFetchSize,
+                mergedReadOnly, mergedMaxResultBytes);
+    }
+
+    /**
+     * Applies the options to a statement.
+     *
+     * @param statement the statement
+     * @param reset     whether the options that are not set are reset, for a statement reused across calls
+     * @throws SQLException if the driver rejects an option
+     */
+    public void applyTo(Statement statement, boolean reset) throws SQLException {
+        // The fetch size is always set, as it is only a hint.
+        statement.setFetchSize(fetchSize);
+        if (timeout > 0 || reset) {
+            statement.setQueryTimeout(timeout);
+        }
+        if (maxRows > 0 || reset) {
+            statement.setMaxRows(maxRows);
+        }
+    }
+
+    /**
+     * Applies the read-only hint to a pooled connection, which the pool resets when the connection is returned. The
+     * connection of a transaction is left as it is.
+     *
+     * @param connection       the connection
+     * @param isWithinTrxBlock whether the connection is the connection of a transaction
+     * @throws SQLException if the driver rejects the hint
+     */
+    public void applyTo(Connection connection, boolean isWithinTrxBlock) throws SQLException {
+        if (readOnly && !isWithinTrxBlock) {
+            connection.setReadOnly(true);
+        }
+    }
+
+    /**
+     * Returns whether any option other than `requestGeneratedKeys` is set. Statements with such options are
+     * executed by the connector, as the `sql` module does not apply them.
+     */
+    public boolean hasStatementOptions() {
+        return timeout > 0 || maxRows > 0 || fetchSize > 0 || readOnly;
+    }
+
+    public boolean isRequestGeneratedKeys() {
+        return requestGeneratedKeys;
+    }
+
+    /**
+     * Returns the maximum approximate size in bytes of the rows read from a result, where `0` means no limit.
+     */
+    public long getMaxResultBytes() {
+        return maxResultBytes;
+    }
+
+    /**
+     * Returns the fetch size hint given to the driver, where `0` leaves it to the driver.
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    private static int toInt(long value) {
+        return (int) Math.min(Math.max(value, 0), Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.utils;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+
+/**
+ * The options applied to the result streams of `query` calls, resolved from the client-level defaults and the
+ * options of the call.
+ *
+ * @since 1.2.0
+ */
+public class QueryOptions {
+
+    private final ExecutionOptions executionOptions;
+    private final boolean readAhead;
+
+    private QueryOptions(ExecutionOptions executionOptions, boolean readAhead) {
+        this.executionOptions = executionOptions;
+        this.readAhead = readAhead;
+    }
+
+    /**
+     * Returns the client-level options of the client, which are based on its client-level execution options.
+     */
+    public static QueryOptions of(BObject client) {
+        QueryOptions options = (QueryOptions) client.getNativeData(Constants.NativeData.QUERY_OPTIONS);
+        return options == null ? new QueryOptions(ExecutionOptions.of(client), false) : options;
+    }
+
+    /**
+     * Returns these options overridden by the fields set in the given `QueryOptions` record.
+     *
+     * @param options the `QueryOptions` record
+     * @return the resolved options
+     */
+    public QueryOptions merge(BMap options) {
+        if (options == null) {
+            return this;
+        }
+        boolean mergedReadAhead = options.containsKey(Constants.QueryOptions.READ_AHEAD)
+                ? options.getBooleanValue(Constants.QueryOptions.READ_AHEAD) : readAhead;
+        return new QueryOptions(executionOptions.merge(options), mergedReadAhead);
+    }
+
+    public ExecutionOptions getExecutionOptions() {
+        return executionOptions;
+    }
+
+    /**
+     * Returns the fetch size hint given to the driver, where `0` leaves it to the driver.
+     */
+    public int getFetchSize() {
+        return executionOptions.getFetchSize();
+    }
+
+    public boolean isReadAhead() {
+        return readAhead;
+    }
+
+    /**
+     * Returns the number of rows buffered ahead of the consumer, which is a page of the result.
+     */
+    public int getReadAheadBufferSize() {
+        int fetchSize = getFetchSize();
+        return fetchSize > 0 ? fetchSize : Constants.QueryOptions.DEFAULT_READ_AHEAD_BUFFER_SIZE;
+    }
+}
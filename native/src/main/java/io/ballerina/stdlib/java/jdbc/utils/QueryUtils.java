@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.utils;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.batch.BatchResult;
+import io.ballerina.stdlib.java.jdbc.cache.StatementCache;
+import io.ballerina.stdlib.java.jdbc.hedging.Attempt;
+import io.ballerina.stdlib.java.jdbc.iterator.ErrorRowIterator;
+import io.ballerina.stdlib.java.jdbc.iterator.ResultSetRowIterator;
+import io.ballerina.stdlib.java.jdbc.iterator.RowIterator;
+import io.ballerina.stdlib.java.jdbc.mapping.RowMapper;
+import io.ballerina.stdlib.java.jdbc.mapping.RowMapperCache;
+import io.ballerina.stdlib.java.jdbc.memory.ResultMemory;
+import io.ballerina.stdlib.java.jdbc.metadata.MetadataCache;
+import io.ballerina.stdlib.java.jdbc.metrics.ExecutionTimer;
+import io.ballerina.stdlib.java.jdbc.metrics.Operation;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractResultParameterProcessor;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ColumnDefinition;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * This class holds the execution logic of the remote calls processed by the connector itself instead of the `sql`
+ * module. `query` and `queryRow` are always processed by the connector, which maps their rows with a precompiled
+ * {@link RowMapper}, while `execute` is processed by it when an option of the connector applies to its statement.
+ *
+ * @since 1.2.0
+ */
+public final class QueryUtils {
+
+    private static final BString SQL_STATE_FIELD = StringUtils.fromString("sqlState");
+
+    private QueryUtils() {
+    }
+
+    /**
+     * Executes the query and returns an iterator over the open result set. The resources are released when the
+     * iterator is closed.
+     *
+     * @param executionOptions the options applied to the statement
+     * @param memory           the accounting of the stream, by which the rows are counted as they are materialized
+     * @return a {@link ResultSetRowIterator} or a `BError`
+     */
+    public static Object executeQuery(BObject client, BObject paramSQLString, RecordType recordType,
+                                      AbstractStatementParameterProcessor statementParameterProcessor,
+                                      AbstractResultParameterProcessor resultParameterProcessor,
+                                      ExecutionOptions executionOptions, ResultMemory memory,
+                                      boolean isWithinTrxBlock, TransactionResourceManager trxResourceManager) {
+        return executeQuery(client, Utils.getSqlQuery(paramSQLString), paramSQLString, null, recordType,
+                statementParameterProcessor, resultParameterProcessor, executionOptions, memory, isWithinTrxBlock,
+                trxResourceManager);
+    }
+
+    /**
+     * Executes the given SQL text with the parameters of the given query, e.g., a query derived from the
+     * `sql:ParameterizedQuery` that has the same placeholders.
+     *
+     * @param sqlQuery          the SQL text to execute
+     * @param trailingParameter the parameter following the parameters of the query, or `null` if there is none
+     * @param memory            the accounting of the stream, by which the rows are counted as they are materialized
+     * @return a {@link ResultSetRowIterator} or a `BError`
+     */
+    public static Object executeQuery(BObject client, String sqlQuery, BObject paramSQLString,
+                                      StatementParameter trailingParameter, RecordType recordType,
+                                      AbstractStatementParameterProcessor statementParameterProcessor,
+                                      AbstractResultParameterProcessor resultParameterProcessor,
+                                      ExecutionOptions executionOptions, ResultMemory memory,
+                                      boolean isWithinTrxBlock, TransactionResourceManager trxResourceManager) {
+        Object validationError = validateClient(client);
+        if (validationError != null) {
+            return validationError;
+        }
+        SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        StatementCache statementCache = (StatementCache) client.getNativeData(Constants.NativeData.STATEMENT_CACHE);
+        ExecutionTimer timer = ExecutionTimer.start(client, Operation.QUERY);
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        BError error;
+        try {
+            long startNanos = timer.now();
+            connection = SQLDatasource.getConnection(isWithinTrxBlock, trxResourceManager, client, sqlDatasource);
+            timer.addPoolWait(startNanos);
+            startNanos = timer.now();
+            executionOptions.applyTo(connection, isWithinTrxBlock);
+            statement = prepareStatement(statementCache, connection, sqlQuery, false);
+            // A cached statement is reset so that it does not keep the options of an earlier call.
+            executionOptions.applyTo(statement, statementCache != null);
+            statementParameterProcessor.setParams(connection, statement, paramSQLString);
+            if (trailingParameter != null) {
+                trailingParameter.set(statement, paramSQLString.getArrayValue(
+                        Constants.ParameterizedQuery.INSERTIONS).size() + 1);
+            }
+            resultSet = statement.executeQuery();
+            timer.addDriver(startNanos);
+            RowMapper rowMapper = getRowMapper(client, sqlQuery, resultSet, recordType, resultParameterProcessor);
+            return new ResultSetRowIterator(resultSet, statement, connection, rowMapper, isWithinTrxBlock,
+                    statementCache, timer, memory);
+        } catch (SQLException e) {
+            closeResources(statementCache, isWithinTrxBlock, resultSet, statement, connection, false);
+            error = ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (ApplicationError | DataError e) {
+            closeResources(statementCache, isWithinTrxBlock, resultSet, statement, connection, true);
+            error = ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+        timer.recordError(error);
+        timer.finish();
+        return error;
+    }
+
+    /**
+     * Executes the query and returns the first row converted to the given type.
+     *
+     * @return the converted value or a `BError`
+     */
+    public static Object executeQueryRow(BObject client, BObject paramSQLString, Type describingType,
+                                         AbstractStatementParameterProcessor statementParameterProcessor,
+                                         AbstractResultParameterProcessor resultParameterProcessor,
+                                         ExecutionOptions executionOptions, boolean isWithinTrxBlock,
+                                         TransactionResourceManager trxResourceManager, Attempt attempt) {
+        Object validationError = validateClient(client);
+        if (validationError != null) {
+            return validationError;
+        }
+        ExecutionTimer timer = ExecutionTimer.start(client, Operation.QUERY_ROW);
+        Object result = executeQueryRow(client, paramSQLString, describingType, statementParameterProcessor,
+                resultParameterProcessor, executionOptions, isWithinTrxBlock, trxResourceManager, timer, attempt);
+        // The error of a cancelled attempt is not a failure of the call.
+        if (attempt == null || !attempt.isCancelled()) {
+            timer.recordError(result);
+        }
+        timer.finish();
+        return result;
+    }
+
+    private static Object executeQueryRow(BObject client, BObject paramSQLString, Type describingType,
+                                          AbstractStatementParameterProcessor statementParameterProcessor,
+                                          AbstractResultParameterProcessor resultParameterProcessor,
+                                          ExecutionOptions executionOptions, boolean isWithinTrxBlock,
+                                          TransactionResourceManager trxResourceManager, ExecutionTimer timer,
+                                          Attempt attempt) {
+        SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        StatementCache statementCache = (StatementCache) client.getNativeData(Constants.NativeData.STATEMENT_CACHE);
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        String sqlQuery = null;
+        boolean reusable = true;
+        try {
+            sqlQuery = Utils.getSqlQuery(paramSQLString);
+            long startNanos = timer.now();
+            connection = SQLDatasource.getConnection(isWithinTrxBlock, trxResourceManager, client, sqlDatasource);
+            timer.addPoolWait(startNanos);
+            startNanos = timer.now();
+            executionOptions.applyTo(connection, isWithinTrxBlock);
+            statement = prepareStatement(statementCache, connection, sqlQuery, false);
+            executionOptions.applyTo(statement, statementCache != null);
+            statementParameterProcessor.setParams(connection, statement, paramSQLString);
+            if (attempt != null && !attempt.begin(statement)) {
+                return ErrorGenerator.getSQLApplicationError("The attempt is cancelled as another attempt of the "
+                        + "call has completed.");
+            }
+            try {
+                resultSet = statement.executeQuery();
+            } finally {
+                if (attempt != null) {
+                    // The statement must not be cancelled once it is handed back to the statement cache.
+                    reusable = attempt.end();
+                }
+            }
+            boolean hasRow = resultSet.next();
+            timer.addDriver(startNanos);
+            if (!hasRow) {
+                return ErrorGenerator.getNoRowsError("Query did not retrieve any rows.");
+            }
+            startNanos = timer.now();
+            Object value = mapRow(client, sqlQuery, resultSet, describingType, resultParameterProcessor);
+            timer.addMapping(startNanos);
+            if (value instanceof BError) {
+                return value;
+            }
+            timer.addRow(value);
+            // The value is handed over to the caller, hence it only needs to fit within the budgets.
+            ResultMemory memory = ResultMemory.start(client, executionOptions);
+            BError memoryError = memory.check(value);
+            memory.release();
+            return memoryError == null ? value : memoryError;
+        } catch (SQLException e) {
+            reusable = false;
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (ApplicationError | DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } finally {
+            closeResources(statementCache, isWithinTrxBlock, resultSet, statement, connection, reusable);
+        }
+    }
+
+    private static Object mapRow(BObject client, String sqlQuery, ResultSet resultSet, Type describingType,
+                                 AbstractResultParameterProcessor resultParameterProcessor)
+            throws SQLException, ApplicationError, DataError {
+        if (describingType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            return getRowMapper(client, sqlQuery, resultSet, (RecordType) describingType, resultParameterProcessor)
+                    .map(resultSet);
+        }
+        if (resultSet.getMetaData().getColumnCount() > 1) {
+            return ErrorGenerator.getTypeMismatchError(String.format(
+                    "Expected type to be '%s' but found 'record{}'.", describingType));
+        }
+        ColumnDefinition columnDefinition = Utils.getColumnDefinition(resultSet, 1, describingType);
+        return Utils.getResult(resultSet, 1, columnDefinition, resultParameterProcessor);
+    }
+
+    // The row mapper of a query is taken from the metadata cache if it is configured, so that the column metadata
+    // of the result set is not read again for the same SQL text.
+    private static RowMapper getRowMapper(BObject client, String sqlQuery, ResultSet resultSet, RecordType recordType,
+                                          AbstractResultParameterProcessor resultParameterProcessor)
+            throws SQLException, ApplicationError {
+        MetadataCache metadataCache = MetadataCache.of(client);
+        if (metadataCache == null) {
+            return RowMapperCache.get(resultSet, recordType, resultParameterProcessor);
+        }
+        return metadataCache.getRowMapper(sqlQuery, resultSet, recordType, resultParameterProcessor);
+    }
+
+    /**
+     * Executes the query as an update and returns the affected row count and the auto-generated key.
+     *
+     * @return an `sql:ExecutionResult` or a `BError`
+     */
+    public static Object executeUpdate(BObject client, BObject paramSQLString,
+                                       AbstractStatementParameterProcessor statementParameterProcessor,
+                                       ExecutionOptions executionOptions, boolean isWithinTrxBlock,
+                                       TransactionResourceManager trxResourceManager) {
+        Object validationError = validateClient(client);
+        if (validationError != null) {
+            return validationError;
+        }
+        ExecutionTimer timer = ExecutionTimer.start(client, Operation.EXECUTE);
+        Object result = executeUpdate(client, paramSQLString, statementParameterProcessor, executionOptions,
+                isWithinTrxBlock, trxResourceManager, timer);
+        timer.recordError(result);
+        timer.finish();
+        return result;
+    }
+
+    private static Object executeUpdate(BObject client, BObject paramSQLString,
+                                        AbstractStatementParameterProcessor statementParameterProcessor,
+                                        ExecutionOptions executionOptions, boolean isWithinTrxBlock,
+                                        TransactionResourceManager trxResourceManager, ExecutionTimer timer) {
+        SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        StatementCache statementCache = (StatementCache) client.getNativeData(Constants.NativeData.STATEMENT_CACHE);
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet generatedKeys = null;
+        String sqlQuery = null;
+        boolean reusable = true;
+        try {
+            sqlQuery = Utils.getSqlQuery(paramSQLString);
+            long startNanos = timer.now();
+            connection = SQLDatasource.getConnection(isWithinTrxBlock, trxResourceManager, client, sqlDatasource);
+            timer.addPoolWait(startNanos);
+            startNanos = timer.now();
+            executionOptions.applyTo(connection, isWithinTrxBlock);
+            boolean returnGeneratedKeys = executionOptions.isRequestGeneratedKeys() && !isDdlStatement(sqlQuery);
+            statement = prepareStatement(statementCache, connection, sqlQuery, returnGeneratedKeys);
+            executionOptions.applyTo(statement, statementCache != null);
+            statementParameterProcessor.setParams(connection, statement, paramSQLString);
+            int affectedRowCount = statement.executeUpdate();
+            Object lastInsertId = null;
+            if (returnGeneratedKeys) {
+                generatedKeys = statement.getGeneratedKeys();
+                if (generatedKeys.next()) {
+                    lastInsertId = getGeneratedKey(generatedKeys);
+                }
+            }
+            timer.addDriver(startNanos);
+            return BatchResult.createExecutionResult(affectedRowCount, lastInsertId);
+        } catch (SQLException e) {
+            reusable = false;
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } finally {
+            closeResources(statementCache, isWithinTrxBlock, generatedKeys, statement, connection, reusable);
+        }
+    }
+
+    /**
+     * Prepares the statement through the statement cache of the client if it is enabled.
+     */
+    public static PreparedStatement prepareStatement(StatementCache statementCache, Connection connection,
+                                                     String sqlQuery, boolean returnGeneratedKeys)
+            throws SQLException {
+        if (statementCache != null) {
+            return statementCache.prepare(connection, sqlQuery, returnGeneratedKeys);
+        }
+        return returnGeneratedKeys ? connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sqlQuery);
+    }
+
+    /**
+     * Releases the resources of an execution. A statement prepared through the statement cache is handed back to
+     * it instead of being closed.
+     */
+    public static void closeResources(StatementCache statementCache, boolean isWithinTrxBlock, ResultSet resultSet,
+                                      PreparedStatement statement, Connection connection, boolean reusable) {
+        if (statementCache == null) {
+            Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+            return;
+        }
+        Utils.closeResources(isWithinTrxBlock, resultSet, null, null);
+        statementCache.release(statement, reusable);
+        Utils.closeResources(isWithinTrxBlock, null, null, connection);
+    }
+
+    public static Object getGeneratedKey(ResultSet generatedKeys) throws SQLException {
+        Object key = generatedKeys.getObject(1);
+        if (key == null) {
+            return null;
+        }
+        if (key instanceof Number && !(key instanceof BigDecimal)) {
+            return ((Number) key).longValue();
+        }
+        return StringUtils.fromString(key.toString());
+    }
+
+    public static boolean isDdlStatement(String sqlQuery) {
+        String command = sqlQuery.trim().toUpperCase(Locale.ENGLISH);
+        return command.startsWith("CREATE") || command.startsWith("ALTER") || command.startsWith("DROP")
+                || command.startsWith("TRUNCATE");
+    }
+
+    public static BStream createRecordStream(Type recordType, RowIterator rowIterator) {
+        BObject iteratorObject = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.RESULT_ITERATOR_OBJECT);
+        iteratorObject.addNativeData(Constants.NativeData.ROW_ITERATOR, rowIterator);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType, PredefinedTypes.TYPE_NULL),
+                iteratorObject);
+    }
+
+    public static BStream createErrorStream(Type recordType, BError error) {
+        return createRecordStream(recordType, new ErrorRowIterator(error));
+    }
+
+    /**
+     * Returns the SQL text without the trailing statement terminators, so that it can be used as a derived table.
+     *
+     * @param sqlQuery the SQL text
+     * @return the SQL text without the terminators
+     */
+    public static String stripTerminator(String sqlQuery) {
+        String query = sqlQuery.trim();
+        while (query.endsWith(";")) {
+            query = query.substring(0, query.length() - 1).trim();
+        }
+        return query;
+    }
+
+    /**
+     * Returns the SQL state of an `sql:DatabaseError`, or `null` if the error has none.
+     */
+    public static String getSqlState(BError error) {
+        Object details = error.getDetails();
+        if (details instanceof BMap && ((BMap<?, ?>) details).get(SQL_STATE_FIELD) instanceof BString) {
+            return ((BString) ((BMap<?, ?>) details).get(SQL_STATE_FIELD)).getValue();
+        }
+        return null;
+    }
+
+    public static Object validateClient(BObject client) {
+        if (client.getNativeData(io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT) == null) {
+            return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
+        }
+        if (!((Boolean) client.getNativeData(io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT_ACTIVE_STATUS))) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "SQL Client is already closed, hence further operations are not allowed");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.utils;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A parameter of the SQL text generated by the connector, which is set after the parameters of the
+ * `sql:ParameterizedQuery` the SQL text is derived from.
+ *
+ * @since 1.2.0
+ */
+@FunctionalInterface
+public interface StatementParameter {
+
+    /**
+     * Sets the parameter on the statement.
+     *
+     * @param statement the statement
+     * @param index     the index of the parameter
+     * @throws SQLException if the parameter cannot be set
+     */
+    void set(PreparedStatement statement, int index) throws SQLException;
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.utils;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timer of the delayed tasks of the connector, such as the hedges and retries of `queryRow` calls and the
+ * timeouts of the calls waiting for the concurrency limit or for a shared connection pool. The tasks are run on a
+ * single daemon thread and must hence be short, e.g. hand over their work to a worker.
+ *
+ * @since 1.2.0
+ */
+public class Timers {
+
+    private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+    private Timers() {
+    }
+
+    /**
+     * Runs the task once the delay has elapsed, unless the returned future is cancelled before.
+     *
+     * @param task       the task
+     * @param delayNanos the delay in nanoseconds
+     * @return the future of the task
+     */
+    public static ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+        return SCHEDULER.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "cdata-connect-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Most tasks are cancelled, e.g. the hedges of the calls completing in time, which should not hold them.
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.utils;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.limiter.AdaptiveLimiter;
+import io.ballerina.stdlib.java.jdbc.scheduling.TenantAdmission;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool.SQL_EXECUTOR_SERVICE;
+
+/**
+ * Runs the blocking JDBC work of the remote calls off the Ballerina scheduler threads. The strand is suspended
+ * until the work completes, and the result is delivered through the `Environment` future.
+ * <p>
+ * The work of a client configured with a `workerPool` is run on a bounded executor of its own, which uses virtual
+ * threads when the JVM supports them. Other clients use the worker pool of the `sql` module. The work of a client
+ * configured with a `concurrencyLimit` is admitted through its {@link AdaptiveLimiter}, and then the work of a client
+ * configured with `scheduling` through the {@link TenantAdmission} into its shared connection pool. The
+ * {@link CallPermits} of the call are released once its work completes, or else by the stream that holds them.
+ *
+ * @since 1.2.0
+ */
+public class WorkerExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final ThreadPoolExecutor executor;
+
+    public WorkerExecutor(int maxConcurrency, boolean virtualThreads) {
+        ThreadFactory threadFactory = virtualThreads ? createVirtualThreadFactory() : null;
+        if (threadFactory == null) {
+            threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "cdata-connect-worker-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+        // The calls exceeding the limit are queued instead of blocking the strands that submit them.
+        executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs the work of a remote call. Work within a transaction is run on the calling strand, as the transaction
+     * context and its connection are bound to the strand.
+     *
+     * @param env              the environment of the remote call
+     * @param client           the client object
+     * @param isWithinTrxBlock whether the call is made within a transaction
+     * @param work             the work returning the result of the call
+     * @return the result of the work if it is run on the strand, or else `null`
+     */
+    public static Object execute(Environment env, BObject client, boolean isWithinTrxBlock, Supplier<Object> work) {
+        return executeHolding(env, client, isWithinTrxBlock, permits -> work.get());
+    }
+
+    /**
+     * Runs the work of a remote call of which the result may hold the permits of the call, such as a stream that
+     * reads its rows on the connection of the call.
+     *
+     * @param env              the environment of the remote call
+     * @param client           the client object
+     * @param isWithinTrxBlock whether the call is made within a transaction
+     * @param work             the work returning the result of the call, which calls {@link CallPermits#hold} if
+     *                         the result releases the permits
+     * @return the result of the work if it is run on the strand, or else `null`
+     */
+    public static Object executeHolding(Environment env, BObject client, boolean isWithinTrxBlock,
+                                        Function<CallPermits, Object> work) {
+        if (isWithinTrxBlock) {
+            return executeWithinTrx(client, work);
+        }
+        executeHolding(client, work, env.markAsync()::complete);
+        return null;
+    }
+
+    /**
+     * Runs further work of a remote call that already holds its permits, such as reading the next result set of a
+     * procedure call, without acquiring the permits again.
+     *
+     * @param env              the environment of the remote call
+     * @param client           the client object
+     * @param isWithinTrxBlock whether the call is made within a transaction
+     * @param work             the work returning the result of the call
+     * @return the result of the work if it is run on the strand, or else `null`
+     */
+    public static Object executeAdmitted(Environment env, BObject client, boolean isWithinTrxBlock,
+                                         Supplier<Object> work) {
+        if (isWithinTrxBlock) {
+            return work.get();
+        }
+        submit(client, new CallPermits(null), permits -> work.get(), env.markAsync()::complete);
+        return null;
+    }
+
+    /**
+     * Runs the work of a remote call of which the strand is already marked async.
+     *
+     * @param client   the client object
+     * @param work     the work returning the result of the call
+     * @param callback the callback receiving the result of the work, or an error if the work cannot be run. The
+     *                 permits of the call are held until the callback returns
+     */
+    public static void execute(BObject client, Supplier<Object> work, Consumer<Object> callback) {
+        executeHolding(client, permits -> work.get(), callback);
+    }
+
+    private static void executeHolding(BObject client, Function<CallPermits, Object> work,
+                                       Consumer<Object> callback) {
+        AdaptiveLimiter limiter = AdaptiveLimiter.of(client);
+        if (limiter == null) {
+            admit(client, new CallPermits(null), work, callback);
+            return;
+        }
+        limiter.acquire(() -> admit(client, new CallPermits(limiter), work, callback), callback::accept);
+    }
+
+    public static boolean isConfigured(BObject client) {
+        return client.getNativeData(Constants.NativeData.WORKER_EXECUTOR) != null;
+    }
+
+    /**
+     * Stops accepting new work. The work already submitted is completed.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // The calls within a transaction cannot wait for the limit or the admission, hence they are only counted.
+    private static Object executeWithinTrx(BObject client, Function<CallPermits, Object> work) {
+        AdaptiveLimiter limiter = AdaptiveLimiter.of(client);
+        if (limiter != null) {
+            BError error = limiter.acquireNow();
+            if (error != null) {
+                return error;
+            }
+        }
+        CallPermits permits = new CallPermits(limiter);
+        TenantAdmission admission = TenantAdmission.of(client);
+        if (admission != null) {
+            admission.acquireNow();
+            permits.admitted(admission);
+        }
+        Object result = null;
+        try {
+            result = work.apply(permits);
+            return result;
+        } finally {
+            permits.complete(result);
+            permits.releaseUnlessHeld();
+        }
+    }
+
+    // The work is admitted into the shared pool after the limit of the client, so that the work waiting for the
+    // limit does not hold a share of its tenant.
+    private static void admit(BObject client, CallPermits permits, Function<CallPermits, Object> work,
+                              Consumer<Object> callback) {
+        TenantAdmission admission = TenantAdmission.of(client);
+        if (admission == null) {
+            submit(client, permits, work, callback);
+            return;
+        }
+        admission.acquire(() -> {
+            permits.admitted(admission);
+            submit(client, permits, work, callback);
+        }, error -> {
+            permits.complete(error);
+            permits.release();
+            callback.accept(error);
+        });
+    }
+
+    // The permits are released after the callback, which may still read the rows of the result on the connection of
+    // the call, such as a partition of a partitioned query.
+    private static void submit(BObject client, CallPermits permits, Function<CallPermits, Object> work,
+                               Consumer<Object> callback) {
+        try {
+            getExecutor(client).execute(() -> {
+                Object result = run(work, permits);
+                permits.complete(result);
+                try {
+                    callback.accept(result);
+                } finally {
+                    permits.releaseUnlessHeld();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            BError error = ErrorGenerator.getSQLApplicationError(
+                    "SQL Client is already closed, hence further operations are not allowed");
+            permits.complete(error);
+            permits.release();
+            callback.accept(error);
+        }
+    }
+
+    // A failure of the work, e.g. a panic while converting a value, is returned as an error, so that the callback
+    // always resumes the strand and releases the permits and the coalesced calls of the work.
+    private static Object run(Function<CallPermits, Object> work, CallPermits permits) {
+        try {
+            return work.apply(permits);
+        } catch (Throwable e) {
+            return ErrorGenerator.getSQLApplicationError("Error while executing the call: " + e.getMessage());
+        }
+    }
+
+    private static Executor getExecutor(BObject client) {
+        WorkerExecutor workerExecutor = (WorkerExecutor) client.getNativeData(Constants.NativeData.WORKER_EXECUTOR);
+        return workerExecutor == null ? SQL_EXECUTOR_SERVICE : workerExecutor.executor;
+    }
+
+    // Virtual threads are available from Java 21, while the module is compiled for Java 17.
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class)
+                    .invoke(builder, "cdata-connect-virtual-worker-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -19,5 +19,6 @@
 module io.ballerina.stdlib.java.jdbc{
     requires io.ballerina.runtime;
     requires io.ballerina.stdlib.sql;
+    requires java.management;
     exports io.ballerina.stdlib.java.jdbc;
 }
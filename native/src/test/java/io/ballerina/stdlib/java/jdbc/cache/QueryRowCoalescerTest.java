@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.cache;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tests that the `queryRow` calls coalesced into an in-flight execution receive the result of the execution, each as
+ * a copy of its own, and that nothing is retained once the execution completes.
+ *
+ * @since 1.2.0
+ */
+public class QueryRowCoalescerTest {
+
+    @Test
+    public void testCoalescedCallsReceiveTheirOwnCopies() {
+        QueryRowCoalescer coalescer = new QueryRowCoalescer();
+        QueryCacheKey key = createKey("SELECT * FROM Customers WHERE id = 1");
+        List<Object> results = new ArrayList<>();
+
+        CompletableFuture<Object> execution = coalescer.join(key, results::add);
+        Assert.assertNotNull(execution);
+        Assert.assertNull(coalescer.join(key, results::add));
+        Assert.assertNull(coalescer.join(createKey("SELECT *  FROM Customers\nWHERE id = 1"), results::add));
+        Assert.assertTrue(results.isEmpty());
+
+        Object row = createRow();
+        coalescer.complete(key, execution, row);
+
+        Assert.assertEquals(results.size(), 2);
+        Assert.assertTrue(results.get(0) instanceof BMap);
+        Assert.assertTrue(results.get(1) instanceof BMap);
+        Assert.assertNotSame(results.get(0), row);
+        Assert.assertNotSame(results.get(1), row);
+        Assert.assertNotSame(results.get(0), results.get(1));
+        Assert.assertEquals(coalescer.getStats().get(Constants.CoalescingStats.EXECUTIONS), 1L);
+        Assert.assertEquals(coalescer.getStats().get(Constants.CoalescingStats.COALESCED), 2L);
+        Assert.assertEquals(coalescer.getStats().get(Constants.CoalescingStats.IN_FLIGHT), 0L);
+    }
+
+    @Test
+    public void testCoalescedCallsReceiveTheError() {
+        QueryRowCoalescer coalescer = new QueryRowCoalescer();
+        QueryCacheKey key = createKey("SELECT * FROM Customers WHERE id = 2");
+        List<Object> results = new ArrayList<>();
+
+        CompletableFuture<Object> execution = coalescer.join(key, results::add);
+        Assert.assertNull(coalescer.join(key, results::add));
+        BError error = ErrorCreator.createError(StringUtils.fromString("Query did not retrieve any rows."));
+        coalescer.complete(key, execution, error);
+
+        Assert.assertEquals(results.size(), 1);
+        Assert.assertSame(results.get(0), error);
+    }
+
+    @Test
+    public void testCallsAfterTheExecutionCompletesExecuteAgain() {
+        QueryRowCoalescer coalescer = new QueryRowCoalescer();
+        QueryCacheKey key = createKey("SELECT * FROM Customers WHERE id = 3");
+        List<Object> results = new ArrayList<>();
+
+        CompletableFuture<Object> execution = coalescer.join(key, results::add);
+        coalescer.complete(key, execution, createRow());
+        Assert.assertNotNull(coalescer.join(key, results::add));
+
+        Assert.assertTrue(results.isEmpty());
+        Assert.assertNotNull(coalescer.join(createKey("SELECT * FROM Customers WHERE id = 4"), results::add));
+        Assert.assertEquals(coalescer.getStats().get(Constants.CoalescingStats.EXECUTIONS), 3L);
+        Assert.assertEquals(coalescer.getStats().get(Constants.CoalescingStats.COALESCED), 0L);
+    }
+
+    // The row is a mutable value of which each copy is a new value.
+    private static Object createRow() {
+        return Proxy.newProxyInstance(BMap.class.getClassLoader(), new Class<?>[]{BMap.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "copy":
+                            return createRow();
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private static QueryCacheKey createKey(String sqlQuery) {
+        BArray strings = createArray(StringUtils.fromString(sqlQuery));
+        BArray insertions = createArray();
+        BObject paramSQLString = (BObject) Proxy.newProxyInstance(BObject.class.getClassLoader(),
+                new Class<?>[]{BObject.class}, (proxy, method, args) ->
+                        Constants.ParameterizedQuery.STRINGS.equals(args[0]) ? strings : insertions);
+        return QueryCacheKey.create(paramSQLString, null, false);
+    }
+
+    private static BArray createArray(Object... values) {
+        return (BArray) Proxy.newProxyInstance(BArray.class.getClassLoader(), new Class<?>[]{BArray.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "size":
+                            return values.length;
+                        case "get":
+                        case "getBString":
+                            return values[((Number) args[0]).intValue()];
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.hedging;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.utils.WorkerExecutor;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests that the attempt of a hedged read that completes last is cancelled through its statement, and that the call
+ * completes with the result of the attempt that completes first. The attempts are blocked on latches, so that the
+ * tests do not depend on the time the attempts take.
+ *
+ * @since 1.2.0
+ */
+public class HedgedReadTest {
+
+    private static final long HEDGE_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long LONG_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private WorkerExecutor workerExecutor;
+    private BObject client;
+
+    @BeforeMethod
+    public void createClient() {
+        workerExecutor = new WorkerExecutor(2, false);
+        Map<String, Object> nativeData = new HashMap<>();
+        nativeData.put(Constants.NativeData.WORKER_EXECUTOR, workerExecutor);
+        client = (BObject) Proxy.newProxyInstance(BObject.class.getClassLoader(), new Class<?>[]{BObject.class},
+                (proxy, method, args) -> method.getName().equals("getNativeData") && args != null ?
+                        nativeData.get((String) args[0]) : null);
+    }
+
+    @AfterMethod
+    public void shutdownClient() {
+        workerExecutor.shutdown();
+    }
+
+    @Test
+    public void testSlowAttemptIsCancelledWhenTheHedgeCompletesFirst() throws Exception {
+        ReadPolicy policy = createPolicy(100);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        Statement statement = createStatement(cancelled);
+        AtomicReference<Attempt> firstAttempt = new AtomicReference<>();
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<Object> result = new CompletableFuture<>();
+
+        new HedgedRead(client, policy, attempt -> {
+            if (attempts.incrementAndGet() > 1) {
+                return "hedge";
+            }
+            firstAttempt.set(attempt);
+            Assert.assertTrue(attempt.begin(statement));
+            try {
+                // The statement executes until it is cancelled.
+                cancelled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return attempt.end() ? "first" : "cancelled";
+        }, result::complete).start();
+
+        Assert.assertEquals(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "hedge");
+        Assert.assertTrue(cancelled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "statement is not cancelled");
+        Assert.assertTrue(firstAttempt.get().isCancelled());
+        Assert.assertEquals(attempts.get(), 2);
+        Assert.assertEquals(policy.getStats().get(Constants.ReadPolicyStats.HEDGES), 1L);
+    }
+
+    @Test
+    public void testAttemptIsNotHedgedWithoutBudget() throws Exception {
+        ReadPolicy policy = createPolicy(0);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<Object> result = new CompletableFuture<>();
+
+        new HedgedRead(client, policy, attempt -> {
+            attempts.incrementAndGet();
+            try {
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        }, result::complete).start();
+
+        // The hedge would have been launched after its delay if the budget allowed it.
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(HEDGE_DELAY_NANOS) * 4);
+        release.countDown();
+        Assert.assertEquals(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "first");
+        Assert.assertEquals(attempts.get(), 1);
+    }
+
+    private static ReadPolicy createPolicy(double maxHedgePercent) {
+        return new ReadPolicy(true, 95, HEDGE_DELAY_NANOS, HEDGE_DELAY_NANOS, maxHedgePercent, 0, LONG_NANOS, 2,
+                LONG_NANOS, List.of());
+    }
+
+    private static Statement createStatement(CountDownLatch cancelled) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{Statement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("cancel")) {
+                        cancelled.countDown();
+                    }
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.iterator;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.stdlib.java.jdbc.memory.ResultMemory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests that closing a read-ahead stream does not wait for its reader, which may be blocked on the driver or on the
+ * buffer, and that the reader closes the underlying iterator once it stops. The reader is blocked on latches, so that
+ * the tests do not depend on the time the reads take.
+ *
+ * @since 1.2.0
+ */
+public class ReadAheadRowIteratorTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testRowsAreReadInOrder() {
+        List<Object> rows = List.of(createRow(), createRow(), createRow());
+        BlockingIterator delegate = new BlockingIterator(rows, null);
+        ReadAheadRowIterator iterator = new ReadAheadRowIterator(delegate, 2, ResultMemory.NONE, startThread(null));
+
+        for (Object row : rows) {
+            Assert.assertSame(iterator.next(), row);
+        }
+        Assert.assertNull(iterator.next());
+        Assert.assertNull(iterator.next());
+    }
+
+    @Test
+    public void testCloseDoesNotWaitForTheReaderBlockedOnTheDriver() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingIterator delegate = new BlockingIterator(List.of(), release);
+        AtomicReference<Thread> reader = new AtomicReference<>();
+        ReadAheadRowIterator iterator = new ReadAheadRowIterator(delegate, 2, ResultMemory.NONE, startThread(reader));
+        Assert.assertTrue(delegate.blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        Assert.assertNull(iterator.close());
+        Assert.assertEquals(delegate.closed.getCount(), 1, "closed while the reader is using it");
+
+        release.countDown();
+        Assert.assertTrue(delegate.closed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "not closed by the reader");
+        Assert.assertSame(delegate.closingThread, reader.get());
+        Assert.assertEquals(delegate.reads.get(), 1);
+    }
+
+    @Test
+    public void testCloseStopsTheReaderWaitingForBufferSpace() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        // The reader waits for space once the buffer of two rows is full and it holds the third row.
+        BlockingIterator delegate = new BlockingIterator(List.of(createRow(), createRow(), createRow()), release);
+        AtomicReference<Thread> reader = new AtomicReference<>();
+        ReadAheadRowIterator iterator = new ReadAheadRowIterator(delegate, 2, ResultMemory.NONE, startThread(reader));
+        Assert.assertTrue(delegate.rowsRead.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        Assert.assertNull(iterator.close());
+
+        Assert.assertTrue(delegate.closed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "not closed by the reader");
+        Assert.assertSame(delegate.closingThread, reader.get());
+        Assert.assertEquals(delegate.reads.get(), 3);
+        Assert.assertEquals(delegate.blocked.getCount(), 1, "read after the stream is closed");
+    }
+
+    @Test
+    public void testNextReturnsAnErrorWhenTheReaderIsStopped() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingIterator delegate = new BlockingIterator(List.of(), release);
+        AtomicReference<Thread> reader = new AtomicReference<>();
+        ReadAheadRowIterator iterator = new ReadAheadRowIterator(delegate, 2, ResultMemory.NONE, startThread(reader));
+        Assert.assertTrue(delegate.blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        reader.get().interrupt();
+
+        Assert.assertTrue(iterator.next() instanceof BError);
+        Assert.assertTrue(delegate.closed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "not closed by the reader");
+        Assert.assertNull(iterator.next());
+        Assert.assertNull(iterator.close());
+    }
+
+    private static Executor startThread(AtomicReference<Thread> reader) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "read-ahead-test-reader");
+            thread.setDaemon(true);
+            if (reader != null) {
+                reader.set(thread);
+            }
+            thread.start();
+        };
+    }
+
+    private static Object createRow() {
+        return Proxy.newProxyInstance(BMap.class.getClassLoader(), new Class<?>[]{BMap.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    /**
+     * An iterator returning its rows, after which it blocks on the driver until it is released or interrupted.
+     */
+    private static class BlockingIterator implements RowIterator {
+
+        private final List<Object> rows;
+        private final CountDownLatch release;
+        private final CountDownLatch rowsRead = new CountDownLatch(1);
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final AtomicInteger reads = new AtomicInteger();
+        private volatile Thread closingThread;
+
+        BlockingIterator(List<Object> rows, CountDownLatch release) {
+            this.rows = rows;
+            this.release = release;
+        }
+
+        @Override
+        public Object next() {
+            int read = reads.incrementAndGet();
+            if (read == rows.size()) {
+                rowsRead.countDown();
+            }
+            if (read <= rows.size()) {
+                return rows.get(read - 1);
+            }
+            if (release != null) {
+                blocked.countDown();
+                try {
+                    release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while reading the next row");
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Object close() {
+            closingThread = Thread.currentThread();
+            closed.countDown();
+            return null;
+        }
+    }
+}
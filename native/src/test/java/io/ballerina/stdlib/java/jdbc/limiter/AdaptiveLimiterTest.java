@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.limiter;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.stdlib.java.jdbc.limiter.AdaptiveLimiter.CircuitState;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests the additive increase and multiplicative decrease of the concurrency limit, the circuit breaker and the
+ * queue of the adaptive limiter. The latencies of the calls are given to the limiter, so that the tests do not
+ * depend on the time the calls take.
+ *
+ * @since 1.2.0
+ */
+public class AdaptiveLimiterTest {
+
+    private static final long THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long LONG_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final BError CONNECTION_FAILURE = ErrorCreator.createError(StringUtils.fromString(
+            "Connection is not available, request timed out after 30000ms."));
+
+    @Test
+    public void testLimitIncreasesWhileCallsAreFastAndUseIt() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4, 1, 6, 0, LONG_NANOS, THRESHOLD_NANOS, 0.5, 3, LONG_NANOS);
+        for (int round = 0; round < 4; round++) {
+            runConcurrently(limiter, limiter.getLimit(), FAST_NANOS, null);
+        }
+        Assert.assertTrue(limiter.getLimit() > 4, "limit " + limiter.getLimit());
+
+        for (int round = 0; round < 50; round++) {
+            runConcurrently(limiter, limiter.getLimit(), FAST_NANOS, null);
+        }
+        Assert.assertEquals(limiter.getLimit(), 6);
+        Assert.assertEquals(limiter.getInFlight(), 0);
+    }
+
+    @Test
+    public void testLimitIsNotIncreasedWhileMostlyUnused() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(8, 1, 16, 0, LONG_NANOS, THRESHOLD_NANOS, 0.5, 3, LONG_NANOS);
+        for (int i = 0; i < 100; i++) {
+            runConcurrently(limiter, 1, FAST_NANOS, null);
+        }
+        Assert.assertEquals(limiter.getLimit(), 8);
+    }
+
+    @Test
+    public void testLimitDecreasesOncePerBurstOfSlowCalls() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(8, 2, 16, 0, LONG_NANOS, THRESHOLD_NANOS, 0.5, 3, LONG_NANOS);
+        long burstStartNanos = System.nanoTime();
+        acquire(limiter);
+        acquire(limiter);
+        limiter.release(burstStartNanos, burstStartNanos + SLOW_NANOS, null);
+        Assert.assertEquals(limiter.getLimit(), 4);
+        // The other call of the burst started before the decrease, hence does not decrease the limit again.
+        limiter.release(burstStartNanos, burstStartNanos + SLOW_NANOS, null);
+        Assert.assertEquals(limiter.getLimit(), 4);
+
+        runConcurrently(limiter, 1, SLOW_NANOS, null);
+        Assert.assertEquals(limiter.getLimit(), 2);
+        runConcurrently(limiter, 1, SLOW_NANOS, null);
+        Assert.assertEquals(limiter.getLimit(), 2, "The limit is not decreased below the minimum.");
+    }
+
+    @Test
+    public void testConnectionFailureDecreasesLimit() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(8, 1, 16, 0, LONG_NANOS, THRESHOLD_NANOS, 0.5, 3, LONG_NANOS);
+        runConcurrently(limiter, 1, FAST_NANOS, CONNECTION_FAILURE);
+        Assert.assertEquals(limiter.getLimit(), 4);
+        Assert.assertEquals(limiter.getCircuitState(), CircuitState.CLOSED);
+    }
+
+    @Test
+    public void testCircuitOpensHalfOpensAndCloses() throws InterruptedException {
+        long resetNanos = TimeUnit.MILLISECONDS.toNanos(50);
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4, 4, 4, 0, LONG_NANOS, THRESHOLD_NANOS, 0.5, 2, resetNanos);
+        runConcurrently(limiter, 1, FAST_NANOS, CONNECTION_FAILURE);
+        Assert.assertEquals(limiter.getCircuitState(), CircuitState.CLOSED);
+        runConcurrently(limiter, 1, FAST_NANOS, CONNECTION_FAILURE);
+        Assert.assertEquals(limiter.getCircuitState(), CircuitState.OPEN);
+
+        Outcome rejected = acquire(limiter);
+        Assert.assertFalse(rejected.started);
+        Assert.assertTrue(rejected.error.get().getMessage().contains("circuit is open"));
+        Assert.assertNotNull(limiter.acquireNow(), "A call that cannot wait is also rejected.");
+
+        TimeUnit.NANOSECONDS.sleep(2 * resetNanos);
+        long trialStartNanos = System.nanoTime();
+        Outcome trial = acquire(limiter);
+        Assert.assertTrue(trial.started);
+        Assert.assertEquals(limiter.getCircuitState(), CircuitState.HALF_OPEN);
+        Outcome duringTrial = acquire(limiter);
+        Assert.assertFalse(duringTrial.started, "Only a single trial call is let through.");
+
+        limiter.release(trialStartNanos, trialStartNanos + FAST_NANOS, null);
+        Assert.assertEquals(limiter.getCircuitState(), CircuitState.CLOSED);
+        Assert.assertTrue(acquire(limiter).started);
+    }
+
+    @Test
+    public void testFailedTrialCallOpensCircuitAgain() throws InterruptedException {
+        long resetNanos = TimeUnit.MILLISECONDS.toNanos(50);
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4, 4, 4, 0, LONG_NANOS, THRESHOLD_NANOS, 0.5, 1, resetNanos);
+        runConcurrently(limiter, 1, FAST_NANOS, CONNECTION_FAILURE);
+        Assert.assertEquals(limiter.getCircuitState(), CircuitState.OPEN);
+
+        TimeUnit.NANOSECONDS.sleep(2 * resetNanos);
+        runConcurrently(limiter, 1, FAST_NANOS, CONNECTION_FAILURE);
+        Assert.assertEquals(limiter.getCircuitState(), CircuitState.OPEN);
+        Assert.assertFalse(acquire(limiter).started);
+    }
+
+    @Test
+    public void testCallsBeyondQueueBoundAreRejected() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 1, 1, LONG_NANOS, THRESHOLD_NANOS, 0.5, 3, LONG_NANOS);
+        long startNanos = System.nanoTime();
+        Outcome first = acquire(limiter);
+        Outcome queued = acquire(limiter);
+        Outcome rejected = acquire(limiter);
+        Assert.assertTrue(first.started);
+        Assert.assertFalse(queued.started);
+        Assert.assertNull(queued.error.get());
+        Assert.assertFalse(rejected.started);
+        Assert.assertTrue(rejected.error.get().getMessage().contains("1 calls are waiting"));
+        Assert.assertEquals(limiter.getQueued(), 1);
+
+        limiter.release(startNanos, startNanos + FAST_NANOS, null);
+        Assert.assertTrue(queued.started, "The queued call is started once a permit is released.");
+        Assert.assertEquals(limiter.getQueued(), 0);
+        Assert.assertEquals(limiter.getInFlight(), 1);
+    }
+
+    @Test
+    public void testQueuedCallIsRejectedAtItsDeadline() throws InterruptedException {
+        long queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(50);
+        AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 1, 1, queueTimeoutNanos, THRESHOLD_NANOS, 0.5, 3,
+                LONG_NANOS);
+        Assert.assertTrue(acquire(limiter).started);
+        CountDownLatch rejection = new CountDownLatch(1);
+        AtomicReference<BError> error = new AtomicReference<>();
+        long queuedNanos = System.nanoTime();
+        limiter.acquire(() -> Assert.fail("The call must not start while the permit is held."), e -> {
+            error.set(e);
+            rejection.countDown();
+        });
+
+        // No permit is released, so only the timer can reject the call.
+        Assert.assertTrue(rejection.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(System.nanoTime() - queuedNanos >= queueTimeoutNanos);
+        Assert.assertTrue(error.get().getMessage().contains("timed out"));
+        Assert.assertEquals(limiter.getQueued(), 0);
+        Assert.assertEquals(limiter.getInFlight(), 1);
+    }
+
+    // Starts the given number of calls, which must all be started, and then completes them with the given latency
+    // and result.
+    private static void runConcurrently(AdaptiveLimiter limiter, int calls, long latencyNanos, Object result) {
+        long startNanos = System.nanoTime();
+        List<Outcome> outcomes = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            outcomes.add(acquire(limiter));
+        }
+        for (Outcome outcome : outcomes) {
+            Assert.assertTrue(outcome.started);
+            limiter.release(startNanos, startNanos + latencyNanos, result);
+        }
+    }
+
+    private static Outcome acquire(AdaptiveLimiter limiter) {
+        Outcome outcome = new Outcome();
+        limiter.acquire(() -> outcome.started = true, outcome.error::set);
+        return outcome;
+    }
+
+    private static final class Outcome {
+
+        private volatile boolean started = false;
+        private final AtomicReference<BError> error = new AtomicReference<>();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.mapping;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.flags.TypeFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ColumnDefinition;
+import io.ballerina.stdlib.sql.utils.Utils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests that the precompiled row mappers produce the same records as the `sql` module, which maps the rows when the
+ * statements are not processed by the connector.
+ *
+ * @since 1.2.0
+ */
+public class RowMapperTest {
+
+    private static final String SELECT_ROWS = "SELECT * FROM DataTypes ORDER BY ID";
+    private static final RecordType ROW_TYPE = createRowType();
+
+    private Connection connection;
+
+    @BeforeMethod
+    public void createTable() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:row_mapper_test");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE DataTypes (ID INT, VARCHAR_TYPE VARCHAR(20), CHAR_TYPE CHAR(4), " +
+                    "INT_TYPE INT, BIGINT_TYPE BIGINT, DECIMAL_TYPE DECIMAL(10, 3), DOUBLE_TYPE DOUBLE, " +
+                    "REAL_TYPE REAL, BOOLEAN_TYPE BOOLEAN, TIMESTAMP_TYPE TIMESTAMP, " +
+                    "TIMESTAMP_TZ_TYPE TIMESTAMP WITH TIME ZONE, CLOB_TYPE CLOB, ARRAY_TYPE INTEGER ARRAY, " +
+                    "INT_AS_DECIMAL INT, DECIMAL_AS_FLOAT DECIMAL(10, 3))");
+            statement.execute("INSERT INTO DataTypes VALUES (1, 'Hello', 'ab', 2147483647, 9223372036854775807, " +
+                    "12345.678, 1.5E10, 2.25, TRUE, TIMESTAMP '2026-02-28 23:59:59.123456', " +
+                    "TIMESTAMP WITH TIME ZONE '2026-02-28 23:59:59.5+05:30', 'A large text', ARRAY[1, NULL, 3], " +
+                    "-42, 0.125)");
+            statement.execute("INSERT INTO DataTypes (ID) VALUES (2)");
+        }
+    }
+
+    @AfterMethod
+    public void dropTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE DataTypes");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testValuesMatchTheSqlModule() throws Exception {
+        assertRowMatches(1);
+    }
+
+    @Test
+    public void testNullValuesMatchTheSqlModule() throws Exception {
+        assertRowMatches(2);
+    }
+
+    @Test
+    public void testRowMapperIsReusedForTheSameResultShape() throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet first = statement.executeQuery(SELECT_ROWS)) {
+            RowMapper rowMapper = RowMapperCache.get(first, ROW_TYPE, DefaultResultParameterProcessor.getInstance());
+            try (Statement other = connection.createStatement();
+                 ResultSet second = other.executeQuery(SELECT_ROWS)) {
+                Assert.assertSame(RowMapperCache.get(second, ROW_TYPE,
+                        DefaultResultParameterProcessor.getInstance()), rowMapper);
+            }
+        }
+    }
+
+    private void assertRowMatches(int id) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(SELECT_ROWS)) {
+            for (int i = 0; i < id; i++) {
+                Assert.assertTrue(resultSet.next());
+            }
+            RowMapper rowMapper = RowMapperCache.get(resultSet, ROW_TYPE,
+                    DefaultResultParameterProcessor.getInstance());
+            BMap<BString, Object> record = rowMapper.map(resultSet, ValueCreator.createMapValue(ROW_TYPE));
+            List<ColumnDefinition> columnDefinitions = Utils.getColumnDefinitions(resultSet, ROW_TYPE);
+            Assert.assertEquals(record.size(), columnDefinitions.size());
+            for (int i = 0; i < columnDefinitions.size(); i++) {
+                ColumnDefinition columnDefinition = columnDefinitions.get(i);
+                Object expected = Utils.getResult(resultSet, i + 1, columnDefinition,
+                        DefaultResultParameterProcessor.getInstance());
+                Object actual = record.get(StringUtils.fromString(columnDefinition.getBallerinaFieldName()));
+                String field = columnDefinition.getColumnName();
+                if (expected == null) {
+                    Assert.assertNull(actual, field);
+                    continue;
+                }
+                Assert.assertNotNull(actual, field);
+                Assert.assertEquals(TypeUtils.getType(actual).getTag(), TypeUtils.getType(expected).getTag(), field);
+                Assert.assertEquals(StringUtils.getExpressionStringValue(actual),
+                        StringUtils.getExpressionStringValue(expected), field);
+            }
+        }
+    }
+
+    private static RecordType createRowType() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        addField(fields, "ID", PredefinedTypes.TYPE_INT);
+        addField(fields, "VARCHAR_TYPE", PredefinedTypes.TYPE_STRING);
+        addField(fields, "CHAR_TYPE", PredefinedTypes.TYPE_STRING);
+        addField(fields, "INT_TYPE", PredefinedTypes.TYPE_INT);
+        addField(fields, "BIGINT_TYPE", PredefinedTypes.TYPE_INT);
+        addField(fields, "DECIMAL_TYPE", PredefinedTypes.TYPE_DECIMAL);
+        addField(fields, "DOUBLE_TYPE", PredefinedTypes.TYPE_FLOAT);
+        addField(fields, "REAL_TYPE", PredefinedTypes.TYPE_FLOAT);
+        addField(fields, "BOOLEAN_TYPE", PredefinedTypes.TYPE_BOOLEAN);
+        addField(fields, "TIMESTAMP_TYPE", PredefinedTypes.TYPE_STRING);
+        addField(fields, "TIMESTAMP_TZ_TYPE", PredefinedTypes.TYPE_STRING);
+        addField(fields, "CLOB_TYPE", PredefinedTypes.TYPE_STRING);
+        addField(fields, "ARRAY_TYPE", TypeCreator.createArrayType(
+                TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_NULL)));
+        addField(fields, "INT_AS_DECIMAL", PredefinedTypes.TYPE_DECIMAL);
+        addField(fields, "DECIMAL_AS_FLOAT", PredefinedTypes.TYPE_FLOAT);
+        return TypeCreator.createRecordType("DataTypesRow", new Module("ballerinax", "cdata.connect", "1"),
+                SymbolFlags.PUBLIC, fields, null, true, TypeFlags.ANYDATA | TypeFlags.PURETYPE);
+    }
+
+    // Adds a `T?` field, as every column of the test table can be `NULL`.
+    private static void addField(Map<String, Field> fields, String name, Type type) {
+        Type fieldType = TypeCreator.createUnionType(type, PredefinedTypes.TYPE_NULL);
+        fields.put(name, TypeCreator.createField(fieldType, name, SymbolFlags.PUBLIC | SymbolFlags.REQUIRED));
+    }
+}
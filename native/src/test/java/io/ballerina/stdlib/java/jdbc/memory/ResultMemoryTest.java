@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.memory;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import io.ballerina.stdlib.java.jdbc.cache.ValueSizeEstimator;
+import io.ballerina.stdlib.java.jdbc.utils.ExecutionOptions;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Tests that the rows materialized for a result are counted once and limited by its `maxResultBytes`, however many of
+ * them are held at a time, and that the rows held for the results of a client are limited by its budget.
+ *
+ * @since 1.2.0
+ */
+public class ResultMemoryTest {
+
+    private static final Object ROW = StringUtils.fromString("x".repeat(100));
+    private static final long ROW_BYTES = ValueSizeEstimator.estimate(ROW);
+
+    @Test
+    public void testRowsHandedOverCountTowardsTheResult() {
+        MemoryBudget budget = MemoryBudget.register(0, 0);
+        ResultMemory memory = ResultMemory.start(createClient(budget), createOptions(ROW_BYTES * 7 / 2));
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertNull(memory.check(ROW));
+        }
+        Assert.assertTrue(memory.check(ROW) instanceof BError);
+        memory.release();
+
+        Map<String, Object> usage = budget.getUsage();
+        Assert.assertEquals(usage.get(Constants.MemoryUsage.MATERIALIZED_BYTES), ROW_BYTES * 3);
+        Assert.assertEquals(usage.get(Constants.MemoryUsage.LARGEST_MATERIALIZED_BYTES), ROW_BYTES * 3);
+        Assert.assertEquals(usage.get(Constants.MemoryUsage.CLIENT_BYTES), 0L);
+        Assert.assertEquals(usage.get(Constants.MemoryUsage.REJECTED), 1L);
+    }
+
+    @Test
+    public void testRowsHeldAreNotCountedAgain() {
+        MemoryBudget budget = MemoryBudget.register(0, 0);
+        ResultMemory memory = ResultMemory.start(createClient(budget), createOptions(ROW_BYTES * 7 / 2));
+
+        // The rows are materialized, buffered and then handed over, as by a read-ahead stream.
+        for (int i = 0; i < 3; i++) {
+            Assert.assertNull(memory.check(ROW));
+            Assert.assertNull(memory.add(ROW));
+        }
+        Assert.assertEquals(budget.getUsedBytes(), ROW_BYTES * 3);
+        for (int i = 0; i < 3; i++) {
+            memory.remove(ROW);
+        }
+        Assert.assertEquals(budget.getUsedBytes(), 0L);
+        Assert.assertTrue(memory.check(ROW) instanceof BError);
+        memory.release();
+
+        Assert.assertEquals(budget.getUsage().get(Constants.MemoryUsage.MATERIALIZED_BYTES), ROW_BYTES * 3);
+    }
+
+    @Test
+    public void testRowsHeldAreLimitedByTheClientBudget() {
+        MemoryBudget budget = MemoryBudget.register(ROW_BYTES * 5 / 2, 0);
+        BObject client = createClient(budget);
+        ResultMemory first = ResultMemory.start(client, createOptions(0));
+        ResultMemory second = ResultMemory.start(client, createOptions(0));
+
+        Assert.assertNull(first.check(ROW));
+        Assert.assertNull(first.add(ROW));
+        Assert.assertNull(second.check(ROW));
+        Assert.assertNull(second.add(ROW));
+        // A row handed over as soon as it is materialized needs to fit besides the rows held.
+        Assert.assertTrue(second.check(ROW) instanceof BError);
+        Assert.assertEquals(budget.getUsedBytes(), ROW_BYTES * 2);
+
+        // The budget is available again once a result is closed.
+        first.release();
+        Assert.assertNull(second.check(ROW));
+        Assert.assertNull(second.add(ROW));
+        second.release();
+
+        Map<String, Object> usage = budget.getUsage();
+        Assert.assertEquals(usage.get(Constants.MemoryUsage.CLIENT_BYTES), 0L);
+        Assert.assertEquals(usage.get(Constants.MemoryUsage.PEAK_CLIENT_BYTES), ROW_BYTES * 2);
+        Assert.assertEquals(usage.get(Constants.MemoryUsage.MATERIALIZED_BYTES), ROW_BYTES * 4);
+        Assert.assertEquals(usage.get(Constants.MemoryUsage.LARGEST_MATERIALIZED_BYTES), ROW_BYTES * 3);
+        Assert.assertEquals(usage.get(Constants.MemoryUsage.REJECTED), 1L);
+    }
+
+    private static BObject createClient(MemoryBudget budget) {
+        return (BObject) Proxy.newProxyInstance(BObject.class.getClassLoader(), new Class<?>[]{BObject.class},
+                (proxy, method, args) -> method.getName().equals("getNativeData") && args != null
+                        && Constants.NativeData.MEMORY_BUDGET.equals(args[0]) ? budget : null);
+    }
+
+    private static ExecutionOptions createOptions(long maxResultBytes) {
+        BMap<?, ?> options = (BMap<?, ?>) Proxy.newProxyInstance(BMap.class.getClassLoader(),
+                new Class<?>[]{BMap.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "containsKey":
+                            return Constants.ExecutionOptions.MAX_RESULT_BYTES.equals(args[0]);
+                        case "getIntValue":
+                            return maxResultBytes;
+                        default:
+                            return null;
+                    }
+                });
+        return ExecutionOptions.DEFAULT.merge(options);
+    }
+}
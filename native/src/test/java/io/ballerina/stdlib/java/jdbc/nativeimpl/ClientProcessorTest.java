@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.java.jdbc.Constants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the translation of the `Options` record into the CData Connect connection string properties.
+ *
+ * @since 1.2.0
+ */
+public class ClientProcessorTest {
+
+    @Test
+    public void testMiscellaneousOptionsAreReadFromTheirOwnRecord() {
+        BMap<BString, Object> ssl = ValueCreator.createMapValue();
+        ssl.put(Constants.SslConfig.SSL_SERVER_CERT, StringUtils.fromString("*"));
+        BMap<BString, Object> miscellaneous = ValueCreator.createMapValue();
+        miscellaneous.put(Constants.MiscellaneousConfig.BATCH_SIZE, 500L);
+        miscellaneous.put(Constants.MiscellaneousConfig.MAX_ROWS, 10L);
+        miscellaneous.put(Constants.MiscellaneousConfig.CONNECT_ON_OPEN, true);
+        BMap<BString, Object> options = ValueCreator.createMapValue();
+        options.put(Constants.Options.SSL, ssl);
+        options.put(Constants.Options.MISCELLANEOUS, miscellaneous);
+
+        BMap<BString, Object> properties = ClientProcessor.getConnectionStringProperties(options);
+
+        Assert.assertEquals(properties.get(Constants.ConnectionStringProps.SSL_SERVER_CERT).toString(), "*");
+        Assert.assertEquals(properties.get(Constants.ConnectionStringProps.BATCH_SIZE), 500L);
+        Assert.assertEquals(properties.get(Constants.ConnectionStringProps.MAX_ROWS), 10L);
+        Assert.assertEquals(properties.get(Constants.ConnectionStringProps.CONNECT_ON_OPEN), true);
+    }
+
+    @Test
+    public void testMiscellaneousOptionsWithoutSslOptions() {
+        BMap<BString, Object> miscellaneous = ValueCreator.createMapValue();
+        miscellaneous.put(Constants.MiscellaneousConfig.TIMEOUT, 60L);
+        BMap<BString, Object> options = ValueCreator.createMapValue();
+        options.put(Constants.Options.MISCELLANEOUS, miscellaneous);
+
+        BMap<BString, Object> properties = ClientProcessor.getConnectionStringProperties(options);
+
+        Assert.assertEquals(properties.get(Constants.ConnectionStringProps.TIMEOUT), 60L);
+    }
+
+    @Test
+    public void testMaxLogFileCountIsReadAsInt() {
+        BMap<BString, Object> logging = ValueCreator.createMapValue();
+        logging.put(Constants.LoggingConfig.MAX_LOG_FILE_COUNT, 5L);
+        BMap<BString, Object> options = ValueCreator.createMapValue();
+        options.put(Constants.Options.LOGGING, logging);
+
+        BMap<BString, Object> properties = ClientProcessor.getConnectionStringProperties(options);
+
+        Assert.assertEquals(properties.get(Constants.ConnectionStringProps.MAX_LOG_FILE_COUNT), 5L);
+    }
+}
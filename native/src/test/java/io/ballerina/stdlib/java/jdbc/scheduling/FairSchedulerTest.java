@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.scheduling;
+
+import io.ballerina.runtime.api.values.BError;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests the order in which the fair scheduler starts the waiting calls of the tenants sharing a connection pool.
+ *
+ * @since 1.2.0
+ */
+public class FairSchedulerTest {
+
+    private static final long LONG_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private Object pool;
+    private List<TenantAdmission> admissions;
+    private List<String> started;
+    private ArrayDeque<TenantAdmission> running;
+
+    @BeforeMethod
+    public void createPool() {
+        pool = new Object();
+        admissions = new ArrayList<>();
+        started = Collections.synchronizedList(new ArrayList<>());
+        running = new ArrayDeque<>();
+    }
+
+    @AfterMethod
+    public void closeAdmissions() {
+        admissions.forEach(TenantAdmission::close);
+    }
+
+    @Test
+    public void testInteractiveCallsUseTheReserveAndStartFirst() {
+        TenantAdmission batch = register("reporting", 1, PriorityClass.BATCH, LONG_NANOS, 3, 1);
+        TenantAdmission interactive = register("web", 1, PriorityClass.INTERACTIVE, LONG_NANOS, 3, 1);
+        acquire(batch, "batch-1");
+        acquire(batch, "batch-2");
+        acquire(batch, "batch-3");
+        Assert.assertEquals(started, List.of("batch-1", "batch-2"), "The reserved connection is left free.");
+
+        acquire(interactive, "web-1");
+        acquire(interactive, "web-2");
+        Assert.assertEquals(started, List.of("batch-1", "batch-2", "web-1"));
+
+        // The interactive call waiting is started before the batch call that waited longer.
+        releaseOldest();
+        Assert.assertEquals(started, List.of("batch-1", "batch-2", "web-1", "web-2"));
+        // The batch call is only started once a connection is left free beyond the reserve.
+        releaseOldest();
+        Assert.assertEquals(started.size(), 4);
+        releaseOldest();
+        Assert.assertEquals(started, List.of("batch-1", "batch-2", "web-1", "web-2", "batch-3"));
+    }
+
+    @Test
+    public void testTenantsAreServedInProportionToTheirWeights() {
+        TenantAdmission heavy = register("heavy", 2, PriorityClass.INTERACTIVE, LONG_NANOS, 1, 0);
+        TenantAdmission light = register("light", 1, PriorityClass.INTERACTIVE, LONG_NANOS, 1, 0);
+        acquire(heavy, "blocker");
+        for (int i = 0; i < 6; i++) {
+            acquire(heavy, "heavy");
+            acquire(light, "light");
+        }
+        for (int i = 0; i < 9; i++) {
+            releaseOldest();
+        }
+        List<String> served = started.subList(1, 10);
+        Assert.assertEquals(Collections.frequency(served, "heavy"), 6, served.toString());
+        Assert.assertEquals(Collections.frequency(served, "light"), 3, served.toString());
+    }
+
+    @Test
+    public void testWaitingCallIsRejectedAtItsDeadline() throws InterruptedException {
+        long queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(50);
+        TenantAdmission admission = register("web", 1, PriorityClass.INTERACTIVE, queueTimeoutNanos, 1, 0);
+        acquire(admission, "first");
+        CountDownLatch rejection = new CountDownLatch(1);
+        AtomicReference<BError> error = new AtomicReference<>();
+        long queuedNanos = System.nanoTime();
+        admission.acquire(() -> Assert.fail("The call must not start while the pool is in use."), e -> {
+            error.set(e);
+            rejection.countDown();
+        });
+
+        // No share is released, so only the timer can reject the call.
+        Assert.assertTrue(rejection.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(System.nanoTime() - queuedNanos >= queueTimeoutNanos);
+        Assert.assertTrue(error.get().getMessage().contains("timed out"));
+    }
+
+    private TenantAdmission register(String tenant, int weight, PriorityClass priorityClass, long queueTimeoutNanos,
+                                     int capacity, int interactiveReserve) {
+        TenantAdmission admission = FairScheduler.register(pool, capacity, interactiveReserve, tenant, weight,
+                capacity, 100, queueTimeoutNanos, priorityClass, null);
+        admissions.add(admission);
+        return admission;
+    }
+
+    private void acquire(TenantAdmission admission, String label) {
+        admission.acquire(() -> {
+            started.add(label);
+            running.add(admission);
+        }, error -> Assert.fail("The call " + label + " is rejected: " + error.getMessage()));
+    }
+
+    // Completes the call that started first, which starts the waiting calls that then fit.
+    private void releaseOldest() {
+        running.poll().release();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.simulator;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Delays the calls to the simulated service and fails a configured share of them.
+ *
+ * @since 1.2.0
+ */
+final class FaultInjector {
+
+    private final SimulatorConfig config;
+
+    FaultInjector(SimulatorConfig config) {
+        this.config = config;
+    }
+
+    void beforeConnect() throws SQLException {
+        sleep(config.getConnectLatencyMillis());
+    }
+
+    void beforeExecute() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMillis = config.getLatencyMillis();
+        if (config.getJitterMillis() > 0) {
+            delayMillis += random.nextLong(-config.getJitterMillis(), config.getJitterMillis() + 1);
+        }
+        sleep(Math.max(delayMillis, 0));
+        if (config.getFailureRate() > 0 && random.nextDouble() < config.getFailureRate()) {
+            throw new SQLTransientConnectionException("Simulated failure of the CData Connect service.",
+                    config.getFailureSqlState());
+        }
+    }
+
+    private static void sleep(long millis) throws SQLException {
+        if (millis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while simulating the latency of the CData Connect service.", e);
+        }
+    }
+}
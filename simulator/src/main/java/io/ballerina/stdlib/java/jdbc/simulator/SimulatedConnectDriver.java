@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.simulator;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * An in-process JDBC driver that answers `jdbc:cdata:connect:` URLs from an in-memory H2 database, so that the
+ * connector can be benchmarked and load tested without a CData Connect account. The latency, the failures and the
+ * data of the simulated service are configured with the `Sim*` properties of the URL, as described in
+ * {@link SimulatorConfig}.
+ *
+ * @since 1.2.0
+ */
+public class SimulatedConnectDriver implements Driver {
+
+    public static final String URL_PREFIX = "jdbc:cdata:connect:";
+    public static final String URL = URL_PREFIX + "AuthScheme=Basic";
+
+    private final Driver backingDriver = new org.h2.Driver();
+
+    static {
+        try {
+            DriverManager.registerDriver(new SimulatedConnectDriver());
+        } catch (SQLException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+        SimulatorConfig config;
+        try {
+            config = SimulatorConfig.parse(url);
+        } catch (IllegalArgumentException e) {
+            throw new SQLException("Invalid simulator property: " + e.getMessage(), e);
+        }
+        FaultInjector faultInjector = new FaultInjector(config);
+        faultInjector.beforeConnect();
+        // CData connection string properties are not understood by H2, hence they are not forwarded.
+        Connection connection = backingDriver.connect(SimulatedDatabase.getUrl(config.getRows()), new Properties());
+        SimulatedDatabase.initialize(connection, config.getRows());
+        return SimulatedConnection.wrap(connection, faultInjector);
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+}
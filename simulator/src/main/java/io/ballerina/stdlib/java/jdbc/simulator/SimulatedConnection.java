@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.simulator;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Wraps the connections and statements of the backing database, so that the statement executions go through the
+ * {@link FaultInjector}.
+ *
+ * @since 1.2.0
+ */
+final class SimulatedConnection implements InvocationHandler {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final Object target;
+    private final FaultInjector faultInjector;
+
+    private SimulatedConnection(Object target, FaultInjector faultInjector) {
+        this.target = target;
+        this.faultInjector = faultInjector;
+    }
+
+    static Connection wrap(Connection connection, FaultInjector faultInjector) {
+        return (Connection) wrap(connection, Connection.class, faultInjector);
+    }
+
+    private static Object wrap(Object target, Class<?> type, FaultInjector faultInjector) {
+        return Proxy.newProxyInstance(SimulatedConnection.class.getClassLoader(), new Class<?>[]{type},
+                new SimulatedConnection(target, faultInjector));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (target instanceof Statement && EXECUTE_METHODS.contains(method.getName())) {
+            faultInjector.beforeExecute();
+        }
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+        // The statements created by a connection are wrapped as the interface the method declares.
+        if (target instanceof Connection && result instanceof Statement
+                && Statement.class.isAssignableFrom(method.getReturnType())) {
+            return wrap(result, method.getReturnType(), faultInjector);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.simulator;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Creates the tables and procedures of the simulated service in the backing in-memory database. The `Account`
+ * table is shaped after a wide SaaS object with a mix of text, numeric, boolean and temporal columns.
+ * <ul>
+ *     <li>`Account` holds the configured number of rows with the IDs from `1`.</li>
+ *     <li>`AccountStaging` is an empty table with an auto-generated `Id` for the writes.</li>
+ *     <li>`GetAccounts(rowCount)` is a procedure returning the first `rowCount` accounts.</li>
+ * </ul>
+ *
+ * @since 1.2.0
+ */
+public final class SimulatedDatabase {
+
+    public static final String ACCOUNT_COLUMNS = "Id, Name, AccountNumber, Industry, Type, Phone, Website, "
+            + "BillingCity, BillingCountry, AnnualRevenue, NumberOfEmployees, Rating, IsActive, CreatedDate, "
+            + "LastModifiedDate, Description";
+
+    private static final Set<String> INITIALIZED = new HashSet<>();
+
+    private SimulatedDatabase() {
+    }
+
+    /**
+     * Returns the URL of the backing database of the given number of rows, which lives as long as the JVM.
+     */
+    static String getUrl(int rows) {
+        return "jdbc:h2:mem:cdata_connect_" + rows + ";DB_CLOSE_DELAY=-1";
+    }
+
+    static void initialize(Connection connection, int rows) throws SQLException {
+        synchronized (INITIALIZED) {
+            if (INITIALIZED.contains(getUrl(rows))) {
+                return;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE Account (Id INT PRIMARY KEY, Name VARCHAR(255), "
+                        + "AccountNumber VARCHAR(40), Industry VARCHAR(40), Type VARCHAR(40), Phone VARCHAR(40), "
+                        + "Website VARCHAR(255), BillingCity VARCHAR(40), BillingCountry VARCHAR(80), "
+                        + "AnnualRevenue DECIMAL(18, 2), NumberOfEmployees INT, Rating DOUBLE, IsActive BOOLEAN, "
+                        + "CreatedDate TIMESTAMP, LastModifiedDate TIMESTAMP, Description VARCHAR(4000))");
+                statement.execute("CREATE TABLE AccountStaging (Id INT AUTO_INCREMENT PRIMARY KEY, "
+                        + "Name VARCHAR(255), Industry VARCHAR(40), AnnualRevenue DECIMAL(18, 2), IsActive BOOLEAN)");
+                statement.execute("CREATE ALIAS GetAccounts FOR \"" + SimulatedDatabase.class.getName()
+                        + ".getAccounts\"");
+            }
+            insertAccounts(connection, rows);
+            INITIALIZED.add(getUrl(rows));
+        }
+    }
+
+    private static void insertAccounts(Connection connection, int rows) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO Account (" + ACCOUNT_COLUMNS
+                + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int i = 1; i <= rows; i++) {
+                insert.setInt(1, i);
+                insert.setString(2, "Account " + i);
+                insert.setString(3, "CD" + (100000 + i));
+                insert.setString(4, i % 2 == 0 ? "Technology" : "Energy");
+                insert.setString(5, "Customer - Direct");
+                insert.setString(6, "(650) 555-" + (1000 + i % 9000));
+                insert.setString(7, "https://account" + i + ".example.com");
+                insert.setString(8, "San Francisco");
+                insert.setString(9, "United States");
+                insert.setBigDecimal(10, BigDecimal.valueOf(i * 1000L, 2));
+                insert.setInt(11, i % 5000);
+                insert.setDouble(12, (i % 5) + 0.5);
+                insert.setBoolean(13, i % 3 != 0);
+                insert.setTimestamp(14, now);
+                insert.setTimestamp(15, now);
+                insert.setString(16, "Reference account used for connector benchmarks, row " + i);
+                insert.addBatch();
+                if (i % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * Backs the `GetAccounts` procedure and returns the first `rowCount` accounts.
+     *
+     * @param connection the connection provided by H2
+     * @param rowCount   the number of rows to return
+     * @return the accounts as a result set
+     * @throws SQLException if the select fails
+     */
+    public static ResultSet getAccounts(Connection connection, int rowCount) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement("SELECT " + ACCOUNT_COLUMNS
+                + " FROM Account WHERE Id <= ?");
+        statement.setInt(1, rowCount);
+        return statement.executeQuery();
+    }
+}
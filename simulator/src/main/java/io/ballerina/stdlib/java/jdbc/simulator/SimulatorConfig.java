@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.simulator;
+
+import java.util.Locale;
+
+/**
+ * The behaviour of the simulated CData Connect service, read from the `Sim*` properties of a `jdbc:cdata:connect:`
+ * URL such as `jdbc:cdata:connect:AuthScheme=Basic;SimLatency=20;SimJitter=5;SimFailureRate=0.01`. The other
+ * connection string properties are ignored.
+ *
+ * @since 1.2.0
+ */
+public final class SimulatorConfig {
+
+    static final String LATENCY = "simlatency";
+    static final String JITTER = "simjitter";
+    static final String CONNECT_LATENCY = "simconnectlatency";
+    static final String FAILURE_RATE = "simfailurerate";
+    static final String FAILURE_SQL_STATE = "simfailuresqlstate";
+    static final String ROWS = "simrows";
+
+    public static final int DEFAULT_ROWS = 10_000;
+
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final long connectLatencyMillis;
+    private final double failureRate;
+    private final String failureSqlState;
+    private final int rows;
+
+    private SimulatorConfig(long latencyMillis, long jitterMillis, long connectLatencyMillis, double failureRate,
+                            String failureSqlState, int rows) {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.connectLatencyMillis = connectLatencyMillis;
+        this.failureRate = failureRate;
+        this.failureSqlState = failureSqlState;
+        this.rows = rows;
+    }
+
+    /**
+     * Reads the configuration from the properties of the URL, which are separated by `;`. The names of the
+     * properties are case-insensitive.
+     *
+     * @param url the `jdbc:cdata:connect:` URL
+     * @return the configuration
+     * @throws IllegalArgumentException if the value of a property is invalid
+     */
+    public static SimulatorConfig parse(String url) {
+        long latencyMillis = 0;
+        long jitterMillis = 0;
+        long connectLatencyMillis = 0;
+        double failureRate = 0;
+        String failureSqlState = "08S01";
+        int rows = DEFAULT_ROWS;
+        for (String property : url.substring(SimulatedConnectDriver.URL_PREFIX.length()).split(";")) {
+            int separator = property.indexOf('=');
+            if (separator < 0) {
+                continue;
+            }
+            String name = property.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+            String value = property.substring(separator + 1).trim();
+            switch (name) {
+                case LATENCY:
+                    latencyMillis = parseNonNegative(name, value);
+                    break;
+                case JITTER:
+                    jitterMillis = parseNonNegative(name, value);
+                    break;
+                case CONNECT_LATENCY:
+                    connectLatencyMillis = parseNonNegative(name, value);
+                    break;
+                case FAILURE_RATE:
+                    failureRate = Double.parseDouble(value);
+                    if (failureRate < 0 || failureRate > 1) {
+                        throw new IllegalArgumentException("SimFailureRate must be between 0 and 1: " + value);
+                    }
+                    break;
+                case FAILURE_SQL_STATE:
+                    failureSqlState = value;
+                    break;
+                case ROWS:
+                    rows = (int) Math.min(parseNonNegative(name, value), Integer.MAX_VALUE);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return new SimulatorConfig(latencyMillis, jitterMillis, connectLatencyMillis, failureRate, failureSqlState,
+                rows);
+    }
+
+    private static long parseNonNegative(String name, String value) {
+        long parsed = Long.parseLong(value);
+        if (parsed < 0) {
+            throw new IllegalArgumentException(name + " must not be negative: " + value);
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the latency added to each statement execution, to which up to `jitter` milliseconds are added or
+     * from which they are subtracted at random.
+     */
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public long getJitterMillis() {
+        return jitterMillis;
+    }
+
+    public long getConnectLatencyMillis() {
+        return connectLatencyMillis;
+    }
+
+    /**
+     * Returns the probability of a statement execution failing with an error of the failure SQL state.
+     */
+    public double getFailureRate() {
+        return failureRate;
+    }
+
+    public String getFailureSqlState() {
+        return failureSqlState;
+    }
+
+    /**
+     * Returns the number of rows of the `Account` table.
+     */
+    public int getRows() {
+        return rows;
+    }
+}
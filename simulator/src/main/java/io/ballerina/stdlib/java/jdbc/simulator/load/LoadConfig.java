@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.simulator.load;
+
+import io.ballerina.stdlib.java.jdbc.simulator.SimulatedConnectDriver;
+import io.ballerina.stdlib.java.jdbc.simulator.SimulatorConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The configuration of a load test, read from the `load.*` system properties.
+ * <ul>
+ *     <li>`load.url` - the `jdbc:cdata:connect:` URL, including the `Sim*` properties of the simulator</li>
+ *     <li>`load.scenarios` - the comma-separated remote methods to drive, which are all of them by default</li>
+ *     <li>`load.concurrency` - the number of concurrent callers</li>
+ *     <li>`load.poolSize` - the number of connections shared by the callers, which is the concurrency by
+ *     default</li>
+ *     <li>`load.warmup` and `load.duration` - the seconds each scenario is run before and while it is measured</li>
+ *     <li>`load.rows` - the number of rows read by `query` and `call`</li>
+ *     <li>`load.batchSize` - the number of commands of a `batchExecute`</li>
+ * </ul>
+ *
+ * @since 1.2.0
+ */
+final class LoadConfig {
+
+    private final String url;
+    private final List<Scenario> scenarios;
+    private final int concurrency;
+    private final int poolSize;
+    private final long warmupSeconds;
+    private final long durationSeconds;
+    private final int rows;
+    private final int batchSize;
+    private final int tableRows;
+
+    private LoadConfig(String url, List<Scenario> scenarios, int concurrency, int poolSize, long warmupSeconds,
+                       long durationSeconds, int rows, int batchSize) {
+        this.url = url;
+        this.scenarios = scenarios;
+        this.concurrency = concurrency;
+        this.poolSize = poolSize;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.rows = rows;
+        this.batchSize = batchSize;
+        this.tableRows = SimulatorConfig.parse(url).getRows();
+    }
+
+    static LoadConfig fromSystemProperties() {
+        String url = System.getProperty("load.url", SimulatedConnectDriver.URL);
+        List<Scenario> scenarios = new ArrayList<>();
+        String scenarioNames = System.getProperty("load.scenarios", "");
+        if (scenarioNames.isBlank()) {
+            scenarios.addAll(List.of(Scenario.values()));
+        } else {
+            for (String scenarioName : scenarioNames.split(",")) {
+                scenarios.add(Scenario.fromMethodName(scenarioName));
+            }
+        }
+        int concurrency = getPositive("load.concurrency", 16);
+        return new LoadConfig(url, scenarios, concurrency, getPositive("load.poolSize", concurrency),
+                getNonNegative("load.warmup", 5), getPositive("load.duration", 30), getPositive("load.rows", 100),
+                getPositive("load.batchSize", 100));
+    }
+
+    private static int getPositive(String name, int defaultValue) {
+        int value = Integer.getInteger(name, defaultValue);
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    private static int getNonNegative(String name, int defaultValue) {
+        int value = Integer.getInteger(name, defaultValue);
+        if (value < 0) {
+            throw new IllegalArgumentException(name + " must not be negative: " + value);
+        }
+        return value;
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    List<Scenario> getScenarios() {
+        return scenarios;
+    }
+
+    int getConcurrency() {
+        return concurrency;
+    }
+
+    int getPoolSize() {
+        return poolSize;
+    }
+
+    long getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns the number of rows of the `Account` table of the simulator, from which the rows are picked.
+     */
+    int getTableRows() {
+        return tableRows;
+    }
+}
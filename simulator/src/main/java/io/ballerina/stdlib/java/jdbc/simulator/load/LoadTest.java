@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.simulator.load;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the JDBC statement sequences of the remote methods of the connector against the simulator at a fixed
+ * concurrency, and reports the throughput and the latency percentiles of each scenario. The callers share a fixed
+ * pool of connections, and the time spent waiting for a connection is included in the latency, as it is for the
+ * remote calls of a client.
+ * <p>
+ * Run it with `./gradlew :cdata-connect-simulator:loadTest -Pload.scenarios=query,queryRow -Pload.concurrency=32
+ * -Pload.url='jdbc:cdata:connect:SimLatency=20;SimJitter=5'`. The options are described in {@link LoadConfig}.
+ *
+ * @since 1.2.0
+ */
+public final class LoadTest {
+
+    private static final String REPORT_FORMAT = "%-13s %10s %8s %10s %9s %9s %9s %9s %9s%n";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.fromSystemProperties();
+        System.out.printf("Load test of %s with %d callers on %d connections%n", config.getUrl(),
+                config.getConcurrency(), config.getPoolSize());
+        System.out.printf(REPORT_FORMAT, "scenario", "calls", "errors", "calls/s", "p50 ms", "p90 ms", "p99 ms",
+                "p99.9 ms", "max ms");
+        BlockingQueue<Connection> pool = new ArrayBlockingQueue<>(config.getPoolSize());
+        ExecutorService callers = Executors.newFixedThreadPool(config.getConcurrency());
+        try {
+            for (int i = 0; i < config.getPoolSize(); i++) {
+                pool.add(DriverManager.getConnection(config.getUrl()));
+            }
+            for (Scenario scenario : config.getScenarios()) {
+                run(scenario, config, pool, callers, config.getWarmupSeconds());
+                Result result = run(scenario, config, pool, callers, config.getDurationSeconds());
+                LatencyHistogram latencies = result.latencies;
+                System.out.printf(REPORT_FORMAT, scenario.getMethodName(), latencies.getCount(), result.errors,
+                        format(latencies.getCount() / (double) config.getDurationSeconds()),
+                        format(latencies.getPercentileMillis(50)), format(latencies.getPercentileMillis(90)),
+                        format(latencies.getPercentileMillis(99)), format(latencies.getPercentileMillis(99.9)),
+                        format(latencies.getMaxMillis()));
+            }
+        } finally {
+            callers.shutdownNow();
+            for (Connection connection : pool) {
+                connection.close();
+            }
+        }
+    }
+
+    private static Result run(Scenario scenario, LoadConfig config, BlockingQueue<Connection> pool,
+                              ExecutorService callers, long seconds) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < config.getConcurrency(); i++) {
+            futures.add(callers.submit(() -> call(scenario, config, pool, deadline)));
+        }
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            Result result = future.get();
+            total.latencies.add(result.latencies);
+            total.errors += result.errors;
+        }
+        return total;
+    }
+
+    // The latency of the failed calls is not recorded, so that fast failures do not hide slow calls.
+    private static Result call(Scenario scenario, LoadConfig config, BlockingQueue<Connection> pool, long deadline)
+            throws InterruptedException {
+        Result result = new Result();
+        while (System.nanoTime() < deadline) {
+            long startNanos = System.nanoTime();
+            Connection connection = pool.take();
+            try {
+                scenario.run(connection, config);
+                result.latencies.record(System.nanoTime() - startNanos);
+            } catch (SQLException e) {
+                result.errors++;
+            } finally {
+                pool.add(connection);
+            }
+        }
+        return result;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static final class Result {
+
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long errors = 0;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.java.jdbc.simulator.load;
+
+import io.ballerina.stdlib.java.jdbc.simulator.SimulatedDatabase;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The load scenarios, each of which issues the JDBC statement sequence of a remote method of the connector.
+ *
+ * @since 1.2.0
+ */
+enum Scenario {
+
+    QUERY("query") {
+        @Override
+        void run(Connection connection, LoadConfig config) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT + " WHERE Id <= ?")) {
+                statement.setInt(1, config.getRows());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    consume(resultSet);
+                }
+            }
+        }
+    },
+    QUERY_ROW("queryRow") {
+        @Override
+        void run(Connection connection, LoadConfig config) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT + " WHERE Id = ?")) {
+                statement.setInt(1, randomId(config));
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    consume(resultSet);
+                }
+            }
+        }
+    },
+    EXECUTE("execute") {
+        @Override
+        void run(Connection connection, LoadConfig config) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE)) {
+                statement.setDouble(1, ThreadLocalRandom.current().nextDouble(5));
+                statement.setInt(2, randomId(config));
+                statement.executeUpdate();
+            }
+        }
+    },
+    BATCH_EXECUTE("batchExecute") {
+        @Override
+        void run(Connection connection, LoadConfig config) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE)) {
+                for (int i = 0; i < config.getBatchSize(); i++) {
+                    statement.setDouble(1, ThreadLocalRandom.current().nextDouble(5));
+                    statement.setInt(2, randomId(config));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+    },
+    CALL("call") {
+        @Override
+        void run(Connection connection, LoadConfig config) throws SQLException {
+            try (CallableStatement statement = connection.prepareCall("{CALL GetAccounts(?)}")) {
+                statement.setInt(1, config.getRows());
+                if (statement.execute()) {
+                    try (ResultSet resultSet = statement.getResultSet()) {
+                        consume(resultSet);
+                    }
+                }
+            }
+        }
+    };
+
+    private static final String SELECT = "SELECT " + SimulatedDatabase.ACCOUNT_COLUMNS + " FROM Account";
+    // Updates are used for the writes so that the size of the database stays the same during a run.
+    private static final String UPDATE = "UPDATE Account SET Rating = ? WHERE Id = ?";
+
+    private final String methodName;
+
+    Scenario(String methodName) {
+        this.methodName = methodName;
+    }
+
+    String getMethodName() {
+        return methodName;
+    }
+
+    abstract void run(Connection connection, LoadConfig config) throws SQLException;
+
+    static Scenario fromMethodName(String methodName) {
+        for (Scenario scenario : values()) {
+            if (scenario.methodName.equalsIgnoreCase(methodName.trim())) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + methodName);
+    }
+
+    private static int randomId(LoadConfig config) {
+        return ThreadLocalRandom.current().nextInt(config.getTableRows()) + 1;
+    }
+
+    // Reads every column, as the connector does when it maps the rows to records.
+    private static void consume(ResultSet resultSet) throws SQLException {
+        int columnCount = resultSet.getMetaData().getColumnCount();
+        while (resultSet.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                resultSet.getObject(i);
+            }
+        }
+    }
+}